@@ -0,0 +1,239 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.palladiosimulator.edp2.dao.MeasurementsDao;
+import org.palladiosimulator.edp2.dao.exception.DataNotAccessibleException;
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.edp2.datastream.edp2source.Edp2DataTupleDataSource;
+import org.palladiosimulator.edp2.models.ExperimentData.DataSeries;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentDataFactory;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentGroup;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentRun;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentSetting;
+import org.palladiosimulator.edp2.models.ExperimentData.Measurement;
+import org.palladiosimulator.edp2.models.ExperimentData.MeasurementRange;
+import org.palladiosimulator.edp2.models.ExperimentData.MeasuringType;
+import org.palladiosimulator.edp2.models.ExperimentData.RawMeasurements;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.edp2.util.MeasurementsUtility;
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class represents a {@code (point in time, state of active resource)} series that is stored
+ * in an EDP2 {@link Repository}, i.e., the raw measurements of a measurement range of an
+ * {@link ExperimentRun}.<br>
+ * The derived utilization series is written back into the same experiment run as a new
+ * {@link Measurement} of the {@code (point in time, utilization)} metric at the same measuring
+ * point, which replaces the utilization measurement derived by a previous run, if any, including
+ * its stored data. The measuring type of the derived series is shared by all runs of an experiment
+ * setting. As the EDP2 model is not thread-safe, all modifications of it, including the storage of
+ * the derived measurements, are synchronized on the repository.
+ *
+ * @see #collectFrom(Repository)
+ * @see UtilizationBatchRunner
+ */
+public final class Edp2UtilizationSeries implements IUtilizationSeries {
+
+    private static final MetricDescription INPUT_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final MetricDescription RESULT_METRIC = MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE;
+
+    private final Repository repository;
+    private final ExperimentRun run;
+    private final Measurement measurement;
+    private final RawMeasurements rawMeasurements;
+    // result of a previous run, null if there is none
+    private final Measurement previousResultMeasurement;
+
+    private Edp2UtilizationSeries(final Repository repository, final ExperimentRun run,
+            final Measurement measurement, final RawMeasurements rawMeasurements,
+            final Measurement previousResultMeasurement) {
+        this.repository = repository;
+        this.run = run;
+        this.measurement = measurement;
+        this.rawMeasurements = rawMeasurements;
+        this.previousResultMeasurement = previousResultMeasurement;
+    }
+
+    /**
+     * Collects all {@code (point in time, state of active resource)} series in the given
+     * repository, across all experiment groups, settings and runs.
+     *
+     * @param repository
+     *            The EDP2 {@link Repository} to search.
+     * @return A list of all series found, in the order of the repository contents. The list is
+     *         empty if there is none.
+     * @throws NullPointerException
+     *             If the given repository is {@code null}.
+     */
+    public static List<IUtilizationSeries> collectFrom(final Repository repository) {
+        Objects.requireNonNull(repository, "Given repository must not be null.");
+        final List<IUtilizationSeries> result = new ArrayList<>();
+        synchronized (repository) {
+            for (ExperimentGroup group : repository.getExperimentGroups()) {
+                for (ExperimentSetting setting : group.getExperimentSettings()) {
+                    for (ExperimentRun run : setting.getExperimentRuns()) {
+                        collectFrom(repository, run, result);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void collectFrom(final Repository repository, final ExperimentRun run,
+            final List<IUtilizationSeries> result) {
+        for (Measurement measurement : run.getMeasurement()) {
+            final MetricDescription metric = measurement.getMeasuringType().getMetric();
+            if (metric == INPUT_METRIC || MetricDescriptionUtility.metricDescriptionIdsEqual(INPUT_METRIC, metric)) {
+                final Measurement previousResultMeasurement = findResultMeasurement(run,
+                        measurement.getMeasuringType().getMeasuringPoint());
+                for (MeasurementRange range : measurement.getMeasurementRanges()) {
+                    if (range.getRawMeasurements() != null) {
+                        result.add(new Edp2UtilizationSeries(repository, run, measurement,
+                                range.getRawMeasurements(), previousResultMeasurement));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Measurement findResultMeasurement(final ExperimentRun run, final MeasuringPoint measuringPoint) {
+        for (Measurement candidate : run.getMeasurement()) {
+            if (isResultType(candidate.getMeasuringType(), measuringPoint)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isResultType(final MeasuringType measuringType, final MeasuringPoint measuringPoint) {
+        final MetricDescription metric = measuringType.getMetric();
+        return measuringType.getMeasuringPoint() == measuringPoint
+                && (metric == RESULT_METRIC || MetricDescriptionUtility.metricDescriptionIdsEqual(RESULT_METRIC, metric));
+    }
+
+    @Override
+    public String getName() {
+        return this.measurement.getMeasuringType().getMeasuringPoint().getStringRepresentation() + " (run "
+                + this.run.getId() + ")";
+    }
+
+    @Override
+    public IDataSource getDataSource() {
+        return new Edp2DataTupleDataSource(this.rawMeasurements);
+    }
+
+    @Override
+    public IRecorder createResultRecorder() {
+        synchronized (this.repository) {
+            final ExperimentDataFactory factory = ExperimentDataFactory.eINSTANCE;
+            final MeasuringPoint measuringPoint = this.measurement.getMeasuringType().getMeasuringPoint();
+
+            if (this.previousResultMeasurement != null
+                    && this.run.getMeasurement().remove(this.previousResultMeasurement)) {
+                // the series has been processed before, so its result is replaced (unless another
+                // range of the same measurement already did so)
+                deleteMeasurementData(this.previousResultMeasurement);
+            }
+            final MeasuringType resultType = getResultMeasuringType(this.run.getExperimentSetting(), measuringPoint);
+
+            final Measurement resultMeasurement = factory.createMeasurement();
+            resultMeasurement.setMeasuringType(resultType);
+            resultMeasurement.setRun(this.run);
+
+            final MeasurementRange resultRange = factory.createMeasurementRange();
+            resultRange.setMeasurement(resultMeasurement);
+            final RawMeasurements resultRawMeasurements = factory.createRawMeasurements();
+            resultRawMeasurements.setMeasurementRange(resultRange);
+            MeasurementsUtility.createDAOsForRawMeasurements(resultRawMeasurements);
+
+            return new Edp2MeasurementRecorder(resultMeasurement, this.repository);
+        }
+    }
+
+    /**
+     * Gets the measuring type of the derived series at the given measuring point, which is shared
+     * by all runs of the setting. It is created upon the first request.
+     */
+    private static MeasuringType getResultMeasuringType(final ExperimentSetting setting,
+            final MeasuringPoint measuringPoint) {
+        for (MeasuringType candidate : setting.getMeasure()) {
+            if (isResultType(candidate, measuringPoint)) {
+                return candidate;
+            }
+        }
+        final MeasuringType result = ExperimentDataFactory.eINSTANCE.createMeasuringType();
+        result.setMetric(RESULT_METRIC);
+        result.setMeasuringPoint(measuringPoint);
+        setting.getExperimentGroup().getMeasuringTypes().add(result);
+        setting.getMeasure().add(result);
+        return result;
+    }
+
+    /**
+     * Deletes the stored data of the given measurement, which is no longer part of the model.
+     */
+    private static void deleteMeasurementData(final Measurement measurement) {
+        for (MeasurementRange range : measurement.getMeasurementRanges()) {
+            final RawMeasurements rawMeasurements = range.getRawMeasurements();
+            if (rawMeasurements == null) {
+                continue;
+            }
+            for (DataSeries dataSeries : rawMeasurements.getDataSeries()) {
+                final MeasurementsDao<?, ?> dao = MeasurementsUtility.getMeasurementsDao(dataSeries);
+                try {
+                    if (dao.isOpen()) {
+                        dao.close();
+                    }
+                    if (dao.canDelete()) {
+                        dao.delete();
+                    }
+                } catch (DataNotAccessibleException e) {
+                    // the data remains in the store, but is no longer referenced
+                }
+            }
+        }
+    }
+
+    /**
+     * Recorder that appends the measurements written into it to an EDP2 {@link Measurement} while
+     * holding the lock of the repository.
+     */
+    private static final class Edp2MeasurementRecorder extends AbstractRecorder {
+
+        private final Measurement measurement;
+        private final Repository repository;
+
+        private Edp2MeasurementRecorder(final Measurement measurement, final Repository repository) {
+            this.measurement = measurement;
+            this.repository = repository;
+        }
+
+        @Override
+        public void initialize(final IRecorderConfiguration recorderConfiguration) {
+            // do nothing
+        }
+
+        @Override
+        public void writeData(final MeasuringValue measurement) {
+            synchronized (this.repository) {
+                MeasurementsUtility.storeMeasurement(this.measurement, measurement);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // do nothing, data is stored immediately
+        }
+    }
+}
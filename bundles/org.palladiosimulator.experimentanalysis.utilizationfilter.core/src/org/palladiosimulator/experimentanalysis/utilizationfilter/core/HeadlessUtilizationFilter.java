@@ -0,0 +1,534 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.edp2.datastream.configurable.PropertyConfigurable;
+import org.palladiosimulator.edp2.datastream.filter.AbstractAdapter;
+import org.palladiosimulator.edp2.datastream.filter.AbstractFilter;
+import org.palladiosimulator.edp2.datastream.filter.IFilter;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class is a moving average implementation that calculates the utilization of an active
+ * resource based on a set of {@code (point in time, state of active resource)} tuple measurements,
+ * or,<br>
+ * in case of a multi-core resource, based on a set of
+ * {@code (point in time, 'overall' utilization of active resource)} tuple measurements.<br>
+ * That is, when being applied to an {@link IDataSource} that provides measurements adhering to this
+ * metric, this filter outputs a set of subsequent {@code (point in time, utilization)} tuples. This
+ * result set can be obtained by calling the {@link HeadlessUtilizationFilter#getDataStream()}
+ * method.<br>
+ * This filter does not depend on any workbench classes, so it can be used for batch analyses in
+ * headless environments. Persisting the filter as part of the workbench state is left to
+ * subclasses.<br>
+ * If an {@link IUtilizationResultCache} is set, the derived series is stored in it and reused as
+ * long as neither the input series nor the window configuration changes.<br>
+ * If the input is restricted to a range of simulated time, the first window starts at the beginning
+ * of the range, and it is seeded with the last measurement prior to it. Reading the input stops
+ * once the window containing the end of the range is complete. For input streams that implement
+ * {@link ISeekableDataStream}, the beginning of the range is found by binary search, so that the
+ * effort is proportional to the length of the range rather than the length of the input.<br>
+ * In <em>sweep mode</em>, i.e., via {@link #getDataStreams(List)}, the output for several window
+ * configurations is derived from a single pass over the input data by means of a
+ * {@link UtilizationSweep}.<br>
+ * The phases of the computation, i.e., hashing the input, looking up and storing the output in the
+ * cache, and computing the output, emit {@link UtilizationFilterPhaseEvent}s if flight recording
+ * is enabled.
+ *
+ * @see AbstractFilter
+ * @see UtilizationFilterSlidingWindow
+ * @see UtilizationSweep
+ * @see IDataSource
+ * @see IDataStream
+ */
+public class HeadlessUtilizationFilter extends AbstractAdapter implements IFilter {
+
+    // the result metric is also a valid input metric
+    private static final MetricDescription FILTER_RESULT_METRIC = MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE;
+    private static final MetricDescription FILTER_INPUT_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private IUtilizationResultCache resultCache = null;
+
+    /**
+     * Initializes a new instance of the {@link HeadlessUtilizationFilter} class.
+     */
+    public HeadlessUtilizationFilter() {
+        super(FILTER_RESULT_METRIC);
+    }
+
+    /**
+     * Initializes a new instance of the {@link HeadlessUtilizationFilter} class with the given data
+     * source.
+     *
+     * @param datasource
+     *            The {@link IDataSource} this filter is applied to.
+     * @throws IllegalArgumentException
+     *             if the data source metric does not match the input metric expected by the filter.
+     */
+    public HeadlessUtilizationFilter(final IDataSource datasource) {
+        super(datasource, FILTER_RESULT_METRIC);
+
+        if (!datasource.isCompatibleWith(FILTER_INPUT_METRIC)) {
+            throw new IllegalArgumentException("The data source does not provide the necessary input metric for this adapter!");
+        }
+    }
+
+    @Override
+    public boolean canAccept(final IDataSource dataSource) {
+        MetricDescription metric = Objects.requireNonNull(dataSource).getMetricDesciption();
+        return metric == FILTER_INPUT_METRIC || metric == FILTER_RESULT_METRIC
+                || MetricDescriptionUtility.metricDescriptionIdsEqual(FILTER_INPUT_METRIC, metric)
+                || MetricDescriptionUtility.metricDescriptionIdsEqual(FILTER_RESULT_METRIC, metric);
+    }
+
+    /**
+     * Obtains this filter's output data (i.e., a set of subsequent
+     * {@code (point in time, utilization)} tuples) based on the current input data.
+     *
+     * @return An {@link IDataStream} containing the resulting utilization measurements.
+     * @throws NullPointerException
+     *             if no input data source has been set beforehand.
+     * @throws IllegalArgumentException
+     *             if the configured range of simulated time ends before it begins.
+     */
+    @SuppressWarnings("unchecked")
+    // the cast is type safe as MeasuringValue implements the IMeasureProvider interface
+    @Override
+    public <M extends IMeasureProvider> IDataStream<M> getDataStream() {
+        return (IDataStream<M>) createOutputDataStream();
+    }
+
+    private IDataStream<MeasuringValue> createOutputDataStream() {
+        if (canAccept(Objects.requireNonNull(getDataSource(),
+                "No input data available. UtilizationFilter cannot be applied."))) {
+            checkRange(getConfiguration());
+            final IDataStream<MeasuringValue> inputData = getDataSource().getDataStream();
+            final UtilizationResultKey key = createResultKey(inputData);
+            if (key != null) {
+                final UtilizationFilterPhaseEvent lookupEvent = new UtilizationFilterPhaseEvent();
+                lookupEvent.begin();
+                final Optional<List<MeasuringValue>> cachedResult = this.resultCache.lookup(key);
+                commitPhase(lookupEvent, UtilizationFilterPhaseEvent.CACHE_LOOKUP, null);
+                if (cachedResult.isPresent()) {
+                    return new UtilizationFilterOutputDataStream(inputData, cachedResult.get());
+                }
+            }
+            final UtilizationFilterPhaseEvent computationEvent = new UtilizationFilterPhaseEvent();
+            computationEvent.begin();
+            final UtilizationFilterOutputDataStream result = new UtilizationFilterOutputDataStream(inputData,
+                    inputData.getMetricDesciption());
+            commitPhase(computationEvent, UtilizationFilterPhaseEvent.COMPUTATION, null);
+            if (key != null) {
+                final UtilizationFilterPhaseEvent storeEvent = new UtilizationFilterPhaseEvent();
+                storeEvent.begin();
+                this.resultCache.store(key, new ArrayList<>(result.outputData));
+                commitPhase(storeEvent, UtilizationFilterPhaseEvent.CACHE_STORE, null);
+            }
+            return result;
+        }
+        throw new AssertionError("Can accept was not called beforehand!");
+    }
+
+    /**
+     * Obtains this filter's output data for each of the given window configurations, all derived
+     * from a single pass over the current input data. Apart from the window length and increment,
+     * which are taken from the given configurations, the current configuration of this filter
+     * (i.e., the range of simulated time) applies.<br>
+     * If a result cache is set, only the output of those configurations that are not found in the
+     * cache is computed.
+     *
+     * @param configurations
+     *            The {@link UtilizationSweepConfiguration}s to derive the output for.
+     * @return A list containing one {@link IDataStream} of utilization measurements per given
+     *         configuration, in the same order.
+     * @throws NullPointerException
+     *             if no input data source has been set beforehand, or the given list or any of its
+     *             elements is {@code null}.
+     * @throws IllegalArgumentException
+     *             if the given list is empty, the window length and increment of a configuration
+     *             are incommensurable, or the configured range of simulated time ends before it
+     *             begins.
+     * @see UtilizationSweep
+     */
+    @SuppressWarnings("unchecked")
+    public List<IDataStream<MeasuringValue>> getDataStreams(final List<UtilizationSweepConfiguration> configurations) {
+        if (Objects.requireNonNull(configurations, "Given configurations must not be null.").isEmpty()) {
+            throw new IllegalArgumentException("At least one configuration must be given.");
+        }
+        if (canAccept(Objects.requireNonNull(getDataSource(),
+                "No input data available. UtilizationFilter cannot be applied."))) {
+            final UtilizationFilterConfiguration configuration = getConfiguration();
+            checkRange(configuration);
+            final IDataStream<MeasuringValue> inputData = getDataSource().getDataStream();
+            final List<UtilizationResultKey> keys = createResultKeys(inputData, configurations);
+            final List<IDataStream<MeasuringValue>> result = new ArrayList<>(configurations.size());
+            final List<Integer> missingIndices = new ArrayList<>();
+            final List<UtilizationSweepConfiguration> missingConfigurations = new ArrayList<>();
+            final List<UtilizationFilterOutputDataStream> missingResults = new ArrayList<>();
+            final UtilizationFilterPhaseEvent lookupEvent = new UtilizationFilterPhaseEvent();
+            lookupEvent.begin();
+            for (int i = 0; i < configurations.size(); ++i) {
+                final Optional<List<MeasuringValue>> cachedResult = keys == null ? Optional.empty()
+                        : this.resultCache.lookup(keys.get(i));
+                final UtilizationFilterOutputDataStream outputData = new UtilizationFilterOutputDataStream(
+                        inputData, cachedResult.orElse(Collections.emptyList()));
+                if (!cachedResult.isPresent()) {
+                    missingIndices.add(i);
+                    missingConfigurations.add(Objects.requireNonNull(configurations.get(i),
+                            "Given configuration must not be null."));
+                    missingResults.add(outputData);
+                }
+                result.add(outputData);
+            }
+            if (keys != null) {
+                commitPhase(lookupEvent, UtilizationFilterPhaseEvent.CACHE_LOOKUP, configurations);
+            }
+            if (!missingConfigurations.isEmpty()) {
+                final UtilizationFilterPhaseEvent sweepEvent = new UtilizationFilterPhaseEvent();
+                sweepEvent.begin();
+                // the output streams are filled by the sweep
+                new UtilizationSweep(missingConfigurations, configuration.getRangeFrom(),
+                        configuration.getRangeTo()).run(inputData, missingResults);
+                commitPhase(sweepEvent, UtilizationFilterPhaseEvent.SWEEP, missingConfigurations);
+                if (keys != null) {
+                    final UtilizationFilterPhaseEvent storeEvent = new UtilizationFilterPhaseEvent();
+                    storeEvent.begin();
+                    for (int i = 0; i < missingIndices.size(); ++i) {
+                        this.resultCache.store(keys.get(missingIndices.get(i)),
+                                new ArrayList<>(missingResults.get(i).outputData));
+                    }
+                    commitPhase(storeEvent, UtilizationFilterPhaseEvent.CACHE_STORE, missingConfigurations);
+                }
+            }
+            return result;
+        }
+        throw new AssertionError("Can accept was not called beforehand!");
+    }
+
+    private static void checkRange(final UtilizationFilterConfiguration configuration) {
+        if (configuration.getRangeFrom().isPresent() && configuration.getRangeTo().isPresent()
+                && configuration.getRangeFrom().get().compareTo(configuration.getRangeTo().get()) > 0) {
+            throw new IllegalArgumentException("The configured range of simulated time must not end before it begins.");
+        }
+    }
+
+    /**
+     * Sets the cache the output of this filter is stored in and looked up from.
+     *
+     * @param resultCache
+     *            An {@link IUtilizationResultCache}, or {@code null} to always compute the output.
+     */
+    public void setResultCache(final IUtilizationResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Gets the cache the output of this filter is stored in and looked up from.
+     *
+     * @return The {@link IUtilizationResultCache}, or {@code null} if none is set.
+     */
+    public IUtilizationResultCache getResultCache() {
+        return this.resultCache;
+    }
+
+    /**
+     * Gets the id of the given input data source that is used to cache the output of this filter.
+     * <br>
+     * By default, the string representation of the measuring point of the source is used. Several
+     * runs or replications at the same measuring point thus share an id, their results are told
+     * apart by the hash of the contents of the input series, which is part of the cache key as
+     * well.
+     *
+     * @param dataSource
+     *            The input {@link IDataSource}.
+     * @return The id of the input series, or {@code null} if it cannot be identified, in which
+     *         case the output is not cached.
+     */
+    protected String getSeriesId(final IDataSource dataSource) {
+        final MeasuringPoint measuringPoint = dataSource.getMeasuringPoint();
+        return measuringPoint == null ? null : measuringPoint.getStringRepresentation();
+    }
+
+    private UtilizationResultKey createResultKey(final IDataStream<MeasuringValue> inputData) {
+        final UtilizationFilterConfiguration configuration = getConfiguration();
+        final UtilizationSweepConfiguration windowConfiguration = new UtilizationSweepConfiguration(
+                configuration.getWindowLength(), configuration.getWindowIncrement());
+        final List<UtilizationResultKey> keys = createResultKeys(inputData,
+                Collections.singletonList(windowConfiguration));
+        return keys == null ? null : keys.get(0);
+    }
+
+    private List<UtilizationResultKey> createResultKeys(final IDataStream<MeasuringValue> inputData,
+            final List<UtilizationSweepConfiguration> configurations) {
+        if (this.resultCache == null) {
+            return null;
+        }
+        final String seriesId = getSeriesId(getDataSource());
+        if (seriesId == null) {
+            return null;
+        }
+        final UtilizationFilterConfiguration configuration = getConfiguration();
+        if (configuration.getRangeFrom().isPresent() || configuration.getRangeTo().isPresent()) {
+            // restricted output is cheap to compute and not worth to be cached
+            return null;
+        }
+        // the input is hashed once for all configurations
+        final UtilizationFilterPhaseEvent event = new UtilizationFilterPhaseEvent();
+        event.begin();
+        final long contentHash = computeContentHash(inputData);
+        commitPhase(event, UtilizationFilterPhaseEvent.CONTENT_HASH, configurations);
+        final List<UtilizationResultKey> result = new ArrayList<>(configurations.size());
+        for (UtilizationSweepConfiguration sweepConfiguration : configurations) {
+            result.add(new UtilizationResultKey(seriesId, sweepConfiguration.getWindowLength(),
+                    sweepConfiguration.getWindowIncrement(), contentHash));
+        }
+        return result;
+    }
+
+    /**
+     * Commits the given event, if it is enabled, for the given window configurations, or for the
+     * window configuration of this filter if {@code null} is passed.
+     */
+    private void commitPhase(final UtilizationFilterPhaseEvent event, final String phase,
+            final List<UtilizationSweepConfiguration> configurations) {
+        event.end();
+        if (event.shouldCommit()) {
+            final UtilizationFilterConfiguration configuration = getConfiguration();
+            event.phase = phase;
+            event.metric = getDataSource().getMetricDesciption().getName();
+            if (configurations == null || configurations.size() == 1) {
+                event.windowLength = configurations == null ? configuration.getWindowLength().doubleValue(SI.SECOND)
+                        : configurations.get(0).getWindowLengthInSeconds();
+                event.windowIncrement = configurations == null
+                        ? configuration.getWindowIncrement().doubleValue(SI.SECOND)
+                        : configurations.get(0).getWindowIncrementInSeconds();
+            } else {
+                event.windowLength = Double.NaN;
+                event.windowIncrement = Double.NaN;
+            }
+            event.rangeFrom = configuration.getRangeFrom().map(from -> from.doubleValue(SI.SECOND)).orElse(Double.NaN);
+            event.rangeTo = configuration.getRangeTo().map(to -> to.doubleValue(SI.SECOND)).orElse(Double.NaN);
+            event.numberOfConfigurations = configurations == null ? 1 : configurations.size();
+            event.commit();
+        }
+    }
+
+    private static long computeContentHash(final IDataStream<MeasuringValue> inputData) {
+        final MetricDescription inputMetric = inputData.getMetricDesciption();
+        final NumericalBaseMetricDescription valueMetric = (NumericalBaseMetricDescription) (inputMetric == FILTER_INPUT_METRIC
+                || MetricDescriptionUtility.metricDescriptionIdsEqual(FILTER_INPUT_METRIC, inputMetric)
+                        ? MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC
+                        : MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+        // 64 bit FNV-1a over the primitive contents
+        long hash = FNV_OFFSET_BASIS;
+        for (MeasuringValue measurement : inputData) {
+            hash = (hash ^ Double.doubleToLongBits(MeasuringValueUtility.getPointInTimeInSeconds(measurement)))
+                    * FNV_PRIME;
+            hash = (hash ^ Double.doubleToLongBits(MeasuringValueUtility.getNumericalValue(measurement,
+                    valueMetric))) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the position of the last measurement of the given stream that is prior to the given
+     * point in time, or of the first one if there is none.
+     */
+    static int findSeedIndex(final ISeekableDataStream<MeasuringValue> inputData,
+            final double pointInTime) {
+        // binary search for the first measurement not prior to the given point in time
+        int low = 0;
+        int high = inputData.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (MeasuringValueUtility.getPointInTimeInSeconds(inputData.get(middle)) < pointInTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return Math.max(0, low - 1);
+    }
+
+    @Override
+    public PropertyConfigurable createProperties() {
+        return new UtilizationFilterConfiguration();
+    }
+
+    /**
+     * This class contains the output data, i.e., the stream of {@code (point in time, utilization)}
+     * tuples this filter creates.<br>
+     */
+    private final class UtilizationFilterOutputDataStream implements IDataStream<MeasuringValue>, IRecorder {
+
+        private final IDataStream<MeasuringValue> inputData;
+        private final List<MeasuringValue> outputData;
+        private final UtilizationFilterSlidingWindow slidingWindow;
+
+        /**
+         * Initializes of the {@link UtilizationFilterOutputDataStream} class with the given
+         * parameter.
+         *
+         * @param inputData
+         *            A {@link IDataStream} containing {@code state of active resource tuple}
+         *            measurements.
+         */
+        private UtilizationFilterOutputDataStream(final IDataStream<MeasuringValue> inputData,
+                MetricDescription inputMetric) {
+            final UtilizationFilterConfiguration configuration = HeadlessUtilizationFilter.this
+                    .<UtilizationFilterConfiguration> getConfiguration();
+            final Measure<Double, Duration> windowLength = configuration.getWindowLength();
+            final Measure<Double, Duration> windowIncrement = configuration.getWindowIncrement();
+            final Optional<Measure<Double, Duration>> rangeFrom = configuration.getRangeFrom();
+
+            final SlidingWindowUtilizationAggregator aggregator = new SlidingWindowUtilizationAggregator(inputMetric,
+                    this);
+            this.slidingWindow = rangeFrom.isPresent()
+                    ? new UtilizationFilterSlidingWindow(windowLength, windowIncrement, rangeFrom.get(), aggregator)
+                    : new UtilizationFilterSlidingWindow(windowLength, windowIncrement, aggregator);
+            this.inputData = inputData;
+            this.outputData = new ArrayList<MeasuringValue>();
+            initializeOutputStream(rangeFrom.map(from -> from.doubleValue(SI.SECOND)),
+                    configuration.getRangeTo().map(to -> to.doubleValue(SI.SECOND)));
+        }
+
+        /**
+         * Initializes of the {@link UtilizationFilterOutputDataStream} class with a previously
+         * computed output.
+         *
+         * @param inputData
+         *            The {@link IDataStream} the output has been computed from.
+         * @param outputData
+         *            The {@code (point in time, utilization)} tuple measurements.
+         */
+        private UtilizationFilterOutputDataStream(final IDataStream<MeasuringValue> inputData,
+                final List<MeasuringValue> outputData) {
+            this.slidingWindow = null;
+            this.inputData = inputData;
+            this.outputData = new ArrayList<MeasuringValue>(outputData);
+        }
+
+        /**
+         * Initializes the output stream, that is, the underlying
+         * {@link UtilizationFilterSlidingWindow} is filled and the corresponding
+         * {@link SlidingWindowUtilizationAggregator} is triggered each time the window is full.
+         *
+         * @param rangeFrom
+         *            The beginning of the range of simulated time to process, in seconds, if any.
+         * @param rangeTo
+         *            The end of the range of simulated time to process, in seconds, if any.
+         */
+        @SuppressWarnings("unchecked")
+        private void initializeOutputStream(final Optional<Double> rangeFrom, final Optional<Double> rangeTo) {
+            final Iterator<MeasuringValue> iterator;
+            if (rangeFrom.isPresent() && this.inputData instanceof ISeekableDataStream) {
+                final ISeekableDataStream<MeasuringValue> seekableInputData = (ISeekableDataStream<MeasuringValue>) this.inputData;
+                iterator = seekableInputData.iterator(findSeedIndex(seekableInputData, rangeFrom.get()));
+            } else {
+                iterator = this.inputData.iterator();
+            }
+            MeasuringValue seed = null;
+            while (iterator.hasNext()) {
+                final MeasuringValue measurement = iterator.next();
+                final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(measurement);
+                if (rangeFrom.isPresent() && pointInTime < rangeFrom.get()) {
+                    // only the last measurement prior to the range is relevant
+                    seed = measurement;
+                    continue;
+                }
+                if (rangeTo.isPresent() && pointInTime > rangeTo.get() && pointInTime > this.slidingWindow
+                        .getCurrentUpperBound().doubleValue(SI.SECOND)) {
+                    // the window containing the end of the range is complete
+                    break;
+                }
+                if (seed != null) {
+                    this.slidingWindow.addMeasurement(seed);
+                    seed = null;
+                }
+                this.slidingWindow.addMeasurement(measurement);
+            }
+            if (seed != null) {
+                this.slidingWindow.addMeasurement(seed);
+            }
+            // handle the case that the last measurement is prior to window length, deal with last
+            // measurements (that were taken later than last window move on)
+            this.slidingWindow.noMoreDataAvailable();
+        }
+
+        @Override
+        public Iterator<MeasuringValue> iterator() {
+            return outputData.iterator();
+        }
+
+        @Override
+        public MetricDescription getMetricDesciption() {
+            return FILTER_RESULT_METRIC;
+        }
+
+        @Override
+        public boolean isCompatibleWith(final MetricDescription other) {
+            return getMetricDesciption().equals(other);
+        }
+
+        @Override
+        public void close() {
+            this.inputData.close();
+            this.flush();
+
+        }
+
+        @Override
+        public int size() {
+            return this.outputData.size();
+        }
+
+        @Override
+        public void initialize(final IRecorderConfiguration recorderConfiguration) {
+            // do nothing
+        }
+
+        @Override
+        public void writeData(final MeasuringValue measurement) {
+            this.outputData.add(measurement);
+        }
+
+        @Override
+        public void flush() {
+            this.outputData.clear();
+        }
+
+        @Override
+        public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+            // do nothing
+        }
+
+        @Override
+        public void preUnregister() {
+            // do nothing
+        }
+
+    }
+}
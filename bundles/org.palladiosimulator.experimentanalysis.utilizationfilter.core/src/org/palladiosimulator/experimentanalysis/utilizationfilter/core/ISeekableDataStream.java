@@ -0,0 +1,65 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
+
+/**
+ * This interface describes an {@link IDataStream} that provides random access to its elements, so
+ * that consumers can seek to a certain position rather than iterating over all preceding
+ * elements.<br>
+ * If a {@link HeadlessUtilizationFilter} restricted to a range of simulated time is applied to a
+ * data source whose stream implements this interface, the first relevant measurement is found by
+ * binary search. Therefore, the elements are expected to be sorted by their {@code point in time}.
+ *
+ * @param <M>
+ *            The type of the elements of the stream.
+ * @see UtilizationFilterConfiguration#getRangeFrom()
+ */
+public interface ISeekableDataStream<M extends IMeasureProvider> extends IDataStream<M> {
+
+    /**
+     * Gets the element at the given position.
+     *
+     * @param index
+     *            The position of the element, must be in {@code [0, size())}.
+     * @return The element at the given position.
+     * @throws IndexOutOfBoundsException
+     *             If the given index is out of range.
+     */
+    M get(int index);
+
+    /**
+     * Gets an iterator over the elements of this stream, starting at the given position.
+     *
+     * @param fromIndex
+     *            The position of the first element returned by the iterator, must be in
+     *            {@code [0, size()]}.
+     * @return An {@link Iterator} over the elements starting at the given position.
+     * @throws IndexOutOfBoundsException
+     *             If the given index is out of range.
+     */
+    default Iterator<M> iterator(final int fromIndex) {
+        if (fromIndex < 0 || fromIndex > size()) {
+            throw new IndexOutOfBoundsException("Given index is out of range: " + fromIndex);
+        }
+        return new Iterator<M>() {
+            private int nextIndex = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return this.nextIndex < size();
+            }
+
+            @Override
+            public M next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.nextIndex++);
+            }
+        };
+    }
+}
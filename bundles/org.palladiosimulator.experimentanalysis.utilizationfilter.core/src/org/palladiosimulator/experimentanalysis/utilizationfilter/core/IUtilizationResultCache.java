@@ -0,0 +1,40 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * This interface describes a cache of derived utilization series, so that a
+ * {@link HeadlessUtilizationFilter} does not have to recompute the utilization of a series each
+ * time its output is requested, e.g., when a saved chart is reopened.<br>
+ * Implementations are expected to be best-effort: If a cached result cannot be read or written,
+ * the result is simply computed (again), so neither method shall fail because of I/O problems.
+ *
+ * @see HeadlessUtilizationFilter#setResultCache(IUtilizationResultCache)
+ * @see SidecarUtilizationResultCache
+ */
+public interface IUtilizationResultCache {
+
+    /**
+     * Looks up the derived utilization series identified by the given key.
+     *
+     * @param key
+     *            The {@link UtilizationResultKey} identifying the series.
+     * @return The cached {@code (point in time, utilization)} tuple measurements, or an empty
+     *         {@link Optional} if there is no result for the given key.
+     */
+    Optional<List<MeasuringValue>> lookup(UtilizationResultKey key);
+
+    /**
+     * Stores the given derived utilization series. A result previously stored for the same input
+     * series may be replaced.
+     *
+     * @param key
+     *            The {@link UtilizationResultKey} identifying the series.
+     * @param result
+     *            The {@code (point in time, utilization)} tuple measurements to store.
+     */
+    void store(UtilizationResultKey key, List<MeasuringValue> result);
+}
@@ -0,0 +1,41 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This interface describes a single series of {@code (point in time, state of active resource)}
+ * tuple measurements that is processed by a {@link UtilizationBatchRunner}, together with the
+ * destination of the derived {@code (point in time, utilization)} series.<br>
+ * Implementations must allow {@link #createResultRecorder()} to be called from any thread, as
+ * the series of a batch are processed concurrently.
+ *
+ * @see UtilizationBatchRunner
+ * @see Edp2UtilizationSeries
+ */
+public interface IUtilizationSeries {
+
+    /**
+     * Gets a human-readable name of this series, e.g., to report failures.
+     *
+     * @return The name of the series, never {@code null}.
+     */
+    String getName();
+
+    /**
+     * Gets the data source that provides the input measurements of this series.
+     *
+     * @return An {@link IDataSource} providing {@code (point in time, state of active resource)}
+     *         tuple measurements.
+     */
+    IDataSource getDataSource();
+
+    /**
+     * Creates the recorder the derived utilization measurements of this series are written
+     * into.<br>
+     * The returned recorder is flushed once all utilization measurements have been written.
+     *
+     * @return An {@link IRecorder} that stores the derived series.
+     */
+    IRecorder createResultRecorder();
+}
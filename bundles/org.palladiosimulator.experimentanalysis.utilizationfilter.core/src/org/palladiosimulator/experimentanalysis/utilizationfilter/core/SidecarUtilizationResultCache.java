@@ -0,0 +1,262 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * This class implements an {@link IUtilizationResultCache} that stores derived utilization series
+ * in sidecar files in a given directory.<br>
+ * There is one file per series id, which holds the results of up to
+ * {@value #MAX_ENTRIES_PER_FILE} distinct keys, most recently stored first. Thus, the results of
+ * several window configurations, e.g., of a sweep, as well as of several runs or replications that
+ * share a series id, but differ in their content hash, are kept side by side. Once a file is full,
+ * the least recently stored result is dropped upon the next store of a new key. The unit of the
+ * points in time is kept as well, so that cached results are given in the same unit as freshly
+ * derived ones.<br>
+ * Files are written into a temporary file first and then moved into place, so that concurrent
+ * readers never see a partially written result. Stores of the same instance are serialized, stores
+ * of different instances to the same file may lose one of the results, which is then simply
+ * recomputed.
+ */
+public final class SidecarUtilizationResultCache implements IUtilizationResultCache {
+
+    /**
+     * The maximum number of results kept per series id.
+     */
+    public static final int MAX_ENTRIES_PER_FILE = 32;
+
+    private static final int MAGIC = 0x55544C43; // "UTLC"
+    private static final int VERSION = 3;
+    private static final String FILE_EXTENSION = ".utilization";
+    private static final int BYTES_PER_MEASUREMENT = 2 * Double.BYTES;
+    private static final NumericalBaseMetricDescription UTILIZATION_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE;
+
+    private final Path directory;
+
+    /**
+     * Initializes a new instance of the {@link SidecarUtilizationResultCache} class with the given
+     * directory.
+     *
+     * @param directory
+     *            The {@link Path} of the directory the sidecar files are stored in. It is created
+     *            upon the first store, if required.
+     * @throws NullPointerException
+     *             If the given path is {@code null}.
+     */
+    public SidecarUtilizationResultCache(final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "Given directory must not be null.");
+    }
+
+    @Override
+    public Optional<List<MeasuringValue>> lookup(final UtilizationResultKey key) {
+        final Path file = getFile(Objects.requireNonNull(key));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!readHeader(input, key.getSeriesId())) {
+                return Optional.empty();
+            }
+            final int numberOfEntries = input.readInt();
+            for (int i = 0; i < numberOfEntries; ++i) {
+                final UtilizationResultKey storedKey = readKey(input, key.getSeriesId());
+                final String pointInTimeUnit = input.readUTF();
+                final int size = input.readInt();
+                if (key.equals(storedKey)) {
+                    return Optional.of(readMeasurements(input, Unit.valueOf(pointInTimeUnit).asType(Duration.class),
+                            size));
+                }
+                input.skipNBytes((long) size * BYTES_PER_MEASUREMENT);
+            }
+            return Optional.empty();
+        } catch (IOException | IllegalArgumentException | ClassCastException e) {
+            // unreadable or truncated file, or unknown unit: the result is simply recomputed
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void store(final UtilizationResultKey key, final List<MeasuringValue> result) {
+        final Path file = getFile(Objects.requireNonNull(key));
+        Objects.requireNonNull(result);
+        try {
+            final List<Entry> entries = new ArrayList<>();
+            entries.add(createEntry(key, result));
+            for (Entry storedEntry : readEntries(file, key.getSeriesId())) {
+                if (entries.size() == MAX_ENTRIES_PER_FILE) {
+                    break;
+                }
+                if (!storedEntry.key.equals(key)) {
+                    entries.add(storedEntry);
+                }
+            }
+
+            Files.createDirectories(this.directory);
+            final Path temporaryFile = Files.createTempFile(this.directory, null, FILE_EXTENSION);
+            try {
+                try (DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                    output.writeInt(MAGIC);
+                    output.writeInt(VERSION);
+                    output.writeUTF(key.getSeriesId());
+                    output.writeInt(entries.size());
+                    for (Entry entry : entries) {
+                        writeKey(output, entry.key);
+                        output.writeUTF(entry.pointInTimeUnit);
+                        output.writeInt(entry.size);
+                        output.write(entry.measurements);
+                    }
+                }
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            // caching is best-effort, the result is simply recomputed next time
+        }
+    }
+
+    private Path getFile(final UtilizationResultKey key) {
+        return this.directory.resolve(digest(key.getSeriesId()) + FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the entries stored in the given file, an unreadable or foreign file has none.
+     */
+    private static List<Entry> readEntries(final Path file, final String seriesId) {
+        final List<Entry> result = new ArrayList<>();
+        if (!Files.isRegularFile(file)) {
+            return result;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (readHeader(input, seriesId)) {
+                final int numberOfEntries = input.readInt();
+                for (int i = 0; i < numberOfEntries; ++i) {
+                    final UtilizationResultKey storedKey = readKey(input, seriesId);
+                    final String pointInTimeUnit = input.readUTF();
+                    final int size = input.readInt();
+                    final byte[] measurements = new byte[size * BYTES_PER_MEASUREMENT];
+                    input.readFully(measurements);
+                    result.add(new Entry(storedKey, pointInTimeUnit, size, measurements));
+                }
+            }
+        } catch (IOException e) {
+            // the entries read so far are intact
+        }
+        return result;
+    }
+
+    private static Entry createEntry(final UtilizationResultKey key, final List<MeasuringValue> result)
+            throws IOException {
+        final Unit<Duration> pointInTimeUnit = getPointInTimeUnit(result);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(result.size() * BYTES_PER_MEASUREMENT);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (MeasuringValue measurement : result) {
+                final Measure<Double, Duration> pointInTime = measurement
+                        .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+                output.writeDouble(pointInTime.doubleValue(pointInTimeUnit));
+                output.writeDouble(MeasuringValueUtility.getNumericalValue(measurement, UTILIZATION_METRIC));
+            }
+        }
+        return new Entry(key, pointInTimeUnit.toString(), result.size(), bytes.toByteArray());
+    }
+
+    private static List<MeasuringValue> readMeasurements(final DataInputStream input,
+            final Unit<Duration> pointInTimeUnit, final int size) throws IOException {
+        final List<MeasuringValue> result = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final double pointInTime = input.readDouble();
+            final double utilization = input.readDouble();
+            result.add(new TupleMeasurement(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE,
+                    Measure.valueOf(pointInTime, pointInTimeUnit), Measure.valueOf(utilization, Unit.ONE)));
+        }
+        return result;
+    }
+
+    private static Unit<Duration> getPointInTimeUnit(final List<MeasuringValue> result) {
+        if (result.isEmpty()) {
+            return SI.SECOND;
+        }
+        final Measure<Double, Duration> pointInTime = result.get(0)
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.getUnit();
+    }
+
+    /**
+     * Reads the header of a file and checks whether the file belongs to the given series. Files of
+     * other versions or series, in case of a digest collision, are replaced upon the next store.
+     */
+    private static boolean readHeader(final DataInputStream input, final String seriesId) throws IOException {
+        return input.readInt() == MAGIC && input.readInt() == VERSION && input.readUTF().equals(seriesId);
+    }
+
+    private static void writeKey(final DataOutputStream output, final UtilizationResultKey key) throws IOException {
+        output.writeDouble(key.getWindowLengthInSeconds());
+        output.writeDouble(key.getWindowIncrementInSeconds());
+        output.writeLong(key.getContentHash());
+    }
+
+    private static UtilizationResultKey readKey(final DataInputStream input, final String seriesId)
+            throws IOException {
+        return new UtilizationResultKey(seriesId, input.readDouble(), input.readDouble(), input.readLong());
+    }
+
+    private static String digest(final String seriesId) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(seriesId.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder result = new StringBuilder();
+            // the first 16 bytes suffice to tell the series apart
+            for (int i = 0; i < 16; ++i) {
+                result.append(String.format("%02x", hash[i]));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is supported by every Java platform.", e);
+        }
+    }
+
+    /**
+     * A stored result, the measurements are kept in their serialized form.
+     */
+    private static final class Entry {
+
+        private final UtilizationResultKey key;
+        private final String pointInTimeUnit;
+        private final int size;
+        private final byte[] measurements;
+
+        private Entry(final UtilizationResultKey key, final String pointInTimeUnit, final int size,
+                final byte[] measurements) {
+            this.key = key;
+            this.pointInTimeUnit = pointInTimeUnit;
+            this.size = size;
+            this.measurements = measurements;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+/**
+ * This class summarizes a run of a {@link UtilizationBatchRunner}: how many series were processed,
+ * how many measurements were read and written, how long it took, and which series failed.
+ *
+ * @see UtilizationBatchRunner#run(java.util.Collection)
+ */
+public final class UtilizationBatchReport {
+
+    private final int numberOfSeries;
+    private final long numberOfInputMeasurements;
+    private final long numberOfResultMeasurements;
+    private final long elapsedNanos;
+    private final Map<IUtilizationSeries, RuntimeException> failures;
+
+    UtilizationBatchReport(final int numberOfSeries, final long numberOfInputMeasurements,
+            final long numberOfResultMeasurements, final long elapsedNanos,
+            final Map<IUtilizationSeries, RuntimeException> failures) {
+        this.numberOfSeries = numberOfSeries;
+        this.numberOfInputMeasurements = numberOfInputMeasurements;
+        this.numberOfResultMeasurements = numberOfResultMeasurements;
+        this.elapsedNanos = elapsedNanos;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Gets the number of series that were passed to the runner.
+     *
+     * @return A nonnegative number.
+     */
+    public int getNumberOfSeries() {
+        return this.numberOfSeries;
+    }
+
+    /**
+     * Gets the number of series whose utilization series was derived successfully.
+     *
+     * @return A nonnegative number not greater than {@link #getNumberOfSeries()}.
+     */
+    public int getNumberOfProcessedSeries() {
+        return this.numberOfSeries - this.failures.size();
+    }
+
+    /**
+     * Gets the number of input measurements read from the successfully processed series.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfInputMeasurements() {
+        return this.numberOfInputMeasurements;
+    }
+
+    /**
+     * Gets the number of utilization measurements written for the successfully processed series.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfResultMeasurements() {
+        return this.numberOfResultMeasurements;
+    }
+
+    /**
+     * Gets the wall-clock time the run took.
+     *
+     * @return A {@link Measure} denoting the elapsed time in seconds.
+     */
+    public Measure<Double, Duration> getElapsedTime() {
+        return Measure.valueOf(this.elapsedNanos / 1e9, SI.SECOND);
+    }
+
+    /**
+     * Gets the throughput of the run, i.e., the number of input measurements processed per second
+     * of wall-clock time.
+     *
+     * @return A nonnegative number, or {@code 0} if no time has elapsed.
+     */
+    public double getThroughput() {
+        if (this.elapsedNanos <= 0) {
+            return 0d;
+        }
+        return this.numberOfInputMeasurements / (this.elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the series that could not be processed, along with the cause.
+     *
+     * @return An unmodifiable map from the failed series to the exception raised while processing
+     *         it. The map is empty if all series have been processed successfully.
+     */
+    public Map<IUtilizationSeries, RuntimeException> getFailures() {
+        return this.failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d series processed, %d measurements read, %d written in %.3f s (%.1f/s)",
+                getNumberOfProcessedSeries(), this.numberOfSeries, this.numberOfInputMeasurements,
+                this.numberOfResultMeasurements, this.elapsedNanos / 1e9, getThroughput());
+    }
+}
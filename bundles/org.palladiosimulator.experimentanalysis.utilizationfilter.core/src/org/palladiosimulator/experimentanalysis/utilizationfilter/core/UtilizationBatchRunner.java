@@ -0,0 +1,248 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class is a headless entry point to derive the sliding window utilization of many
+ * {@code (point in time, state of active resource)} series at once, e.g., of all series of an EDP2
+ * repository.<br>
+ * The series are processed in parallel on a work-stealing {@link ForkJoinPool}. Each series is
+ * streamed through its own sliding window, the resulting utilization measurements are written
+ * directly into the recorder of the series, so apart from the input data, no intermediate results
+ * are kept.<br>
+ * To process large replication sets on a single machine, the memory used at the same time is
+ * bounded by a budget: As the number of measurements of a series is only known once its input has
+ * been opened, opening a series and reserving its share of the budget is done by one series at a
+ * time. Hence, besides the series being processed, at most one further series is open while it
+ * waits for its share. The processing itself is not serialized, so all series that fit into the
+ * budget are processed at the same time. A series whose share exceeds the whole budget is
+ * processed on its own.<br>
+ * Failures of single series do not stop the run, they are listed in the resulting
+ * {@link UtilizationBatchReport}.
+ *
+ * @see Edp2UtilizationSeries
+ * @see HeadlessUtilizationFilter
+ */
+public final class UtilizationBatchRunner {
+
+    /**
+     * Rough estimate of the heap occupied per input measurement, including the boxed measures and
+     * the window contents.
+     */
+    private static final long ESTIMATED_BYTES_PER_MEASUREMENT = 256;
+    private static final long BYTES_PER_PERMIT = 1024;
+
+    private final Measure<Double, Duration> windowLength;
+    private final Measure<Double, Duration> windowIncrement;
+    private final int parallelism;
+    private final int budgetPermits;
+
+    /**
+     * Initializes a new instance of the {@link UtilizationBatchRunner} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the sliding window, must denote a positive duration.
+     * @param windowIncrement
+     *            The increment of the sliding window, must denote a positive duration.
+     * @param parallelism
+     *            The number of series processed at the same time, must be positive. Usually, the
+     *            number of available processors is passed here.
+     * @param memoryBudgetInBytes
+     *            The maximum number of bytes the series processed at the same time may occupy,
+     *            must be positive.
+     * @throws NullPointerException
+     *             If either measure is {@code null}.
+     * @throws IllegalArgumentException
+     *             If either measure does not denote a positive duration, or either number is not
+     *             positive.
+     */
+    public UtilizationBatchRunner(final Measure<Double, Duration> windowLength,
+            final Measure<Double, Duration> windowIncrement, final int parallelism, final long memoryBudgetInBytes) {
+        this.windowLength = checkPositiveDuration(windowLength);
+        this.windowIncrement = checkPositiveDuration(windowIncrement);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Given parallelism must be positive.");
+        }
+        if (memoryBudgetInBytes <= 0) {
+            throw new IllegalArgumentException("Given memory budget must be positive.");
+        }
+        this.parallelism = parallelism;
+        this.budgetPermits = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1, memoryBudgetInBytes / BYTES_PER_PERMIT));
+    }
+
+    /**
+     * Derives the utilization series of all {@code (point in time, state of active resource)}
+     * series in the given EDP2 repository and writes them back into the repository.
+     *
+     * @param repository
+     *            The EDP2 {@link Repository} to process.
+     * @return A {@link UtilizationBatchReport} summarizing the run.
+     * @throws NullPointerException
+     *             If the given repository is {@code null}.
+     * @see Edp2UtilizationSeries#collectFrom(Repository)
+     */
+    public UtilizationBatchReport run(final Repository repository) {
+        return run(Edp2UtilizationSeries.collectFrom(repository));
+    }
+
+    /**
+     * Derives the utilization series of each of the given series and writes it into the result
+     * recorder of the series. This method returns once all series have been processed.
+     *
+     * @param series
+     *            A collection of {@link IUtilizationSeries} to process.
+     * @return A {@link UtilizationBatchReport} summarizing the run.
+     * @throws NullPointerException
+     *             If the given collection is {@code null}.
+     */
+    public UtilizationBatchReport run(final Collection<? extends IUtilizationSeries> series) {
+        Objects.requireNonNull(series, "Given series must not be null.");
+        final Semaphore budget = new Semaphore(this.budgetPermits, true);
+        final Lock openLock = new ReentrantLock();
+        final LongAdder inputMeasurements = new LongAdder();
+        final LongAdder resultMeasurements = new LongAdder();
+        final Map<IUtilizationSeries, RuntimeException> failures = new ConcurrentHashMap<>();
+
+        final long start = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(series.size());
+            for (IUtilizationSeries currentSeries : series) {
+                tasks.add(pool.submit(() -> {
+                    try {
+                        process(currentSeries, budget, openLock, inputMeasurements, resultMeasurements);
+                    } catch (RuntimeException e) {
+                        failures.put(currentSeries, e);
+                    }
+                }));
+            }
+            tasks.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+        return new UtilizationBatchReport(series.size(), inputMeasurements.sum(), resultMeasurements.sum(),
+                System.nanoTime() - start, failures);
+    }
+
+    private void process(final IUtilizationSeries series, final Semaphore budget, final Lock openLock,
+            final LongAdder inputMeasurements, final LongAdder resultMeasurements) {
+        final IDataStream<MeasuringValue> inputData;
+        final int permits;
+        openLock.lock();
+        try {
+            inputData = series.getDataSource().getDataStream();
+            try {
+                permits = getPermits(inputData.size());
+                acquire(budget, permits);
+            } catch (RuntimeException e) {
+                inputData.close();
+                throw e;
+            }
+        } finally {
+            openLock.unlock();
+        }
+        try {
+            final IRecorder resultRecorder = series.createResultRecorder();
+            final CountingRecorder countingRecorder = new CountingRecorder(resultRecorder);
+            final UtilizationFilterSlidingWindow slidingWindow = new UtilizationFilterSlidingWindow(this.windowLength,
+                    this.windowIncrement,
+                    new SlidingWindowUtilizationAggregator(inputData.getMetricDesciption(), countingRecorder));
+            long numberOfMeasurements = 0;
+            for (MeasuringValue measurement : inputData) {
+                slidingWindow.addMeasurement(measurement);
+                ++numberOfMeasurements;
+            }
+            slidingWindow.noMoreDataAvailable();
+            resultRecorder.flush();
+
+            inputMeasurements.add(numberOfMeasurements);
+            resultMeasurements.add(countingRecorder.count);
+        } finally {
+            try {
+                inputData.close();
+            } finally {
+                budget.release(permits);
+            }
+        }
+    }
+
+    private int getPermits(final int numberOfMeasurements) {
+        final long bytes = Math.max(1, numberOfMeasurements) * ESTIMATED_BYTES_PER_MEASUREMENT;
+        final long permits = (bytes + BYTES_PER_PERMIT - 1) / BYTES_PER_PERMIT;
+        // a series that exceeds the budget is processed on its own rather than never
+        return (int) Math.min(permits, this.budgetPermits);
+    }
+
+    private static void acquire(final Semaphore budget, final int permits) {
+        // the worker blocks without compensation, so that waiting series do not cause the pool to
+        // start additional workers
+        try {
+            budget.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the memory budget.", e);
+        }
+    }
+
+    private static Measure<Double, Duration> checkPositiveDuration(final Measure<Double, Duration> measure) {
+        Objects.requireNonNull(measure, "Given measure must not be null.");
+        if (!(measure.doubleValue(SI.SECOND) > 0)) {
+            throw new IllegalArgumentException("Given measure must denote a positive duration.");
+        }
+        return measure;
+    }
+
+    /**
+     * Recorder decorator that counts the measurements written into the decorated recorder.
+     */
+    private static final class CountingRecorder extends AbstractRecorder {
+
+        private final IRecorder decoratedRecorder;
+        private long count = 0;
+
+        private CountingRecorder(final IRecorder decoratedRecorder) {
+            this.decoratedRecorder = decoratedRecorder;
+        }
+
+        @Override
+        public void initialize(final IRecorderConfiguration recorderConfiguration) {
+            this.decoratedRecorder.initialize(recorderConfiguration);
+        }
+
+        @Override
+        public void writeData(final MeasuringValue measurement) {
+            this.decoratedRecorder.writeData(measurement);
+            ++this.count;
+        }
+
+        @Override
+        public void flush() {
+            this.decoratedRecorder.flush();
+        }
+    }
+}
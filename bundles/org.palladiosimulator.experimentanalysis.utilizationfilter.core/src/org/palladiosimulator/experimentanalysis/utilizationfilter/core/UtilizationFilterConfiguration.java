@@ -0,0 +1,149 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.datastream.configurable.reflective.ConfigurationProperty;
+import org.palladiosimulator.edp2.datastream.configurable.reflective.ReflectivePropertyConfigurable;
+
+/**
+ * This class contains properties to configure the behavior of {@link HeadlessUtilizationFilter}s.
+ * With this class, window length and increment, that are used by {@link HeadlessUtilizationFilter}s to process their input, can be adapted by the user.
+ * Optionally, the input can be restricted to a range of simulated time by the <b>range from</b> and <b>range to</b> properties, which are not set by default.
+ * @see HeadlessUtilizationFilter
+ * @author Florian Rosenthal
+ *
+ */
+public class UtilizationFilterConfiguration extends ReflectivePropertyConfigurable {
+
+	public static final String WINDOW_LENGTH_KEY = "windowLength"; //must equal the respective property name!
+	public static final String WINDOW_INCREMENT_KEY = "windowIncrement";
+	public static final String RANGE_FROM_KEY = "rangeFrom";
+	public static final String RANGE_TO_KEY = "rangeTo";
+	private static final Measure<Double, Duration> DEFAULT_WINDOW_LENGTH = Measure.valueOf(10d, SI.SECOND);
+	private static final Measure<Double, Duration> DEFAULT_WINDOW_INCREMENT = Measure.valueOf(10d, SI.SECOND);
+		
+	@ConfigurationProperty(description = "A measure denoting the current window length.")
+	private Measure<Double, Duration> windowLength;
+	
+	@ConfigurationProperty(description = "A measure denoting the current window increment.")
+	private Measure<Double, Duration> windowIncrement;
+	
+	@ConfigurationProperty(description = "A measure denoting the point in time the input is processed from (optional).")
+	private Measure<Double, Duration> rangeFrom;
+	
+	@ConfigurationProperty(description = "A measure denoting the point in time the input is processed to (optional).")
+	private Measure<Double, Duration> rangeTo;
+	
+	/**
+     * Gets the default value of the <b>window increment</b> property.
+     * @return A {@link Measure} denoting the default value of the property.
+     */
+	public static Measure<Double, Duration> getDefaultWindowIncrement() {
+	    return DEFAULT_WINDOW_INCREMENT;
+	}
+	
+	/**
+     * Gets the default value of the <b>window length</b> property.
+     * @return A {@link Measure} denoting the default value of the property.
+     */
+	public static Measure<Double, Duration> getDefaultWindowLength() {
+	    return DEFAULT_WINDOW_LENGTH;
+	}
+	
+	/**
+	 * Gets the current value of the <b>window increment</b> property.
+	 * @return A {@link Measure} denoting the value of the property.
+	 */
+	public Measure<Double, Duration> getWindowIncrement() {
+		return this.windowIncrement;
+	}
+	
+	/**
+     * Gets the current value of the <b>window length</b> property.
+     * @return A {@link Measure} denoting the value of the property.
+     */
+	public Measure<Double, Duration> getWindowLength() {
+        return this.windowLength;
+    }
+	
+	/**
+     * Gets the current value of the <b>range from</b> property, i.e., the point in time from which on the input is processed.
+     * @return A {@link Measure} denoting the value of the property, or an empty {@link Optional} if it is not set.
+     */
+	public Optional<Measure<Double, Duration>> getRangeFrom() {
+	    return Optional.ofNullable(this.rangeFrom);
+	}
+	
+	/**
+     * Gets the current value of the <b>range to</b> property, i.e., the point in time up to which the input is processed.
+     * @return A {@link Measure} denoting the value of the property, or an empty {@link Optional} if it is not set.
+     */
+	public Optional<Measure<Double, Duration>> getRangeTo() {
+	    return Optional.ofNullable(this.rangeTo);
+	}
+	
+	/**
+	 * Initializes a new instance of the {@link UtilizationFilterConfiguration} class.
+	 */
+	public UtilizationFilterConfiguration() {
+	    super();
+	}
+	
+	/**
+	 * Gets the default configuration settings, that is default values for window length and window increment.
+	 * @return A {@link Map} containing the default values of the window length and window increment properties.
+	 */
+	@Override
+	public Map<String, Object> getDefaultConfiguration() {
+		Map<String, Object> result = new HashMap<String, Object>(super.getDefaultConfiguration());
+		result.put(WINDOW_LENGTH_KEY, DEFAULT_WINDOW_LENGTH);
+		result.put(WINDOW_INCREMENT_KEY, DEFAULT_WINDOW_INCREMENT);
+				
+		return result;
+	}
+	
+	@Override
+	public void propertyChanged(String key, Object oldValue, Object newValue) {
+	    Object checkedValue = newValue;
+	    if (newValue != getNotSetConstant()) {
+            if (WINDOW_LENGTH_KEY.equals(key) || WINDOW_INCREMENT_KEY.equals(key)) {
+                checkedValue = checkGetDurationMeasure(checkedValue, false);
+            } else if (RANGE_FROM_KEY.equals(key) || RANGE_TO_KEY.equals(key)) {
+                checkedValue = checkGetDurationMeasure(checkedValue, true);
+            }
+	    }
+	    super.propertyChanged(key, oldValue, checkedValue);
+	}
+	
+	@SuppressWarnings("unchecked")
+    private Measure<Double, Duration> checkGetDurationMeasure(Object value, boolean zeroAllowed) {
+	    if (value == null) {
+            throw new IllegalArgumentException("Given measure must not be null.");
+        } else if (!(value instanceof Measure)) {
+            throw new IllegalArgumentException("Given measure must be a valid JScience measure.");
+        } else {
+            Measure<?, ?> measure = (Measure<?, ?>) value;
+            if (!(measure.getValue() instanceof Number)
+                    || !Duration.UNIT.isCompatible(measure.getUnit())) {
+                throw new IllegalArgumentException("Given measure must be a valid JScience duration measure.");
+            }
+            Number measureValue = (Number) measure.getValue(); 
+            if (zeroAllowed ? !(Double.compare(0d, measureValue.doubleValue()) <= 0)
+                    : !(Double.compare(0d, measureValue.doubleValue()) < 0)) {
+                throw new IllegalArgumentException(zeroAllowed ? "Given measure must denote a nonnegative duration."
+                        : "Given measure must denote a positive duration.");
+            }
+            return Measure.valueOf(measureValue.doubleValue(), (Unit<Duration>) measure.getUnit());            
+        }
+	}
+	
+	
+
+}
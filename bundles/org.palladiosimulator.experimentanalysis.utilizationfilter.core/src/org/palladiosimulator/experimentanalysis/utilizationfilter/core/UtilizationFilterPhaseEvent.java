@@ -0,0 +1,58 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event that is emitted once a phase of the computation of a
+ * {@link HeadlessUtilizationFilter} is completed. The duration of the event is the one of the
+ * phase. The range bounds are {@code NaN} if the range is not restricted.
+ */
+@Name("org.palladiosimulator.experimentanalysis.UtilizationFilterPhase")
+@Label("Utilization Filter Phase")
+@Category({ "Palladio", "Experiment Analysis" })
+@StackTrace(false)
+public final class UtilizationFilterPhaseEvent extends Event {
+
+    /** Hashing the contents of the input series for the cache key. */
+    public static final String CONTENT_HASH = "content hash";
+    /** Looking up the output in the result cache. */
+    public static final String CACHE_LOOKUP = "cache lookup";
+    /** Computing the output for a single window configuration. */
+    public static final String COMPUTATION = "computation";
+    /** Computing the output for several window configurations at once. */
+    public static final String SWEEP = "sweep";
+    /** Storing the output in the result cache. */
+    public static final String CACHE_STORE = "cache store";
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Metric")
+    @Description("The name of the metric of the input series")
+    public String metric;
+
+    @Label("Window Length")
+    @Description("The window length in seconds, or NaN if the phase applies to several configurations")
+    public double windowLength;
+
+    @Label("Window Increment")
+    @Description("The window increment in seconds, or NaN if the phase applies to several configurations")
+    public double windowIncrement;
+
+    @Label("Range From")
+    @Description("The lower bound of the range of simulated time, in seconds")
+    public double rangeFrom;
+
+    @Label("Range To")
+    @Description("The upper bound of the range of simulated time, in seconds")
+    public double rangeTo;
+
+    @Label("Window Configurations")
+    @Description("The number of window configurations the phase applies to")
+    public int numberOfConfigurations;
+}
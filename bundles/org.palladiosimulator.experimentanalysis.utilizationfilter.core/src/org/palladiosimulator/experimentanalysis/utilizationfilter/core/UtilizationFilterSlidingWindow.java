@@ -1,9 +1,8 @@
-package org.palladiosimulator.experimentanalysis.utilizationfilter;
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
 
-import org.palladiosimulator.edp2.models.ExperimentData.Measurement;
 import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
 import org.palladiosimulator.experimentanalysis.SlidingWindow;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
@@ -14,15 +13,15 @@ import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
  * This class is a {@link SlidingWindow} subclass intended to be used by utilization filters at
  * analysis time, e.g, to provide another another kind of visualization data.<br>
  * The window is thus not governed by any simulation logic. Once the window is full, i.e., a
- * {@link Measurement} is added that is out of the window's bounds (that is, the
+ * {@link MeasuringValue} is added that is out of the window's bounds (that is, the
  * {@code point in time} component is greater than the window's current upper bound) the window
- * moves forward by a fixed increment (until the new {@link Measurement} is within the window's
+ * moves forward by a fixed increment (until the new {@link MeasuringValue} is within the window's
  * bounds) and the so far collected measurements are propagated to the connected
  * {@link SlidingWindowUtilizationAggregator} that is attached to the window upon initialization.
  * <br>
  * 
  * @see SlidingWindowUtilizationAggregator
- * @see UtilizationFilter
+ * @see HeadlessUtilizationFilter
  * @see SlidingWindow
  * 
  * @author Florian Rosenthal
@@ -73,6 +72,32 @@ final class UtilizationFilterSlidingWindow extends SlidingWindow {
         this.addObserver(aggregator);
     }
 
+    /**
+     * Initializes a new instance of the {@link UtilizationFilterSlidingWindow} class with the given
+     * parameters.
+     * 
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}.
+     * @param increment
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}.
+     * @param initialLowerBound
+     *            The point in time the first window starts at, e.g., the beginning of the range of
+     *            simulated time the input is restricted to.
+     * @param aggregator
+     *            A {@link SlidingWindowUtilizationAggregator} that is used to calculate the
+     *            utilization based on the window data.
+     * @throws IllegalArgumentException
+     *             If either of the measure arguments is invalid, i.e., {@code null} or negative, or
+     *             the given aggregator is {@code null.}
+     */
+    UtilizationFilterSlidingWindow(Measure<Double, Duration> windowLength, Measure<Double, Duration> increment,
+            Measure<Double, Duration> initialLowerBound, SlidingWindowUtilizationAggregator aggregator) {
+        super(windowLength, increment, initialLowerBound, aggregator.getExpectedWindowDataMetric(),
+                new KeepLastElementPriorToLowerBoundStrategy());
+        this.addObserver(aggregator);
+    }
+
     /**
      * By calling this method, clients tell the window that no more measurements are to be added.
      * <br>
@@ -88,7 +113,7 @@ final class UtilizationFilterSlidingWindow extends SlidingWindow {
         super.checkAddMeasurementPrerequisites(newMeasurement);
         Measure<Double, Duration> pointInTime = newMeasurement
                 .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
-        while (pointInTime.compareTo(getCurrentUpperBound()) > 0) {
+        while (isBeyondCurrentUpperBound(pointInTime)) {
             // window is full, we have to move on
             // we have to do this inside a loop as the window increment might be small
             // and the new measurement still out of bounds after one "move on"
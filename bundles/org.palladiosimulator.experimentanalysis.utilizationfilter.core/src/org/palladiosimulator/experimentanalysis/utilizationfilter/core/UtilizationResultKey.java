@@ -0,0 +1,120 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+/**
+ * This class identifies a derived utilization series: It consists of the id of the input series,
+ * the window length and increment used to derive it, and a hash of the contents of the input
+ * series. Thus, a cached result is only reused as long as neither the input nor the configuration
+ * changed.
+ *
+ * @see IUtilizationResultCache
+ */
+public final class UtilizationResultKey {
+
+    private final String seriesId;
+    private final double windowLengthInSeconds;
+    private final double windowIncrementInSeconds;
+    private final long contentHash;
+
+    /**
+     * Initializes a new instance of the {@link UtilizationResultKey} class with the given
+     * parameters.
+     *
+     * @param seriesId
+     *            The id of the input series.
+     * @param windowLength
+     *            The window length the result is derived with.
+     * @param windowIncrement
+     *            The window increment the result is derived with.
+     * @param contentHash
+     *            A hash of the contents of the input series.
+     * @throws NullPointerException
+     *             If any of the object arguments is {@code null}.
+     */
+    public UtilizationResultKey(final String seriesId, final Measure<Double, Duration> windowLength,
+            final Measure<Double, Duration> windowIncrement, final long contentHash) {
+        this(Objects.requireNonNull(seriesId, "Given series id must not be null."),
+                Objects.requireNonNull(windowLength, "Given window length must not be null.")
+                        .doubleValue(SI.SECOND),
+                Objects.requireNonNull(windowIncrement, "Given window increment must not be null.")
+                        .doubleValue(SI.SECOND),
+                contentHash);
+    }
+
+    UtilizationResultKey(final String seriesId, final double windowLengthInSeconds,
+            final double windowIncrementInSeconds, final long contentHash) {
+        this.seriesId = seriesId;
+        this.windowLengthInSeconds = windowLengthInSeconds;
+        this.windowIncrementInSeconds = windowIncrementInSeconds;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Gets the id of the input series.
+     *
+     * @return The series id, never {@code null}.
+     */
+    public String getSeriesId() {
+        return this.seriesId;
+    }
+
+    /**
+     * Gets the window length the result is derived with.
+     *
+     * @return The window length, given in seconds.
+     */
+    public double getWindowLengthInSeconds() {
+        return this.windowLengthInSeconds;
+    }
+
+    /**
+     * Gets the window increment the result is derived with.
+     *
+     * @return The window increment, given in seconds.
+     */
+    public double getWindowIncrementInSeconds() {
+        return this.windowIncrementInSeconds;
+    }
+
+    /**
+     * Gets the hash of the contents of the input series.
+     *
+     * @return The content hash.
+     */
+    public long getContentHash() {
+        return this.contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UtilizationResultKey)) {
+            return false;
+        }
+        final UtilizationResultKey other = (UtilizationResultKey) obj;
+        return this.seriesId.equals(other.seriesId)
+                && Double.compare(this.windowLengthInSeconds, other.windowLengthInSeconds) == 0
+                && Double.compare(this.windowIncrementInSeconds, other.windowIncrementInSeconds) == 0
+                && this.contentHash == other.contentHash;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.seriesId, this.windowLengthInSeconds, this.windowIncrementInSeconds,
+                this.contentHash);
+    }
+
+    @Override
+    public String toString() {
+        return "UtilizationResultKey [seriesId=" + this.seriesId + ", windowLength=" + this.windowLengthInSeconds
+                + "s, windowIncrement=" + this.windowIncrementInSeconds + "s, contentHash="
+                + Long.toHexString(this.contentHash) + "]";
+    }
+}
@@ -0,0 +1,311 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.slicing.BusyTimePaneAggregation;
+import org.palladiosimulator.experimentanalysis.slicing.PaneBasedSlidingWindows;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class derives the utilization series for several window configurations (i.e., pairs of
+ * window length and increment) from a single pass over the input data.<br>
+ * The configurations are grouped such that the windows of a group share their panes, i.e., each
+ * group is backed by one {@link PaneBasedSlidingWindows} instance along with a
+ * {@link BusyTimePaneAggregation}. A configuration joins a group as long as the pane length (the
+ * greatest common divisor of all lengths and increments of the group) does not get too small
+ * compared to the windows; otherwise, a new group is opened. Each input measurement is thus
+ * processed once per group rather than once per window it belongs to.<br>
+ * Each configuration produces its own output series of {@code (point in time, utilization)}
+ * tuples, which is passed on to the recorder given for the configuration.<br>
+ * Like the {@link HeadlessUtilizationFilter}, the sweep can be restricted to a range of simulated
+ * time: the windows then start at the beginning of the range, and the last window of each
+ * configuration is the one containing the end of the range.
+ *
+ * @see HeadlessUtilizationFilter#getDataStreams(List)
+ * @see UtilizationSweepConfiguration
+ */
+public final class UtilizationSweep {
+
+    // panes per window up to which configurations share their panes
+    private static final long MAX_SHARED_PANES_PER_WINDOW = 1_000L;
+    // panes per window above which window length and increment are considered incommensurable
+    private static final long MAX_PANES_PER_WINDOW = 100_000L;
+
+    private final List<UtilizationSweepConfiguration> configurations;
+    private final Optional<Double> rangeFrom; // in seconds
+    private final Optional<Double> rangeTo; // in seconds
+    private final List<WindowGroup> groups = new ArrayList<>();
+
+    /**
+     * Initializes a new instance of the {@link UtilizationSweep} class with the given
+     * configurations.
+     *
+     * @param configurations
+     *            The {@link UtilizationSweepConfiguration}s to derive a utilization series for.
+     * @throws NullPointerException
+     *             If the given list or any of its elements is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given list is empty, or the window length and increment of a
+     *             configuration are incommensurable.
+     */
+    public UtilizationSweep(final List<UtilizationSweepConfiguration> configurations) {
+        this(configurations, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Initializes a new instance of the {@link UtilizationSweep} class with the given
+     * configurations, restricted to the given range of simulated time.
+     *
+     * @param configurations
+     *            The {@link UtilizationSweepConfiguration}s to derive a utilization series for.
+     * @param rangeFrom
+     *            The beginning of the range of simulated time to process, if any.
+     * @param rangeTo
+     *            The end of the range of simulated time to process, if any.
+     * @throws NullPointerException
+     *             If any of the arguments, or any element of the given list, is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given list is empty, the window length and increment of a configuration
+     *             are incommensurable, or the given range is invalid.
+     */
+    public UtilizationSweep(final List<UtilizationSweepConfiguration> configurations,
+            final Optional<Measure<Double, Duration>> rangeFrom, final Optional<Measure<Double, Duration>> rangeTo) {
+        this.configurations = Collections.unmodifiableList(new ArrayList<>(
+                Objects.requireNonNull(configurations, "Given configurations must not be null.")));
+        if (this.configurations.isEmpty()) {
+            throw new IllegalArgumentException("At least one configuration must be given.");
+        }
+        this.rangeFrom = Objects.requireNonNull(rangeFrom).map(from -> from.doubleValue(SI.SECOND));
+        this.rangeTo = Objects.requireNonNull(rangeTo).map(to -> to.doubleValue(SI.SECOND));
+        if (this.rangeFrom.isPresent() && !(this.rangeFrom.get() >= 0d)) {
+            throw new IllegalArgumentException("Given range must not begin before 0s.");
+        }
+        if (this.rangeTo.isPresent() && this.rangeTo.get() < this.rangeFrom.orElse(0d)) {
+            throw new IllegalArgumentException("Given range must not end before it begins.");
+        }
+        for (int i = 0; i < this.configurations.size(); ++i) {
+            addToGroup(Objects.requireNonNull(this.configurations.get(i), "Given configuration must not be null."),
+                    i);
+        }
+    }
+
+    private void addToGroup(final UtilizationSweepConfiguration configuration, final int index) {
+        final double windowLength = configuration.getWindowLengthInSeconds();
+        final double windowIncrement = configuration.getWindowIncrementInSeconds();
+        final double paneLength = PaneBasedSlidingWindows.greatestCommonDivisor(windowLength, windowIncrement);
+        for (WindowGroup group : this.groups) {
+            final double sharedPaneLength = PaneBasedSlidingWindows.greatestCommonDivisor(group.paneLength, paneLength);
+            if (Math.max(group.maxWindowLength, windowLength) / sharedPaneLength <= MAX_SHARED_PANES_PER_WINDOW) {
+                group.paneLength = sharedPaneLength;
+                group.maxWindowLength = Math.max(group.maxWindowLength, windowLength);
+                group.configurationIndices.add(index);
+                return;
+            }
+        }
+        if (windowLength / paneLength > MAX_PANES_PER_WINDOW) {
+            throw new IllegalArgumentException(
+                    "Window length and increment of the given configuration are incommensurable: " + configuration);
+        }
+        this.groups.add(new WindowGroup(paneLength, windowLength, index));
+    }
+
+    /**
+     * Processes the given input data in a single pass. The utilization series of each configuration
+     * is written into the recorder at the same position.
+     *
+     * @param inputData
+     *            A {@link IDataStream} containing {@code state of active resource tuple} or
+     *            {@code utilization of active resource tuple} measurements, sorted by their
+     *            {@code point in time}.
+     * @param recorders
+     *            The {@link IRecorder}s to write the results into, one per configuration and in the
+     *            same order.
+     * @throws NullPointerException
+     *             If any of the arguments, or any of the given recorders, is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the number of recorders does not match the number of configurations, or the
+     *             input data does not adhere to the expected metric.
+     */
+    @SuppressWarnings("unchecked")
+    public void run(final IDataStream<MeasuringValue> inputData, final List<? extends IRecorder> recorders) {
+        Objects.requireNonNull(inputData, "Given input data must not be null.");
+        if (Objects.requireNonNull(recorders, "Given recorders must not be null.").size() != this.configurations
+                .size()) {
+            throw new IllegalArgumentException("Exactly one recorder per configuration must be given.");
+        }
+        final Measure<Double, Duration> initialLowerBound = Measure.valueOf(this.rangeFrom.orElse(0d), SI.SECOND);
+        final List<PaneBasedSlidingWindows<BusyTimePaneAggregation.BusyTimePane>> windows = new ArrayList<>(
+                this.groups.size());
+        double lastUpperBound = 0d;
+        for (WindowGroup group : this.groups) {
+            final PaneBasedSlidingWindows<BusyTimePaneAggregation.BusyTimePane> groupWindows = new PaneBasedSlidingWindows<>(
+                    new BusyTimePaneAggregation(inputData.getMetricDesciption()), initialLowerBound);
+            for (int index : group.configurationIndices) {
+                final UtilizationSweepConfiguration configuration = this.configurations.get(index);
+                final IRecorder recorder = Objects.requireNonNull(recorders.get(index),
+                        "Given recorder must not be null.");
+                if (this.rangeTo.isPresent()) {
+                    final double upperBound = getLastUpperBound(configuration);
+                    lastUpperBound = Math.max(lastUpperBound, upperBound);
+                    groupWindows.addWindow(configuration.getWindowLength(), configuration.getWindowIncrement(),
+                            new RangeRestrictingRecorder(recorder, upperBound));
+                } else {
+                    groupWindows.addWindow(configuration.getWindowLength(), configuration.getWindowIncrement(),
+                            recorder);
+                }
+            }
+            windows.add(groupWindows);
+        }
+
+        final Iterator<MeasuringValue> iterator;
+        if (this.rangeFrom.isPresent() && inputData instanceof ISeekableDataStream) {
+            final ISeekableDataStream<MeasuringValue> seekableInputData = (ISeekableDataStream<MeasuringValue>) inputData;
+            iterator = seekableInputData
+                    .iterator(HeadlessUtilizationFilter.findSeedIndex(seekableInputData, this.rangeFrom.get()));
+        } else {
+            iterator = inputData.iterator();
+        }
+        MeasuringValue seed = null;
+        boolean rangeEndReached = false;
+        while (iterator.hasNext()) {
+            final MeasuringValue measurement = iterator.next();
+            final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(measurement);
+            if (this.rangeFrom.isPresent() && pointInTime < this.rangeFrom.get()) {
+                // only the last measurement prior to the range is relevant
+                seed = measurement;
+                continue;
+            }
+            if (this.rangeTo.isPresent() && pointInTime > lastUpperBound) {
+                // the windows containing the end of the range are complete
+                rangeEndReached = true;
+                break;
+            }
+            if (seed != null) {
+                addMeasurement(windows, seed);
+                seed = null;
+            }
+            addMeasurement(windows, measurement);
+        }
+        if (seed != null) {
+            addMeasurement(windows, seed);
+        }
+        for (PaneBasedSlidingWindows<?> groupWindows : windows) {
+            if (rangeEndReached) {
+                // the state of the resource is known up to the end of the last window
+                groupWindows.advanceTo(Measure.valueOf(lastUpperBound, SI.SECOND));
+            }
+            groupWindows.noMoreDataAvailable();
+        }
+    }
+
+    private static void addMeasurement(final List<? extends PaneBasedSlidingWindows<?>> windows,
+            final MeasuringValue measurement) {
+        for (PaneBasedSlidingWindows<?> groupWindows : windows) {
+            groupWindows.addMeasurement(measurement);
+        }
+    }
+
+    /**
+     * Gets the upper bound of the window of the given configuration that contains the end of the
+     * range, in seconds.
+     */
+    private double getLastUpperBound(final UtilizationSweepConfiguration configuration) {
+        final double windowLength = configuration.getWindowLengthInSeconds();
+        final double windowIncrement = configuration.getWindowIncrementInSeconds();
+        final double firstUpperBound = this.rangeFrom.orElse(0d) + windowLength;
+        final double incrementsToGo = Math
+                .ceil((this.rangeTo.get() - firstUpperBound) / windowIncrement - PaneBasedSlidingWindows.EPSILON);
+        return firstUpperBound + Math.max(0d, incrementsToGo) * windowIncrement;
+    }
+
+    /**
+     * Gets the configurations of this sweep.
+     *
+     * @return An <b>unmodifiable</b> list containing the {@link UtilizationSweepConfiguration}s.
+     */
+    public List<UtilizationSweepConfiguration> getConfigurations() {
+        return this.configurations;
+    }
+
+    /**
+     * Gets the number of groups of configurations whose windows share their panes. Each input
+     * measurement is processed once per group.
+     *
+     * @return A positive value not greater than the number of configurations.
+     */
+    public int getNumberOfWindowGroups() {
+        return this.groups.size();
+    }
+
+    /**
+     * Represents a group of configurations that share their panes.
+     */
+    private static final class WindowGroup {
+
+        private final List<Integer> configurationIndices = new ArrayList<>();
+        private double paneLength;
+        private double maxWindowLength;
+
+        private WindowGroup(final double paneLength, final double windowLength, final int configurationIndex) {
+            this.paneLength = paneLength;
+            this.maxWindowLength = windowLength;
+            this.configurationIndices.add(configurationIndex);
+        }
+    }
+
+    /**
+     * Passes on the results of a window to the given recorder, unless the window ends after the
+     * window that contains the end of the range.
+     */
+    private static final class RangeRestrictingRecorder implements IRecorder {
+
+        private final IRecorder recorder;
+        private final double upperBound;
+
+        private RangeRestrictingRecorder(final IRecorder recorder, final double upperBound) {
+            this.recorder = recorder;
+            this.upperBound = upperBound;
+        }
+
+        @Override
+        public void initialize(final IRecorderConfiguration recorderConfiguration) {
+            this.recorder.initialize(recorderConfiguration);
+        }
+
+        @Override
+        public void writeData(final MeasuringValue measurement) {
+            final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(measurement);
+            if (pointInTime <= this.upperBound + PaneBasedSlidingWindows.EPSILON * Math.max(1d, this.upperBound)) {
+                this.recorder.writeData(measurement);
+            }
+        }
+
+        @Override
+        public void flush() {
+            this.recorder.flush();
+        }
+
+        @Override
+        public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+            this.recorder.newMeasurementAvailable(newMeasurement);
+        }
+
+        @Override
+        public void preUnregister() {
+            this.recorder.preUnregister();
+        }
+    }
+}
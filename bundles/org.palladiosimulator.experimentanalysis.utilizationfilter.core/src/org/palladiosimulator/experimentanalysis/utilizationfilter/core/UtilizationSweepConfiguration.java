@@ -0,0 +1,100 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+/**
+ * Immutable pair of window length and window increment, i.e., one of the configurations a
+ * {@link UtilizationSweep} derives a utilization series for.
+ *
+ * @see UtilizationSweep
+ * @see HeadlessUtilizationFilter#getDataStreams(java.util.List)
+ */
+public final class UtilizationSweepConfiguration {
+
+    private final Measure<Double, Duration> windowLength;
+    private final Measure<Double, Duration> windowIncrement;
+
+    /**
+     * Initializes a new instance of the {@link UtilizationSweepConfiguration} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}.
+     * @param windowIncrement
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If either of the given measures is not positive.
+     */
+    public UtilizationSweepConfiguration(final Measure<Double, Duration> windowLength,
+            final Measure<Double, Duration> windowIncrement) {
+        this.windowLength = checkPositiveDuration(windowLength, "window length");
+        this.windowIncrement = checkPositiveDuration(windowIncrement, "window increment");
+    }
+
+    private static Measure<Double, Duration> checkPositiveDuration(final Measure<Double, Duration> measure,
+            final String name) {
+        final double value = Objects.requireNonNull(measure, "Given " + name + " must not be null.")
+                .doubleValue(SI.SECOND);
+        if (!(value > 0d) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Given " + name + " must be positive.");
+        }
+        return measure;
+    }
+
+    /**
+     * Gets the window length of this configuration.
+     *
+     * @return A {@link Measure} denoting the window length.
+     */
+    public Measure<Double, Duration> getWindowLength() {
+        return this.windowLength;
+    }
+
+    /**
+     * Gets the window increment of this configuration.
+     *
+     * @return A {@link Measure} denoting the window increment.
+     */
+    public Measure<Double, Duration> getWindowIncrement() {
+        return this.windowIncrement;
+    }
+
+    double getWindowLengthInSeconds() {
+        return this.windowLength.doubleValue(SI.SECOND);
+    }
+
+    double getWindowIncrementInSeconds() {
+        return this.windowIncrement.doubleValue(SI.SECOND);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UtilizationSweepConfiguration)) {
+            return false;
+        }
+        final UtilizationSweepConfiguration other = (UtilizationSweepConfiguration) obj;
+        return Double.compare(getWindowLengthInSeconds(), other.getWindowLengthInSeconds()) == 0
+                && Double.compare(getWindowIncrementInSeconds(), other.getWindowIncrementInSeconds()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWindowLengthInSeconds(), getWindowIncrementInSeconds());
+    }
+
+    @Override
+    public String toString() {
+        return "UtilizationSweepConfiguration [windowLength=" + getWindowLengthInSeconds() + "s, windowIncrement="
+                + getWindowIncrementInSeconds() + "s]";
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the headless computation of the utilization filter that can be applied to
+ * experiment results, e.g., by batch analyses that run without a workbench.
+ */
+package org.palladiosimulator.experimentanalysis.utilizationfilter.core;
@@ -0,0 +1,221 @@
+package org.palladiosimulator.experimentanalysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class implements an {@link IRecorder} decorator which buffers incoming measurements and
+ * writes them into the decorated recorders in groups, so that recorders backed by a persistence
+ * framework like EDP2 or by files perform fewer, but larger writes.<br>
+ * Typically, instances are passed to a {@link SlidingWindowAggregator} instead of the recorders
+ * they decorate. The buffered group is written once
+ * <ul>
+ * <li>it contains the given maximum number of measurements, or</li>
+ * <li>the distance (in simulated time) between the oldest and the newest measurement of the group
+ * reaches the given maximum time span, or</li>
+ * <li>{@link #flush()} is called.</li>
+ * </ul>
+ * Decorated recorders that implement {@link IGroupWriteRecorder} receive each group by a single
+ * call, all others receive the measurements of the group one after another.<br>
+ * Note that, if the maximum time span is used, all measurements are expected to contain a
+ * {@code point in time} measure (as the results of all {@link SlidingWindowAggregator}s do) and to
+ * arrive in chronological order.
+ *
+ * @see IGroupWriteRecorder
+ */
+public class BatchingRecorder extends AbstractRecorder {
+
+    private final List<IRecorder> recordersToWriteInto;
+    private final int maxGroupSize;
+    private final double maxTimeSpan; // in seconds, infinite if not applicable
+    private final List<MeasuringValue> group;
+    private final List<MeasuringValue> unmodifiableGroup;
+
+    private double firstPointInTime = Double.NaN;
+    private long numberOfWrittenGroups = 0;
+
+    /**
+     * Initializes a new instance of the {@link BatchingRecorder} class which writes a group only
+     * once it is full or {@link #flush()} is called.
+     *
+     * @param recorderToWriteInto
+     *            The {@link IRecorder} to decorate.
+     * @param maxGroupSize
+     *            The maximum number of measurements per group, must be positive.
+     * @throws NullPointerException
+     *             If the given recorder is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given group size is not positive.
+     */
+    public BatchingRecorder(final IRecorder recorderToWriteInto, final int maxGroupSize) {
+        this(Collections.singletonList(Objects.requireNonNull(recorderToWriteInto, "Given recorder must not be null.")),
+                maxGroupSize, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Initializes a new instance of the {@link BatchingRecorder} class with the given parameters.
+     *
+     * @param recorderToWriteInto
+     *            The {@link IRecorder} to decorate.
+     * @param maxGroupSize
+     *            The maximum number of measurements per group, must be positive.
+     * @param maxTimeSpan
+     *            A {@link Measure} denoting the maximum distance in simulated time between the
+     *            oldest and the newest measurement of a group, must be positive.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given group size or the given time span is not positive.
+     */
+    public BatchingRecorder(final IRecorder recorderToWriteInto, final int maxGroupSize,
+            final Measure<Double, Duration> maxTimeSpan) {
+        this(Collections.singletonList(Objects.requireNonNull(recorderToWriteInto, "Given recorder must not be null.")),
+                maxGroupSize, maxTimeSpan);
+    }
+
+    /**
+     * Initializes a new instance of the {@link BatchingRecorder} class with the given parameters.
+     * All given recorders share the buffer, i.e., they receive the same groups.
+     *
+     * @param recordersToWriteInto
+     *            A {@link Collection} of {@link IRecorder}s to decorate.
+     * @param maxGroupSize
+     *            The maximum number of measurements per group, must be positive.
+     * @param maxTimeSpan
+     *            A {@link Measure} denoting the maximum distance in simulated time between the
+     *            oldest and the newest measurement of a group, must be positive.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given collection of recorders is empty</li>
+     *             <li>given group size is not positive</li>
+     *             <li>given time span is not positive</li>
+     *             </ul>
+     */
+    public BatchingRecorder(final Collection<IRecorder> recordersToWriteInto, final int maxGroupSize,
+            final Measure<Double, Duration> maxTimeSpan) {
+        this(recordersToWriteInto, maxGroupSize, checkGetPositiveDuration(maxTimeSpan));
+    }
+
+    private BatchingRecorder(final Collection<IRecorder> recordersToWriteInto, final int maxGroupSize,
+            final double maxTimeSpan) {
+        if (Objects.requireNonNull(recordersToWriteInto).isEmpty()) {
+            throw new IllegalArgumentException("Given recorders collection must contain at least one recorder.");
+        }
+        if (maxGroupSize <= 0) {
+            throw new IllegalArgumentException("Given group size must be positive.");
+        }
+        this.recordersToWriteInto = new ArrayList<>(recordersToWriteInto);
+        this.maxGroupSize = maxGroupSize;
+        this.maxTimeSpan = maxTimeSpan;
+        this.group = new ArrayList<>(Math.min(maxGroupSize, 1024));
+        this.unmodifiableGroup = Collections.unmodifiableList(this.group);
+    }
+
+    private static double checkGetPositiveDuration(final Measure<Double, Duration> measure) {
+        final double value = Objects.requireNonNull(measure).doubleValue(SI.SECOND);
+        if (!(value > 0d)) {
+            throw new IllegalArgumentException("Given time span must be positive.");
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation initializes all decorated recorders with the given configuration.
+     */
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        for (IRecorder recorder : this.recordersToWriteInto) {
+            recorder.initialize(recorderConfiguration);
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * That is, the given measurement is appended to the current group, which is written if it is
+     * full or spans the maximum time span afterwards.
+     *
+     * @throws NullPointerException
+     *             If the given measurement is {@code null}.
+     */
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        this.group.add(Objects.requireNonNull(measurement, "Given measurement must not be null."));
+        boolean groupComplete = this.group.size() >= this.maxGroupSize;
+        if (!Double.isInfinite(this.maxTimeSpan)) {
+            final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(measurement);
+            if (this.group.size() == 1) {
+                this.firstPointInTime = pointInTime;
+            }
+            groupComplete |= pointInTime - this.firstPointInTime >= this.maxTimeSpan;
+        }
+        if (groupComplete) {
+            writeGroup();
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * That is, the current group is written (if not empty), and all decorated recorders are
+     * flushed afterwards.
+     */
+    @Override
+    public void flush() {
+        writeGroup();
+        for (IRecorder recorder : this.recordersToWriteInto) {
+            recorder.flush();
+        }
+    }
+
+    private void writeGroup() {
+        if (this.group.isEmpty()) {
+            return;
+        }
+        for (IRecorder recorder : this.recordersToWriteInto) {
+            if (recorder instanceof IGroupWriteRecorder) {
+                ((IGroupWriteRecorder) recorder).writeGroup(this.unmodifiableGroup);
+            } else {
+                for (MeasuringValue measurement : this.group) {
+                    recorder.writeData(measurement);
+                }
+            }
+        }
+        this.group.clear();
+        this.firstPointInTime = Double.NaN;
+        ++this.numberOfWrittenGroups;
+    }
+
+    /**
+     * Gets the number of measurements that are currently buffered, i.e., not yet written.
+     *
+     * @return A nonnegative value less than the maximum group size.
+     */
+    public int getNumberOfBufferedMeasurements() {
+        return this.group.size();
+    }
+
+    /**
+     * Gets the number of groups written so far.
+     *
+     * @return A nonnegative value denoting the number of groups.
+     */
+    public long getNumberOfWrittenGroups() {
+        return this.numberOfWrittenGroups;
+    }
+}
@@ -0,0 +1,29 @@
+package org.palladiosimulator.experimentanalysis;
+
+import java.util.List;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This interface is to be implemented by {@link IRecorder}s that are capable of writing a group of
+ * measurements at once, e.g., by means of a single bulk operation of the underlying persistence
+ * framework. A {@link BatchingRecorder} passes each group it flushes to such recorders by a single
+ * call of {@link #writeGroup(List)} rather than calling {@link #writeData(MeasuringValue)} for each
+ * measurement.
+ *
+ * @see BatchingRecorder
+ */
+public interface IGroupWriteRecorder extends IRecorder {
+
+    /**
+     * Writes the given group of measurements. The effect shall be the same as passing each of them
+     * to {@link #writeData(MeasuringValue)} in the order of the list.
+     *
+     * @param measurements
+     *            An unmodifiable, non-empty {@link List} of {@link MeasuringValue}s in the order of
+     *            their arrival. Implementations must not keep a reference to it, as it is only valid
+     *            for the duration of the call.
+     */
+    void writeGroup(List<MeasuringValue> measurements);
+}
@@ -0,0 +1,40 @@
+package org.palladiosimulator.experimentanalysis;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalSlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * This interface has to be implemented by {@link ISlidingWindowListener}s that want to be notified
+ * of each change of the data collected by the observed {@link SlidingWindow}s, rather than just
+ * receiving the full window data once a window is full.<br>
+ * Measurements are passed to {@link #onInsert(MeasuringValue)} in the order they are added to the
+ * window and passed to {@link #onEvict(MeasuringValue)} once they are removed, either by the
+ * window's {@link ISlidingWindowMoveOnStrategy} or because the window is flushed. Thus, listeners
+ * can maintain their results in time proportional to the change of the window, not its size.<br>
+ * Measurements are always evicted in the order they were inserted, so that listeners may keep them
+ * in a FIFO queue. If a move on strategy removes measurements other than the oldest ones, the
+ * window evicts all measurements and inserts the retained ones anew.
+ * 
+ * @see IncrementalSlidingWindowAggregator
+ */
+public interface ISlidingWindowContentListener extends ISlidingWindowListener {
+
+    /**
+     * This callback method is triggered by each observed window once a measurement has been added
+     * to its data. Moreover, it is triggered for each measurement already collected by a window
+     * when the listener is attached to the window.
+     * 
+     * @param measurement
+     *            The {@link MeasuringValue} that has been added.
+     */
+    public void onInsert(MeasuringValue measurement);
+
+    /**
+     * This callback method is triggered by each observed window once a measurement has been
+     * removed from its data. Measurements are removed in the order they were added.
+     * 
+     * @param measurement
+     *            The {@link MeasuringValue} that has been removed.
+     */
+    public void onEvict(MeasuringValue measurement);
+}
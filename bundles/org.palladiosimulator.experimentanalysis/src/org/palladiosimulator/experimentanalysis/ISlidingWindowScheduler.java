@@ -0,0 +1,32 @@
+package org.palladiosimulator.experimentanalysis;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+/**
+ * Implementations of this interface connect a {@link SlidingWindow} to the (simulation) clock that
+ * governs the measurements written into the window. Typically, they delegate to the scheduler of a
+ * discrete-event simulation, e.g., by scheduling an event whose handler invokes the given action.
+ * <br>
+ * A {@link ScheduledSlidingWindow} uses such a scheduler to close itself exactly at its current
+ * upper bound, even if no further measurement arrives.
+ *
+ * @see ScheduledSlidingWindow
+ */
+@FunctionalInterface
+public interface ISlidingWindowScheduler {
+
+    /**
+     * Schedules the given action to be executed once the governing clock reaches the given point
+     * in time.<br>
+     * Implementations must not execute the action synchronously within this call, and must execute
+     * actions that were scheduled for the same point in time in the order they were scheduled.
+     *
+     * @param pointInTime
+     *            A {@link Measure} denoting the (absolute) point in time at which the action shall
+     *            be executed, given in any arbitrary {@link Duration}.
+     * @param action
+     *            The {@link Runnable} to execute.
+     */
+    public void scheduleAt(Measure<Double, Duration> pointInTime, Runnable action);
+}
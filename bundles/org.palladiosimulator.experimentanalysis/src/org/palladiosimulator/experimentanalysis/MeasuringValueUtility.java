@@ -0,0 +1,79 @@
+package org.palladiosimulator.experimentanalysis;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.BaseMetricDescription;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSpecPackage;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Utility class that provides convenience methods to obtain primitive values from
+ * {@link MeasuringValue}s. Consumers that operate on primitive values rather than {@link Measure}s
+ * (e.g., pane-based or incremental aggregations) are supposed to use these methods in order to
+ * convert all values into the same unit.
+ *
+ * @see MeasuringValue
+ */
+public final class MeasuringValueUtility {
+
+    private MeasuringValueUtility() {
+        // utility class, no instances
+    }
+
+    /**
+     * Gets the {@code point in time} the given measurement was taken.
+     *
+     * @param measurement
+     *            A ({@code not null}) {@link MeasuringValue} instance containing a
+     *            {@code point in time} measure.
+     * @return The {@code point in time}, given in seconds.
+     */
+    public static double getPointInTimeInSeconds(final MeasuringValue measurement) {
+        final Measure<?, Duration> pointInTime = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.doubleValue(SI.SECOND);
+    }
+
+    /**
+     * Gets the value of the given numerical metric captured by the given measurement.
+     *
+     * @param measurement
+     *            A ({@code not null}) {@link MeasuringValue} instance containing a measure for the
+     *            given metric.
+     * @param metric
+     *            The {@link NumericalBaseMetricDescription} of the value to obtain.
+     * @return The value, given in the default unit of the metric.
+     */
+    @SuppressWarnings("unchecked")
+    public static double getNumericalValue(final MeasuringValue measurement,
+            final NumericalBaseMetricDescription metric) {
+        final Measure<?, Quantity> measure = measurement.getMeasureForMetric(metric);
+        return measure.doubleValue((Unit<Quantity>) metric.getDefaultUnit());
+    }
+
+    /**
+     * Indicates whether the given measurement adheres to, that is, is compatible with the given
+     * metric. As with {@link SlidingWindow}s, a measurement is also considered compatible if the
+     * given metric is a base metric which is subsumed by the metric of the measurement.
+     *
+     * @param measurement
+     *            A ({@code not null}) {@link MeasuringValue} instance.
+     * @param metric
+     *            The {@link MetricDescription} the measurement shall adhere to.
+     * @return {@code true} if the measurement is compatible, otherwise {@code false}.
+     */
+    public static boolean adheresToMetric(final MeasuringValue measurement, final MetricDescription metric) {
+        return measurement.isCompatibleWith(metric)
+                || (MetricSpecPackage.Literals.BASE_METRIC_DESCRIPTION.isInstance(metric)
+                        && MetricDescriptionUtility.isBaseMetricDescriptionSubsumedByMetricDescription(
+                                (BaseMetricDescription) metric, measurement.getMetricDesciption()));
+    }
+}
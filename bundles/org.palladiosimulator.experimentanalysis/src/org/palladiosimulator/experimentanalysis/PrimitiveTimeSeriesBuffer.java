@@ -0,0 +1,122 @@
+package org.palladiosimulator.experimentanalysis;
+
+import java.util.Arrays;
+
+/**
+ * A ring buffer of {@code (point in time, value)} pairs that stores both components as primitive
+ * doubles in order to avoid boxing and per-element allocations. Pairs are appended at the end and
+ * removed from either end; the capacity grows as required.<br>
+ * This class is a building block for the window implementations of this bundle (e.g., incremental
+ * aggregators and measurement pipelines) and is not meant to be used by clients. Instances are not
+ * thread-safe.
+ */
+public final class PrimitiveTimeSeriesBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] pointsInTime = new double[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Appends the given pair to the end of the buffer.
+     * 
+     * @param pointInTime
+     *            The point in time of the pair.
+     * @param value
+     *            The value of the pair.
+     */
+    public void addLast(final double pointInTime, final double value) {
+        if (this.size == this.pointsInTime.length) {
+            grow();
+        }
+        final int index = physicalIndex(this.size);
+        this.pointsInTime[index] = pointInTime;
+        this.values[index] = value;
+        ++this.size;
+    }
+
+    /**
+     * Removes the first pair of the buffer, which must not be empty.
+     */
+    public void removeFirst() {
+        assert this.size > 0;
+
+        this.head = physicalIndex(1);
+        --this.size;
+    }
+
+    /**
+     * Removes the last pair of the buffer, which must not be empty.
+     */
+    public void removeLast() {
+        assert this.size > 0;
+
+        --this.size;
+    }
+
+    /**
+     * Removes all pairs from the buffer. The capacity is retained.
+     */
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of pairs within the buffer.
+     * 
+     * @return A nonnegative value denoting the number of pairs.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Indicates whether the buffer does not contain any pair.
+     * 
+     * @return {@code true} if the buffer is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the point in time of the pair at the given position.
+     * 
+     * @param index
+     *            The position of the pair, which must be within {@code [0, size())}.
+     * @return The point in time.
+     */
+    public double pointInTimeAt(final int index) {
+        return this.pointsInTime[physicalIndex(index)];
+    }
+
+    /**
+     * Gets the value of the pair at the given position.
+     * 
+     * @param index
+     *            The position of the pair, which must be within {@code [0, size())}.
+     * @return The value.
+     */
+    public double valueAt(final int index) {
+        return this.values[physicalIndex(index)];
+    }
+
+    private int physicalIndex(final int index) {
+        // capacity is always a power of two
+        return (this.head + index) & (this.pointsInTime.length - 1);
+    }
+
+    private void grow() {
+        final int capacity = this.pointsInTime.length;
+        final double[] newPointsInTime = Arrays.copyOf(this.pointsInTime, capacity * 2);
+        final double[] newValues = Arrays.copyOf(this.values, capacity * 2);
+        // unwrap: move the elements prior to head behind the old ones
+        System.arraycopy(this.pointsInTime, 0, newPointsInTime, capacity, this.head);
+        System.arraycopy(this.values, 0, newValues, capacity, this.head);
+        this.pointsInTime = newPointsInTime;
+        this.values = newValues;
+    }
+}
@@ -0,0 +1,199 @@
+package org.palladiosimulator.experimentanalysis;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * This class is a {@link SlidingWindow} implementation whose move on is governed by a (simulation)
+ * clock rather than by the arrival of measurements.<br>
+ * Upon initialization, and each time the window has moved on, it registers with the given
+ * {@link ISlidingWindowScheduler} to be closed exactly at its current upper bound. At that point in
+ * time, the data collected so far is propagated to all attached {@link ISlidingWindowListener}s and
+ * the window moves on, regardless of whether further measurements arrive. Thus, the results of the
+ * last window are also published for resources that went quiet.<br>
+ * If a measurement arrives that is out of the window's bounds before the scheduled closing was
+ * executed (e.g., as the scheduler lags behind), the window moves on immediately and the outdated
+ * closing is ignored.
+ *
+ * @see ISlidingWindowScheduler
+ * @see SlidingWindow
+ */
+public final class ScheduledSlidingWindow extends SlidingWindow {
+
+    private final ISlidingWindowScheduler scheduler;
+    // identifies the currently valid scheduled closing, outdated ones are ignored
+    private long currentClosingId = 0;
+    private boolean schedulingStopped = false;
+
+    /**
+     * Initializes a new instance of the {@link ScheduledSlidingWindow} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}. Additionally,
+     *            this measure also denotes the window increment.
+     * @param acceptedMetrics
+     *            As each window only accepts measurements that adhere to a certain metric, a
+     *            {@link MetricDescription} of must be specified.
+     * @param moveOnStrategy
+     *            The {@link ISlidingWindowMoveOnStrategy} instance that defines how the collected
+     *            data (i.e., the measurements) is adjusted when the window moves forward.
+     * @param scheduler
+     *            The {@link ISlidingWindowScheduler} the window registers with in order to be
+     *            closed at its upper bound.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given window length is negative</li>
+     *             <li>{@code acceptedMetrics}, {@code moveOnStrategy} or {@code scheduler} is
+     *             {@code null}</li>
+     *             </ul>
+     */
+    public ScheduledSlidingWindow(Measure<Double, Duration> windowLength, MetricDescription acceptedMetrics,
+            ISlidingWindowMoveOnStrategy moveOnStrategy, ISlidingWindowScheduler scheduler) {
+        this(windowLength, windowLength, acceptedMetrics, moveOnStrategy, scheduler);
+    }
+
+    /**
+     * Initializes a new instance of the {@link ScheduledSlidingWindow} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}.
+     * @param increment
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}.
+     * @param acceptedMetrics
+     *            As each window only accepts measurements that adhere to a certain metric, a
+     *            {@link MetricDescription} of must be specified.
+     * @param moveOnStrategy
+     *            The {@link ISlidingWindowMoveOnStrategy} instance that defines how the collected
+     *            data (i.e., the measurements) is adjusted when the window moves forward.
+     * @param scheduler
+     *            The {@link ISlidingWindowScheduler} the window registers with in order to be
+     *            closed at its upper bound.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given window length or increment is negative</li>
+     *             <li>{@code acceptedMetrics}, {@code moveOnStrategy} or {@code scheduler} is
+     *             {@code null}</li>
+     *             </ul>
+     */
+    public ScheduledSlidingWindow(Measure<Double, Duration> windowLength, Measure<Double, Duration> increment,
+            MetricDescription acceptedMetrics, ISlidingWindowMoveOnStrategy moveOnStrategy,
+            ISlidingWindowScheduler scheduler) {
+        this(windowLength, increment, Measure.valueOf(0d, SI.SECOND), acceptedMetrics, moveOnStrategy, scheduler);
+    }
+
+    /**
+     * Initializes a new instance of the {@link ScheduledSlidingWindow} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}.
+     * @param increment
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}.
+     * @param initialLowerBound
+     *            This {@link Measure} indicates the lower bound value at which the algorithm starts
+     *            aggregating, given in any arbitrary {@link Duration}.
+     * @param acceptedMetrics
+     *            As each window only accepts measurements that adhere to a certain metric, a
+     *            {@link MetricDescription} of must be specified.
+     * @param moveOnStrategy
+     *            The {@link ISlidingWindowMoveOnStrategy} instance that defines how the collected
+     *            data (i.e., the measurements) is adjusted when the window moves forward.
+     * @param scheduler
+     *            The {@link ISlidingWindowScheduler} the window registers with in order to be
+     *            closed at its upper bound.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given window length or increment is negative</li>
+     *             <li>{@code acceptedMetrics}, {@code moveOnStrategy} or {@code scheduler} is
+     *             {@code null}</li>
+     *             </ul>
+     */
+    public ScheduledSlidingWindow(Measure<Double, Duration> windowLength, Measure<Double, Duration> increment,
+            Measure<Double, Duration> initialLowerBound, MetricDescription acceptedMetrics,
+            ISlidingWindowMoveOnStrategy moveOnStrategy, ISlidingWindowScheduler scheduler) {
+        super(windowLength, increment, initialLowerBound, acceptedMetrics, moveOnStrategy);
+
+        if (scheduler == null) {
+            throw new IllegalArgumentException(
+                    "A scheduler must be given that closes the window once its upper bound is reached.");
+        }
+        this.scheduler = scheduler;
+        scheduleClosing();
+    }
+
+    /**
+     * Registers with the scheduler to be closed at the current upper bound. All previously
+     * scheduled closings become outdated.
+     */
+    private void scheduleClosing() {
+        final long closingId = ++this.currentClosingId;
+        this.scheduler.scheduleAt(getCurrentUpperBound(), () -> onScheduledClosing(closingId));
+    }
+
+    /**
+     * Callback that is executed by the scheduler once the upper bound the closing was scheduled for
+     * is reached.
+     *
+     * @param closingId
+     *            The id of the scheduled closing.
+     */
+    private void onScheduledClosing(long closingId) {
+        if (!this.schedulingStopped && closingId == this.currentClosingId) {
+            onWindowFullEvent();
+            scheduleClosing();
+        }
+    }
+
+    /**
+     * By calling this method, clients tell the window that it shall no longer be closed by the
+     * scheduler, e.g., because the simulation is about to end. Closings that have already been
+     * scheduled are ignored when executed.
+     */
+    public void stopScheduling() {
+        this.schedulingStopped = true;
+    }
+
+    /**
+     * Indicates whether the window is still closed by the scheduler.
+     *
+     * @return {@code false} if {@link #stopScheduling()} has been called, {@code true} otherwise.
+     */
+    public boolean isSchedulingStopped() {
+        return this.schedulingStopped;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * In case the given measurement is out of the window's bounds (that is, the scheduled closing
+     * has not been executed yet), the window moves on until the measurement is within its bounds
+     * before it is added.
+     */
+    @Override
+    public void addMeasurement(MeasuringValue newMeasurement) {
+        checkAddMeasurementPrerequisites(newMeasurement);
+        Measure<Double, Duration> pointInTime = newMeasurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        boolean movedOn = false;
+        while (isBeyondCurrentUpperBound(pointInTime)) {
+            onWindowFullEvent();
+            movedOn = true;
+        }
+        if (movedOn && !this.schedulingStopped) {
+            // closing that is still pending is outdated now
+            scheduleClosing();
+        }
+        addMeasurementInternal(newMeasurement);
+    }
+}
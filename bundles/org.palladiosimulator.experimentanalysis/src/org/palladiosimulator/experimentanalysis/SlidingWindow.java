@@ -1,18 +1,32 @@
 package org.palladiosimulator.experimentanalysis;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
 import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import jdk.jfr.EventType;
 
 import org.eclipse.emf.ecore.EClass;
 import org.palladiosimulator.commons.designpatterns.AbstractObservable;
 import org.palladiosimulator.edp2.models.ExperimentData.Measurement;
 import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowFullEvent;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowListenerEvent;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowMoveOnEvent;
+import org.palladiosimulator.experimentanalysis.jfr.WindowEvent;
+import org.palladiosimulator.experimentanalysis.management.ListenerLatencyMonitor;
+import org.palladiosimulator.experimentanalysis.management.SlidingWindowStatistics;
+import org.palladiosimulator.experimentanalysis.management.WindowMonitoringRegistry;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
 import org.palladiosimulator.measurementframework.MeasuringValue;
@@ -31,7 +45,15 @@ import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
  * {@link SlidingWindowAggregator}s.<br>
  * Additionally, each window instance has an attached {@link ISlidingWindowMoveOnStrategy} that
  * defines how the collected data (i.e., the measurements) is adjusted when the window moves
- * forward.
+ * forward.<br>
+ * Listeners that implement {@link ISlidingWindowContentListener} are additionally notified of each
+ * measurement that enters or leaves the window, so that they can maintain their results
+ * incrementally.<br>
+ * Moving on and notifying the listeners emit flight recorder events, see the
+ * {@link org.palladiosimulator.experimentanalysis.jfr} package.<br>
+ * Windows registered with a {@link WindowMonitoringRegistry} additionally maintain
+ * {@link SlidingWindowStatistics}. To find slow listeners, the time each listener takes can be
+ * recorded by a {@link ListenerLatencyMonitor}.
  * 
  * @see KeepLastElementPriorToLowerBoundStrategy
  * @see SlidingWindowAggregator
@@ -43,6 +65,10 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
 
     private static final NumericalBaseMetricDescription POINT_IN_TIME_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.POINT_IN_TIME_METRIC;
     private static final EClass BASE_METRIC_DESC_ECLASS = MetricSpecPackage.Literals.BASE_METRIC_DESCRIPTION;
+    // queried upon each full window and move on, which is cheaper than instantiating the events
+    private static final EventType FULL_EVENT_TYPE = EventType.getEventType(SlidingWindowFullEvent.class);
+    private static final EventType LISTENER_EVENT_TYPE = EventType.getEventType(SlidingWindowListenerEvent.class);
+    private static final EventType MOVE_ON_EVENT_TYPE = EventType.getEventType(SlidingWindowMoveOnEvent.class);
 
     private final Measure<Double, Duration> windowLength;
     private Measure<Double, Duration> currentLowerBound;
@@ -51,9 +77,18 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
     private final ISlidingWindowMoveOnStrategy moveOnStrategy;
     private final Deque<MeasuringValue> data = new LinkedList<>();
 
+    // content listeners are notified of insertions and evictions in addition
+    private final List<ISlidingWindowContentListener> contentListeners = new ArrayList<>();
+    // copy of the data as known by the content listeners, only maintained if there are any
+    private final Deque<MeasuringValue> contentListenersData = new ArrayDeque<>();
+
     // store whether the accepted metric is a (numerical) base metric
     private final boolean acceptsBaseMetric;
 
+    // only maintained while registered for monitoring
+    private volatile SlidingWindowStatistics statistics;
+    private volatile ListenerLatencyMonitor listenerLatencyMonitor;
+
     /**
      * Initializes a new instance of the {@link SlidingWindow} class with the given parameters.
      * 
@@ -220,6 +255,10 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
      * specified increment.
      */
     protected final void onWindowFullEvent() {
+        final SlidingWindowStatistics currentStatistics = this.statistics;
+        if (currentStatistics != null) {
+            currentStatistics.onWindowFull();
+        }
         notifyObserversOnWindowFull();
         moveOn();
     }
@@ -230,8 +269,70 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
      * callback method.
      */
     private void notifyObserversOnWindowFull() {
-        this.getEventDispatcher().onSlidingWindowFull(Collections.unmodifiableCollection(this.data),
-                this.currentLowerBound, getEffectiveWindowLength());
+        final Measure<Double, Duration> effectiveWindowLength = getEffectiveWindowLength();
+        if (!FULL_EVENT_TYPE.isEnabled()) {
+            notifyObserversOnWindowFull(effectiveWindowLength);
+            return;
+        }
+        final SlidingWindowFullEvent event = new SlidingWindowFullEvent();
+        event.begin();
+        notifyObserversOnWindowFull(effectiveWindowLength);
+        event.end();
+        if (event.shouldCommit()) {
+            setWindow(event, this.currentLowerBound, effectiveWindowLength);
+            event.numberOfElements = this.data.size();
+            event.numberOfListeners = getObservers().size();
+            event.commit();
+        }
+    }
+
+    private void notifyObserversOnWindowFull(final Measure<Double, Duration> effectiveWindowLength) {
+        final Collection<MeasuringValue> windowData = Collections.unmodifiableCollection(this.data);
+        final ListenerLatencyMonitor currentMonitor = this.listenerLatencyMonitor;
+        final boolean listenerEventEnabled = LISTENER_EVENT_TYPE.isEnabled();
+        if (currentMonitor != null || listenerEventEnabled) {
+            notifyObserversOnWindowFullTimed(windowData, effectiveWindowLength, currentMonitor, listenerEventEnabled);
+        } else {
+            this.getEventDispatcher().onSlidingWindowFull(windowData, this.currentLowerBound, effectiveWindowLength);
+        }
+    }
+
+    /**
+     * Notifies the attached observers one by one, emits a {@link SlidingWindowListenerEvent} per
+     * observer if enabled and passes the time each observer took to the given monitor, if any.
+     */
+    private void notifyObserversOnWindowFullTimed(final Collection<MeasuringValue> windowData,
+            final Measure<Double, Duration> effectiveWindowLength, final ListenerLatencyMonitor monitor,
+            final boolean listenerEventEnabled) {
+        // observers may detach themselves upon notification
+        for (ISlidingWindowListener listener : new ArrayList<>(getObservers())) {
+            final SlidingWindowListenerEvent listenerEvent = listenerEventEnabled ? new SlidingWindowListenerEvent()
+                    : null;
+            if (listenerEvent != null) {
+                listenerEvent.begin();
+            }
+            final long start = monitor != null ? System.nanoTime() : 0L;
+            listener.onSlidingWindowFull(windowData, this.currentLowerBound, effectiveWindowLength);
+            if (monitor != null) {
+                monitor.record(this, listener, System.nanoTime() - start);
+            }
+            if (listenerEvent != null) {
+                listenerEvent.end();
+                if (listenerEvent.shouldCommit()) {
+                    setWindow(listenerEvent, this.currentLowerBound, effectiveWindowLength);
+                    listenerEvent.listener = listener.getClass();
+                    listenerEvent.numberOfElements = this.data.size();
+                    listenerEvent.commit();
+                }
+            }
+        }
+    }
+
+    private void setWindow(final WindowEvent event, final Measure<Double, Duration> lowerBound,
+            final Measure<Double, Duration> length) {
+        event.metric = this.acceptedMetrics.getName();
+        event.lowerBound = lowerBound.doubleValue(SI.SECOND);
+        event.upperBound = event.lowerBound + length.doubleValue(SI.SECOND);
     }
 
     /**
@@ -316,6 +417,14 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
         // might require the corresponding pint in times of the data in order to perform the
         // adjustment
         this.data.addLast(newMeasurement);
+        if (!this.contentListeners.isEmpty()) {
+            this.contentListenersData.addLast(newMeasurement);
+            this.contentListeners.forEach(listener -> listener.onInsert(newMeasurement));
+        }
+        final SlidingWindowStatistics currentStatistics = this.statistics;
+        if (currentStatistics != null) {
+            currentStatistics.onMeasurementAdded(this.data.size());
+        }
     }
 
     /**
@@ -323,6 +432,9 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
      */
     public final void flush() {
         this.data.clear();
+        while (!this.contentListenersData.isEmpty()) {
+            notifyContentListenersOnEvict(this.contentListenersData.pollFirst());
+        }
     }
 
     /**
@@ -364,11 +476,28 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
      * @see SimulationGovernedSlidingWindow#getEffectiveWindowLength()
      */
     public Measure<Double, Duration> getCurrentUpperBound() {
-        double lowerBoundValue = this.currentLowerBound.getValue();
-        double upperBoundValue = lowerBoundValue
-                + getSpecifiedWindowLength().doubleValue(this.currentLowerBound.getUnit());
+        return Measure.valueOf(getCurrentUpperBoundValue(), this.currentLowerBound.getUnit());
+    }
 
-        return Measure.valueOf(upperBoundValue, this.currentLowerBound.getUnit());
+    /**
+     * Indicates whether the given point in time is beyond the current upper bound of the window,
+     * i.e., whether the window is full once a measurement taken at that point in time arrives.<br>
+     * Unlike comparing with {@link #getCurrentUpperBound()}, this method does not allocate, so
+     * subclasses should prefer it when deciding whether to move on upon each added measurement.
+     * 
+     * @param pointInTime
+     *            A {@link Measure} denoting a point in time.
+     * @return {@code true} if the given point in time is beyond the current upper bound, otherwise
+     *         {@code false}.
+     */
+    protected final boolean isBeyondCurrentUpperBound(Measure<?, Duration> pointInTime) {
+        return pointInTime.doubleValue(this.currentLowerBound.getUnit()) > getCurrentUpperBoundValue();
+    }
+
+    // the current upper bound, in the unit of the lower bound
+    private double getCurrentUpperBoundValue() {
+        final Unit<Duration> unit = this.currentLowerBound.getUnit();
+        return this.currentLowerBound.doubleValue(unit) + getSpecifiedWindowLength().doubleValue(unit);
     }
 
     /**
@@ -419,17 +548,100 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
      * adjusted according to the specified {@link ISlidingWindowMoveOnStrategy}.
      */
     private void moveOn() {
+        if (!MOVE_ON_EVENT_TYPE.isEnabled()) {
+            moveOnUntraced();
+            return;
+        }
+        final SlidingWindowMoveOnEvent event = new SlidingWindowMoveOnEvent();
+        event.begin();
+        final Measure<Double, Duration> previousLowerBound = this.currentLowerBound;
+        final int previousNumberOfElements = this.data.size();
+        moveOnUntraced();
+        event.end();
+        if (event.shouldCommit()) {
+            setWindow(event, previousLowerBound, getSpecifiedWindowLength());
+            event.evictedElements = previousNumberOfElements - this.data.size();
+            event.retainedElements = this.data.size();
+            event.commit();
+        }
+    }
+
+    private void moveOnUntraced() {
         adjustLowerBound();
         this.moveOnStrategy.adjustData(this.data, this.currentLowerBound, this.increment);
+        if (!this.contentListeners.isEmpty()) {
+            notifyContentListenersOnMoveOn();
+        }
+    }
+
+    /**
+     * Notifies all attached {@link ISlidingWindowContentListener}s of the measurements that have
+     * been removed by the move on strategy.<br>
+     * Move on strategies are expected to remove a prefix of the data, so that the evicted
+     * measurements are determined in time proportional to the window size by comparing the
+     * retained data positionally. Otherwise, all measurements known to the content listeners are
+     * evicted and the retained ones are inserted anew, so that listeners can rely on measurements
+     * being evicted in the order they were inserted.
+     */
+    private void notifyContentListenersOnMoveOn() {
+        final int numberOfEvictions = this.contentListenersData.size() - this.data.size();
+        if (numberOfEvictions >= 0 && isRetainedSuffix(numberOfEvictions)) {
+            for (int i = 0; i < numberOfEvictions; ++i) {
+                notifyContentListenersOnEvict(this.contentListenersData.pollFirst());
+            }
+        } else {
+            // data was not adjusted by removing a prefix
+            resynchronizeContentListenersData();
+        }
+    }
+
+    /**
+     * Checks whether the current data equals the content listeners' view on the data without its
+     * first elements, compared position by position.
+     * 
+     * @param numberOfEvictions
+     *            The number of leading elements of the content listeners' view to skip.
+     * @return {@code true} if only a prefix of the given length has been removed, otherwise
+     *         {@code false}.
+     */
+    private boolean isRetainedSuffix(final int numberOfEvictions) {
+        final Iterator<MeasuringValue> previous = this.contentListenersData.iterator();
+        for (int i = 0; i < numberOfEvictions; ++i) {
+            previous.next();
+        }
+        for (final MeasuringValue retained : this.data) {
+            if (previous.next() != retained) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evicts the content listeners' view on the data in order and inserts the current data anew,
+     * which takes time proportional to the window size.
+     */
+    private void resynchronizeContentListenersData() {
+        while (!this.contentListenersData.isEmpty()) {
+            notifyContentListenersOnEvict(this.contentListenersData.pollFirst());
+        }
+        for (final MeasuringValue measurement : this.data) {
+            this.contentListenersData.addLast(measurement);
+            this.contentListeners.forEach(listener -> listener.onInsert(measurement));
+        }
+    }
+
+    private void notifyContentListenersOnEvict(MeasuringValue evictedMeasurement) {
+        this.contentListeners.forEach(listener -> listener.onEvict(evictedMeasurement));
     }
 
     /**
      * Adjusts the window's lower bound, that increments it by the specified value.
      */
     private void adjustLowerBound() {
+        final Unit<Duration> unit = this.currentLowerBound.getUnit();
         this.currentLowerBound = Measure.valueOf(
-                this.currentLowerBound.getValue() + this.increment.doubleValue(this.currentLowerBound.getUnit()),
-                this.currentLowerBound.getUnit());
+                this.currentLowerBound.doubleValue(unit) + this.increment.doubleValue(unit), unit);
     }
 
     /**
@@ -450,9 +662,35 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
         return this.data.size();
     }
 
+    /**
+     * Attaches the given statistics to this window, which maintains them from now on. Usually, this
+     * method is called by a {@link WindowMonitoringRegistry} rather than directly.
+     * 
+     * @param statistics
+     *            The {@link SlidingWindowStatistics} to maintain, or {@code null} to stop
+     *            maintaining the currently attached ones.
+     */
+    public final void setStatistics(SlidingWindowStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Attaches the given monitor to this window, which from now on passes the time each attached
+     * listener takes to process a full window to the monitor.
+     * 
+     * @param listenerLatencyMonitor
+     *            The {@link ListenerLatencyMonitor} to attach, or {@code null} to stop recording the
+     *            times.
+     */
+    public final void setListenerLatencyMonitor(ListenerLatencyMonitor listenerLatencyMonitor) {
+        this.listenerLatencyMonitor = listenerLatencyMonitor;
+    }
+
     /**
      * Attaches a {@link ISlidingWindowListener} instance to this window.<br>
-     * Most commonly, the given listener is a {@link SlidingWindowAggregator}.
+     * Most commonly, the given listener is a {@link SlidingWindowAggregator}. If the given listener
+     * is an {@link ISlidingWindowContentListener}, it is immediately notified of the measurements
+     * currently collected by this window.
      * 
      * @param arg0
      *            The listener to attach.
@@ -471,6 +709,28 @@ public abstract class SlidingWindow extends AbstractObservable<ISlidingWindowLis
                     "Listener cannot be attached as it is expecting a metric other than this window's accepted one.");
         }
         super.addObserver(arg0);
+        if (arg0 instanceof ISlidingWindowContentListener) {
+            ISlidingWindowContentListener contentListener = (ISlidingWindowContentListener) arg0;
+            if (this.contentListeners.isEmpty()) {
+                this.contentListenersData.addAll(this.data);
+            }
+            this.contentListeners.add(contentListener);
+            this.data.forEach(contentListener::onInsert);
+        }
+    }
+
+    /**
+     * Detaches the given {@link ISlidingWindowListener} instance from this window.
+     * 
+     * @param arg0
+     *            The listener to detach.
+     */
+    @Override
+    public void removeObserver(ISlidingWindowListener arg0) {
+        super.removeObserver(arg0);
+        if (this.contentListeners.remove(arg0) && this.contentListeners.isEmpty()) {
+            this.contentListenersData.clear();
+        }
     }
 
     /**
@@ -0,0 +1,311 @@
+package org.palladiosimulator.experimentanalysis.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindowRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class implements a runtime that processes the measurements of many independent keys (e.g.,
+ * measuring points) concurrently, each key by a worker that runs on its own virtual thread.<br>
+ * Each key is associated with an {@link IRecorder}, typically a {@link SlidingWindowRecorder}, and
+ * a bounded mailbox. The tasks submitted for a key are executed one after another in the order of
+ * their submission, so the recorder, its window and the attached aggregators are only accessed by
+ * the worker of the key and need not be thread-safe. Submitting blocks while the mailbox of the key
+ * is full. Once a task of a key has failed, the worker of the key discards the pending tasks and
+ * further submissions for the key fail.<br>
+ * The number of tasks that are executed at the same time is bounded by a global number of permits,
+ * so that CPU-bound aggregation does not oversubscribe the processors, regardless of the number of
+ * keys. Recorders that block on I/O (e.g., those writing into a persistence framework) are to be
+ * wrapped by {@link #wrapBlockingRecorder(IRecorder)}: While writing into them, the worker returns
+ * its permit, so that other keys proceed in the meantime. As the runtime itself does not use
+ * monitors, blocking workers do not pin the carrier threads of the virtual threads.
+ *
+ * @param <K>
+ *            The type of the keys.
+ */
+public final class KeyedWindowRuntime<K> implements AutoCloseable {
+
+    private static final Runnable STOP = () -> {
+    };
+
+    private final Semaphore permits;
+    private final int mailboxCapacity;
+    private final Map<K, Worker> workers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("window-worker-", 0).factory());
+    // set while the current worker thread holds a permit
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private volatile boolean closed = false;
+
+    /**
+     * Initializes a new instance of the {@link KeyedWindowRuntime} class with the given
+     * parameters.
+     *
+     * @param maxConcurrentTasks
+     *            The maximum number of tasks (of different keys) executed at the same time, must be
+     *            positive. Usually, the number of available processors is passed here.
+     * @param mailboxCapacity
+     *            The maximum number of pending tasks per key, must be positive.
+     * @throws IllegalArgumentException
+     *             If either of the given numbers is not positive.
+     */
+    public KeyedWindowRuntime(final int maxConcurrentTasks, final int mailboxCapacity) {
+        if (maxConcurrentTasks <= 0) {
+            throw new IllegalArgumentException("Given maximum number of concurrent tasks must be positive.");
+        }
+        if (mailboxCapacity <= 0) {
+            throw new IllegalArgumentException("Given mailbox capacity must be positive.");
+        }
+        this.permits = new Semaphore(maxConcurrentTasks);
+        this.mailboxCapacity = mailboxCapacity;
+    }
+
+    /**
+     * Registers the given key and starts its worker.
+     *
+     * @param key
+     *            The key to register.
+     * @param recorder
+     *            The {@link IRecorder} the measurements submitted for the key are written into.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given key has already been registered.
+     * @throws IllegalStateException
+     *             If this runtime has been closed.
+     */
+    public void register(final K key, final IRecorder recorder) {
+        Objects.requireNonNull(key, "Given key must not be null.");
+        Objects.requireNonNull(recorder, "Given recorder must not be null.");
+        checkNotClosed();
+        final Worker worker = new Worker(recorder);
+        if (this.workers.putIfAbsent(key, worker) != null) {
+            throw new IllegalArgumentException("Given key has already been registered.");
+        }
+        this.executor.execute(worker::run);
+    }
+
+    /**
+     * Submits the given measurement, i.e., it is written into the recorder of the given key by the
+     * worker of the key. The calling thread blocks while the mailbox of the key is full.
+     *
+     * @param key
+     *            A registered key.
+     * @param measurement
+     *            The {@link MeasuringValue} to write.
+     * @throws NullPointerException
+     *             If the given measurement is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given key has not been registered.
+     * @throws IllegalStateException
+     *             If this runtime has been closed, or a task of the given key has failed.
+     * @throws InterruptedException
+     *             If the calling thread is interrupted while waiting for space in the mailbox.
+     */
+    public void submit(final K key, final MeasuringValue measurement) throws InterruptedException {
+        Objects.requireNonNull(measurement, "Given measurement must not be null.");
+        final Worker worker = getWorker(key);
+        worker.mailbox.put(() -> worker.recorder.writeData(measurement));
+    }
+
+    /**
+     * Submits the given task, which is executed by the worker of the given key after all tasks
+     * submitted beforehand, e.g., to flush the recorder of the key.
+     *
+     * @param key
+     *            A registered key.
+     * @param task
+     *            The {@link Runnable} to execute.
+     * @throws NullPointerException
+     *             If the given task is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given key has not been registered.
+     * @throws IllegalStateException
+     *             If this runtime has been closed, or a task of the given key has failed.
+     * @throws InterruptedException
+     *             If the calling thread is interrupted while waiting for space in the mailbox.
+     */
+    public void execute(final K key, final Runnable task) throws InterruptedException {
+        Objects.requireNonNull(task, "Given task must not be null.");
+        getWorker(key).mailbox.put(task);
+    }
+
+    /**
+     * Wraps the given recorder, which is expected to block on I/O, so that the workers of this
+     * runtime return their permit while writing into it or flushing it. Thus, blocking I/O does not
+     * reduce the number of tasks executed at the same time.
+     *
+     * @param blockingRecorder
+     *            The {@link IRecorder} to wrap.
+     * @return An {@link IRecorder} that delegates to the given one, which can be passed, e.g., to
+     *         the aggregators of the windows processed by this runtime.
+     * @throws NullPointerException
+     *             If the given recorder is {@code null}.
+     */
+    public IRecorder wrapBlockingRecorder(final IRecorder blockingRecorder) {
+        return new PermitReleasingRecorder(Objects.requireNonNull(blockingRecorder), this);
+    }
+
+    /**
+     * Stops all workers once they have executed the tasks submitted so far, and waits for them to
+     * terminate. Afterwards, nothing can be registered or submitted anymore. This method must not
+     * be called while other threads are still submitting. Calling it more than once has no
+     * effect.
+     *
+     * @throws IllegalStateException
+     *             If a task of any key failed. The failures are attached as suppressed exceptions.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        boolean interrupted = false;
+        for (Worker worker : this.workers.values()) {
+            while (true) {
+                try {
+                    worker.mailbox.put(STOP);
+                    break;
+                } catch (InterruptedException e) {
+                    // the worker keeps draining its mailbox, so retry
+                    interrupted = true;
+                }
+            }
+        }
+        this.executor.close();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        final List<Throwable> failures = new ArrayList<>();
+        for (Worker worker : this.workers.values()) {
+            if (worker.failure != null) {
+                failures.add(worker.failure);
+            }
+        }
+        if (!failures.isEmpty()) {
+            final IllegalStateException exception = new IllegalStateException(
+                    failures.size() + " window worker(s) failed.");
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    /**
+     * Gets the number of registered keys.
+     *
+     * @return A nonnegative value denoting the number of keys, i.e., of workers.
+     */
+    public int getNumberOfKeys() {
+        return this.workers.size();
+    }
+
+    /**
+     * Gets the number of permits that are currently not held by any worker.
+     *
+     * @return A nonnegative value not greater than the maximum number of concurrent tasks.
+     */
+    public int getAvailablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    /**
+     * Releases the permit held by the calling worker, if any. As the worker is no longer considered
+     * to hold the permit afterwards, nested calls do not release it again.
+     *
+     * @return {@code true} if a permit has been released, which then has to be reacquired by means
+     *         of {@link #reacquirePermit()}, otherwise {@code false}.
+     */
+    boolean releasePermitIfHeld() {
+        if (!this.holdsPermit.get()) {
+            return false;
+        }
+        this.holdsPermit.set(Boolean.FALSE);
+        this.permits.release();
+        return true;
+    }
+
+    /**
+     * Reacquires a permit previously released by {@link #releasePermitIfHeld()}.
+     */
+    void reacquirePermit() {
+        this.permits.acquireUninterruptibly();
+        this.holdsPermit.set(Boolean.TRUE);
+    }
+
+    private Worker getWorker(final K key) {
+        checkNotClosed();
+        final Worker worker = this.workers.get(Objects.requireNonNull(key, "Given key must not be null."));
+        if (worker == null) {
+            throw new IllegalArgumentException("Given key has not been registered.");
+        }
+        final Throwable failure = worker.failure;
+        if (failure != null) {
+            throw new IllegalStateException("A task of the given key has failed.", failure);
+        }
+        return worker;
+    }
+
+    private void checkNotClosed() {
+        if (this.closed) {
+            throw new IllegalStateException("Runtime has been closed.");
+        }
+    }
+
+    private final class Worker {
+
+        private final IRecorder recorder;
+        private final BlockingQueue<Runnable> mailbox = new ArrayBlockingQueue<>(
+                KeyedWindowRuntime.this.mailboxCapacity);
+        private volatile Throwable failure = null;
+
+        private Worker(final IRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        private void run() {
+            try {
+                Runnable task;
+                while ((task = this.mailbox.take()) != STOP) {
+                    if (this.failure == null) {
+                        executeWithPermit(task);
+                    }
+                    // after a failure, pending tasks are discarded so that submitters do not block
+                }
+            } catch (InterruptedException e) {
+                if (this.failure == null) {
+                    this.failure = e;
+                }
+                // nobody takes from the mailbox anymore, so make room for blocked submitters
+                this.mailbox.clear();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void executeWithPermit(final Runnable task) throws InterruptedException {
+            KeyedWindowRuntime.this.permits.acquire();
+            KeyedWindowRuntime.this.holdsPermit.set(Boolean.TRUE);
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // also errors, so that the worker keeps draining its mailbox
+                this.failure = e;
+            } finally {
+                KeyedWindowRuntime.this.holdsPermit.set(Boolean.FALSE);
+                KeyedWindowRuntime.this.permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.palladiosimulator.experimentanalysis.concurrent;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * An {@link IRecorder} decorator which has the worker of a {@link KeyedWindowRuntime} return its
+ * permit while the decorated (blocking) recorder writes or flushes. If called from any other
+ * thread, or if the permit has already been returned by an enclosing decorator, it simply
+ * delegates.
+ *
+ * @see KeyedWindowRuntime#wrapBlockingRecorder(IRecorder)
+ */
+final class PermitReleasingRecorder extends AbstractRecorder {
+
+    private final IRecorder blockingRecorder;
+    private final KeyedWindowRuntime<?> runtime;
+
+    PermitReleasingRecorder(final IRecorder blockingRecorder, final KeyedWindowRuntime<?> runtime) {
+        this.blockingRecorder = blockingRecorder;
+        this.runtime = runtime;
+    }
+
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        this.blockingRecorder.initialize(recorderConfiguration);
+    }
+
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        final boolean permitReleased = this.runtime.releasePermitIfHeld();
+        try {
+            this.blockingRecorder.writeData(measurement);
+        } finally {
+            if (permitReleased) {
+                this.runtime.reacquirePermit();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        final boolean permitReleased = this.runtime.releasePermitIfHeld();
+        try {
+            this.blockingRecorder.flush();
+        } finally {
+            if (permitReleased) {
+                this.runtime.reacquirePermit();
+            }
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package org.palladiosimulator.experimentanalysis.flow;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class implements an {@link IRecorder} that publishes the measurements written into it to
+ * {@link Flow.Subscriber}s. Typically, instances are passed to a {@link SlidingWindowAggregator},
+ * so that its results are published rather than written into a persistence framework.<br>
+ * Measurements are only delivered to a subscriber as far as it has requested them. Until then, they
+ * are kept in a buffer of bounded capacity per subscriber. If the buffer of a subscriber is full, the
+ * given {@link OverflowPolicy} applies. Delivery takes place on the thread that writes a measurement
+ * or requests further ones, but never concurrently for the same subscriber.<br>
+ * By calling {@link #close()}, all subscribers are completed once their buffers are drained.
+ *
+ * @see MeasurementSubscriber
+ */
+public final class MeasurementPublisher extends AbstractRecorder implements Flow.Publisher<MeasuringValue>,
+        AutoCloseable {
+
+    /**
+     * This enum lists the policies that apply if a measurement is written while the buffer of a
+     * subscriber is full, i.e., the subscriber did not request the buffered measurements yet.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The writing thread is blocked until the subscriber has requested a buffered measurement
+         * (or cancelled its subscription). Note that the subscriber must request from another
+         * thread then. If the writing thread is interrupted while waiting, the measurement is
+         * dropped for that subscriber and the interrupt status is restored.
+         */
+        BLOCK,
+        /**
+         * The oldest buffered measurement is dropped in favor of the written one.
+         */
+        DROP_OLDEST,
+        /**
+         * The newest buffered measurement is replaced by the written one, i.e., a slow subscriber
+         * receives the most recent result rather than each intermediate one.
+         */
+        COALESCE
+    }
+
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder numberOfDroppedMeasurements = new LongAdder();
+    private volatile boolean closed = false;
+
+    /**
+     * Initializes a new instance of the {@link MeasurementPublisher} class with the given
+     * parameters.
+     *
+     * @param bufferCapacity
+     *            The maximum number of measurements buffered per subscriber, must be positive.
+     * @param overflowPolicy
+     *            The {@link OverflowPolicy} that applies if the buffer of a subscriber is full.
+     * @throws NullPointerException
+     *             If the given policy is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given capacity is not positive.
+     */
+    public MeasurementPublisher(final int bufferCapacity, final OverflowPolicy overflowPolicy) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Given buffer capacity must be positive.");
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "Given overflow policy must not be null.");
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * If this publisher has already been closed, the given subscriber is completed immediately.
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super MeasuringValue> subscriber) {
+        final BufferedSubscription subscription = new BufferedSubscription(
+                Objects.requireNonNull(subscriber, "Given subscriber must not be null."));
+        subscriber.onSubscribe(subscription);
+        this.subscriptions.add(subscription);
+        if (this.closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation does nothing.
+     */
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * That is, the given measurement is offered to all subscribers.
+     *
+     * @throws NullPointerException
+     *             If the given measurement is {@code null}.
+     * @throws IllegalStateException
+     *             If this publisher has been closed.
+     */
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        Objects.requireNonNull(measurement, "Given measurement must not be null.");
+        if (this.closed) {
+            throw new IllegalStateException("Publisher has been closed.");
+        }
+        for (BufferedSubscription subscription : this.subscriptions) {
+            subscription.offer(measurement);
+        }
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation does nothing, as measurements are delivered as soon as they are
+     * requested.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Closes this publisher, i.e., no more measurements can be written, and each subscriber is
+     * completed once it has received its buffered measurements. Calling this method more than once
+     * has no effect.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            for (BufferedSubscription subscription : this.subscriptions) {
+                subscription.complete();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of current subscribers.
+     *
+     * @return A nonnegative value denoting the number of subscribers that have not cancelled their
+     *         subscription.
+     */
+    public int getNumberOfSubscribers() {
+        return this.subscriptions.size();
+    }
+
+    /**
+     * Gets the number of measurements that have been dropped or replaced due to the overflow
+     * policy, summed up over all subscribers.
+     *
+     * @return A nonnegative value denoting the number of dropped measurements.
+     */
+    public long getNumberOfDroppedMeasurements() {
+        return this.numberOfDroppedMeasurements.sum();
+    }
+
+    /**
+     * Gets the overflow policy of this publisher.
+     *
+     * @return The {@link OverflowPolicy} passed upon initialization.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super MeasuringValue> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = this.lock.newCondition();
+        // guarded by lock
+        private final ArrayDeque<MeasuringValue> buffer = new ArrayDeque<>();
+        private long demand = 0;
+        private boolean completed = false;
+        private boolean terminated = false;
+        private Throwable error = null;
+        // serializes the signals to the subscriber
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        private BufferedSubscription(final Flow.Subscriber<? super MeasuringValue> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            this.lock.lock();
+            try {
+                if (this.terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    // see rule 3.9 of the reactive streams specification
+                    this.error = new IllegalArgumentException("Requested number must be positive.");
+                    this.buffer.clear();
+                } else {
+                    this.demand = n > Long.MAX_VALUE - this.demand ? Long.MAX_VALUE : this.demand + n;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.lock.lock();
+            try {
+                this.terminated = true;
+                this.buffer.clear();
+                this.notFull.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+            MeasurementPublisher.this.subscriptions.remove(this);
+        }
+
+        private void offer(final MeasuringValue measurement) {
+            this.lock.lock();
+            try {
+                if (this.terminated || this.error != null) {
+                    return;
+                }
+                if (this.buffer.size() >= MeasurementPublisher.this.bufferCapacity && !makeRoom()) {
+                    if (!this.terminated) {
+                        // interrupted while waiting
+                        MeasurementPublisher.this.numberOfDroppedMeasurements.increment();
+                    }
+                    return;
+                }
+                this.buffer.addLast(measurement);
+            } finally {
+                this.lock.unlock();
+            }
+            drain();
+        }
+
+        // returns whether the given measurement is to be buffered afterwards; lock must be held
+        private boolean makeRoom() {
+            switch (MeasurementPublisher.this.overflowPolicy) {
+            case BLOCK:
+                try {
+                    while (this.buffer.size() >= MeasurementPublisher.this.bufferCapacity && !this.terminated) {
+                        this.notFull.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                return !this.terminated;
+            case DROP_OLDEST:
+                this.buffer.pollFirst();
+                break;
+            case COALESCE:
+                this.buffer.pollLast();
+                break;
+            default:
+                throw new AssertionError("Unknown overflow policy.");
+            }
+            MeasurementPublisher.this.numberOfDroppedMeasurements.increment();
+            return true;
+        }
+
+        private void complete() {
+            this.lock.lock();
+            try {
+                this.completed = true;
+            } finally {
+                this.lock.unlock();
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (this.pendingDrains.getAndIncrement() != 0) {
+                // the thread currently draining will pick up the change
+                return;
+            }
+            int missed = 1;
+            do {
+                while (emitNext()) {
+                    // emit as long as there is demand and data
+                }
+                missed = this.pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // signals at most one item or terminal event; returns whether to continue
+        private boolean emitNext() {
+            MeasuringValue next = null;
+            Throwable errorToSignal = null;
+            boolean completeToSignal = false;
+            this.lock.lock();
+            try {
+                if (this.terminated) {
+                    return false;
+                }
+                if (this.error != null) {
+                    errorToSignal = this.error;
+                    this.terminated = true;
+                } else if (!this.buffer.isEmpty() && this.demand > 0) {
+                    next = this.buffer.pollFirst();
+                    if (this.demand != Long.MAX_VALUE) {
+                        --this.demand;
+                    }
+                    this.notFull.signal();
+                } else if (this.buffer.isEmpty() && this.completed) {
+                    completeToSignal = true;
+                    this.terminated = true;
+                } else {
+                    return false;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            // signal outside of the lock, so that the subscriber may request or cancel
+            if (next != null) {
+                this.subscriber.onNext(next);
+                return true;
+            }
+            MeasurementPublisher.this.subscriptions.remove(this);
+            if (errorToSignal != null) {
+                this.subscriber.onError(errorToSignal);
+            } else if (completeToSignal) {
+                this.subscriber.onComplete();
+            }
+            return false;
+        }
+    }
+}
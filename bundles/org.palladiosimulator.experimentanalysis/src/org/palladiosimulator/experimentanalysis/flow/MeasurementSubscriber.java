@@ -0,0 +1,123 @@
+package org.palladiosimulator.experimentanalysis.flow;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.experimentanalysis.SlidingWindowRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class implements a {@link Flow.Subscriber} that writes the measurements it receives into an
+ * {@link IRecorder}. Typically, a {@link SlidingWindowRecorder} is passed, so that a
+ * {@link SlidingWindow} is fed by a {@link Flow.Publisher} of measurements.<br>
+ * Measurements are requested in batches: Initially, the given batch size is requested, and once
+ * half of it has been received, the received amount is requested again. Thus, the number of
+ * measurements in flight never exceeds the batch size, and a publisher that honors the demand never
+ * has to buffer more for this subscriber.<br>
+ * The termination of the subscription is reported by {@link #getCompletion()}, e.g., to have the
+ * recorder process pending data. The recorder itself is neither flushed nor notified.
+ *
+ * @see MeasurementPublisher
+ */
+public final class MeasurementSubscriber implements Flow.Subscriber<MeasuringValue> {
+
+    private final IRecorder recorderToWriteInto;
+    private final int batchSize;
+    private final int replenishThreshold;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private volatile Flow.Subscription subscription;
+    private int receivedSinceLastRequest = 0;
+
+    /**
+     * Initializes a new instance of the {@link MeasurementSubscriber} class with the given
+     * parameters.
+     *
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} the received measurements are written into.
+     * @param batchSize
+     *            The maximum number of measurements requested but not yet received, must be
+     *            positive.
+     * @throws NullPointerException
+     *             If the given recorder is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given batch size is not positive.
+     */
+    public MeasurementSubscriber(final IRecorder recorderToWriteInto, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Given batch size must be positive.");
+        }
+        this.recorderToWriteInto = Objects.requireNonNull(recorderToWriteInto, "Given recorder must not be null.");
+        this.batchSize = batchSize;
+        this.replenishThreshold = Math.max(1, batchSize / 2);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (this.subscription != null) {
+            // see rule 2.5 of the reactive streams specification
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(this.batchSize);
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * If the recorder fails to process the given measurement, the subscription is cancelled and
+     * the completion is completed exceptionally.
+     */
+    @Override
+    public void onNext(final MeasuringValue measurement) {
+        if (this.completion.isDone()) {
+            // cancelled due to a failure, but the publisher may still deliver
+            return;
+        }
+        try {
+            this.recorderToWriteInto.writeData(measurement);
+        } catch (RuntimeException e) {
+            this.subscription.cancel();
+            this.completion.completeExceptionally(e);
+            return;
+        }
+        if (++this.receivedSinceLastRequest >= this.replenishThreshold) {
+            final int toRequest = this.receivedSinceLastRequest;
+            this.receivedSinceLastRequest = 0;
+            this.subscription.request(toRequest);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        this.completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        this.completion.complete(null);
+    }
+
+    /**
+     * Cancels the subscription, if any. The completion is not affected.
+     */
+    public void cancel() {
+        if (this.subscription != null) {
+            this.subscription.cancel();
+        }
+    }
+
+    /**
+     * Gets the completion of this subscriber, which is completed normally once the publisher has
+     * completed, and exceptionally if the publisher or the recorder failed.
+     *
+     * @return A {@link CompletableFuture} that reflects the termination of the subscription.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return this.completion;
+    }
+}
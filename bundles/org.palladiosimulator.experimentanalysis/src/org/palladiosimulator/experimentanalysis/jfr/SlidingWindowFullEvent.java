@@ -0,0 +1,30 @@
+package org.palladiosimulator.experimentanalysis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Flight recorder event that is emitted once a full {@link SlidingWindow} has been dispatched to
+ * its {@link ISlidingWindowListener}s. The duration of the event is the one of the dispatch to all
+ * listeners; see {@link SlidingWindowListenerEvent} for the individual listeners.
+ */
+@Name("org.palladiosimulator.experimentanalysis.SlidingWindowFull")
+@Label("Sliding Window Full")
+@Category({ "Palladio", "Experiment Analysis" })
+@StackTrace(false)
+public final class SlidingWindowFullEvent extends WindowEvent {
+
+    @Label("Elements")
+    @Description("The number of measurements in the window")
+    public int numberOfElements;
+
+    @Label("Listeners")
+    @Description("The number of listeners the window has been dispatched to")
+    public int numberOfListeners;
+}
@@ -0,0 +1,32 @@
+package org.palladiosimulator.experimentanalysis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Flight recorder event that is emitted once a single {@link ISlidingWindowListener} has processed
+ * a full {@link SlidingWindow}. The duration of the event is the one of the listener's callback.
+ * <br>
+ * If this event is enabled, windows notify their listeners one by one rather than by means of their
+ * event dispatcher, so that each listener can be timed.
+ */
+@Name("org.palladiosimulator.experimentanalysis.SlidingWindowListener")
+@Label("Sliding Window Listener")
+@Category({ "Palladio", "Experiment Analysis" })
+@StackTrace(false)
+public final class SlidingWindowListenerEvent extends WindowEvent {
+
+    @Label("Listener")
+    @Description("The class of the listener")
+    public Class<?> listener;
+
+    @Label("Elements")
+    @Description("The number of measurements in the window")
+    public int numberOfElements;
+}
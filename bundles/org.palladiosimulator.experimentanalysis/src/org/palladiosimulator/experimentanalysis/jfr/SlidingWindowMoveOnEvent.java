@@ -0,0 +1,30 @@
+package org.palladiosimulator.experimentanalysis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Flight recorder event that is emitted once a {@link SlidingWindow} has moved on, i.e., its lower
+ * bound has been incremented and its data has been adjusted by its
+ * {@link ISlidingWindowMoveOnStrategy}. The duration of the event is the one of the move.
+ */
+@Name("org.palladiosimulator.experimentanalysis.SlidingWindowMoveOn")
+@Label("Sliding Window Move On")
+@Category({ "Palladio", "Experiment Analysis" })
+@StackTrace(false)
+public final class SlidingWindowMoveOnEvent extends WindowEvent {
+
+    @Label("Evicted Elements")
+    @Description("The number of measurements removed by the move on strategy")
+    public int evictedElements;
+
+    @Label("Retained Elements")
+    @Description("The number of measurements kept in the window")
+    public int retainedElements;
+}
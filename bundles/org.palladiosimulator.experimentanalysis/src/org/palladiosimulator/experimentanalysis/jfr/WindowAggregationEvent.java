@@ -0,0 +1,33 @@
+package org.palladiosimulator.experimentanalysis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+
+/**
+ * Flight recorder event that is emitted once a {@link SlidingWindowAggregator} has processed the
+ * data of a full window. The duration of the event is the one of the aggregation, excluding the
+ * writing of the result into the recorders.
+ */
+@Name("org.palladiosimulator.experimentanalysis.WindowAggregation")
+@Label("Window Aggregation")
+@Category({ "Palladio", "Experiment Analysis" })
+@StackTrace(false)
+public final class WindowAggregationEvent extends WindowEvent {
+
+    @Label("Aggregator")
+    @Description("The class of the aggregator")
+    public Class<?> aggregator;
+
+    @Label("Elements")
+    @Description("The number of measurements processed")
+    public int numberOfElements;
+
+    @Label("Result Available")
+    @Description("Whether the aggregation has yielded a result")
+    public boolean resultAvailable;
+}
@@ -0,0 +1,28 @@
+package org.palladiosimulator.experimentanalysis.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Base class of the flight recorder events that refer to a window of a {@link SlidingWindow}. The
+ * bounds denote the window before it has moved on, in seconds of simulated time.<br>
+ * Events are only committed if they are enabled in the running recording, so that their overhead
+ * is negligible otherwise. Thus, fields should only be set if {@link #shouldCommit()} holds.
+ */
+public abstract class WindowEvent extends Event {
+
+    @Label("Metric")
+    @Description("The name of the metric of the window data")
+    public String metric;
+
+    @Label("Lower Bound")
+    @Description("The lower bound of the window, in seconds of simulated time")
+    public double lowerBound;
+
+    @Label("Upper Bound")
+    @Description("The upper bound of the window, in seconds of simulated time")
+    public double upperBound;
+}
@@ -0,0 +1,47 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Callback of a {@link ListenerLatencyMonitor} that is invoked whenever an
+ * {@link ISlidingWindowListener} took longer than the threshold of the monitor to process a full
+ * window.<br>
+ * The callback is invoked on the thread that feeds the window, right after the listener has
+ * returned, so implementations should be cheap.
+ */
+@FunctionalInterface
+public interface ISlowListenerHandler {
+
+    /**
+     * Invoked once the given listener has been slow.
+     *
+     * @param window
+     *            The {@link SlidingWindow} that notified the listener.
+     * @param listener
+     *            The slow {@link ISlidingWindowListener}.
+     * @param durationNanos
+     *            The time the listener took, in nanoseconds.
+     */
+    void onSlowListener(SlidingWindow window, ISlidingWindowListener listener, long durationNanos);
+
+    /**
+     * Gets a handler that logs each slow listener as a warning, by means of the {@link Logger} of
+     * the {@link ListenerLatencyMonitor} class.
+     *
+     * @return An {@link ISlowListenerHandler} that logs.
+     */
+    static ISlowListenerHandler logging() {
+        final Logger logger = System.getLogger(ListenerLatencyMonitor.class.getName());
+        return (window, listener, durationNanos) -> {
+            if (logger.isLoggable(Level.WARNING)) {
+                logger.log(Level.WARNING, "Slow listener {0} of window [{1}, {2}] ({3}) took {4} ms.",
+                        listener.getClass().getName(), window.getCurrentLowerBound(), window.getCurrentUpperBound(),
+                        window.getAcceptedMetric().getName(), durationNanos / 1e6);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+/**
+ * Histogram of non-negative durations with logarithmic buckets, each of which is split into 16
+ * linear sub-buckets. Thus, the reported percentiles are at most 6.25% above the actual ones,
+ * while recording is allocation-free and the footprint is constant.<br>
+ * Instances are not thread-safe. Concurrent readers are to take a {@link #copy()} while holding
+ * the lock the writer holds.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUMBER_OF_BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[NUMBER_OF_BUCKETS];
+    private long totalCount = 0L;
+    private long max = 0L;
+
+    /**
+     * Records the given duration.
+     *
+     * @param duration
+     *            The duration, in an arbitrary but fixed unit. Negative durations are recorded as
+     *            {@code 0}.
+     */
+    public void record(final long duration) {
+        final long value = Math.max(0L, duration);
+        ++this.counts[indexOf(value)];
+        ++this.totalCount;
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Creates a copy of this histogram.
+     *
+     * @return A new {@link LatencyHistogram} with the same contents.
+     */
+    public LatencyHistogram copy() {
+        final LatencyHistogram result = new LatencyHistogram();
+        System.arraycopy(this.counts, 0, result.counts, 0, NUMBER_OF_BUCKETS);
+        result.totalCount = this.totalCount;
+        result.max = this.max;
+        return result;
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return The number of durations.
+     */
+    public long getCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Gets the maximum recorded duration.
+     *
+     * @return The maximum, or {@code 0} if nothing has been recorded.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * Gets the given percentile of the recorded durations.
+     *
+     * @param percentile
+     *            The percentile, within {@code [0, 100]}.
+     * @return The upper bound of the bucket the percentile falls into, but at most the maximum, or
+     *         {@code 0} if nothing has been recorded.
+     */
+    public long getPercentile(final double percentile) {
+        final long rank = (long) Math.ceil(percentile / 100d * this.totalCount);
+        long count = 0L;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; ++i) {
+            count += this.counts[i];
+            if (count > 0L && count >= rank) {
+                return Math.min(upperBoundOf(i), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        if (index == NUMBER_OF_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,143 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * This class records a {@link LatencyHistogram} of the time each {@link ISlidingWindowListener}
+ * takes to process full windows, once attached to one or several {@link SlidingWindow}s by means of
+ * {@link SlidingWindow#setListenerLatencyMonitor(ListenerLatencyMonitor)}. Listeners that take
+ * longer than a threshold are passed to an {@link ISlowListenerHandler}.<br>
+ * As a slow listener delays every measurement that is fed into its window, the summaries help to
+ * find costly aggregators and recorders, see {@link #getSummaries()}.<br>
+ * Instances are thread-safe and might be shared by several windows. Recording takes the lock of
+ * the histogram of the listener once per full window rather than per measurement, and does not
+ * allocate once the listener is known.
+ */
+public final class ListenerLatencyMonitor {
+
+    private final long thresholdNanos;
+    private final ISlowListenerHandler slowListenerHandler;
+    private final Map<ISlidingWindowListener, ListenerLatencies> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link ListenerLatencyMonitor} class that does not flag
+     * any listener as slow.
+     */
+    public ListenerLatencyMonitor() {
+        this.thresholdNanos = Long.MAX_VALUE;
+        this.slowListenerHandler = (window, listener, durationNanos) -> {
+        };
+    }
+
+    /**
+     * Initializes a new instance of the {@link ListenerLatencyMonitor} class with the given
+     * parameters.
+     *
+     * @param threshold
+     *            The time above which a listener is considered slow, must be nonnegative.
+     * @param unit
+     *            The {@link TimeUnit} of the threshold.
+     * @param slowListenerHandler
+     *            The {@link ISlowListenerHandler} slow listeners are passed to, e.g.,
+     *            {@link ISlowListenerHandler#logging()}.
+     * @throws NullPointerException
+     *             If the given unit or handler is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given threshold is negative.
+     */
+    public ListenerLatencyMonitor(final long threshold, final TimeUnit unit,
+            final ISlowListenerHandler slowListenerHandler) {
+        if (threshold < 0L) {
+            throw new IllegalArgumentException("Given threshold must not be negative.");
+        }
+        this.thresholdNanos = Objects.requireNonNull(unit, "Given time unit must not be null.").toNanos(threshold);
+        this.slowListenerHandler = Objects.requireNonNull(slowListenerHandler,
+                "Given slow listener handler must not be null.");
+    }
+
+    /**
+     * Called by a window once the given listener has processed a full window.
+     *
+     * @param window
+     *            The {@link SlidingWindow} that notified the listener.
+     * @param listener
+     *            The {@link ISlidingWindowListener} that has been notified.
+     * @param durationNanos
+     *            The time the listener took, in nanoseconds.
+     */
+    public void record(final SlidingWindow window, final ISlidingWindowListener listener,
+            final long durationNanos) {
+        final boolean slow = durationNanos > this.thresholdNanos;
+        final ListenerLatencies listenerLatencies = this.latencies.computeIfAbsent(listener,
+                key -> new ListenerLatencies());
+        synchronized (listenerLatencies) {
+            listenerLatencies.histogram.record(durationNanos);
+            if (slow) {
+                ++listenerLatencies.slowCount;
+            }
+        }
+        if (slow) {
+            this.slowListenerHandler.onSlowListener(window, listener, durationNanos);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the durations recorded for the given listener.
+     *
+     * @param listener
+     *            An {@link ISlidingWindowListener}.
+     * @return A new {@link LatencyHistogram} of the durations in nanoseconds, or an empty
+     *         {@link Optional} if nothing has been recorded for the given listener.
+     */
+    public Optional<LatencyHistogram> getHistogram(final ISlidingWindowListener listener) {
+        final ListenerLatencies listenerLatencies = this.latencies.get(listener);
+        if (listenerLatencies == null) {
+            return Optional.empty();
+        }
+        synchronized (listenerLatencies) {
+            return Optional.of(listenerLatencies.histogram.copy());
+        }
+    }
+
+    /**
+     * Gets summaries of the durations recorded so far, one per listener.
+     *
+     * @return A list of {@link ListenerLatencySummary} instances, the listener with the highest
+     *         99th percentile first.
+     */
+    public List<ListenerLatencySummary> getSummaries() {
+        final List<ListenerLatencySummary> result = new ArrayList<>();
+        for (final Map.Entry<ISlidingWindowListener, ListenerLatencies> entry : this.latencies.entrySet()) {
+            final ListenerLatencies listenerLatencies = entry.getValue();
+            synchronized (listenerLatencies) {
+                result.add(new ListenerLatencySummary(entry.getKey(), listenerLatencies.histogram,
+                        listenerLatencies.slowCount));
+            }
+        }
+        result.sort(Comparator.comparingLong(ListenerLatencySummary::getPercentile99).reversed());
+        return result;
+    }
+
+    /**
+     * Discards the durations recorded so far.
+     */
+    public void reset() {
+        this.latencies.clear();
+    }
+
+    private static final class ListenerLatencies {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long slowCount = 0L;
+    }
+}
@@ -0,0 +1,91 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.util.Objects;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+
+/**
+ * Immutable summary of the time an {@link ISlidingWindowListener} took to process full windows, as
+ * recorded by a {@link ListenerLatencyMonitor}. All durations are given in nanoseconds, the
+ * percentiles with the precision of a {@link LatencyHistogram}.
+ */
+public final class ListenerLatencySummary {
+
+    private final ISlidingWindowListener listener;
+    private final long count;
+    private final long slowCount;
+    private final long median;
+    private final long percentile99;
+    private final long max;
+
+    ListenerLatencySummary(final ISlidingWindowListener listener, final LatencyHistogram histogram,
+            final long slowCount) {
+        this.listener = Objects.requireNonNull(listener);
+        this.count = histogram.getCount();
+        this.slowCount = slowCount;
+        this.median = histogram.getPercentile(50);
+        this.percentile99 = histogram.getPercentile(99);
+        this.max = histogram.getMax();
+    }
+
+    /**
+     * Gets the listener this summary refers to.
+     *
+     * @return The {@link ISlidingWindowListener}.
+     */
+    public ISlidingWindowListener getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets the number of full windows the listener has processed.
+     *
+     * @return A nonnegative number.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of times the listener took longer than the threshold of the monitor.
+     *
+     * @return A nonnegative number, at most {@link #getCount()}.
+     */
+    public long getSlowCount() {
+        return this.slowCount;
+    }
+
+    /**
+     * Gets the median of the durations.
+     *
+     * @return The median, in nanoseconds.
+     */
+    public long getMedian() {
+        return this.median;
+    }
+
+    /**
+     * Gets the 99th percentile of the durations.
+     *
+     * @return The 99th percentile, in nanoseconds.
+     */
+    public long getPercentile99() {
+        return this.percentile99;
+    }
+
+    /**
+     * Gets the maximum of the durations.
+     *
+     * @return The maximum, in nanoseconds.
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerLatencySummary [listener=" + this.listener.getClass().getName() + ", count=" + this.count
+                + ", slowCount=" + this.slowCount + ", median=" + this.median + "ns, percentile99="
+                + this.percentile99 + "ns, max=" + this.max + "ns]";
+    }
+}
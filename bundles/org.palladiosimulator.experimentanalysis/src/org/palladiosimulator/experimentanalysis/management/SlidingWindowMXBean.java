@@ -0,0 +1,38 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Management interface of a {@link SlidingWindow} registered with a
+ * {@link WindowMonitoringRegistry}. Durations and points in time are given in seconds of simulated
+ * time, rates in events per second of wall-clock time since the last reset.<br>
+ * The state of the window is read without synchronization, so it might be slightly out of date.
+ */
+public interface SlidingWindowMXBean {
+
+    String getAcceptedMetric();
+
+    int getNumberOfElements();
+
+    long getHighWaterMarkNumberOfElements();
+
+    double getCurrentLowerBound();
+
+    double getCurrentUpperBound();
+
+    double getWindowLength();
+
+    double getIncrement();
+
+    int getNumberOfListeners();
+
+    long getNumberOfMeasurements();
+
+    long getNumberOfWindowFullEvents();
+
+    double getMeasurementRate();
+
+    double getWindowFullRate();
+
+    void resetStatistics();
+}
@@ -0,0 +1,86 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+
+/**
+ * Counters and high-water marks of a single {@link SlidingWindow}, maintained by the window itself
+ * once attached by means of {@link SlidingWindow#setStatistics(SlidingWindowStatistics)}.<br>
+ * The counters are striped (see {@link LongAdder}), so that updating them from the thread that
+ * feeds the window is cheap and does not contend with threads reading them, e.g., via JMX.
+ *
+ * @see WindowMonitoringRegistry
+ */
+public final class SlidingWindowStatistics {
+
+    private final LongAdder numberOfMeasurements = new LongAdder();
+    private final LongAdder numberOfWindowFullEvents = new LongAdder();
+    private final LongAccumulator highWaterMarkNumberOfElements = new LongAccumulator(Math::max, 0L);
+    private volatile long resetTime = System.nanoTime();
+
+    /**
+     * Called by the window once a measurement has been added.
+     *
+     * @param numberOfElements
+     *            The number of elements the window holds after the measurement has been added.
+     */
+    public void onMeasurementAdded(final int numberOfElements) {
+        this.numberOfMeasurements.increment();
+        this.highWaterMarkNumberOfElements.accumulate(numberOfElements);
+    }
+
+    /**
+     * Called by the window once it is full, i.e., before its listeners are notified.
+     */
+    public void onWindowFull() {
+        this.numberOfWindowFullEvents.increment();
+    }
+
+    /**
+     * Gets the number of measurements added since the last reset.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfMeasurements() {
+        return this.numberOfMeasurements.sum();
+    }
+
+    /**
+     * Gets the number of times the window has been full since the last reset.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfWindowFullEvents() {
+        return this.numberOfWindowFullEvents.sum();
+    }
+
+    /**
+     * Gets the maximum number of elements the window has held since the last reset.
+     *
+     * @return A nonnegative number.
+     */
+    public long getHighWaterMarkNumberOfElements() {
+        return this.highWaterMarkNumberOfElements.get();
+    }
+
+    /**
+     * Gets the wall-clock time that has passed since the last reset.
+     *
+     * @return The elapsed time, in seconds.
+     */
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - this.resetTime) / 1e9;
+    }
+
+    /**
+     * Resets all counters and high-water marks. Updates that happen concurrently might get lost.
+     */
+    public void reset() {
+        this.numberOfMeasurements.reset();
+        this.numberOfWindowFullEvents.reset();
+        this.highWaterMarkNumberOfElements.reset();
+        this.resetTime = System.nanoTime();
+    }
+}
@@ -0,0 +1,28 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+
+/**
+ * Management interface of a {@link SlidingWindowAggregator} registered with a
+ * {@link WindowMonitoringRegistry}.
+ */
+public interface WindowAggregatorMXBean {
+
+    String getAggregatorClass();
+
+    String getExpectedWindowDataMetric();
+
+    long getNumberOfAggregations();
+
+    long getNumberOfResults();
+
+    /**
+     * Gets the last result of the aggregator, formatted as comma-separated {@code metric=measure}
+     * pairs.
+     *
+     * @return The formatted last result, or {@code null} if there has not been a result yet.
+     */
+    String getLastResult();
+
+    void resetStatistics();
+}
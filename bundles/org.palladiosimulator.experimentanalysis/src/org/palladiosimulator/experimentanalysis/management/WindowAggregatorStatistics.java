@@ -0,0 +1,71 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Counters of a single {@link SlidingWindowAggregator}, maintained by the aggregator itself once
+ * attached by means of {@link SlidingWindowAggregator#setStatistics(WindowAggregatorStatistics)}.
+ * <br>
+ * As with {@link SlidingWindowStatistics}, the counters are striped, so that updating them is cheap.
+ *
+ * @see WindowMonitoringRegistry
+ */
+public final class WindowAggregatorStatistics {
+
+    private final LongAdder numberOfAggregations = new LongAdder();
+    private final LongAdder numberOfResults = new LongAdder();
+    private volatile MeasuringValue lastResult;
+
+    /**
+     * Called by the aggregator once it has processed the data of a full window.
+     *
+     * @param result
+     *            The resulting {@link MeasuringValue}, or {@code null} if there was nothing to pass
+     *            on.
+     */
+    public void onAggregation(final MeasuringValue result) {
+        this.numberOfAggregations.increment();
+        if (result != null) {
+            this.numberOfResults.increment();
+            this.lastResult = result;
+        }
+    }
+
+    /**
+     * Gets the number of processed windows since the last reset.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfAggregations() {
+        return this.numberOfAggregations.sum();
+    }
+
+    /**
+     * Gets the number of results passed on to the recorders since the last reset.
+     *
+     * @return A nonnegative number.
+     */
+    public long getNumberOfResults() {
+        return this.numberOfResults.sum();
+    }
+
+    /**
+     * Gets the last result the aggregator has passed on to its recorders. It is kept across resets.
+     *
+     * @return The last {@link MeasuringValue}, or {@code null} if there has not been a result yet.
+     */
+    public MeasuringValue getLastResult() {
+        return this.lastResult;
+    }
+
+    /**
+     * Resets the counters. Updates that happen concurrently might get lost.
+     */
+    public void reset() {
+        this.numberOfAggregations.reset();
+        this.numberOfResults.reset();
+    }
+}
@@ -0,0 +1,379 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+
+/**
+ * This class implements an opt-in registry that exposes live {@link SlidingWindow}s and their
+ * attached {@link SlidingWindowAggregator}s as MXBeans, e.g., to watch them in JConsole or JMC
+ * during long simulations.<br>
+ * Registering a window attaches {@link SlidingWindowStatistics} to it, and
+ * {@link WindowAggregatorStatistics} to each aggregator that is attached to the window at that
+ * time. Windows that are not registered do not maintain any counters. The registry itself is
+ * exposed as {@value #DOMAIN}:type=WindowMonitoringRegistry, the windows as
+ * {@value #DOMAIN}:type=SlidingWindow,name=... and the aggregators as
+ * {@value #DOMAIN}:type=WindowAggregator,window=...,name=...<br>
+ * A window must not be registered with several registries at the same time.
+ *
+ * @see SlidingWindowMXBean
+ * @see WindowAggregatorMXBean
+ */
+public final class WindowMonitoringRegistry implements WindowMonitoringRegistryMXBean, AutoCloseable {
+
+    /**
+     * The domain of the names of the MXBeans exposed by a registry.
+     */
+    public static final String DOMAIN = "org.palladiosimulator.experimentanalysis";
+
+    private final MBeanServer server;
+    private final ObjectName name;
+    private final Map<SlidingWindow, Registration> registrations = new ConcurrentHashMap<>();
+    private final AtomicInteger highWaterMarkNumberOfWindows = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    /**
+     * Initializes a new instance of the {@link WindowMonitoringRegistry} class that registers with
+     * the platform MBean server.
+     *
+     * @throws IllegalStateException
+     *             If another registry has already been registered with the platform MBean server.
+     */
+    public WindowMonitoringRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Initializes a new instance of the {@link WindowMonitoringRegistry} class with the given
+     * parameter.
+     *
+     * @param server
+     *            The {@link MBeanServer} the registry, the windows and the aggregators are
+     *            registered with.
+     * @throws NullPointerException
+     *             If the given server is {@code null}.
+     * @throws IllegalStateException
+     *             If another registry has already been registered with the given server.
+     */
+    public WindowMonitoringRegistry(final MBeanServer server) {
+        this.server = Objects.requireNonNull(server, "Given MBean server must not be null.");
+        this.name = createObjectName("type=WindowMonitoringRegistry");
+        try {
+            this.server.registerMBean(this, this.name);
+        } catch (final JMException e) {
+            throw new IllegalStateException("Registry could not be registered.", e);
+        }
+    }
+
+    /**
+     * Registers the given window and the {@link SlidingWindowAggregator}s that are currently
+     * attached to it. Aggregators attached later on are not exposed.
+     *
+     * @param window
+     *            The {@link SlidingWindow} to register.
+     * @param windowName
+     *            The name the window is exposed by, unique within this registry.
+     * @return The {@link ObjectName} of the window.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given window has already been registered, or the given name is in use.
+     * @throws IllegalStateException
+     *             If this registry has been closed.
+     */
+    public ObjectName register(final SlidingWindow window, final String windowName) {
+        Objects.requireNonNull(window, "Given window must not be null.");
+        Objects.requireNonNull(windowName, "Given window name must not be null.");
+        checkNotClosed();
+        final Registration registration = new Registration();
+        if (this.registrations.putIfAbsent(window, registration) != null) {
+            throw new IllegalArgumentException("Given window has already been registered.");
+        }
+        try {
+            final ObjectName windowObjectName = createObjectName(
+                    "type=SlidingWindow,name=" + ObjectName.quote(windowName));
+            registerMBean(new SlidingWindowMonitor(window, registration.statistics), windowObjectName,
+                    registration);
+            int index = 0;
+            for (final ISlidingWindowListener listener : window.getAttachedObservers()) {
+                if (listener instanceof SlidingWindowAggregator) {
+                    final SlidingWindowAggregator aggregator = (SlidingWindowAggregator) listener;
+                    final WindowAggregatorStatistics statistics = new WindowAggregatorStatistics();
+                    registerMBean(new WindowAggregatorMonitor(aggregator, statistics),
+                            createObjectName("type=WindowAggregator,window=" + ObjectName.quote(windowName) + ",name="
+                                    + ObjectName.quote(index++ + ":" + aggregator.getClass().getSimpleName())),
+                            registration);
+                    registration.aggregators.add(aggregator);
+                    aggregator.setStatistics(statistics);
+                }
+            }
+        } catch (final RuntimeException e) {
+            unregister(window);
+            throw e;
+        }
+        window.setStatistics(registration.statistics);
+        this.highWaterMarkNumberOfWindows.accumulateAndGet(this.registrations.size(), Math::max);
+        return registration.objectNames.get(0);
+    }
+
+    /**
+     * Unregisters the given window and its aggregators, and detaches their statistics.
+     *
+     * @param window
+     *            The {@link SlidingWindow} to unregister.
+     * @return {@code true} if the given window had been registered, otherwise {@code false}.
+     */
+    public boolean unregister(final SlidingWindow window) {
+        final Registration registration = this.registrations.remove(window);
+        if (registration == null) {
+            return false;
+        }
+        window.setStatistics(null);
+        registration.aggregators.forEach(aggregator -> aggregator.setStatistics(null));
+        for (final ObjectName objectName : registration.objectNames) {
+            try {
+                this.server.unregisterMBean(objectName);
+            } catch (final JMException e) {
+                // already unregistered by someone else, nothing left to do
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the windows currently registered.
+     *
+     * @return An <b>unmodifiable</b> list of the registered {@link SlidingWindow}s.
+     */
+    public List<SlidingWindow> getRegisteredWindows() {
+        return Collections.unmodifiableList(new ArrayList<>(this.registrations.keySet()));
+    }
+
+    /**
+     * Unregisters all windows, and this registry itself. Subsequent registrations fail.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.registrations.keySet().forEach(this::unregister);
+        try {
+            this.server.unregisterMBean(this.name);
+        } catch (final JMException e) {
+            // already unregistered by someone else, nothing left to do
+        }
+    }
+
+    @Override
+    public int getNumberOfWindows() {
+        return this.registrations.size();
+    }
+
+    @Override
+    public int getHighWaterMarkNumberOfWindows() {
+        return this.highWaterMarkNumberOfWindows.get();
+    }
+
+    @Override
+    public long getTotalNumberOfElements() {
+        return this.registrations.keySet().stream().mapToLong(SlidingWindow::getNumberOfElements).sum();
+    }
+
+    @Override
+    public long getTotalNumberOfMeasurements() {
+        return this.registrations.values().stream().mapToLong(r -> r.statistics.getNumberOfMeasurements()).sum();
+    }
+
+    @Override
+    public long getTotalNumberOfWindowFullEvents() {
+        return this.registrations.values().stream().mapToLong(r -> r.statistics.getNumberOfWindowFullEvents())
+                .sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+        this.highWaterMarkNumberOfWindows.set(this.registrations.size());
+        this.registrations.values().forEach(r -> r.statistics.reset());
+    }
+
+    private void registerMBean(final Object mxBean, final ObjectName objectName, final Registration registration) {
+        try {
+            this.server.registerMBean(mxBean, objectName);
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("Name " + objectName + " is already in use.", e);
+        } catch (final JMException e) {
+            throw new IllegalStateException("MXBean " + objectName + " could not be registered.", e);
+        }
+        registration.objectNames.add(objectName);
+    }
+
+    private static ObjectName createObjectName(final String keyProperties) {
+        try {
+            return new ObjectName(DOMAIN + ":" + keyProperties);
+        } catch (final JMException e) {
+            throw new IllegalArgumentException("Invalid object name.", e);
+        }
+    }
+
+    private void checkNotClosed() {
+        if (this.closed) {
+            throw new IllegalStateException("Registry has been closed.");
+        }
+    }
+
+    private static double rate(final long count, final double elapsedSeconds) {
+        return elapsedSeconds > 0d ? count / elapsedSeconds : 0d;
+    }
+
+    private static final class Registration {
+
+        private final SlidingWindowStatistics statistics = new SlidingWindowStatistics();
+        private final List<ObjectName> objectNames = new ArrayList<>();
+        private final List<SlidingWindowAggregator> aggregators = new ArrayList<>();
+    }
+
+    private static final class SlidingWindowMonitor implements SlidingWindowMXBean {
+
+        private final SlidingWindow window;
+        private final SlidingWindowStatistics statistics;
+
+        private SlidingWindowMonitor(final SlidingWindow window, final SlidingWindowStatistics statistics) {
+            this.window = window;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public String getAcceptedMetric() {
+            return this.window.getAcceptedMetric().getName();
+        }
+
+        @Override
+        public int getNumberOfElements() {
+            return this.window.getNumberOfElements();
+        }
+
+        @Override
+        public long getHighWaterMarkNumberOfElements() {
+            return this.statistics.getHighWaterMarkNumberOfElements();
+        }
+
+        @Override
+        public double getCurrentLowerBound() {
+            return this.window.getCurrentLowerBound().doubleValue(SI.SECOND);
+        }
+
+        @Override
+        public double getCurrentUpperBound() {
+            return this.window.getCurrentUpperBound().doubleValue(SI.SECOND);
+        }
+
+        @Override
+        public double getWindowLength() {
+            return this.window.getEffectiveWindowLength().doubleValue(SI.SECOND);
+        }
+
+        @Override
+        public double getIncrement() {
+            return this.window.getIncrement().doubleValue(SI.SECOND);
+        }
+
+        @Override
+        public int getNumberOfListeners() {
+            return this.window.getAttachedObservers().size();
+        }
+
+        @Override
+        public long getNumberOfMeasurements() {
+            return this.statistics.getNumberOfMeasurements();
+        }
+
+        @Override
+        public long getNumberOfWindowFullEvents() {
+            return this.statistics.getNumberOfWindowFullEvents();
+        }
+
+        @Override
+        public double getMeasurementRate() {
+            return rate(this.statistics.getNumberOfMeasurements(), this.statistics.getElapsedSeconds());
+        }
+
+        @Override
+        public double getWindowFullRate() {
+            return rate(this.statistics.getNumberOfWindowFullEvents(), this.statistics.getElapsedSeconds());
+        }
+
+        @Override
+        public void resetStatistics() {
+            this.statistics.reset();
+        }
+    }
+
+    private static final class WindowAggregatorMonitor implements WindowAggregatorMXBean {
+
+        private final SlidingWindowAggregator aggregator;
+        private final WindowAggregatorStatistics statistics;
+
+        private WindowAggregatorMonitor(final SlidingWindowAggregator aggregator,
+                final WindowAggregatorStatistics statistics) {
+            this.aggregator = aggregator;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public String getAggregatorClass() {
+            return this.aggregator.getClass().getName();
+        }
+
+        @Override
+        public String getExpectedWindowDataMetric() {
+            return this.aggregator.getExpectedWindowDataMetric().getName();
+        }
+
+        @Override
+        public long getNumberOfAggregations() {
+            return this.statistics.getNumberOfAggregations();
+        }
+
+        @Override
+        public long getNumberOfResults() {
+            return this.statistics.getNumberOfResults();
+        }
+
+        @Override
+        public String getLastResult() {
+            final MeasuringValue lastResult = this.statistics.getLastResult();
+            if (lastResult == null) {
+                return null;
+            }
+            final MetricDescription metric = lastResult.getMetricDesciption();
+            final List<MetricDescription> metrics = metric instanceof MetricSetDescription
+                    ? ((MetricSetDescription) metric).getSubsumedMetrics()
+                    : Collections.singletonList(metric);
+            return metrics.stream().map(m -> m.getName() + "=" + lastResult.getMeasureForMetric(m))
+                    .collect(Collectors.joining(", "));
+        }
+
+        @Override
+        public void resetStatistics() {
+            this.statistics.reset();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.palladiosimulator.experimentanalysis.management;
+
+/**
+ * Management interface of a {@link WindowMonitoringRegistry}, which summarizes all windows that
+ * are currently registered.
+ */
+public interface WindowMonitoringRegistryMXBean {
+
+    int getNumberOfWindows();
+
+    int getHighWaterMarkNumberOfWindows();
+
+    long getTotalNumberOfElements();
+
+    long getTotalNumberOfMeasurements();
+
+    long getTotalNumberOfWindowFullEvents();
+
+    void resetStatistics();
+}
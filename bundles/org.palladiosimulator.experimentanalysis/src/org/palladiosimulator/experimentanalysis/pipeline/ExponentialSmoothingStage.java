@@ -0,0 +1,35 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+/**
+ * A stage that applies exponential smoothing to the values it is passed, i.e., each value
+ * {@code x} updates the smoothed value {@code s} according to {@code s = alpha * x + (1 - alpha) * s}
+ * before {@code s} is passed on along with the point in time of {@code x}.
+ */
+final class ExponentialSmoothingStage implements IPrimitiveStage {
+
+    private final double smoothingFactor;
+    private final IPrimitiveStage successor;
+    private double smoothedValue; // NaN until the first value, if no initial value is given
+
+    ExponentialSmoothingStage(final double smoothingFactor, final double initialValue,
+            final IPrimitiveStage successor) {
+        this.smoothingFactor = smoothingFactor;
+        this.smoothedValue = initialValue;
+        this.successor = successor;
+    }
+
+    @Override
+    public void accept(final double pointInTime, final double value) {
+        if (Double.isNaN(this.smoothedValue)) {
+            this.smoothedValue = value;
+        } else {
+            this.smoothedValue += this.smoothingFactor * (value - this.smoothedValue);
+        }
+        this.successor.accept(pointInTime, this.smoothedValue);
+    }
+
+    @Override
+    public void noMoreDataAvailable() {
+        this.successor.noMoreDataAvailable();
+    }
+}
@@ -0,0 +1,32 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+/**
+ * This interface is to be implemented by the stages of a {@link MeasurementPipeline}.<br>
+ * Stages receive a stream of {@code (point in time, value)} pairs as primitive doubles from their
+ * predecessor and pass their own output on to their successor in the same way. Thus, no
+ * {@code MeasuringValue} is created between adjacent stages, and metrics are not checked again once
+ * the data has entered the pipeline.<br>
+ * Points in time are given in seconds and are passed in chronological order. Values are given in
+ * the default unit of the metric at hand.
+ *
+ * @see PipelineBuilder
+ */
+public interface IPrimitiveStage {
+
+    /**
+     * Processes the given {@code (point in time, value)} pair.
+     *
+     * @param pointInTime
+     *            The point in time, given in seconds, which is not less than the one passed
+     *            beforehand.
+     * @param value
+     *            The value.
+     */
+    void accept(double pointInTime, double value);
+
+    /**
+     * By calling this method, the predecessor tells that no more data is to be passed. Stages are
+     * supposed to process pending data and to propagate the call to their successor.
+     */
+    void noMoreDataAvailable();
+}
@@ -0,0 +1,24 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+/**
+ * This interface is to be implemented by functions that aggregate the content of a window of a
+ * {@link MeasurementPipeline} each time the window is full. It is the primitive counterpart of a
+ * {@code SlidingWindowAggregator}.
+ *
+ * @see WindowFunctions
+ * @see PipelineBuilder#window(javax.measure.Measure, javax.measure.Measure, IWindowFunction)
+ */
+@FunctionalInterface
+public interface IWindowFunction {
+
+    /**
+     * Aggregates the given window content.
+     *
+     * @param window
+     *            The {@link WindowSamples} of the window that is full. Implementations must not
+     *            keep a reference to it, as it is reused after this method returns.
+     * @return The result of the window, which is passed on along with the upper bound of the
+     *         window, or {@link Double#NaN} if there is nothing to pass on.
+     */
+    double apply(WindowSamples window);
+}
@@ -0,0 +1,31 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A stage that applies the given operator to each value it is passed. Results that are
+ * {@link Double#NaN} are not passed on.
+ */
+final class MappingStage implements IPrimitiveStage {
+
+    private final DoubleUnaryOperator operator;
+    private final IPrimitiveStage successor;
+
+    MappingStage(final DoubleUnaryOperator operator, final IPrimitiveStage successor) {
+        this.operator = operator;
+        this.successor = successor;
+    }
+
+    @Override
+    public void accept(final double pointInTime, final double value) {
+        final double result = this.operator.applyAsDouble(value);
+        if (!Double.isNaN(result)) {
+            this.successor.accept(pointInTime, result);
+        }
+    }
+
+    @Override
+    public void noMoreDataAvailable() {
+        this.successor.noMoreDataAvailable();
+    }
+}
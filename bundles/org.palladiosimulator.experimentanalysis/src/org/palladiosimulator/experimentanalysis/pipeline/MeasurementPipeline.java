@@ -0,0 +1,139 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.AbstractRecorder;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * This class implements a chain of fused stages (windows, window functions, smoothing, mappings)
+ * that is fed with measurements and writes its results into {@link IRecorder}s. Instances are
+ * created by a {@link PipelineBuilder}.<br>
+ * As a recorder, a pipeline can be attached wherever a {@code SlidingWindowRecorder} could be. Each
+ * measurement written into it is checked against the metric of the pipeline and converted into a
+ * primitive {@code (point in time, value)} pair exactly once. Afterwards, the pair is passed from
+ * stage to stage by plain method calls, so that neither intermediate {@link MeasuringValue}s nor
+ * intermediate recorders or {@code SlidingWindow}s are required.<br>
+ * Producers that already have primitive values at hand may bypass the conversion by means of
+ * {@link #accept(double, double)}.
+ *
+ * @see PipelineBuilder
+ */
+public final class MeasurementPipeline extends AbstractRecorder implements IPrimitiveStage {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final IPrimitiveStage firstStage;
+
+    private double lastPointInTime = Double.NEGATIVE_INFINITY;
+    private boolean closed = false;
+
+    MeasurementPipeline(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final IPrimitiveStage firstStage) {
+        this.windowDataMetric = windowDataMetric;
+        this.valueMetric = valueMetric;
+        this.firstStage = firstStage;
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation does nothing.
+     */
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * That is, the point in time and the value of the given measurement are passed into the
+     * pipeline.
+     *
+     * @throws IllegalArgumentException
+     *             If the given measurement is {@code null}, does not adhere to the metric of this
+     *             pipeline, or is older than the previously written one.
+     * @throws IllegalStateException
+     *             If {@link #noMoreDataAvailable()} has been called beforehand.
+     */
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        if (measurement == null) {
+            throw new IllegalArgumentException("Given measurement is null.");
+        }
+        if (!MeasuringValueUtility.adheresToMetric(measurement, this.windowDataMetric)) {
+            throw new IllegalArgumentException("Given measurement does not adhere to (or subsume) specified metric.\n"
+                    + "Expected metric: " + this.windowDataMetric.getName() + "\nGiven measurement metric: "
+                    + measurement.getMetricDesciption().getName());
+        }
+        accept(MeasuringValueUtility.getPointInTimeInSeconds(measurement),
+                MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation does nothing, as results are written as soon as they are available. Call
+     * {@link #noMoreDataAvailable()} to have the pipeline process pending data.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Passes the given pair into the pipeline.
+     *
+     * @param pointInTime
+     *            The point in time, given in seconds.
+     * @param value
+     *            The value, given in the default unit of the value metric of this pipeline.
+     * @throws IllegalArgumentException
+     *             If the given point in time is less than the previous one.
+     * @throws IllegalStateException
+     *             If {@link #noMoreDataAvailable()} has been called beforehand.
+     */
+    @Override
+    public void accept(final double pointInTime, final double value) {
+        if (this.closed) {
+            throw new IllegalStateException("No more data can be passed into this pipeline.");
+        }
+        if (pointInTime < this.lastPointInTime) {
+            throw new IllegalArgumentException("Measurements must be passed in chronological order.");
+        }
+        this.lastPointInTime = pointInTime;
+        this.firstStage.accept(pointInTime, value);
+    }
+
+    /**
+     * By calling this method, clients tell that no more data is to be passed into this pipeline.
+     * Afterwards, each window that contains data not processed so far is processed a last time,
+     * i.e., the window the last measurement belongs to and, in case of hopping windows, each
+     * subsequent window that contains it as well. Thus, the data available so far is processed
+     * completely. Calling this method more than once has no effect.
+     */
+    @Override
+    public void noMoreDataAvailable() {
+        if (!this.closed) {
+            this.closed = true;
+            this.firstStage.noMoreDataAvailable();
+        }
+    }
+
+    /**
+     * Gets the metric of the measurements this pipeline accepts.
+     *
+     * @return The {@link MetricSetDescription} of the window data.
+     */
+    public MetricSetDescription getWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+
+    /**
+     * Gets the metric of the values that are passed into the pipeline.
+     *
+     * @return The {@link NumericalBaseMetricDescription} of the values.
+     */
+    public NumericalBaseMetricDescription getValueMetric() {
+        return this.valueMetric;
+    }
+}
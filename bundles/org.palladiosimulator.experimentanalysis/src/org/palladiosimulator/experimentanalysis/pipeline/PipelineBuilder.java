@@ -0,0 +1,265 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.UnaryOperator;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.metricspec.BaseMetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is used to compose {@link MeasurementPipeline}s, e.g., a utilization window whose
+ * results are smoothed exponentially, or a window over the results of another window:
+ *
+ * <pre>
+ * MeasurementPipeline pipeline = PipelineBuilder
+ *         .from(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+ *                 (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC)
+ *         .window(Measure.valueOf(10d, SI.SECOND), Measure.valueOf(5d, SI.SECOND), WindowFunctions.utilization())
+ *         .smooth(0.2)
+ *         .to(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE, recorder);
+ * </pre>
+ *
+ * Stages are applied in the order they are added. The metric of the incoming measurements is
+ * checked once, upon entering the pipeline; the metric of the results is determined by
+ * {@link #to(MetricSetDescription, Collection)}. A builder can be used to create several
+ * independent pipelines.
+ *
+ * @see MeasurementPipeline
+ * @see WindowFunctions
+ */
+public final class PipelineBuilder {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    // each factory creates a stage that passes its output on to the given successor
+    private final List<UnaryOperator<IPrimitiveStage>> stageFactories = new ArrayList<>();
+
+    private PipelineBuilder(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric) {
+        this.windowDataMetric = windowDataMetric;
+        this.valueMetric = valueMetric;
+    }
+
+    /**
+     * Starts composing a pipeline that accepts measurements of the given metric.
+     *
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the measurements to be processed, which must
+     *            subsume the {@code point in time} metric.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to be passed into the
+     *            pipeline.
+     * @return A new {@link PipelineBuilder} without any stage.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If either the {@code point in time} metric or the value metric is not subsumed by
+     *             the given window data metric.
+     */
+    public static PipelineBuilder from(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric) {
+        Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        Objects.requireNonNull(valueMetric, "Given value metric must not be null.");
+        checkTupleMetric(windowDataMetric, valueMetric);
+        return new PipelineBuilder(windowDataMetric, valueMetric);
+    }
+
+    /**
+     * Adds a window stage, that is, the values are collected in a window which starts at
+     * {@code 0s}, and each time it is full, the result of the given function is passed on along
+     * with the upper bound of the window.
+     *
+     * @param windowLength
+     *            This {@link Measure} indicates the length of the window, given in any arbitrary
+     *            {@link Duration}.
+     * @param increment
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}. Windows are tumbling if it equals the length,
+     *            and hopping otherwise.
+     * @param function
+     *            The {@link IWindowFunction} to apply to the window content.
+     * @return This builder.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If either of the given measures is not positive.
+     */
+    public PipelineBuilder window(final Measure<Double, Duration> windowLength,
+            final Measure<Double, Duration> increment, final IWindowFunction function) {
+        final double windowLengthValue = checkGetPositiveDuration(windowLength, "window length");
+        final double incrementValue = checkGetPositiveDuration(increment, "increment");
+        Objects.requireNonNull(function, "Given window function must not be null.");
+        return stage(successor -> new WindowStage(windowLengthValue, incrementValue, function, successor));
+    }
+
+    /**
+     * Adds an exponential smoothing stage which is initialized with the first value it is passed.
+     *
+     * @param smoothingFactor
+     *            The smoothing factor (usually denoted {@code alpha}), must be within
+     *            {@code (0, 1]}.
+     * @return This builder.
+     * @throws IllegalArgumentException
+     *             If the given smoothing factor is invalid.
+     * @see #smooth(double, double)
+     */
+    public PipelineBuilder smooth(final double smoothingFactor) {
+        return smooth(smoothingFactor, Double.NaN);
+    }
+
+    /**
+     * Adds an exponential smoothing stage, that is, each value {@code x} updates the smoothed
+     * value {@code s} according to {@code s = alpha * x + (1 - alpha) * s}, and {@code s} is
+     * passed on.<br>
+     * For instance, an initial value of {@code 0} and a utilization window in front of this stage
+     * yield a load average similar to the one of the
+     * {@code SlidingWindowExponentialSmoothingUtilizationAggregator}.
+     *
+     * @param smoothingFactor
+     *            The smoothing factor (usually denoted {@code alpha}), must be within
+     *            {@code (0, 1]}.
+     * @param initialValue
+     *            The initial smoothed value, or {@link Double#NaN} to use the first value.
+     * @return This builder.
+     * @throws IllegalArgumentException
+     *             If the given smoothing factor is invalid.
+     */
+    public PipelineBuilder smooth(final double smoothingFactor, final double initialValue) {
+        if (!(smoothingFactor > 0d && smoothingFactor <= 1d)) {
+            throw new IllegalArgumentException("Given smoothing factor must be within (0, 1].");
+        }
+        return stage(successor -> new ExponentialSmoothingStage(smoothingFactor, initialValue, successor));
+    }
+
+    /**
+     * Adds a stage that applies the given operator to each value. Results that are
+     * {@link Double#NaN} are dropped.
+     *
+     * @param operator
+     *            The {@link DoubleUnaryOperator} to apply.
+     * @return This builder.
+     * @throws NullPointerException
+     *             If the given operator is {@code null}.
+     */
+    public PipelineBuilder map(final DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator, "Given operator must not be null.");
+        return stage(successor -> new MappingStage(operator, successor));
+    }
+
+    /**
+     * Adds a custom stage.
+     *
+     * @param stageFactory
+     *            A {@link UnaryOperator} that creates the stage, given the stage it has to pass its
+     *            output on to. It is invoked once per pipeline created.
+     * @return This builder.
+     * @throws NullPointerException
+     *             If the given factory is {@code null}.
+     */
+    public PipelineBuilder stage(final UnaryOperator<IPrimitiveStage> stageFactory) {
+        this.stageFactories.add(Objects.requireNonNull(stageFactory, "Given stage factory must not be null."));
+        return this;
+    }
+
+    /**
+     * Completes the composition by creating a pipeline that writes its results into the given
+     * recorder.
+     *
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the results.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} the results are written into.
+     * @return A new {@link MeasurementPipeline}.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given result metric does not consist of the {@code point in time} metric
+     *             and a numerical metric.
+     * @see #to(MetricSetDescription, Collection)
+     */
+    public MeasurementPipeline to(final MetricSetDescription resultMetric, final IRecorder recorderToWriteInto) {
+        return to(resultMetric, Collections.singletonList(
+                Objects.requireNonNull(recorderToWriteInto, "Given recorder must not be null.")));
+    }
+
+    /**
+     * Completes the composition by creating a pipeline that writes its results into the given
+     * recorders. The results are {@code (point in time, value)} tuple measurements of the given
+     * metric, the value of which is given in the default unit of the respective numerical metric.
+     *
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the results, which must consist of the
+     *            {@code point in time} metric and a numerical metric.
+     * @param recordersToWriteInto
+     *            A {@link Collection} of {@link IRecorder}s the results are written into.
+     * @return A new {@link MeasurementPipeline}.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given result metric does not consist of the {@code point in time} metric and
+     *             a numerical metric</li>
+     *             <li>given collection of recorders is empty</li>
+     *             </ul>
+     */
+    @SuppressWarnings("unchecked")
+    public MeasurementPipeline to(final MetricSetDescription resultMetric,
+            final Collection<IRecorder> recordersToWriteInto) {
+        Objects.requireNonNull(resultMetric, "Given result metric must not be null.");
+        Objects.requireNonNull(recordersToWriteInto, "Given collection of recorders must not be null.");
+        if (recordersToWriteInto.isEmpty()) {
+            throw new IllegalArgumentException("At least one recorder must be given.");
+        }
+        final BaseMetricDescription[] resultBaseMetrics = MetricDescriptionUtility
+                .toBaseMetricDescriptions(resultMetric);
+        if (resultBaseMetrics.length != 2
+                || !MetricDescriptionUtility.metricDescriptionIdsEqual(resultBaseMetrics[0],
+                        MetricDescriptionConstants.POINT_IN_TIME_METRIC)
+                || !(resultBaseMetrics[1] instanceof NumericalBaseMetricDescription)) {
+            throw new IllegalArgumentException("Given result metric must be a (point in time, value) tuple metric.");
+        }
+        final NumericalBaseMetricDescription resultValueMetric = (NumericalBaseMetricDescription) resultBaseMetrics[1];
+
+        IPrimitiveStage stage = new RecorderStage(resultMetric,
+                (Unit<Quantity>) resultValueMetric.getDefaultUnit(), new ArrayList<>(recordersToWriteInto));
+        for (int i = this.stageFactories.size() - 1; i >= 0; --i) {
+            stage = this.stageFactories.get(i).apply(stage);
+        }
+        return new MeasurementPipeline(this.windowDataMetric, this.valueMetric, stage);
+    }
+
+    private static void checkTupleMetric(final MetricSetDescription tupleMetric,
+            final NumericalBaseMetricDescription valueMetric) {
+        if (!MetricDescriptionUtility.isBaseMetricDescriptionSubsumedByMetricDescription(
+                MetricDescriptionConstants.POINT_IN_TIME_METRIC, tupleMetric)) {
+            throw new IllegalArgumentException("Given metric does not subsume the point in time metric.");
+        }
+        if (!MetricDescriptionUtility.isBaseMetricDescriptionSubsumedByMetricDescription(valueMetric, tupleMetric)) {
+            throw new IllegalArgumentException("Given value metric is not subsumed by the given metric.");
+        }
+    }
+
+    private static double checkGetPositiveDuration(final Measure<Double, Duration> measure, final String name) {
+        final double value = Objects.requireNonNull(measure).doubleValue(SI.SECOND);
+        if (!(value > 0d) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Given " + name + " is invalid.");
+        }
+        return value;
+    }
+}
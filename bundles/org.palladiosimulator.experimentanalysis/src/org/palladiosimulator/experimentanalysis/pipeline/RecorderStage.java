@@ -0,0 +1,46 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * The terminal stage of each pipeline, which is the only place where {@link MeasuringValue}s are
+ * created: Each pair is turned into a {@code (point in time, value)} tuple measurement of the result
+ * metric and written into all recorders.
+ */
+final class RecorderStage implements IPrimitiveStage {
+
+    private final MetricSetDescription resultMetric;
+    private final Unit<Quantity> valueUnit;
+    private final List<IRecorder> recorders;
+
+    RecorderStage(final MetricSetDescription resultMetric, final Unit<Quantity> valueUnit,
+            final List<IRecorder> recorders) {
+        this.resultMetric = resultMetric;
+        this.valueUnit = valueUnit;
+        this.recorders = recorders;
+    }
+
+    @Override
+    public void accept(final double pointInTime, final double value) {
+        final MeasuringValue result = new TupleMeasurement(this.resultMetric, Measure.valueOf(pointInTime, SI.SECOND),
+                Measure.valueOf(value, this.valueUnit));
+        for (IRecorder recorder : this.recorders) {
+            recorder.writeData(result);
+        }
+    }
+
+    @Override
+    public void noMoreDataAvailable() {
+        // nothing to do, flushing is up to the owner of the recorders
+    }
+}
@@ -0,0 +1,162 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+/**
+ * Utility class that provides the built-in {@link IWindowFunction}s.<br>
+ * Functions that consider single pairs (e.g., {@link #mean()}) only take the pairs within the
+ * window into account. Functions that consider the values to be piecewise constant (e.g.,
+ * {@link #utilization()}) additionally take the last value prior to the window into account, that
+ * is, they behave like window aggregators attached to a {@code SlidingWindow} with a
+ * {@code KeepLastElementPriorToLowerBoundStrategy}.
+ *
+ * @see PipelineBuilder
+ */
+public final class WindowFunctions {
+
+    private static final IWindowFunction COUNT = WindowFunctions::count;
+    private static final IWindowFunction SUM = WindowFunctions::sum;
+    private static final IWindowFunction MEAN = WindowFunctions::mean;
+    private static final IWindowFunction MINIMUM = window -> extremum(window, false);
+    private static final IWindowFunction MAXIMUM = window -> extremum(window, true);
+    private static final IWindowFunction TIME_WEIGHTED_AVERAGE = WindowFunctions::timeWeightedAverage;
+    private static final IWindowFunction UTILIZATION = WindowFunctions::utilization;
+
+    private WindowFunctions() {
+        // utility class, no instances
+    }
+
+    /**
+     * Gets a function that counts the pairs within the window.
+     *
+     * @return An {@link IWindowFunction} whose result is the number of pairs, i.e., {@code 0} for
+     *         empty windows.
+     */
+    public static IWindowFunction count() {
+        return COUNT;
+    }
+
+    /**
+     * Gets a function that sums up the values within the window.
+     *
+     * @return An {@link IWindowFunction} whose result is the sum, i.e., {@code 0} for empty
+     *         windows.
+     */
+    public static IWindowFunction sum() {
+        return SUM;
+    }
+
+    /**
+     * Gets a function that computes the arithmetic mean of the values within the window.
+     *
+     * @return An {@link IWindowFunction} that has no result for empty windows.
+     */
+    public static IWindowFunction mean() {
+        return MEAN;
+    }
+
+    /**
+     * Gets a function that determines the least value within the window.
+     *
+     * @return An {@link IWindowFunction} that has no result for empty windows.
+     */
+    public static IWindowFunction minimum() {
+        return MINIMUM;
+    }
+
+    /**
+     * Gets a function that determines the greatest value within the window.
+     *
+     * @return An {@link IWindowFunction} that has no result for empty windows.
+     */
+    public static IWindowFunction maximum() {
+        return MAXIMUM;
+    }
+
+    /**
+     * Gets a function that computes the time-weighted average of the values, which are considered
+     * to be piecewise constant. The average is taken over the part of the window for which a value
+     * is known, i.e., the part prior to the very first pair is not taken into account.
+     *
+     * @return An {@link IWindowFunction} that has no result if no value is known within the
+     *         window.
+     */
+    public static IWindowFunction timeWeightedAverage() {
+        return TIME_WEIGHTED_AVERAGE;
+    }
+
+    /**
+     * Gets a function that computes the utilization of an active resource based on its state (or
+     * utilization) values, like a {@code SlidingWindowUtilizationAggregator} does: The resource is
+     * busy whenever its state is positive, and idle prior to the very first pair.
+     *
+     * @return An {@link IWindowFunction} whose result is within {@code [0, 1]}.
+     */
+    public static IWindowFunction utilization() {
+        return UTILIZATION;
+    }
+
+    private static double count(final WindowSamples window) {
+        return window.size();
+    }
+
+    private static double sum(final WindowSamples window) {
+        double sum = 0d;
+        for (int i = 0; i < window.size(); ++i) {
+            sum += window.valueAt(i);
+        }
+        return sum;
+    }
+
+    private static double mean(final WindowSamples window) {
+        return window.isEmpty() ? Double.NaN : sum(window) / window.size();
+    }
+
+    private static double extremum(final WindowSamples window, final boolean maximum) {
+        double extremum = Double.NaN;
+        for (int i = 0; i < window.size(); ++i) {
+            final double value = window.valueAt(i);
+            if (Double.isNaN(extremum) || (maximum ? value > extremum : value < extremum)) {
+                extremum = value;
+            }
+        }
+        return extremum;
+    }
+
+    private static double timeWeightedAverage(final WindowSamples window) {
+        double weightedSum = 0d;
+        double coveredDuration = 0d;
+        double currentValue = window.getValuePriorToWindow();
+        double currentPointInTime = window.getWindowLeftBound();
+        for (int i = 0; i <= window.size(); ++i) {
+            final double nextPointInTime = i < window.size() ? window.pointInTimeAt(i)
+                    : window.getWindowUpperBound();
+            if (!Double.isNaN(currentValue)) {
+                weightedSum += (nextPointInTime - currentPointInTime) * currentValue;
+                coveredDuration += nextPointInTime - currentPointInTime;
+            }
+            if (i < window.size()) {
+                currentValue = window.valueAt(i);
+                currentPointInTime = nextPointInTime;
+            }
+        }
+        return coveredDuration > 0d ? weightedSum / coveredDuration : Double.NaN;
+    }
+
+    private static double utilization(final WindowSamples window) {
+        double busyTime = 0d;
+        double currentState = busyState(window.getValuePriorToWindow());
+        double currentPointInTime = window.getWindowLeftBound();
+        for (int i = 0; i < window.size(); ++i) {
+            final double pointInTime = window.pointInTimeAt(i);
+            busyTime += (pointInTime - currentPointInTime) * currentState;
+            currentState = busyState(window.valueAt(i));
+            currentPointInTime = pointInTime;
+        }
+        busyTime += (window.getWindowUpperBound() - currentPointInTime) * currentState;
+        return Math.max(0d, Math.min(busyTime / window.getWindowLength(), 1d));
+    }
+
+    private static double busyState(final double state) {
+        // unknown state (NaN) is considered idle
+        return state > 0d ? Math.min(state, 1d) : 0d;
+    }
+}
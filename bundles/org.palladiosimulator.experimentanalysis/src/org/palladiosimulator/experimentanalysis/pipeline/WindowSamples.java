@@ -0,0 +1,123 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+import org.palladiosimulator.experimentanalysis.PrimitiveTimeSeriesBuffer;
+
+/**
+ * This class provides read-only access to the content of a window of a {@link MeasurementPipeline},
+ * that is, to the {@code (point in time, value)} pairs within the window and the last value prior
+ * to it. Both components are stored as primitive doubles in a {@link PrimitiveTimeSeriesBuffer}, so
+ * that moving the window on does not allocate any objects.<br>
+ * Windows are left-closed and right-open, i.e., a pair whose point in time equals the upper bound of
+ * the window belongs to the subsequent window.
+ *
+ * @see IWindowFunction
+ */
+public final class WindowSamples {
+
+    private final PrimitiveTimeSeriesBuffer buffer = new PrimitiveTimeSeriesBuffer();
+
+    private double windowLeftBound;
+    private final double windowLength;
+    private double valuePriorToWindow = Double.NaN;
+
+    WindowSamples(final double windowLeftBound, final double windowLength) {
+        this.windowLeftBound = windowLeftBound;
+        this.windowLength = windowLength;
+    }
+
+    /**
+     * Gets the number of pairs within the window.
+     *
+     * @return A nonnegative value denoting the number of pairs.
+     */
+    public int size() {
+        return this.buffer.size();
+    }
+
+    /**
+     * Indicates whether the window does not contain any pair.
+     *
+     * @return {@code true} if the window is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return this.buffer.isEmpty();
+    }
+
+    /**
+     * Gets the point in time of the pair at the given position.
+     *
+     * @param index
+     *            The position of the pair, which must be within {@code [0, size())}. Pairs are
+     *            ordered chronologically.
+     * @return The point in time, given in seconds.
+     */
+    public double pointInTimeAt(final int index) {
+        return this.buffer.pointInTimeAt(index);
+    }
+
+    /**
+     * Gets the value of the pair at the given position.
+     *
+     * @param index
+     *            The position of the pair, which must be within {@code [0, size())}. Pairs are
+     *            ordered chronologically.
+     * @return The value.
+     */
+    public double valueAt(final int index) {
+        return this.buffer.valueAt(index);
+    }
+
+    /**
+     * Gets the value of the last pair prior to the window, which is required by functions that
+     * consider the values to be piecewise constant (e.g., the state of a resource).
+     *
+     * @return The value, or {@link Double#NaN} if no pair has been passed prior to the window.
+     */
+    public double getValuePriorToWindow() {
+        return this.valuePriorToWindow;
+    }
+
+    /**
+     * Gets the left bound of the window.
+     *
+     * @return The left bound, given in seconds.
+     */
+    public double getWindowLeftBound() {
+        return this.windowLeftBound;
+    }
+
+    /**
+     * Gets the length of the window.
+     *
+     * @return The length, given in seconds.
+     */
+    public double getWindowLength() {
+        return this.windowLength;
+    }
+
+    /**
+     * Gets the (exclusive) upper bound of the window.
+     *
+     * @return The upper bound, given in seconds.
+     */
+    public double getWindowUpperBound() {
+        return this.windowLeftBound + this.windowLength;
+    }
+
+    void add(final double pointInTime, final double value) {
+        if (pointInTime < this.windowLeftBound) {
+            // may happen if the increment exceeds the length
+            this.valuePriorToWindow = value;
+            return;
+        }
+        this.buffer.addLast(pointInTime, value);
+    }
+
+    void moveOn(final double increment) {
+        this.windowLeftBound += increment;
+        while (!this.buffer.isEmpty() && this.buffer.pointInTimeAt(0) < this.windowLeftBound) {
+            this.valuePriorToWindow = this.buffer.valueAt(0);
+            this.buffer.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.palladiosimulator.experimentanalysis.pipeline;
+
+/**
+ * A stage that collects the pairs it is passed in a (tumbling or hopping) window and passes the
+ * result of the given {@link IWindowFunction} on each time the window is full. The window starts at
+ * {@code 0s}. As in {@link org.palladiosimulator.experimentanalysis.slicing.PaneBasedSlidingWindows
+ * PaneBasedSlidingWindows}, a window is full once a pair at or beyond its upper bound is passed, and
+ * the result is passed on along with the upper bound as point in time.<br>
+ * Once no more data is available, the window the last pair belongs to is processed, as well as each
+ * subsequent window that still contains the last pair, which only exists for hopping windows.
+ */
+final class WindowStage implements IPrimitiveStage {
+
+    private final double increment;
+    private final IWindowFunction function;
+    private final IPrimitiveStage successor;
+    private final WindowSamples window;
+
+    private double lastPointInTime = Double.NaN;
+    private double lastUpperBoundProcessed = Double.NaN;
+
+    WindowStage(final double length, final double increment, final IWindowFunction function,
+            final IPrimitiveStage successor) {
+        this.increment = increment;
+        this.function = function;
+        this.successor = successor;
+        this.window = new WindowSamples(0d, length);
+    }
+
+    @Override
+    public void accept(final double pointInTime, final double value) {
+        while (pointInTime >= this.window.getWindowUpperBound()) {
+            processWindow();
+        }
+        this.window.add(pointInTime, value);
+        this.lastPointInTime = pointInTime;
+    }
+
+    @Override
+    public void noMoreDataAvailable() {
+        if (!Double.isNaN(this.lastPointInTime)) {
+            // process the window the last pair belongs to, unless it has already been processed
+            if (!(this.lastPointInTime <= this.lastUpperBoundProcessed)) {
+                processWindow();
+            }
+            // overlapping windows that contain the last pair as well
+            while (this.window.getWindowLeftBound() <= this.lastPointInTime) {
+                processWindow();
+            }
+        }
+        this.successor.noMoreDataAvailable();
+    }
+
+    private void processWindow() {
+        final double upperBound = this.window.getWindowUpperBound();
+        final double result = this.function.apply(this.window);
+        this.lastUpperBoundProcessed = upperBound;
+        this.window.moveOn(this.increment);
+        if (!Double.isNaN(result)) {
+            this.successor.accept(upperBound, result);
+        }
+    }
+}
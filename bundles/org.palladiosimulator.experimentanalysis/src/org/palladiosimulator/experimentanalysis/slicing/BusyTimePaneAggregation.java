@@ -0,0 +1,156 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * This class is an {@link IPaneAggregation} implementation which calculates the utilization of an
+ * active resource based on a sequence of {@code (point in time, state of active resource)} or
+ * {@code (point in time, utilization of active resource)} tuples. It is the pane-based counterpart
+ * of the {@link SlidingWindowUtilizationAggregator} (used in conjunction with a
+ * {@code KeepLastElementPriorToLowerBoundStrategy}), i.e., the state of the resource is carried
+ * across pane boundaries.<br>
+ * The partial aggregate of a pane is the busy time of the resource within the pane, so this
+ * aggregation is invertible. The result of a window is passed on in the form of a
+ * {@code (point in time, utilization of active resource)} tuple, where the point in time is the
+ * upper bound of the window.
+ *
+ * @see PaneBasedSlidingWindows
+ * @see SlidingWindowUtilizationAggregator#getAllowedWindowDataMetrics()
+ */
+public final class BusyTimePaneAggregation implements IPaneAggregation<BusyTimePaneAggregation.BusyTimePane> {
+
+    private static final BusyTimePane IDENTITY = new BusyTimePane(0d, 0d, 0d);
+
+    private final MetricDescription windowDataMetric;
+    private final NumericalBaseMetricDescription stateOfResourceMetric;
+
+    /**
+     * Initializes a new instance of the {@link BusyTimePaneAggregation} class with the given
+     * parameter.
+     *
+     * @param windowDataMetric
+     *            The {@link MetricDescription} of the measurements to be processed, i.e, which are
+     *            used to compute the utilization.
+     * @throws NullPointerException
+     *             If the given metric is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given metric is not supported by this aggregation.
+     */
+    public BusyTimePaneAggregation(final MetricDescription windowDataMetric) {
+        Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        this.windowDataMetric = SlidingWindowUtilizationAggregator.getAllowedWindowDataMetrics().stream()
+                .filter(m -> MetricDescriptionUtility.metricDescriptionIdsEqual(m, windowDataMetric)).findAny()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "This aggregation cannot deal with window data of the given metric."));
+        final boolean isStateMetric = MetricDescriptionUtility.metricDescriptionIdsEqual(this.windowDataMetric,
+                MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE);
+        this.stateOfResourceMetric = (NumericalBaseMetricDescription) (isStateMetric
+                ? MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC
+                : MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+
+    @Override
+    public BusyTimePane openPane(final BusyTimePane predecessor, final double paneLowerBound) {
+        // prior to the first measurement, the resource is considered idle
+        return new BusyTimePane(0d, paneLowerBound, predecessor == null ? 0d : predecessor.lastState);
+    }
+
+    @Override
+    public void accumulate(final BusyTimePane pane, final double pointInTime, final MeasuringValue measurement) {
+        pane.advanceTo(pointInTime);
+        pane.lastState = Math.min(MeasuringValueUtility.getNumericalValue(measurement, this.stateOfResourceMetric),
+                1d);
+    }
+
+    @Override
+    public void closePane(final BusyTimePane pane, final double paneUpperBound) {
+        pane.advanceTo(paneUpperBound);
+    }
+
+    @Override
+    public BusyTimePane identity() {
+        return IDENTITY;
+    }
+
+    @Override
+    public BusyTimePane combine(final BusyTimePane older, final BusyTimePane newer) {
+        return new BusyTimePane(older.busyTime + newer.busyTime, newer.lastPointInTime, newer.lastState);
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return true;
+    }
+
+    @Override
+    public BusyTimePane inverseCombine(final BusyTimePane aggregate, final BusyTimePane removed) {
+        return new BusyTimePane(aggregate.busyTime - removed.busyTime, aggregate.lastPointInTime, aggregate.lastState);
+    }
+
+    @Override
+    public MeasuringValue createResult(final BusyTimePane windowAggregate,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+        final double windowLengthValue = windowLength.doubleValue(SI.SECOND);
+        // clamp accumulated floating-point errors caused by inverse combination
+        final double utilization = Math.max(0d, Math.min(windowAggregate.busyTime / windowLengthValue, 1d));
+        final Measure<Double, Duration> pointInTime = Measure
+                .valueOf(windowLeftBound.doubleValue(SI.SECOND) + windowLengthValue, SI.SECOND);
+        final Measure<Double, Dimensionless> utilizationMeasure = Measure.valueOf(utilization, Unit.ONE);
+        return new TupleMeasurement(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE, pointInTime,
+                utilizationMeasure);
+    }
+
+    /**
+     * The partial aggregate of the {@link BusyTimePaneAggregation}, i.e., the busy time (in
+     * seconds) of a resource within a sequence of panes, along with the last known state of the
+     * resource.
+     */
+    public static final class BusyTimePane {
+
+        private double busyTime;
+        private double lastPointInTime;
+        private double lastState;
+
+        private BusyTimePane(final double busyTime, final double lastPointInTime, final double lastState) {
+            this.busyTime = busyTime;
+            this.lastPointInTime = lastPointInTime;
+            this.lastState = lastState;
+        }
+
+        private void advanceTo(final double pointInTime) {
+            if (pointInTime > this.lastPointInTime) {
+                this.busyTime += (pointInTime - this.lastPointInTime) * this.lastState;
+                this.lastPointInTime = pointInTime;
+            }
+        }
+
+        /**
+         * Gets the busy time covered by this partial aggregate.
+         *
+         * @return The busy time, given in seconds.
+         */
+        public double getBusyTime() {
+            return this.busyTime;
+        }
+    }
+}
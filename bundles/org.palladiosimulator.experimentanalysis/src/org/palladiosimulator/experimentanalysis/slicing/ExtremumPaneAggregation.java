@@ -0,0 +1,133 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+
+/**
+ * This class is an {@link IPaneAggregation} implementation which determines the maximum or minimum
+ * value of a numerical metric (e.g., the response time) captured by a sequence of
+ * {@code (point in time, value)} tuples.<br>
+ * As extrema are not invertible, the panes of the windows are combined by means of the two-stacks
+ * algorithm, which takes amortized constant time per pane. The result of a window is passed on as
+ * a tuple of the same metric, where the point in time is the upper bound of the window. No result
+ * is passed on for windows that do not contain any measurement.
+ *
+ * @see PaneBasedSlidingWindows
+ */
+public final class ExtremumPaneAggregation implements IPaneAggregation<ScalarPane> {
+
+    /**
+     * The extrema that can be determined by an {@link ExtremumPaneAggregation}.
+     */
+    public enum Extremum {
+        /** The maximum value within a window. */
+        MAXIMUM,
+        /** The minimum value within a window. */
+        MINIMUM;
+    }
+
+    private static final ScalarPane IDENTITY = new ScalarPane(Double.NaN, 0);
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final Extremum extremum;
+
+    /**
+     * Initializes a new instance of the {@link ExtremumPaneAggregation} class with the given
+     * parameters.
+     *
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to be
+     *            processed, e.g., {@code RESPONSE_TIME_METRIC_TUPLE}.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to be aggregated, e.g.,
+     *            {@code RESPONSE_TIME_METRIC}.
+     * @param extremum
+     *            The {@link Extremum} to determine.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     */
+    public ExtremumPaneAggregation(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final Extremum extremum) {
+        this.windowDataMetric = Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        this.valueMetric = Objects.requireNonNull(valueMetric, "Given value metric must not be null.");
+        this.extremum = Objects.requireNonNull(extremum, "Given extremum must not be null.");
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+
+    @Override
+    public ScalarPane openPane(final ScalarPane predecessor, final double paneLowerBound) {
+        return new ScalarPane(Double.NaN, 0);
+    }
+
+    @Override
+    public void accumulate(final ScalarPane pane, final double pointInTime, final MeasuringValue measurement) {
+        final double value = MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric);
+        pane.update(pane.isEmpty() ? value : select(pane.getValue(), value));
+    }
+
+    @Override
+    public void closePane(final ScalarPane pane, final double paneUpperBound) {
+        // nothing to do here
+    }
+
+    @Override
+    public ScalarPane identity() {
+        return IDENTITY;
+    }
+
+    @Override
+    public ScalarPane combine(final ScalarPane older, final ScalarPane newer) {
+        if (older.isEmpty()) {
+            return newer;
+        }
+        if (newer.isEmpty()) {
+            return older;
+        }
+        return new ScalarPane(select(older.getValue(), newer.getValue()),
+                older.getNumberOfMeasurements() + newer.getNumberOfMeasurements());
+    }
+
+    private double select(final double first, final double second) {
+        return this.extremum == Extremum.MAXIMUM ? Math.max(first, second) : Math.min(first, second);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MeasuringValue createResult(final ScalarPane windowAggregate,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+        if (windowAggregate.isEmpty()) {
+            return null;
+        }
+        final Measure<Double, Duration> pointInTime = Measure.valueOf(
+                windowLeftBound.doubleValue(SI.SECOND) + windowLength.doubleValue(SI.SECOND), SI.SECOND);
+        final Measure<Double, Quantity> valueMeasure = Measure.valueOf(windowAggregate.getValue(),
+                (Unit<Quantity>) this.valueMetric.getDefaultUnit());
+        return new TupleMeasurement(this.windowDataMetric, pointInTime, valueMeasure);
+    }
+
+    /**
+     * Gets the extremum determined by this aggregation.
+     *
+     * @return The {@link Extremum} passed upon initialization.
+     */
+    public Extremum getExtremum() {
+        return this.extremum;
+    }
+}
@@ -0,0 +1,177 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * This interface has to be implemented by aggregations that can be computed by
+ * {@link PaneBasedSlidingWindows}. Such an aggregation computes one partial aggregate per pane
+ * (i.e., a fixed-length, non-overlapping slice of the timeline) and obtains the result of a window
+ * by combining the partial aggregates of all panes the window consists of.<br>
+ * While a pane is open, its partial aggregate is mutable and updated by
+ * {@link #accumulate(Object, double, MeasuringValue)}. Once a pane has been closed, its partial
+ * aggregate is shared among all windows it belongs to and must not be modified anymore. Thus,
+ * {@link #combine(Object, Object)} and {@link #inverseCombine(Object, Object)} must not modify
+ * their arguments.<br>
+ * All points in time passed to the methods of this interface are given in seconds.
+ *
+ * @param <P>
+ *            The type of the partial aggregates.
+ *
+ * @see PaneBasedSlidingWindows
+ * @see BusyTimePaneAggregation
+ */
+public interface IPaneAggregation<P> {
+
+    /**
+     * Gets the metric of the measurements this aggregation is accepting.
+     *
+     * @return A {@link MetricDescription} indicating the measurements this aggregation can
+     *         process.
+     */
+    public MetricDescription getExpectedWindowDataMetric();
+
+    /**
+     * Creates the partial aggregate of a newly opened pane.
+     *
+     * @param predecessor
+     *            The (closed) partial aggregate of the preceding pane, {@code null} if the new pane
+     *            is the very first one. Aggregations may use it to carry information across pane
+     *            boundaries, e.g., the last state of a resource.
+     * @param paneLowerBound
+     *            The lower bound of the new pane.
+     * @return The partial aggregate of the new pane.
+     */
+    public P openPane(P predecessor, double paneLowerBound);
+
+    /**
+     * Incorporates the given measurement into the partial aggregate of the currently open pane.
+     *
+     * @param pane
+     *            The partial aggregate of the currently open pane.
+     * @param pointInTime
+     *            The {@code point in time} of the given measurement.
+     * @param measurement
+     *            The {@link MeasuringValue} to incorporate.
+     */
+    public void accumulate(P pane, double pointInTime, MeasuringValue measurement);
+
+    /**
+     * Finishes the partial aggregate of the currently open pane. Afterwards, it must not be
+     * modified anymore.
+     *
+     * @param pane
+     *            The partial aggregate of the pane that is closed.
+     * @param paneUpperBound
+     *            The upper bound of the pane that is closed.
+     */
+    public void closePane(P pane, double paneUpperBound);
+
+    /**
+     * Gets the aggregate of an empty sequence of panes, i.e., the identity with respect to
+     * {@link #combine(Object, Object)}.
+     *
+     * @return The identity partial aggregate.
+     */
+    public P identity();
+
+    /**
+     * Combines the two given (closed) partial aggregates into a new one, without modifying either
+     * of them.
+     *
+     * @param older
+     *            The partial aggregate that covers the earlier part of the timeline.
+     * @param newer
+     *            The partial aggregate that covers the later part of the timeline.
+     * @return The combined partial aggregate.
+     */
+    public P combine(P older, P newer);
+
+    /**
+     * Combines the given (closed) partial aggregate into the given accumulator. The accumulator
+     * is a combined partial aggregate that has been returned by {@link #combine(Object, Object)},
+     * {@link #inverseCombine(Object, Object)} or one of their {@code Into} counterparts, and that
+     * is not shared with anyone else. Hence, aggregations whose partial aggregates are expensive
+     * to copy may update it in place instead of creating a new one.
+     *
+     * @param accumulator
+     *            The combined partial aggregate that covers the earlier part of the timeline. It
+     *            may be modified.
+     * @param newer
+     *            The partial aggregate that covers the later part of the timeline. It must not be
+     *            modified.
+     * @return The combined partial aggregate, which may be the given accumulator. By default, the
+     *         result of {@link #combine(Object, Object)}.
+     */
+    public default P combineInto(P accumulator, P newer) {
+        return combine(accumulator, newer);
+    }
+
+    /**
+     * Indicates whether this aggregation is invertible, i.e., whether
+     * {@link #inverseCombine(Object, Object)} is supported. Windows of invertible aggregations
+     * are updated in constant time by adding the newest and removing the oldest pane, while
+     * windows of other aggregations are maintained by means of the two-stacks algorithm.
+     *
+     * @return {@code true} if the aggregation is invertible, {@code false} otherwise (default).
+     */
+    public default boolean isInvertible() {
+        return false;
+    }
+
+    /**
+     * Removes the given (oldest) partial aggregate from the given combined one, without modifying
+     * either of them. Only supported by invertible aggregations.
+     *
+     * @param aggregate
+     *            A combined partial aggregate whose oldest part is {@code removed}.
+     * @param removed
+     *            The partial aggregate to remove.
+     * @return The partial aggregate of the remaining panes.
+     * @throws UnsupportedOperationException
+     *             If this aggregation is not invertible (default).
+     * @see #isInvertible()
+     */
+    public default P inverseCombine(P aggregate, P removed) {
+        throw new UnsupportedOperationException("This aggregation is not invertible.");
+    }
+
+    /**
+     * Removes the given (oldest) partial aggregate from the given accumulator, which is not shared
+     * with anyone else (see {@link #combineInto(Object, Object)}). Only supported by invertible
+     * aggregations.
+     *
+     * @param accumulator
+     *            A combined partial aggregate whose oldest part is {@code removed}. It may be
+     *            modified.
+     * @param removed
+     *            The partial aggregate to remove. It must not be modified.
+     * @return The partial aggregate of the remaining panes, which may be the given accumulator. By
+     *         default, the result of {@link #inverseCombine(Object, Object)}.
+     * @throws UnsupportedOperationException
+     *             If this aggregation is not invertible (default).
+     */
+    public default P inverseCombineInto(P accumulator, P removed) {
+        return inverseCombine(accumulator, removed);
+    }
+
+    /**
+     * Creates the result of a window based on the combined partial aggregate of its panes.
+     *
+     * @param windowAggregate
+     *            The combined partial aggregate of all panes the window consists of. It must
+     *            neither be modified nor retained, as it may be updated in place afterwards.
+     * @param windowLeftBound
+     *            A {@link Measure} denoting the left bound of the window.
+     * @param windowLength
+     *            A {@link Measure} denoting the length of the window.
+     * @return A {@link MeasuringValue} that is to be passed on to the recorder of the window, or
+     *         {@code null} if there is no result for the window (e.g., a maximum of an empty
+     *         window).
+     */
+    public MeasuringValue createResult(P windowAggregate, Measure<Double, Duration> windowLeftBound,
+            Measure<Double, Duration> windowLength);
+}
@@ -0,0 +1,62 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link PartialAggregateQueue} for invertible aggregations. It maintains the running combination
+ * of all contained partial aggregates, which is updated in constant time upon each push and
+ * eviction.<br>
+ * The running combination is owned by the queue once it has been created by the first push, so it
+ * is updated in place by means of {@link IPaneAggregation#combineInto(Object, Object)} and
+ * {@link IPaneAggregation#inverseCombineInto(Object, Object)} from then on.
+ *
+ * @param <P>
+ *            The type of the partial aggregates.
+ * @see IPaneAggregation#isInvertible()
+ */
+final class InvertiblePartialAggregateQueue<P> extends PartialAggregateQueue<P> {
+
+    private final Deque<P> partialAggregates = new ArrayDeque<>();
+    private P runningAggregate;
+    private boolean ownsRunningAggregate = false;
+
+    InvertiblePartialAggregateQueue(final IPaneAggregation<P> aggregation) {
+        super(aggregation);
+        assert aggregation.isInvertible();
+        this.runningAggregate = aggregation.identity();
+    }
+
+    @Override
+    void push(final P partialAggregate) {
+        this.partialAggregates.addLast(partialAggregate);
+        if (this.ownsRunningAggregate) {
+            this.runningAggregate = this.aggregation.combineInto(this.runningAggregate, partialAggregate);
+        } else {
+            // the identity is shared, so it must not be updated in place
+            this.runningAggregate = this.aggregation.combine(this.runningAggregate, partialAggregate);
+            this.ownsRunningAggregate = true;
+        }
+    }
+
+    @Override
+    void evict() {
+        final P oldest = this.partialAggregates.removeFirst();
+        if (this.partialAggregates.isEmpty()) {
+            this.runningAggregate = this.aggregation.identity();
+            this.ownsRunningAggregate = false;
+        } else {
+            this.runningAggregate = this.aggregation.inverseCombineInto(this.runningAggregate, oldest);
+        }
+    }
+
+    @Override
+    P query() {
+        return this.runningAggregate;
+    }
+
+    @Override
+    int size() {
+        return this.partialAggregates.size();
+    }
+}
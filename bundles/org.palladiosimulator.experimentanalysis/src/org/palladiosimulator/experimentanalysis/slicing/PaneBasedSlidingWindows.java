@@ -0,0 +1,388 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class implements a set of sliding windows over one stream of measurements that share their
+ * (partial) aggregation by means of <em>window slicing</em>.<br>
+ * Rather than collecting the measurements of each window and reprocessing them whenever a window
+ * is full (as {@link SlidingWindow}s do), the timeline is split into non-overlapping panes whose
+ * length is the greatest common divisor of the lengths and increments of all windows. For each
+ * pane, one partial aggregate is computed by the given {@link IPaneAggregation}. The result of a
+ * window is then obtained by combining the partial aggregates of the panes it consists of. Hence,
+ * each measurement is processed only once, regardless of how many (overlapping) windows it belongs
+ * to, and the panes are shared among all windows, even if their lengths differ.<br>
+ * Panes are left-closed and right-open, i.e., a measurement taken exactly at the upper bound of a
+ * window belongs to the subsequent pane.<br>
+ * <br>
+ * Windows are added by {@link #addWindow(Measure, Measure, IRecorder)} before the first measurement
+ * is added. Each time one of the windows is full, its result is passed on to its recorder.
+ * Measurements must be added in chronological order.
+ *
+ * @param <P>
+ *            The type of the partial aggregates.
+ *
+ * @see IPaneAggregation
+ * @see BusyTimePaneAggregation
+ */
+public final class PaneBasedSlidingWindows<P> {
+
+    /**
+     * The relative tolerance applied to floating-point computations on window bounds, e.g., to
+     * determine the pane length and pane indices.
+     */
+    public static final double EPSILON = 1e-9;
+    // panes per window above which window parameters are considered incommensurable
+    private static final long MAX_PANES_PER_WINDOW = 10_000_000L;
+
+    private final IPaneAggregation<P> aggregation;
+    private final double initialLowerBound; // in seconds
+    private final List<PaneWindow> windows = new ArrayList<>();
+
+    private double paneLength = Double.NaN; // in seconds, determined upon first measurement
+    private P currentPane = null;
+    private long numberOfClosedPanes = 0;
+    private boolean started = false;
+    private boolean closed = false;
+    private double lastPointInTime = Double.NaN;
+
+    /**
+     * Initializes a new instance of the {@link PaneBasedSlidingWindows} class with the given
+     * aggregation. All windows start at {@code 0s}.
+     *
+     * @param aggregation
+     *            The {@link IPaneAggregation} that is computed for each window.
+     * @throws NullPointerException
+     *             If the given aggregation is {@code null}.
+     */
+    public PaneBasedSlidingWindows(final IPaneAggregation<P> aggregation) {
+        this(aggregation, Measure.valueOf(0d, SI.SECOND));
+    }
+
+    /**
+     * Initializes a new instance of the {@link PaneBasedSlidingWindows} class with the given
+     * parameters.
+     *
+     * @param aggregation
+     *            The {@link IPaneAggregation} that is computed for each window.
+     * @param initialLowerBound
+     *            This {@link Measure} indicates the lower bound value of all windows, i.e., the
+     *            start of the very first pane, given in any arbitrary {@link Duration}.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given initial lower bound is negative.
+     */
+    public PaneBasedSlidingWindows(final IPaneAggregation<P> aggregation,
+            final Measure<Double, Duration> initialLowerBound) {
+        this.aggregation = Objects.requireNonNull(aggregation, "Given aggregation must not be null.");
+        this.initialLowerBound = Objects.requireNonNull(initialLowerBound).doubleValue(SI.SECOND);
+        if (!(this.initialLowerBound >= 0d) || Double.isInfinite(this.initialLowerBound)) {
+            throw new IllegalArgumentException("Given inital lower bound is invalid.");
+        }
+    }
+
+    /**
+     * Adds a window with the given parameters.
+     *
+     * @param windowLength
+     *            The length of the window, given in any arbitrary {@link Duration}.
+     * @param increment
+     *            This {@link Measure} indicates the increment by what the window is moved on, given
+     *            in any arbitrary {@link Duration}.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} the results of the window are written into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If either of the given measures is not positive.
+     * @throws IllegalStateException
+     *             If measurements have already been added.
+     */
+    public void addWindow(final Measure<Double, Duration> windowLength, final Measure<Double, Duration> increment,
+            final IRecorder recorderToWriteInto) {
+        if (this.started) {
+            throw new IllegalStateException("Windows cannot be added once measurements have been added.");
+        }
+        final double windowLengthValue = checkGetPositiveDuration(windowLength, "window length");
+        final double incrementValue = checkGetPositiveDuration(increment, "increment");
+        this.windows.add(new PaneWindow(Measure.valueOf(windowLengthValue, SI.SECOND), windowLengthValue,
+                incrementValue, Objects.requireNonNull(recorderToWriteInto, "Given recorder must not be null.")));
+    }
+
+    private static double checkGetPositiveDuration(final Measure<Double, Duration> measure, final String name) {
+        final double value = Objects.requireNonNull(measure).doubleValue(SI.SECOND);
+        if (!(value > 0d) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Given " + name + " is invalid.");
+        }
+        return value;
+    }
+
+    /**
+     * Adds a new measurement, i.e., incorporates it into the partial aggregate of the pane it
+     * belongs to. Beforehand, all panes prior to that one are closed, so that the windows that are
+     * full are processed.
+     *
+     * @param newMeasurement
+     *            The {@link MeasuringValue} instance to add.
+     * @throws IllegalArgumentException
+     *             If the given measurement is {@code null}, does not adhere to the metric expected
+     *             by the aggregation, or is older than the previously added one.
+     * @throws IllegalStateException
+     *             If no window has been added, or {@link #noMoreDataAvailable()} has been called
+     *             beforehand.
+     */
+    public void addMeasurement(final MeasuringValue newMeasurement) {
+        if (newMeasurement == null) {
+            throw new IllegalArgumentException("Given measurement is null.");
+        }
+        if (!MeasuringValueUtility.adheresToMetric(newMeasurement, this.aggregation.getExpectedWindowDataMetric())) {
+            throw new IllegalArgumentException("Given measurement does not adhere to (or subsume) specified metric.\n"
+                    + "Expected metric: " + this.aggregation.getExpectedWindowDataMetric().getName()
+                    + "\nGiven measurement metric: " + newMeasurement.getMetricDesciption().getName());
+        }
+        final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(newMeasurement);
+        if (pointInTime < this.lastPointInTime) {
+            throw new IllegalArgumentException("Measurements must be added in chronological order.");
+        }
+        ensureStarted();
+        if (pointInTime >= this.initialLowerBound) {
+            closePanesUntil(paneIndexOf(pointInTime));
+            this.aggregation.accumulate(this.currentPane, pointInTime, newMeasurement);
+        } else {
+            // prior to the very first pane: still relevant for aggregations that carry state
+            this.aggregation.accumulate(this.currentPane, this.initialLowerBound, newMeasurement);
+        }
+        this.lastPointInTime = pointInTime;
+    }
+
+    /**
+     * Closes all panes whose upper bound is not greater than the given point in time, so that the
+     * windows that are full by then are processed. This method is intended to be invoked, e.g., by
+     * a simulation clock if no further measurement arrives.
+     *
+     * @param pointInTime
+     *            A {@link Measure} denoting the current point in time.
+     * @throws IllegalStateException
+     *             If no window has been added, or {@link #noMoreDataAvailable()} has been called
+     *             beforehand.
+     */
+    public void advanceTo(final Measure<Double, Duration> pointInTime) {
+        ensureStarted();
+        final double pointInTimeValue = Objects.requireNonNull(pointInTime).doubleValue(SI.SECOND);
+        if (pointInTimeValue >= this.initialLowerBound) {
+            closePanesUntil(paneIndexOf(pointInTimeValue));
+        }
+    }
+
+    /**
+     * By calling this method, clients tell that no more measurements are to be added. Afterwards,
+     * each window is processed a last time at the first of its upper bounds that is not less than
+     * the upper bound of the pane containing the last measurement, i.e., the data available so far
+     * is processed completely. As panes are left-closed, a last measurement that lies exactly on an
+     * upper bound is processed by the windows starting there.<br>
+     * If no measurement has been added, this method does nothing except for closing this
+     * instance.
+     */
+    public void noMoreDataAvailable() {
+        if (this.started && !this.closed && !Double.isNaN(this.lastPointInTime)) {
+            // the pane of the last measurement has to be closed as well
+            final long lastPosition = Math.max(0L, paneIndexOf(this.lastPointInTime)) + 1;
+            long lastEmission = 0;
+            for (PaneWindow window : this.windows) {
+                window.finalEmission = window.firstEmissionNotBefore(lastPosition);
+                lastEmission = Math.max(lastEmission, window.finalEmission);
+            }
+            closePanesUntil(lastEmission);
+        }
+        this.started = true;
+        this.closed = true;
+    }
+
+    /**
+     * Gets the length of the panes, i.e., the greatest common divisor of the lengths and
+     * increments of all windows.
+     *
+     * @return A {@link Measure} denoting the pane length, or {@code null} if it is not yet
+     *         determined as no measurement has been added.
+     */
+    public Measure<Double, Duration> getPaneLength() {
+        return this.started && !Double.isNaN(this.paneLength) ? Measure.valueOf(this.paneLength, SI.SECOND) : null;
+    }
+
+    /**
+     * Gets the number of windows that share the panes.
+     *
+     * @return A nonnegative value denoting the number of windows.
+     */
+    public int getNumberOfWindows() {
+        return this.windows.size();
+    }
+
+    /**
+     * Gets the windows' recorders, in the order the windows were added.
+     *
+     * @return An <b>unmodifiable</b> list containing the {@link IRecorder}s.
+     */
+    public List<IRecorder> getRecorders() {
+        final List<IRecorder> result = new ArrayList<>(this.windows.size());
+        this.windows.forEach(window -> result.add(window.recorder));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the aggregation that is computed for each window.
+     *
+     * @return The {@link IPaneAggregation} passed upon initialization.
+     */
+    public IPaneAggregation<P> getAggregation() {
+        return this.aggregation;
+    }
+
+    private void ensureStarted() {
+        if (this.closed) {
+            throw new IllegalStateException("No more data is available, as indicated beforehand.");
+        }
+        if (!this.started) {
+            if (this.windows.isEmpty()) {
+                throw new IllegalStateException("At least one window must be added beforehand.");
+            }
+            this.paneLength = computePaneLength();
+            for (PaneWindow window : this.windows) {
+                window.initialize(this.paneLength);
+            }
+            this.currentPane = this.aggregation.openPane(null, this.initialLowerBound);
+            this.started = true;
+        }
+    }
+
+    private double computePaneLength() {
+        double result = this.windows.get(0).windowLength;
+        for (PaneWindow window : this.windows) {
+            result = greatestCommonDivisor(result, window.windowLength);
+            result = greatestCommonDivisor(result, window.increment);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the greatest common divisor of the given positive values by means of the euclidean
+     * algorithm, tolerating floating-point rounding errors (cf. {@link #EPSILON}). This is the
+     * length of the panes that windows of the given lengths and increments can share.
+     *
+     * @param first
+     *            A positive value, e.g., a window length in seconds.
+     * @param second
+     *            A positive value, e.g., a window increment in seconds.
+     * @return The greatest common divisor of both values.
+     */
+    public static double greatestCommonDivisor(final double first, final double second) {
+        final double tolerance = EPSILON * Math.max(first, second);
+        double a = Math.max(first, second);
+        double b = Math.min(first, second);
+        while (b > tolerance) {
+            final double remainder = a % b;
+            a = b;
+            // remainder close to b also indicates divisibility
+            b = (b - remainder) > tolerance ? remainder : 0d;
+        }
+        return a;
+    }
+
+    private long paneIndexOf(final double pointInTime) {
+        return (long) Math.floor((pointInTime - this.initialLowerBound) / this.paneLength + EPSILON);
+    }
+
+    private void closePanesUntil(final long paneIndex) {
+        while (this.numberOfClosedPanes < paneIndex) {
+            final double paneUpperBound = this.initialLowerBound + (this.numberOfClosedPanes + 1) * this.paneLength;
+            this.aggregation.closePane(this.currentPane, paneUpperBound);
+            ++this.numberOfClosedPanes;
+            for (PaneWindow window : this.windows) {
+                window.onPaneClosed(this.currentPane, this.numberOfClosedPanes);
+            }
+            this.currentPane = this.aggregation.openPane(this.currentPane, paneUpperBound);
+        }
+    }
+
+    /**
+     * Represents a single window, i.e., its parameters, the queue of the partial aggregates of its
+     * panes and its recorder.
+     */
+    private final class PaneWindow {
+
+        private final Measure<Double, Duration> windowLengthMeasure;
+        private final double windowLength;
+        private final double increment;
+        private final IRecorder recorder;
+
+        private PartialAggregateQueue<P> panes;
+        private long panesPerWindow;
+        private long panesPerIncrement;
+        private long finalEmission = Long.MAX_VALUE;
+
+        private PaneWindow(final Measure<Double, Duration> windowLengthMeasure, final double windowLength,
+                final double increment, final IRecorder recorder) {
+            this.windowLengthMeasure = windowLengthMeasure;
+            this.windowLength = windowLength;
+            this.increment = increment;
+            this.recorder = recorder;
+        }
+
+        private void initialize(final double paneLength) {
+            this.panesPerWindow = numberOfPanes(this.windowLength, paneLength);
+            this.panesPerIncrement = numberOfPanes(this.increment, paneLength);
+            this.panes = PartialAggregateQueue.forAggregation(PaneBasedSlidingWindows.this.aggregation);
+        }
+
+        private long numberOfPanes(final double duration, final double paneLength) {
+            final long result = Math.round(duration / paneLength);
+            if (result > MAX_PANES_PER_WINDOW) {
+                throw new IllegalStateException(
+                        "Window lengths and increments are incommensurable, panes would be too small.");
+            }
+            return result;
+        }
+
+        /**
+         * Gets the number of closed panes after which this window is full for the first time at
+         * or after the given position (given in panes).
+         */
+        private long firstEmissionNotBefore(final double position) {
+            final double incrementsToGo = Math.ceil((position - this.panesPerWindow) / this.panesPerIncrement - EPSILON);
+            return this.panesPerWindow + Math.max(0L, (long) incrementsToGo) * this.panesPerIncrement;
+        }
+
+        private void onPaneClosed(final P pane, final long numberOfClosedPanes) {
+            if (numberOfClosedPanes > this.finalEmission) {
+                return;
+            }
+            this.panes.push(pane);
+            while (this.panes.size() > this.panesPerWindow) {
+                this.panes.evict();
+            }
+            final long panesBeyondFirstWindow = numberOfClosedPanes - this.panesPerWindow;
+            if (panesBeyondFirstWindow >= 0 && panesBeyondFirstWindow % this.panesPerIncrement == 0) {
+                final double windowLeftBound = PaneBasedSlidingWindows.this.initialLowerBound
+                        + panesBeyondFirstWindow * PaneBasedSlidingWindows.this.paneLength;
+                final MeasuringValue result = PaneBasedSlidingWindows.this.aggregation.createResult(
+                        this.panes.query(), Measure.valueOf(windowLeftBound, SI.SECOND), this.windowLengthMeasure);
+                if (result != null) {
+                    this.recorder.writeData(result);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+/**
+ * A FIFO queue of (closed) partial aggregates that is able to provide the combination of all
+ * contained partial aggregates, i.e., the aggregate of a window. Each window maintained by
+ * {@link PaneBasedSlidingWindows} has its own queue, which contains references to the shared panes.
+ *
+ * @param <P>
+ *            The type of the partial aggregates.
+ */
+abstract class PartialAggregateQueue<P> {
+
+    protected final IPaneAggregation<P> aggregation;
+
+    PartialAggregateQueue(final IPaneAggregation<P> aggregation) {
+        this.aggregation = aggregation;
+    }
+
+    /**
+     * Creates a queue that suits the given aggregation.
+     *
+     * @param aggregation
+     *            The {@link IPaneAggregation} whose partial aggregates shall be queued.
+     * @return An {@link InvertiblePartialAggregateQueue} if the aggregation is invertible,
+     *         otherwise a {@link TwoStacksPartialAggregateQueue}.
+     */
+    static <P> PartialAggregateQueue<P> forAggregation(final IPaneAggregation<P> aggregation) {
+        if (aggregation.isInvertible()) {
+            return new InvertiblePartialAggregateQueue<>(aggregation);
+        }
+        return new TwoStacksPartialAggregateQueue<>(aggregation);
+    }
+
+    /**
+     * Appends the given partial aggregate, i.e., the newest pane.
+     *
+     * @param partialAggregate
+     *            The partial aggregate to append.
+     */
+    abstract void push(P partialAggregate);
+
+    /**
+     * Removes the oldest partial aggregate. Must not be called if the queue is empty.
+     */
+    abstract void evict();
+
+    /**
+     * Gets the combination of all contained partial aggregates, in FIFO order.
+     *
+     * @return The combined partial aggregate.
+     */
+    abstract P query();
+
+    /**
+     * Gets the number of contained partial aggregates.
+     *
+     * @return A nonnegative value denoting the number of partial aggregates.
+     */
+    abstract int size();
+}
@@ -0,0 +1,169 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.windowaggregators.QuantileSketch;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowPercentileAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * This class is an {@link IPaneAggregation} implementation which calculates a percentile of the
+ * values of a nonnegative numerical metric, e.g., the 99th percentile of response times. It is the
+ * pane-based counterpart of the {@link SlidingWindowPercentileAggregator}.<br>
+ * The partial aggregate of a pane is a {@link QuantileSketch}, which is mergeable and invertible.
+ * Hence, the memory required per window is proportional to its number of panes, regardless of the
+ * number of measurements. As sketches are rather large, the sketch of a window is only copied
+ * once and updated in place afterwards. The result of a window is passed on as a tuple of the window data metric,
+ * where the point in time is the upper bound of the window. No result is passed on for windows
+ * that do not contain any measurement.
+ *
+ * @see PaneBasedSlidingWindows
+ */
+public final class QuantileSketchPaneAggregation implements IPaneAggregation<QuantileSketch> {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final double quantile;
+    private final QuantileSketch identity;
+
+    /**
+     * Initializes a new instance of the {@link QuantileSketchPaneAggregation} class which processes
+     * {@code RESPONSE_TIME_METRIC_TUPLE} measurements.
+     *
+     * @param percentile
+     *            The percentile to calculate, must be within {@code [0, 100]}.
+     * @param relativeAccuracy
+     *            The relative accuracy of the calculated percentiles, must be within
+     *            {@code (0, 1)}.
+     * @throws IllegalArgumentException
+     *             If the given percentile or relative accuracy is invalid.
+     */
+    public QuantileSketchPaneAggregation(final double percentile, final double relativeAccuracy) {
+        this(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, percentile,
+                new QuantileSketch(relativeAccuracy));
+    }
+
+    /**
+     * Initializes a new instance of the {@link QuantileSketchPaneAggregation} class with the given
+     * parameters.
+     *
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values, given in their default
+     *            unit.
+     * @param percentile
+     *            The percentile to calculate, must be within {@code [0, 100]}.
+     * @param emptySketch
+     *            An empty {@link QuantileSketch} that determines accuracy and trackable range of the
+     *            sketches of all panes.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given percentile is invalid, the given sketch is not empty, or the value
+     *             metric is not subsumed by the window data metric.
+     */
+    public QuantileSketchPaneAggregation(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final double percentile,
+            final QuantileSketch emptySketch) {
+        this.windowDataMetric = Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        this.valueMetric = Objects.requireNonNull(valueMetric, "Given value metric must not be null.");
+        if (!MetricDescriptionUtility.isBaseMetricDescriptionSubsumedByMetricDescription(valueMetric,
+                windowDataMetric)) {
+            throw new IllegalArgumentException("Given value metric is not subsumed by the given window data metric.");
+        }
+        if (!(percentile >= 0d && percentile <= 100d)) {
+            throw new IllegalArgumentException("Given percentile must be within [0, 100].");
+        }
+        if (!emptySketch.isEmpty()) {
+            throw new IllegalArgumentException("Given sketch must be empty.");
+        }
+        this.quantile = percentile / 100d;
+        this.identity = emptySketch;
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+
+    @Override
+    public QuantileSketch openPane(final QuantileSketch predecessor, final double paneLowerBound) {
+        return this.identity.emptyCopy();
+    }
+
+    @Override
+    public void accumulate(final QuantileSketch pane, final double pointInTime, final MeasuringValue measurement) {
+        pane.add(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @Override
+    public void closePane(final QuantileSketch pane, final double paneUpperBound) {
+        // nothing to do here
+    }
+
+    @Override
+    public QuantileSketch identity() {
+        return this.identity;
+    }
+
+    @Override
+    public QuantileSketch combine(final QuantileSketch older, final QuantileSketch newer) {
+        final QuantileSketch result = older.copy();
+        result.merge(newer);
+        return result;
+    }
+
+    @Override
+    public QuantileSketch combineInto(final QuantileSketch accumulator, final QuantileSketch newer) {
+        accumulator.merge(newer);
+        return accumulator;
+    }
+
+    @Override
+    public boolean isInvertible() {
+        return true;
+    }
+
+    @Override
+    public QuantileSketch inverseCombine(final QuantileSketch aggregate, final QuantileSketch removed) {
+        final QuantileSketch result = aggregate.copy();
+        result.subtract(removed);
+        return result;
+    }
+
+    @Override
+    public QuantileSketch inverseCombineInto(final QuantileSketch accumulator, final QuantileSketch removed) {
+        accumulator.subtract(removed);
+        return accumulator;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MeasuringValue createResult(final QuantileSketch windowAggregate,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+        if (windowAggregate.isEmpty()) {
+            return null;
+        }
+        final Measure<Double, Duration> pointInTime = Measure.valueOf(
+                windowLeftBound.doubleValue(SI.SECOND) + windowLength.doubleValue(SI.SECOND), SI.SECOND);
+        final Measure<Double, Quantity> percentileMeasure = Measure.valueOf(
+                windowAggregate.getQuantile(this.quantile), (Unit<Quantity>) this.valueMetric.getDefaultUnit());
+        return new TupleMeasurement(this.windowDataMetric, pointInTime, percentileMeasure);
+    }
+}
@@ -0,0 +1,66 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+/**
+ * A simple partial aggregate consisting of a single value and the number of measurements it is
+ * based on. It can be used by {@link IPaneAggregation}s whose partial aggregates are scalars, such
+ * as sums or extrema.
+ *
+ * @see ExtremumPaneAggregation
+ */
+public final class ScalarPane {
+
+    private double value;
+    private long numberOfMeasurements;
+
+    /**
+     * Initializes a new instance of the {@link ScalarPane} class with the given parameters.
+     *
+     * @param value
+     *            The initial value.
+     * @param numberOfMeasurements
+     *            The number of measurements the value is based on.
+     */
+    public ScalarPane(final double value, final long numberOfMeasurements) {
+        this.value = value;
+        this.numberOfMeasurements = numberOfMeasurements;
+    }
+
+    /**
+     * Gets the value of this partial aggregate.
+     *
+     * @return The value, which is meaningless if {@link #isEmpty()} returns {@code true}.
+     */
+    public double getValue() {
+        return this.value;
+    }
+
+    /**
+     * Gets the number of measurements the value of this partial aggregate is based on.
+     *
+     * @return A nonnegative value denoting the number of measurements.
+     */
+    public long getNumberOfMeasurements() {
+        return this.numberOfMeasurements;
+    }
+
+    /**
+     * Indicates whether this partial aggregate is based on any measurement.
+     *
+     * @return {@code true} if no measurement has been incorporated, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return this.numberOfMeasurements == 0;
+    }
+
+    /**
+     * Sets the value and increments the number of measurements. Must only be called while the pane
+     * is open.
+     *
+     * @param value
+     *            The new value.
+     */
+    void update(final double value) {
+        this.value = value;
+        ++this.numberOfMeasurements;
+    }
+}
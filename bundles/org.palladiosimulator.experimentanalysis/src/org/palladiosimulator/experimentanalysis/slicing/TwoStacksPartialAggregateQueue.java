@@ -0,0 +1,72 @@
+package org.palladiosimulator.experimentanalysis.slicing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * {@link PartialAggregateQueue} for aggregations that are not invertible (e.g., maximum or
+ * minimum). It employs the two-stacks algorithm: newly pushed partial aggregates are put onto the
+ * back stack, which additionally maintains the combination of all its elements. Evictions are
+ * served from the front stack, whose elements are the combinations of the respective element and
+ * all younger elements of the front stack. Once the front stack is empty, all elements of the back
+ * stack are moved over.<br>
+ * Thus, each operation requires an amortized constant number of
+ * {@link IPaneAggregation#combine(Object, Object)} invocations.
+ *
+ * @param <P>
+ *            The type of the partial aggregates.
+ */
+final class TwoStacksPartialAggregateQueue<P> extends PartialAggregateQueue<P> {
+
+    // both stacks: first element is the oldest one
+    private final Deque<P> frontAggregates = new ArrayDeque<>();
+    private final Deque<P> backElements = new ArrayDeque<>();
+    private P backAggregate;
+
+    TwoStacksPartialAggregateQueue(final IPaneAggregation<P> aggregation) {
+        super(aggregation);
+        this.backAggregate = aggregation.identity();
+    }
+
+    @Override
+    void push(final P partialAggregate) {
+        this.backElements.addLast(partialAggregate);
+        this.backAggregate = this.aggregation.combine(this.backAggregate, partialAggregate);
+    }
+
+    @Override
+    void evict() {
+        if (this.frontAggregates.isEmpty()) {
+            flip();
+        }
+        this.frontAggregates.removeFirst();
+    }
+
+    private void flip() {
+        assert !this.backElements.isEmpty();
+
+        P suffixAggregate = null;
+        final Iterator<P> youngestFirst = this.backElements.descendingIterator();
+        while (youngestFirst.hasNext()) {
+            final P element = youngestFirst.next();
+            suffixAggregate = suffixAggregate == null ? element : this.aggregation.combine(element, suffixAggregate);
+            this.frontAggregates.addFirst(suffixAggregate);
+        }
+        this.backElements.clear();
+        this.backAggregate = this.aggregation.identity();
+    }
+
+    @Override
+    P query() {
+        if (this.frontAggregates.isEmpty()) {
+            return this.backAggregate;
+        }
+        return this.aggregation.combine(this.frontAggregates.peekFirst(), this.backAggregate);
+    }
+
+    @Override
+    int size() {
+        return this.frontAggregates.size() + this.backElements.size();
+    }
+}
@@ -0,0 +1,121 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+/**
+ * Approximately counts the events that occurred since a (monotonically increasing) point in time by
+ * means of an exponential histogram as proposed by Datar, Gionis, Indyk and Motwani (DGIM).<br>
+ * Events are kept in buckets whose sizes are powers of two, where at most {@code k + 1} buckets of
+ * each size exist and the oldest buckets are the largest ones. Each bucket only stores the point
+ * in time of its most recent event. Hence, counting {@code n} events requires
+ * {@code O(k log n)} memory, while the relative error of the count is at most {@code 1 / k}.
+ */
+final class ExponentialHistogramCounter {
+
+    private static final int MAX_LEVELS = Long.SIZE - 1;
+
+    private final int maxBucketsPerLevel;
+    // per level: ring buffer of the points in time of the buckets, oldest first
+    private final double[][] bucketPointsInTime = new double[MAX_LEVELS][];
+    private final int[] firstBucket = new int[MAX_LEVELS];
+    private final int[] numberOfBuckets = new int[MAX_LEVELS];
+    private int highestLevel = -1;
+
+    /**
+     * Creates a counter whose count is within the given relative error.
+     *
+     * @param relativeError
+     *            The maximum relative error, must be within {@code (0, 1)}.
+     */
+    ExponentialHistogramCounter(final double relativeError) {
+        assert relativeError > 0d && relativeError < 1d;
+        this.maxBucketsPerLevel = (int) Math.ceil(1d / relativeError) + 1;
+    }
+
+    /**
+     * Counts an event that occurred at the given point in time, which must not be prior to any
+     * previously counted event.
+     */
+    void add(final double pointInTime) {
+        pushNewest(0, pointInTime);
+        int level = 0;
+        while (this.numberOfBuckets[level] > this.maxBucketsPerLevel && level + 1 < MAX_LEVELS) {
+            // merge the two oldest buckets of this level, the merged one is newest of next level
+            pollOldest(level);
+            pushNewest(level + 1, pollOldest(level));
+            ++level;
+        }
+    }
+
+    /**
+     * Discards all buckets whose events all occurred prior to the given point in time.
+     */
+    void expire(final double pointInTime) {
+        while (this.highestLevel >= 0) {
+            final int level = this.highestLevel;
+            if (peekOldest(level) >= pointInTime) {
+                return;
+            }
+            pollOldest(level);
+        }
+    }
+
+    /**
+     * Gets the estimated number of events, where half of the oldest bucket is assumed to be
+     * expired.
+     */
+    long getEstimatedCount() {
+        if (this.highestLevel < 0) {
+            return 0;
+        }
+        long count = 0;
+        for (int level = 0; level <= this.highestLevel; ++level) {
+            count += ((long) this.numberOfBuckets[level]) << level;
+        }
+        final long oldestBucketSize = 1L << this.highestLevel;
+        return count - oldestBucketSize / 2;
+    }
+
+    /**
+     * Gets the number of buckets, which is proportional to the memory in use.
+     */
+    int getNumberOfBuckets() {
+        int result = 0;
+        for (int level = 0; level <= this.highestLevel; ++level) {
+            result += this.numberOfBuckets[level];
+        }
+        return result;
+    }
+
+    void clear() {
+        for (int level = 0; level <= this.highestLevel; ++level) {
+            this.numberOfBuckets[level] = 0;
+            this.firstBucket[level] = 0;
+        }
+        this.highestLevel = -1;
+    }
+
+    private void pushNewest(final int level, final double pointInTime) {
+        if (this.bucketPointsInTime[level] == null) {
+            // one additional slot to allow for temporary overflow before merging
+            this.bucketPointsInTime[level] = new double[this.maxBucketsPerLevel + 1];
+        }
+        final double[] buckets = this.bucketPointsInTime[level];
+        buckets[(this.firstBucket[level] + this.numberOfBuckets[level]) % buckets.length] = pointInTime;
+        ++this.numberOfBuckets[level];
+        this.highestLevel = Math.max(this.highestLevel, level);
+    }
+
+    private double peekOldest(final int level) {
+        return this.bucketPointsInTime[level][this.firstBucket[level]];
+    }
+
+    private double pollOldest(final int level) {
+        final double[] buckets = this.bucketPointsInTime[level];
+        final double result = buckets[this.firstBucket[level]];
+        this.firstBucket[level] = (this.firstBucket[level] + 1) % buckets.length;
+        --this.numberOfBuckets[level];
+        while (this.highestLevel >= 0 && this.numberOfBuckets[this.highestLevel] == 0) {
+            --this.highestLevel;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which counts the
+ * measurements collected by a {@link SlidingWindow}.<br>
+ * The count is passed to the attached {@link IRecorder} in the form of a
+ * {@code (point in time, count)} tuple of the given result metric, where the point in time is the
+ * upper bound of the window and the count is dimensionless.
+ */
+public class IncrementalCountAggregator extends IncrementalSlidingWindowAggregator {
+
+    private final MetricDescription windowDataMetric;
+    private final MetricSetDescription resultMetric;
+    private long count = 0;
+
+    /**
+     * Initializes a new instance of the {@link IncrementalCountAggregator} class with the given
+     * parameters.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricDescription} of the measurements to be counted.
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, count)} tuples
+     *            passed on to the recorder.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the counts into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     */
+    public IncrementalCountAggregator(final MetricDescription windowDataMetric,
+            final MetricSetDescription resultMetric, final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.windowDataMetric = Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        this.resultMetric = Objects.requireNonNull(resultMetric, "Given result metric must not be null.");
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        ++this.count;
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        --this.count;
+    }
+
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        return createResultMeasurement(this.resultMetric, windowLeftBound, windowLength,
+                Measure.valueOf((double) this.count, Unit.ONE));
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
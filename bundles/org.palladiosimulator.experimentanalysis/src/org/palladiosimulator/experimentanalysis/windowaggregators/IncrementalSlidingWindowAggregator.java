@@ -0,0 +1,136 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+
+import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowContentListener;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is the base class of all {@link SlidingWindowAggregator}s that maintain their result
+ * incrementally rather than recomputing it from the full window data each time the window is
+ * full.<br>
+ * Once attached to a {@link SlidingWindow}, instances are notified of each measurement that enters
+ * the window ({@link #onInsert(MeasuringValue)}) and of each measurement that is removed from it by
+ * the window's move on strategy ({@link #onEvict(MeasuringValue)}). When the window is full, the
+ * result is obtained by {@link #result(Measure, Measure)}, so that the cost per window is
+ * proportional to the change of the window, not its size.<br>
+ * Note that the window data passed to {@link #onSlidingWindowFull(Iterable, Measure, Measure)} is
+ * ignored. Hence, instances must be attached to the window they aggregate.
+ * 
+ * @see ISlidingWindowContentListener
+ */
+public abstract class IncrementalSlidingWindowAggregator extends SlidingWindowAggregator
+        implements ISlidingWindowContentListener {
+
+    /**
+     * Initializes a new instance of the {@link IncrementalSlidingWindowAggregator} class with the
+     * given parameter.
+     * 
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the aggregated window data into.
+     * @throws NullPointerException
+     *             If the given {@link IRecorder} is {@code null}.
+     */
+    public IncrementalSlidingWindowAggregator(final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+    }
+
+    /**
+     * Initializes a new instance of the {@link IncrementalSlidingWindowAggregator} class with the
+     * given parameter.
+     * 
+     * @param recordersToWriteInto
+     *            A @{@link Collection} of {@link IRecorder}s this instance writes the aggregated
+     *            window data into.
+     * @throws NullPointerException
+     *             If the given collection of {@link IRecorder}s is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given collection of recorders is empty.
+     */
+    public IncrementalSlidingWindowAggregator(final Collection<IRecorder> recordersToWriteInto) {
+        super(recordersToWriteInto);
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * This implementation ignores the given window data and delegates to
+     * {@link #result(Measure, Measure)}.
+     */
+    @Override
+    protected final MeasuringValue processWindowData(final Iterable<MeasuringValue> windowData,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+        return result(windowLeftBound, windowLength);
+    }
+
+    /**
+     * By implementing this method, subclasses (i.e., concrete aggregators) provide the result for
+     * the measurements they have been notified of (inserted, but not yet evicted).
+     * 
+     * @param windowLeftBound
+     *            A {@link Measure} denoting the current left bound of the sliding window.
+     * @param windowLength
+     *            A {@link Measure} denoting the length of the sliding window.
+     * @return A {@link MeasuringValue} that is to be passed on to the attached recorder, or
+     *         {@code null} if there is nothing to pass on.
+     */
+    protected abstract MeasuringValue result(Measure<Double, Duration> windowLeftBound,
+            Measure<Double, Duration> windowLength);
+
+    /**
+     * Creates a {@code (point in time, value)} tuple measurement whose point in time is the upper
+     * bound of the given window.
+     * 
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the measurement.
+     * @param windowLeftBound
+     *            A {@link Measure} denoting the left bound of the window.
+     * @param windowLength
+     *            A {@link Measure} denoting the length of the window.
+     * @param value
+     *            A {@link Measure} denoting the value of the measurement.
+     * @return The {@link MeasuringValue} created.
+     */
+    protected static MeasuringValue createResultMeasurement(final MetricSetDescription resultMetric,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength,
+            final Measure<Double, ? extends Quantity> value) {
+        final Measure<Double, Duration> pointInTime = Measure.valueOf(
+                windowLeftBound.doubleValue(SI.SECOND) + windowLength.doubleValue(SI.SECOND), SI.SECOND);
+        return new TupleMeasurement(resultMetric, pointInTime, value);
+    }
+
+    /**
+     * Ensures that the given value metric is part of the given window data metric.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the window data.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to aggregate.
+     * @return The given value metric.
+     * @throws NullPointerException
+     *             If either argument is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric.
+     */
+    protected static NumericalBaseMetricDescription checkValueMetric(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric) {
+        Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        Objects.requireNonNull(valueMetric, "Given value metric must not be null.");
+        if (!MetricDescriptionUtility.isBaseMetricDescriptionSubsumedByMetricDescription(valueMetric,
+                windowDataMetric)) {
+            throw new IllegalArgumentException("Given value metric is not subsumed by the given window data metric.");
+        }
+        return valueMetric;
+    }
+}
@@ -0,0 +1,75 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which sums up the
+ * values of a numerical metric (e.g., the response time) captured by the
+ * {@code (point in time, value)} tuples collected by a {@link SlidingWindow}.<br>
+ * The sum is passed to the attached {@link IRecorder} in the form of a tuple of the window data
+ * metric, where the point in time is the upper bound of the window.
+ */
+public class IncrementalSumAggregator extends IncrementalSlidingWindowAggregator {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final RunningMoments moments = new RunningMoments();
+
+    /**
+     * Initializes a new instance of the {@link IncrementalSumAggregator} class with the given
+     * parameters.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed, e.g., {@code RESPONSE_TIME_METRIC_TUPLE}.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to sum up, e.g.,
+     *            {@code RESPONSE_TIME_METRIC}.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the sums into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric.
+     */
+    public IncrementalSumAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.valueMetric = checkValueMetric(windowDataMetric, valueMetric);
+        this.windowDataMetric = windowDataMetric;
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        this.moments.add(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        this.moments.remove(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        return createResultMeasurement(this.windowDataMetric, windowLeftBound, windowLength,
+                Measure.valueOf(this.moments.getSum(), (Unit<Quantity>) this.valueMetric.getDefaultUnit()));
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
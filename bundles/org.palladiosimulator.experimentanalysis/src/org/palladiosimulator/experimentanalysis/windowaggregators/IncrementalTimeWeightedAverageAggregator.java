@@ -0,0 +1,122 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowContentListener;
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.PrimitiveTimeSeriesBuffer;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which calculates the
+ * time-weighted average of a piecewise constant signal (e.g., a queue length) given by the
+ * {@code (point in time, value)} tuples collected by a {@link SlidingWindow}: each value is
+ * weighted with the duration until the subsequent measurement (or the upper bound of the window,
+ * respectively).<br>
+ * The average is taken over the part of the window covered by measurements, i.e., a measurement
+ * prior to the window's lower bound (as kept by the {@link KeepLastElementPriorToLowerBoundStrategy})
+ * is considered from the lower bound on. It is passed to the attached {@link IRecorder} in the form
+ * of a tuple of the window data metric, where the point in time is the upper bound of the window.
+ * Nothing is passed on for empty windows.<br>
+ * The points in time and values are kept in a primitive ring buffer, and the integral over all but
+ * the last segment is maintained as measurements enter and leave the window. This relies on
+ * measurements leaving the window in the order they entered it, as guaranteed to
+ * {@link ISlidingWindowContentListener}s.
+ */
+public class IncrementalTimeWeightedAverageAggregator extends IncrementalSlidingWindowAggregator {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final PrimitiveTimeSeriesBuffer buffer = new PrimitiveTimeSeriesBuffer();
+    // integral of the signal from the first to the last buffered point in time
+    private double innerIntegral = 0d;
+
+    /**
+     * Initializes a new instance of the {@link IncrementalTimeWeightedAverageAggregator} class with
+     * the given parameters.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to aggregate.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the averages into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric.
+     */
+    public IncrementalTimeWeightedAverageAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.valueMetric = checkValueMetric(windowDataMetric, valueMetric);
+        this.windowDataMetric = windowDataMetric;
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        final double pointInTime = MeasuringValueUtility.getPointInTimeInSeconds(measurement);
+        final double value = MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric);
+        if (!this.buffer.isEmpty()) {
+            final int last = this.buffer.size() - 1;
+            this.innerIntegral += (pointInTime - this.buffer.pointInTimeAt(last)) * this.buffer.valueAt(last);
+        }
+        this.buffer.addLast(pointInTime, value);
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        if (this.buffer.size() > 1) {
+            this.innerIntegral -= (this.buffer.pointInTimeAt(1) - this.buffer.pointInTimeAt(0))
+                    * this.buffer.valueAt(0);
+        }
+        this.buffer.removeFirst();
+        if (this.buffer.size() < 2) {
+            // avoid accumulation of rounding errors
+            this.innerIntegral = 0d;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        if (this.buffer.isEmpty()) {
+            return null;
+        }
+        final double lowerBound = windowLeftBound.doubleValue(SI.SECOND);
+        final double upperBound = lowerBound + windowLength.doubleValue(SI.SECOND);
+        final int size = this.buffer.size();
+
+        double integral = this.innerIntegral
+                + (upperBound - this.buffer.pointInTimeAt(size - 1)) * this.buffer.valueAt(size - 1);
+        // only consider the parts inside the window
+        for (int i = 0; i < size && this.buffer.pointInTimeAt(i) < lowerBound; ++i) {
+            final double segmentEnd = i + 1 < size ? Math.min(this.buffer.pointInTimeAt(i + 1), lowerBound)
+                    : lowerBound;
+            integral -= (segmentEnd - this.buffer.pointInTimeAt(i)) * this.buffer.valueAt(i);
+        }
+        final double coveredDuration = upperBound - Math.max(lowerBound, this.buffer.pointInTimeAt(0));
+        if (!(coveredDuration > 0d)) {
+            return null;
+        }
+        return createResultMeasurement(this.windowDataMetric, windowLeftBound, windowLength,
+                Measure.valueOf(integral / coveredDuration, (Unit<Quantity>) this.valueMetric.getDefaultUnit()));
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
@@ -0,0 +1,92 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which calculates the
+ * (unbiased) sample variance of the values of a numerical metric (e.g., the response time)
+ * captured by the {@code (point in time, value)} tuples collected by a {@link SlidingWindow}.
+ * Welford's algorithm is used to maintain the variance as measurements enter and leave the
+ * window.<br>
+ * The variance is passed to the attached {@link IRecorder} in the form of a
+ * {@code (point in time, variance)} tuple of the given result metric, where the point in time is
+ * the upper bound of the window and the variance is given in the square of the default unit of the
+ * value metric. Nothing is passed on for windows that contain less than two measurements.
+ */
+public class IncrementalVarianceAggregator extends IncrementalSlidingWindowAggregator {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final MetricSetDescription resultMetric;
+    private final Unit<Quantity> resultUnit;
+    private final RunningMoments moments = new RunningMoments();
+
+    /**
+     * Initializes a new instance of the {@link IncrementalVarianceAggregator} class with the given
+     * parameters.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed, e.g., {@code RESPONSE_TIME_METRIC_TUPLE}.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to aggregate, e.g.,
+     *            {@code RESPONSE_TIME_METRIC}.
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, variance)} tuples
+     *            passed on to the recorder.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the variances into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric.
+     */
+    @SuppressWarnings("unchecked")
+    public IncrementalVarianceAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final MetricSetDescription resultMetric,
+            final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.valueMetric = checkValueMetric(windowDataMetric, valueMetric);
+        this.windowDataMetric = windowDataMetric;
+        this.resultMetric = Objects.requireNonNull(resultMetric, "Given result metric must not be null.");
+        this.resultUnit = (Unit<Quantity>) this.valueMetric.getDefaultUnit().pow(2);
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        this.moments.add(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        this.moments.remove(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        if (this.moments.getCount() < 2) {
+            return null;
+        }
+        return createResultMeasurement(this.resultMetric, windowLeftBound, windowLength,
+                Measure.valueOf(this.moments.getSampleVariance(), this.resultUnit));
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
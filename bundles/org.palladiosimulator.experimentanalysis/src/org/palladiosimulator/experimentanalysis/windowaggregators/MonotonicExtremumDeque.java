@@ -0,0 +1,65 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import org.palladiosimulator.experimentanalysis.PrimitiveTimeSeriesBuffer;
+
+/**
+ * Maintains the maximum (or minimum) of a FIFO sequence of values in amortized constant time per
+ * value by means of a monotonic deque: a value is only kept as long as no greater (or less,
+ * respectively) value has been added after it. Values are identified by consecutive sequence
+ * numbers, which are assigned in the order the values are added. The kept values are stored in a
+ * {@link PrimitiveTimeSeriesBuffer}, using their sequence numbers as points in time.
+ */
+final class MonotonicExtremumDeque {
+
+    private final boolean maximum;
+    private final PrimitiveTimeSeriesBuffer buffer = new PrimitiveTimeSeriesBuffer();
+    // doubles represent sequence numbers exactly up to 2^53
+    private double nextSequenceNumber = 0;
+    private double oldestSequenceNumber = 0;
+
+    /**
+     * Creates a deque that maintains the maximum, if {@code maximum} is {@code true}, or the
+     * minimum otherwise.
+     */
+    MonotonicExtremumDeque(final boolean maximum) {
+        this.maximum = maximum;
+    }
+
+    /**
+     * Appends the given value to the sequence.
+     */
+    void addLast(final double value) {
+        while (!this.buffer.isEmpty() && dominates(value, this.buffer.valueAt(this.buffer.size() - 1))) {
+            this.buffer.removeLast();
+        }
+        this.buffer.addLast(this.nextSequenceNumber++, value);
+    }
+
+    /**
+     * Removes the oldest value of the sequence.
+     */
+    void removeFirst() {
+        assert this.oldestSequenceNumber < this.nextSequenceNumber;
+
+        if (!this.buffer.isEmpty() && this.buffer.pointInTimeAt(0) == this.oldestSequenceNumber) {
+            this.buffer.removeFirst();
+        }
+        ++this.oldestSequenceNumber;
+    }
+
+    /**
+     * Gets the extremum of the sequence, {@link Double#NaN} if it is empty.
+     */
+    double getExtremum() {
+        return this.buffer.isEmpty() ? Double.NaN : this.buffer.valueAt(0);
+    }
+
+    void clear() {
+        this.buffer.clear();
+        this.oldestSequenceNumber = this.nextSequenceNumber;
+    }
+
+    private boolean dominates(final double newValue, final double oldValue) {
+        return this.maximum ? newValue >= oldValue : newValue <= oldValue;
+    }
+}
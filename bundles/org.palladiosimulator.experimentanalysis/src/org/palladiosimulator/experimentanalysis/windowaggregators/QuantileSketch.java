@@ -0,0 +1,291 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a mergeable quantile sketch with bounded relative error, i.e., a histogram
+ * with logarithmically sized buckets.<br>
+ * Each nonnegative value {@code v} within the trackable range is counted in the bucket
+ * {@code ceil(log_gamma(v))}, where {@code gamma = (1 + alpha) / (1 - alpha)} is derived from the
+ * relative accuracy {@code alpha}. Thus, every quantile returned by {@link #getQuantile(double)} is
+ * within a relative distance of {@code alpha} of the value of the respective rank. Values less
+ * than the minimum trackable value are counted as zero, values greater than the maximum trackable
+ * value are counted in the topmost bucket.<br>
+ * As the number of buckets only depends on the relative accuracy and the trackable range, each
+ * sketch requires constant memory, regardless of the number of values it counts. Moreover, values
+ * can be removed again, and sketches with equal parameters can be added to and subtracted from each
+ * other, which makes sketches suitable as partial aggregates of sliding windows.
+ *
+ * @see SlidingWindowPercentileAggregator
+ */
+public final class QuantileSketch {
+
+    /**
+     * The default relative accuracy ({@code 1%}) of sketches.
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    /**
+     * The default minimum trackable value ({@code 1 ns}, given in seconds).
+     */
+    public static final double DEFAULT_MIN_TRACKABLE_VALUE = 1e-9;
+    /**
+     * The default maximum trackable value ({@code 1 year}, given in seconds).
+     */
+    public static final double DEFAULT_MAX_TRACKABLE_VALUE = 365d * 24d * 3600d;
+
+    private final double relativeAccuracy;
+    private final double minTrackableValue;
+    private final double maxTrackableValue;
+    private final double logGamma;
+    private final int minIndex;
+    private final long[] counts;
+    private long zeroCount = 0;
+    private long totalCount = 0;
+
+    /**
+     * Initializes a new instance of the {@link QuantileSketch} class with default parameters.
+     *
+     * @see #DEFAULT_RELATIVE_ACCURACY
+     * @see #DEFAULT_MIN_TRACKABLE_VALUE
+     * @see #DEFAULT_MAX_TRACKABLE_VALUE
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Initializes a new instance of the {@link QuantileSketch} class with the given relative
+     * accuracy and the default trackable range.
+     *
+     * @param relativeAccuracy
+     *            The relative accuracy of the sketch, must be within {@code (0, 1)}.
+     * @throws IllegalArgumentException
+     *             If the given relative accuracy is invalid.
+     */
+    public QuantileSketch(final double relativeAccuracy) {
+        this(relativeAccuracy, DEFAULT_MIN_TRACKABLE_VALUE, DEFAULT_MAX_TRACKABLE_VALUE);
+    }
+
+    /**
+     * Initializes a new instance of the {@link QuantileSketch} class with the given parameters.
+     *
+     * @param relativeAccuracy
+     *            The relative accuracy of the sketch, must be within {@code (0, 1)}.
+     * @param minTrackableValue
+     *            The least positive value that is distinguished from zero.
+     * @param maxTrackableValue
+     *            The greatest value that is tracked with the given relative accuracy.
+     * @throws IllegalArgumentException
+     *             In one of the following cases:
+     *             <ul>
+     *             <li>given relative accuracy is not within {@code (0, 1)}</li>
+     *             <li>given trackable range is empty or not positive</li>
+     *             </ul>
+     */
+    public QuantileSketch(final double relativeAccuracy, final double minTrackableValue,
+            final double maxTrackableValue) {
+        if (!(relativeAccuracy > 0d && relativeAccuracy < 1d)) {
+            throw new IllegalArgumentException("Given relative accuracy must be within (0, 1).");
+        }
+        if (!(minTrackableValue > 0d && maxTrackableValue > minTrackableValue)
+                || Double.isInfinite(maxTrackableValue)) {
+            throw new IllegalArgumentException("Given trackable range is invalid.");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.minTrackableValue = minTrackableValue;
+        this.maxTrackableValue = maxTrackableValue;
+        this.logGamma = Math.log((1d + relativeAccuracy) / (1d - relativeAccuracy));
+        this.minIndex = index(minTrackableValue);
+        this.counts = new long[index(maxTrackableValue) - this.minIndex + 1];
+    }
+
+    private QuantileSketch(final QuantileSketch other) {
+        this.relativeAccuracy = other.relativeAccuracy;
+        this.minTrackableValue = other.minTrackableValue;
+        this.maxTrackableValue = other.maxTrackableValue;
+        this.logGamma = other.logGamma;
+        this.minIndex = other.minIndex;
+        this.counts = other.counts.clone();
+        this.zeroCount = other.zeroCount;
+        this.totalCount = other.totalCount;
+    }
+
+    /**
+     * Creates a copy of this sketch.
+     *
+     * @return A new {@link QuantileSketch} with equal parameters and counts.
+     */
+    public QuantileSketch copy() {
+        return new QuantileSketch(this);
+    }
+
+    /**
+     * Creates an empty sketch with the same parameters as this one.
+     *
+     * @return A new, empty {@link QuantileSketch} that can be merged with this one.
+     */
+    public QuantileSketch emptyCopy() {
+        return new QuantileSketch(this.relativeAccuracy, this.minTrackableValue, this.maxTrackableValue);
+    }
+
+    private int index(final double value) {
+        return (int) Math.ceil(Math.log(value) / this.logGamma);
+    }
+
+    private int bucketOf(final double value) {
+        return index(Math.min(value, this.maxTrackableValue)) - this.minIndex;
+    }
+
+    /**
+     * Counts the given value.
+     *
+     * @param value
+     *            A nonnegative value.
+     * @throws IllegalArgumentException
+     *             If the given value is negative or {@code NaN}.
+     */
+    public void add(final double value) {
+        changeCount(value, 1);
+    }
+
+    /**
+     * Removes the given value, which must have been counted beforehand.
+     *
+     * @param value
+     *            A nonnegative value.
+     * @throws IllegalArgumentException
+     *             If the given value is negative or {@code NaN}.
+     */
+    public void remove(final double value) {
+        changeCount(value, -1);
+    }
+
+    private void changeCount(final double value, final long delta) {
+        if (!(value >= 0d)) {
+            throw new IllegalArgumentException("Only nonnegative values can be counted.");
+        }
+        if (value < this.minTrackableValue) {
+            this.zeroCount += delta;
+        } else {
+            this.counts[bucketOf(value)] += delta;
+        }
+        this.totalCount += delta;
+    }
+
+    /**
+     * Adds all values counted by the given sketch to this one.
+     *
+     * @param other
+     *            A {@link QuantileSketch} with the same parameters as this one.
+     * @throws IllegalArgumentException
+     *             If the parameters of the given sketch differ.
+     */
+    public void merge(final QuantileSketch other) {
+        mergeScaled(other, 1);
+    }
+
+    /**
+     * Removes all values counted by the given sketch from this one.
+     *
+     * @param other
+     *            A {@link QuantileSketch} with the same parameters as this one, whose values have all
+     *            been counted by this sketch.
+     * @throws IllegalArgumentException
+     *             If the parameters of the given sketch differ.
+     */
+    public void subtract(final QuantileSketch other) {
+        mergeScaled(other, -1);
+    }
+
+    private void mergeScaled(final QuantileSketch other, final long factor) {
+        if (this.logGamma != other.logGamma || this.minIndex != other.minIndex
+                || this.counts.length != other.counts.length) {
+            throw new IllegalArgumentException("Only sketches with equal parameters can be merged.");
+        }
+        for (int i = 0; i < this.counts.length; ++i) {
+            this.counts[i] += factor * other.counts[i];
+        }
+        this.zeroCount += factor * other.zeroCount;
+        this.totalCount += factor * other.totalCount;
+    }
+
+    /**
+     * Discards all counted values.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0L);
+        this.zeroCount = 0;
+        this.totalCount = 0;
+    }
+
+    /**
+     * Gets the number of counted values.
+     *
+     * @return A nonnegative value denoting the number of values.
+     */
+    public long getCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Indicates whether no value has been counted.
+     *
+     * @return {@code true} if the sketch is empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return this.totalCount == 0;
+    }
+
+    /**
+     * Gets the relative accuracy of this sketch.
+     *
+     * @return The relative accuracy passed upon initialization.
+     */
+    public double getRelativeAccuracy() {
+        return this.relativeAccuracy;
+    }
+
+    /**
+     * Gets the number of buckets, which determines the memory required by this sketch.
+     *
+     * @return The number of buckets.
+     */
+    public int getNumberOfBuckets() {
+        return this.counts.length;
+    }
+
+    /**
+     * Gets an approximation of the given quantile of the counted values, i.e., the value of rank
+     * {@code floor(quantile * (count - 1))} within the sorted values.
+     *
+     * @param quantile
+     *            The quantile to get, must be within {@code [0, 1]}.
+     * @return The approximated quantile (which is within the relative accuracy of this sketch), or
+     *         {@link Double#NaN} if this sketch is empty.
+     * @throws IllegalArgumentException
+     *             If the given quantile is not within {@code [0, 1]}.
+     */
+    public double getQuantile(final double quantile) {
+        if (!(quantile >= 0d && quantile <= 1d)) {
+            throw new IllegalArgumentException("Given quantile must be within [0, 1].");
+        }
+        if (isEmpty()) {
+            return Double.NaN;
+        }
+        final long rank = (long) Math.floor(quantile * (this.totalCount - 1));
+        long cumulativeCount = this.zeroCount;
+        if (rank < cumulativeCount) {
+            return 0d;
+        }
+        int bucket = 0;
+        while (bucket < this.counts.length - 1) {
+            cumulativeCount += this.counts[bucket];
+            if (rank < cumulativeCount) {
+                break;
+            }
+            ++bucket;
+        }
+        // representative of bucket i is the value with equal relative distance to both bounds
+        return 2d * Math.exp((bucket + this.minIndex) * this.logGamma) / (1d + Math.exp(this.logGamma));
+    }
+}
@@ -0,0 +1,65 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+/**
+ * Maintains the count, sum, mean and variance of a multiset of values that changes by adding and
+ * removing single values. Mean and variance are computed by means of Welford's algorithm, which is
+ * numerically stable, also with respect to the removal of values.
+ */
+final class RunningMoments {
+
+    private long count = 0;
+    private double sum = 0d;
+    private double mean = 0d;
+    // sum of squared deviations from the mean
+    private double squaredDeviations = 0d;
+
+    void add(final double value) {
+        ++this.count;
+        this.sum += value;
+        final double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.squaredDeviations += delta * (value - this.mean);
+    }
+
+    void remove(final double value) {
+        assert this.count > 0;
+
+        --this.count;
+        if (this.count == 0) {
+            reset();
+        } else {
+            this.sum -= value;
+            final double delta = value - this.mean;
+            this.mean -= delta / this.count;
+            this.squaredDeviations = Math.max(0d, this.squaredDeviations - delta * (value - this.mean));
+        }
+    }
+
+    void reset() {
+        this.count = 0;
+        this.sum = 0d;
+        this.mean = 0d;
+        this.squaredDeviations = 0d;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    double getSum() {
+        return this.sum;
+    }
+
+    double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Gets the (unbiased) sample variance.
+     * 
+     * @return The sample variance, or {@link Double#NaN} if there are less than two values.
+     */
+    double getSampleVariance() {
+        return this.count < 2 ? Double.NaN : this.squaredDeviations / (this.count - 1);
+    }
+}
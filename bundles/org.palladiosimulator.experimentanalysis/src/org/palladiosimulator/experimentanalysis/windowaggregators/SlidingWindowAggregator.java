@@ -2,14 +2,22 @@ package org.palladiosimulator.experimentanalysis.windowaggregators;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
+import jdk.jfr.EventType;
+
+import org.palladiosimulator.experimentanalysis.BatchingRecorder;
 import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
 import org.palladiosimulator.experimentanalysis.SlidingWindow;
 import org.palladiosimulator.experimentanalysis.SlidingWindowRecorder;
+import org.palladiosimulator.experimentanalysis.jfr.WindowAggregationEvent;
+import org.palladiosimulator.experimentanalysis.management.WindowAggregatorStatistics;
+import org.palladiosimulator.experimentanalysis.management.WindowMonitoringRegistry;
 import org.palladiosimulator.measurementframework.MeasuringValue;
 import org.palladiosimulator.recorderframework.core.IRecorder;
 
@@ -17,16 +25,26 @@ import org.palladiosimulator.recorderframework.core.IRecorder;
  * This class is the base class of all {@link ISlidingWindowListener} that aggregate/process the
  * measurements collected by a {@link SlidingWindow} once it is full (i.e., it moved on).<br>
  * In terms of signal processing and time series analysis/statistics, this class can be thought of
- * as a base class for any moving average implementation.
+ * as a base class for any moving average implementation.<br>
+ * Results are written into the attached recorders one by one, as soon as they are available. To
+ * have them written in groups, attach the recorders by means of a {@link BatchingRecorder}.<br>
+ * Each aggregation emits a {@link WindowAggregationEvent} if flight recording is enabled, and is
+ * counted if the aggregator is registered with a {@link WindowMonitoringRegistry}.
  * 
  * @see SlidingWindowRecorder
+ * @see BatchingRecorder
  * 
  * @author Florian Rosenthal
  *
  */
 public abstract class SlidingWindowAggregator implements ISlidingWindowListener {
 
+    // queried upon each aggregation, which is cheaper than instantiating the event
+    private static final EventType AGGREGATION_EVENT_TYPE = EventType.getEventType(WindowAggregationEvent.class);
+
     private final Collection<IRecorder> recordersToWriteInto = new ArrayList<>();
+    // only maintained while registered for monitoring
+    private volatile WindowAggregatorStatistics statistics;
 
     /**
      * Initializes a new instance of the {@link SlidingWindowAggregator} class which shall not be
@@ -76,6 +94,18 @@ public abstract class SlidingWindowAggregator implements ISlidingWindowListener
         this.recordersToWriteInto.add(Objects.requireNonNull(recorder));
     }
 
+    /**
+     * Attaches the given statistics to this aggregator, which maintains them from now on. Usually,
+     * this method is called by a {@link WindowMonitoringRegistry} rather than directly.
+     * 
+     * @param statistics
+     *            The {@link WindowAggregatorStatistics} to maintain, or {@code null} to stop
+     *            maintaining the currently attached ones.
+     */
+    public final void setStatistics(WindowAggregatorStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * By implementing this method, subclasses (i.e., concrete aggregators) specify how the window
      * data is aggregated/processed and what resulting measurement is passed on to the attached
@@ -87,7 +117,8 @@ public abstract class SlidingWindowAggregator implements ISlidingWindowListener
      *            A {@link Measure} denoting the new left bound of the sliding window.
      * @param windowLength
      *            A {@link Measure} denoting the length of the sliding window.
-     * @return A {@link MeasuringValue} that is to be passed on to the attached recorder.
+     * @return A {@link MeasuringValue} that is to be passed on to the attached recorder, or
+     *         {@code null} if there is nothing to pass on (e.g., the mean of an empty window).
      */
     protected abstract MeasuringValue processWindowData(Iterable<MeasuringValue> windowData,
             Measure<Double, Duration> windowLeftBound, Measure<Double, Duration> windowLength);
@@ -99,6 +130,40 @@ public abstract class SlidingWindowAggregator implements ISlidingWindowListener
     @Override
     public final void onSlidingWindowFull(Iterable<MeasuringValue> windowData,
             Measure<Double, Duration> windowLeftBound, Measure<Double, Duration> windowLength) {
-        writeToRecorder(processWindowData(windowData, windowLeftBound, windowLength));
+        final WindowAggregationEvent event = AGGREGATION_EVENT_TYPE.isEnabled() ? new WindowAggregationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        MeasuringValue result = processWindowData(windowData, windowLeftBound, windowLength);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.aggregator = getClass();
+                event.metric = getExpectedWindowDataMetric().getName();
+                event.lowerBound = windowLeftBound.doubleValue(SI.SECOND);
+                event.upperBound = event.lowerBound + windowLength.doubleValue(SI.SECOND);
+                event.numberOfElements = count(windowData);
+                event.resultAvailable = result != null;
+                event.commit();
+            }
+        }
+        final WindowAggregatorStatistics currentStatistics = this.statistics;
+        if (currentStatistics != null) {
+            currentStatistics.onAggregation(result);
+        }
+        if (result != null) {
+            writeToRecorder(result);
+        }
+    }
+
+    private static int count(Iterable<MeasuringValue> windowData) {
+        if (windowData instanceof Collection) {
+            return ((Collection<MeasuringValue>) windowData).size();
+        }
+        int result = 0;
+        for (Iterator<MeasuringValue> iterator = windowData.iterator(); iterator.hasNext(); iterator.next()) {
+            ++result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,151 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which calculates a
+ * percentile (e.g., the 95th) of the response times collected by a {@link SlidingWindow} that
+ * accepts {@code (point in time, response time)} tuples.<br>
+ * Rather than collecting and sorting the response times of each window, a {@link QuantileSketch}
+ * is maintained as measurements enter and leave the window. Hence, the memory required per window
+ * is constant and the percentile is within the configured relative accuracy of the exact one.<br>
+ * The percentile is passed to the attached {@link IRecorder}s in the form of a
+ * {@code (point in time, response time)} tuple, where the point in time is the upper bound of the
+ * window. Nothing is passed on for empty windows.
+ *
+ * @see QuantileSketch
+ */
+public class SlidingWindowPercentileAggregator extends IncrementalSlidingWindowAggregator {
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final double quantile;
+    private final QuantileSketch sketch;
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowPercentileAggregator} class which
+     * processes {@code RESPONSE_TIME_METRIC_TUPLE} windows with the default relative accuracy.
+     *
+     * @param percentile
+     *            The percentile to calculate, must be within {@code [0, 100]}.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the percentiles into.
+     * @throws NullPointerException
+     *             If the given {@link IRecorder} is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given percentile is invalid.
+     * @see QuantileSketch#DEFAULT_RELATIVE_ACCURACY
+     */
+    public SlidingWindowPercentileAggregator(final double percentile, final IRecorder recorderToWriteInto) {
+        this(percentile, QuantileSketch.DEFAULT_RELATIVE_ACCURACY, recorderToWriteInto);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowPercentileAggregator} class which
+     * processes {@code RESPONSE_TIME_METRIC_TUPLE} windows.
+     *
+     * @param percentile
+     *            The percentile to calculate, must be within {@code [0, 100]}.
+     * @param relativeAccuracy
+     *            The relative accuracy of the calculated percentiles, must be within
+     *            {@code (0, 1)}.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the percentiles into.
+     * @throws NullPointerException
+     *             If the given {@link IRecorder} is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given percentile or relative accuracy is invalid.
+     */
+    public SlidingWindowPercentileAggregator(final double percentile, final double relativeAccuracy,
+            final IRecorder recorderToWriteInto) {
+        this(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, percentile,
+                new QuantileSketch(relativeAccuracy), recorderToWriteInto);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowPercentileAggregator} class with the
+     * given parameters. This constructor allows for calculating percentiles of any nonnegative
+     * numerical metric.
+     *
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values, given in their default
+     *            unit.
+     * @param percentile
+     *            The percentile to calculate, must be within {@code [0, 100]}.
+     * @param emptySketch
+     *            An empty {@link QuantileSketch} that determines accuracy and trackable range.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the percentiles into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given percentile is invalid, the given sketch is not empty, or the value
+     *             metric is not subsumed by the window data metric.
+     */
+    public SlidingWindowPercentileAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final double percentile,
+            final QuantileSketch emptySketch, final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.valueMetric = checkValueMetric(windowDataMetric, valueMetric);
+        this.windowDataMetric = windowDataMetric;
+        if (!(percentile >= 0d && percentile <= 100d)) {
+            throw new IllegalArgumentException("Given percentile must be within [0, 100].");
+        }
+        if (!emptySketch.isEmpty()) {
+            throw new IllegalArgumentException("Given sketch must be empty.");
+        }
+        this.quantile = percentile / 100d;
+        this.sketch = emptySketch;
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        this.sketch.add(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        this.sketch.remove(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        if (this.sketch.isEmpty()) {
+            return null;
+        }
+        return createResultMeasurement(this.windowDataMetric, windowLeftBound, windowLength, Measure
+                .valueOf(this.sketch.getQuantile(this.quantile), (Unit<Quantity>) this.valueMetric.getDefaultUnit()));
+    }
+
+    /**
+     * Gets the percentile calculated by this aggregator.
+     *
+     * @return The percentile, within {@code [0, 100]}.
+     */
+    public double getPercentile() {
+        return this.quantile * 100d;
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
@@ -0,0 +1,201 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which maintains the
+ * mean, variance, minimum and maximum of the values of an arbitrary numerical metric captured by
+ * the {@code (point in time, value)} tuples collected by a {@link SlidingWindow}.<br>
+ * Mean and variance are maintained by means of Welford's algorithm, which is numerically stable
+ * also with respect to the removal of values. Minimum and maximum are maintained by means of
+ * monotonic deques, which requires measurements to leave the window in the order they entered it.
+ * Hence, the cost per measurement is (amortized) constant.<br>
+ * Each time the window is full, the configured {@link Statistic} is passed to the attached
+ * {@link IRecorder}s in the form of one tuple of the result metric (by default, the window data
+ * metric), where the point in time is the upper bound of the window. Nothing is passed on for
+ * windows whose statistic is undefined (e.g., the mean of an empty window).
+ */
+public class SlidingWindowStatisticsAggregator extends IncrementalSlidingWindowAggregator {
+
+    /**
+     * The statistics that can be passed on by a {@link SlidingWindowStatisticsAggregator}.
+     */
+    public enum Statistic {
+        /** The arithmetic mean of the values within the window. */
+        MEAN,
+        /**
+         * The (unbiased) sample variance of the values within the window, given in the square of
+         * the default unit of the value metric.
+         */
+        VARIANCE,
+        /** The sample standard deviation of the values within the window. */
+        STANDARD_DEVIATION,
+        /** The minimum value within the window. */
+        MINIMUM,
+        /** The maximum value within the window. */
+        MAXIMUM;
+    }
+
+    private final MetricSetDescription windowDataMetric;
+    private final NumericalBaseMetricDescription valueMetric;
+    private final MetricSetDescription resultMetric;
+    private final Statistic statistic;
+    private final Unit<Quantity> resultUnit;
+
+    private final RunningMoments moments = new RunningMoments();
+    private final MonotonicExtremumDeque minimumDeque = new MonotonicExtremumDeque(false);
+    private final MonotonicExtremumDeque maximumDeque = new MonotonicExtremumDeque(true);
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowStatisticsAggregator} class which
+     * passes on the statistic as a tuple of the window data metric.<br>
+     * As the variance is given in the square of the value metric's unit, which the window data
+     * metric does not describe, {@link Statistic#VARIANCE} requires an explicit result metric.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed, e.g., {@code RESPONSE_TIME_METRIC_TUPLE}.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to aggregate, e.g.,
+     *            {@code RESPONSE_TIME_METRIC}.
+     * @param statistic
+     *            The {@link Statistic} to pass on.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the statistics into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric, or if the variance
+     *             is requested.
+     * @see #SlidingWindowStatisticsAggregator(MetricSetDescription, NumericalBaseMetricDescription,
+     *      Statistic, MetricSetDescription, IRecorder)
+     */
+    public SlidingWindowStatisticsAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final Statistic statistic,
+            final IRecorder recorderToWriteInto) {
+        this(windowDataMetric, valueMetric, checkDefaultResultMetricApplicable(statistic), windowDataMetric,
+                recorderToWriteInto);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowStatisticsAggregator} class with the
+     * given parameters.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, value)} tuples to
+     *            be processed, e.g., {@code RESPONSE_TIME_METRIC_TUPLE}.
+     * @param valueMetric
+     *            The {@link NumericalBaseMetricDescription} of the values to aggregate, e.g.,
+     *            {@code RESPONSE_TIME_METRIC}.
+     * @param statistic
+     *            The {@link Statistic} to pass on.
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, statistic)} tuples
+     *            passed on to the recorder.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the statistics into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the value metric is not subsumed by the window data metric.
+     */
+    @SuppressWarnings("unchecked")
+    public SlidingWindowStatisticsAggregator(final MetricSetDescription windowDataMetric,
+            final NumericalBaseMetricDescription valueMetric, final Statistic statistic,
+            final MetricSetDescription resultMetric, final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.valueMetric = checkValueMetric(windowDataMetric, valueMetric);
+        this.windowDataMetric = windowDataMetric;
+        this.statistic = Objects.requireNonNull(statistic, "Given statistic must not be null.");
+        this.resultMetric = Objects.requireNonNull(resultMetric, "Given result metric must not be null.");
+        final Unit<?> valueUnit = this.valueMetric.getDefaultUnit();
+        this.resultUnit = (Unit<Quantity>) (statistic == Statistic.VARIANCE ? valueUnit.pow(2) : valueUnit);
+    }
+
+    private static Statistic checkDefaultResultMetricApplicable(final Statistic statistic) {
+        if (statistic == Statistic.VARIANCE) {
+            throw new IllegalArgumentException("The variance is not given in the unit of the window data metric, "
+                    + "so a result metric must be specified.");
+        }
+        return statistic;
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        final double value = MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric);
+        this.moments.add(value);
+        this.minimumDeque.addLast(value);
+        this.maximumDeque.addLast(value);
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        this.moments.remove(MeasuringValueUtility.getNumericalValue(measurement, this.valueMetric));
+        this.minimumDeque.removeFirst();
+        this.maximumDeque.removeFirst();
+    }
+
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        final double value = getStatistic(this.statistic);
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        return createResultMeasurement(this.resultMetric, windowLeftBound, windowLength,
+                Measure.valueOf(value, this.resultUnit));
+    }
+
+    /**
+     * Gets the current value of the given statistic, i.e., with respect to the measurements
+     * currently within the window.
+     * 
+     * @param requestedStatistic
+     *            The {@link Statistic} to get.
+     * @return The value of the statistic, given in the default unit of the value metric (or its
+     *         square in case of the variance), or {@link Double#NaN} if it is undefined.
+     */
+    public double getStatistic(final Statistic requestedStatistic) {
+        switch (Objects.requireNonNull(requestedStatistic)) {
+        case MEAN:
+            return this.moments.getCount() == 0 ? Double.NaN : this.moments.getMean();
+        case VARIANCE:
+            return this.moments.getSampleVariance();
+        case STANDARD_DEVIATION:
+            return Math.sqrt(this.moments.getSampleVariance());
+        case MINIMUM:
+            return this.minimumDeque.getExtremum();
+        case MAXIMUM:
+            return this.maximumDeque.getExtremum();
+        default:
+            throw new AssertionError("Unknown statistic: " + requestedStatistic);
+        }
+    }
+
+    /**
+     * Gets the number of measurements currently within the window.
+     * 
+     * @return A nonnegative value denoting the number of measurements.
+     */
+    public long getCount() {
+        return this.moments.getCount();
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
@@ -0,0 +1,153 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators;
+
+import java.util.Objects;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.DiscardAllElementsPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.MeasuringValueUtility;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * This class is an {@link IncrementalSlidingWindowAggregator} implementation which calculates the
+ * throughput (or arrival rate) of an arbitrary measurement stream, e.g., of response time tuples,
+ * i.e., the number of measurements per second within a window.<br>
+ * The throughput is passed to the attached {@link IRecorder} in the form of a
+ * {@code (point in time, throughput)} tuple of the given result metric, where the point in time is
+ * the upper bound of the window and the throughput is given in {@code 1/s}.<br>
+ * <br>
+ * In the <em>exact</em> mode, a counter is incremented and decremented as measurements enter and
+ * leave the window, so that the cost per measurement is constant. The window should use the
+ * {@link DiscardAllElementsPriorToLowerBoundStrategy} in this mode, as the counter reflects the
+ * contents of the window.<br>
+ * In the <em>approximate</em> mode, the measurements are counted by means of an exponential
+ * histogram (DGIM), which expires the counts prior to the window's lower bound by itself and
+ * requires {@code O(log n / relativeError)} memory only. Evictions of the window are ignored in
+ * this mode. Hence, the window should use the {@link FlushWindowStrategy}, so that it does not
+ * retain measurements longer than one increment either.
+ */
+public class SlidingWindowThroughputAggregator extends IncrementalSlidingWindowAggregator {
+
+    private static final Unit<Quantity> PER_SECOND = castUnit(Unit.ONE.divide(SI.SECOND));
+
+    private final MetricDescription windowDataMetric;
+    private final MetricSetDescription resultMetric;
+    private final ExponentialHistogramCounter approximateCounter;
+    private long count = 0;
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowThroughputAggregator} class that counts
+     * exactly.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricDescription} of the measurements to be counted.
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, throughput)} tuples
+     *            passed on to the recorder.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the throughputs into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     */
+    public SlidingWindowThroughputAggregator(final MetricDescription windowDataMetric,
+            final MetricSetDescription resultMetric, final IRecorder recorderToWriteInto) {
+        this(windowDataMetric, resultMetric, null, recorderToWriteInto);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SlidingWindowThroughputAggregator} class that counts
+     * approximately with the given maximum relative error.
+     * 
+     * @param windowDataMetric
+     *            The {@link MetricDescription} of the measurements to be counted.
+     * @param resultMetric
+     *            The {@link MetricSetDescription} of the {@code (point in time, throughput)} tuples
+     *            passed on to the recorder.
+     * @param relativeError
+     *            The maximum relative error of the counts, must be within {@code (0, 1)}.
+     * @param recorderToWriteInto
+     *            An {@link IRecorder} this instance writes the throughputs into.
+     * @throws NullPointerException
+     *             If any of the arguments is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given relative error is invalid.
+     */
+    public SlidingWindowThroughputAggregator(final MetricDescription windowDataMetric,
+            final MetricSetDescription resultMetric, final double relativeError,
+            final IRecorder recorderToWriteInto) {
+        this(windowDataMetric, resultMetric, createApproximateCounter(relativeError), recorderToWriteInto);
+    }
+
+    private SlidingWindowThroughputAggregator(final MetricDescription windowDataMetric,
+            final MetricSetDescription resultMetric, final ExponentialHistogramCounter approximateCounter,
+            final IRecorder recorderToWriteInto) {
+        super(recorderToWriteInto);
+        this.windowDataMetric = Objects.requireNonNull(windowDataMetric, "Given metric must not be null.");
+        this.resultMetric = Objects.requireNonNull(resultMetric, "Given result metric must not be null.");
+        this.approximateCounter = approximateCounter;
+    }
+
+    private static ExponentialHistogramCounter createApproximateCounter(final double relativeError) {
+        if (!(relativeError > 0d && relativeError < 1d)) {
+            throw new IllegalArgumentException("Given relative error must be within (0, 1).");
+        }
+        return new ExponentialHistogramCounter(relativeError);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Unit<Quantity> castUnit(final Unit<? extends Quantity> unit) {
+        return (Unit<Quantity>) unit;
+    }
+
+    @Override
+    public void onInsert(final MeasuringValue measurement) {
+        if (isApproximate()) {
+            this.approximateCounter.add(MeasuringValueUtility.getPointInTimeInSeconds(measurement));
+        } else {
+            ++this.count;
+        }
+    }
+
+    @Override
+    public void onEvict(final MeasuringValue measurement) {
+        if (!isApproximate()) {
+            --this.count;
+        }
+    }
+
+    @Override
+    protected MeasuringValue result(final Measure<Double, Duration> windowLeftBound,
+            final Measure<Double, Duration> windowLength) {
+        long windowCount = this.count;
+        if (isApproximate()) {
+            this.approximateCounter.expire(windowLeftBound.doubleValue(SI.SECOND));
+            windowCount = this.approximateCounter.getEstimatedCount();
+        }
+        final double throughput = windowCount / windowLength.doubleValue(SI.SECOND);
+        return createResultMeasurement(this.resultMetric, windowLeftBound, windowLength,
+                Measure.valueOf(throughput, PER_SECOND));
+    }
+
+    /**
+     * Indicates whether this aggregator counts approximately.
+     * 
+     * @return {@code true} if the approximate mode is used, {@code false} otherwise.
+     */
+    public boolean isApproximate() {
+        return this.approximateCounter != null;
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.windowDataMetric;
+    }
+}
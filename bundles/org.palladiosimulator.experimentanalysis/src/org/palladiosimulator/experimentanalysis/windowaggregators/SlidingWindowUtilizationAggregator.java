@@ -107,55 +107,50 @@ public class SlidingWindowUtilizationAggregator extends SlidingWindowAggregator
     protected MeasuringValue processWindowData(final Iterable<MeasuringValue> windowData,
             final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
 
-        Amount<Duration> windowLeftBoundAmount = Amount.valueOf(windowLeftBound.getValue(), windowLeftBound.getUnit());
-        Amount<Duration> windowLengthAmount = Amount.valueOf(windowLength.getValue(), windowLength.getUnit());
-        Amount<Duration> windowRightBoundAmount = windowLengthAmount.plus(windowLeftBoundAmount);
-
-        MeasuringValue result = null;
-        Amount<Duration> busyTime = ZERO_DURATION;
+        // compute on primitives, given in the unit of the window length, rather than on Amounts:
+        // this method is invoked for each window, and iterates all its data
+        final Unit<Duration> unit = windowLength.getUnit();
+        final double windowLeftBoundValue = windowLeftBound.doubleValue(unit);
+        final double windowLengthValue = windowLength.doubleValue(unit);
+        final double windowRightBoundValue = windowLengthValue + windowLeftBoundValue;
+
+        double busyTime = 0d;
         Iterator<MeasuringValue> iterator = windowData.iterator();
 
         if (iterator.hasNext()) {
-            MeasuringValue currentMeasurement;
-            double currentStateValue;
-            Amount<Duration> currentPointInTimeAmount;
-            MeasuringValue nextMeasurement = null;
-            Amount<Duration> nextPointInTimeAmount = null;
-
-            currentMeasurement = iterator.next(); // not null, as windowData not
-                                                  // empty!
-            currentStateValue = obtainStateValueFromMeasurement(currentMeasurement);
-            currentPointInTimeAmount = obtainPointInTimeAmountFromMeasurement(currentMeasurement);
+            MeasuringValue currentMeasurement = iterator.next(); // not null, as windowData not
+                                                                 // empty!
+            double currentStateValue = obtainStateValueFromMeasurement(currentMeasurement);
+            double currentPointInTime = obtainPointInTimeFromMeasurement(currentMeasurement, unit);
+            double nextPointInTime;
             boolean endLoop = false;
 
             do {
-                // special treatment for amount that is out of window bounds:
+                // special treatment for point in time that is out of window bounds:
                 // consider only parts inside window
-                currentPointInTimeAmount = currentPointInTimeAmount.isLessThan(windowLeftBoundAmount)
-                        ? windowLeftBoundAmount : currentPointInTimeAmount;
+                currentPointInTime = currentPointInTime < windowLeftBoundValue ? windowLeftBoundValue
+                        : currentPointInTime;
 
+                MeasuringValue nextMeasurement = null;
                 if (iterator.hasNext()) {
                     nextMeasurement = iterator.next();
-                    nextPointInTimeAmount = obtainPointInTimeAmountFromMeasurement(nextMeasurement);
+                    nextPointInTime = obtainPointInTimeFromMeasurement(nextMeasurement, unit);
                 } else {
-                    // nextPointInTimeAmount is now the window's upper bound
-                    nextPointInTimeAmount = windowRightBoundAmount;
+                    // nextPointInTime is now the window's upper bound
+                    nextPointInTime = windowRightBoundValue;
                     endLoop = true; // no further elements available
                 }
                 // mac operation
-                busyTime = busyTime.plus(
-                        nextPointInTimeAmount.minus(currentPointInTimeAmount).times(Math.min(currentStateValue, 1d)));
+                busyTime += (nextPointInTime - currentPointInTime) * Math.min(currentStateValue, 1d);
 
                 if (!endLoop) {
-                    currentMeasurement = nextMeasurement;
                     currentStateValue = obtainStateValueFromMeasurement(nextMeasurement);
-                    currentPointInTimeAmount = nextPointInTimeAmount;
+                    currentPointInTime = nextPointInTime;
                 }
 
             } while (!endLoop);
         }
-        result = createUtilizationTupleMeasurement(busyTime, windowLengthAmount, windowRightBoundAmount);
-        return result;
+        return createUtilizationTupleMeasurement(busyTime, windowLengthValue, windowRightBoundValue, unit);
     }
 
     /**
@@ -163,26 +158,23 @@ public class SlidingWindowUtilizationAggregator extends SlidingWindowAggregator
      * at the given {@code point in time}.
      * 
      * @param busyTime
-     *            An {@link Amount} indicating the busy time with the last sliding window period.
+     *            The busy time with the last sliding window period.
      * @param windowLength
-     *            An {@link Amount} indicating the length of the sliding window.
+     *            The length of the sliding window.
      * @param pointInTime
-     *            An {@link Amount} indicating the {@code point in time} this measurement is
-     *            captured.
+     *            The {@code point in time} this measurement is captured.
+     * @param unit
+     *            The {@link Duration} unit all the given values are given in.
      * @return A {@link MeasuringValue} denoting the utilization {@code U} which is calculated as
      *         follows: {@code U = busyTime / windowLength}.
      */
-    private static MeasuringValue createUtilizationTupleMeasurement(final Amount<Duration> busyTime,
-            final Amount<Duration> windowLength, final Amount<Duration> pointInTime) {
+    private static MeasuringValue createUtilizationTupleMeasurement(final double busyTime, final double windowLength,
+            final double pointInTime, final Unit<Duration> unit) {
 
-        assert windowLength.isGreaterThan(ZERO_DURATION);
+        assert windowLength > 0d;
 
-        @SuppressWarnings("unchecked")
-        Amount<Dimensionless> utilization = (Amount<Dimensionless>) busyTime.divide(windowLength);
-        Measure<Double, Dimensionless> resultUtilizationMeasure = Measure.valueOf(utilization.doubleValue(Unit.ONE),
-                Unit.ONE);
-        Measure<Double, Duration> resultPointInTimeMeasure = Measure
-                .valueOf(pointInTime.doubleValue(pointInTime.getUnit()), pointInTime.getUnit());
+        Measure<Double, Dimensionless> resultUtilizationMeasure = Measure.valueOf(busyTime / windowLength, Unit.ONE);
+        Measure<Double, Duration> resultPointInTimeMeasure = Measure.valueOf(pointInTime, unit);
         return new TupleMeasurement(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE,
                 resultPointInTimeMeasure, resultUtilizationMeasure);
     }
@@ -201,6 +193,22 @@ public class SlidingWindowUtilizationAggregator extends SlidingWindowAggregator
         return Amount.valueOf(measure.doubleValue(measure.getUnit()), measure.getUnit());
     }
 
+    /**
+     * Gets the {@code point in time} the given measurement was taken, as a primitive value.
+     * 
+     * @param measurement
+     *            A ({@code not null}) {@link MeasuringValue} instance containing a
+     *            {@code point in time} measure.
+     * @param unit
+     *            The {@link Duration} unit the point in time is to be given in.
+     * @return The {@code point in time} the given measurement was taken, in the given unit.
+     */
+    private static double obtainPointInTimeFromMeasurement(final MeasuringValue measurement,
+            final Unit<Duration> unit) {
+        Measure<?, Duration> measure = measurement.getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return measure.doubleValue(unit);
+    }
+
     /**
      * Gets the {@code state of active resource} measurement captured by the given measuring value.
      * 
@@ -0,0 +1,89 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * Base class of the benchmarks that drive a utilization aggregator directly through
+ * {@link SlidingWindowAggregator#onSlidingWindowFull(Iterable, Measure, Measure)}, i.e., without a
+ * sliding window. One operation processes one full window, so the reported time is per window and
+ * the {@code gc.alloc.rate.norm} of the GC profiler denotes the bytes allocated per window.<br>
+ * The window contents are one measurement per simulated second, held in a {@link LinkedList} as
+ * sliding windows do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public abstract class AbstractUtilizationAggregatorBenchmark {
+
+    /** The number of measurements in the window. */
+    @Param({ "10", "1000", "100000" })
+    public int windowSize;
+
+    @Param
+    public StateDistribution stateDistribution;
+
+    /** The number of recorders attached to the aggregator. */
+    @Param({ "1", "4", "16" })
+    public int numberOfRecorders;
+
+    private Iterable<MeasuringValue> windowData;
+    private Measure<Double, Duration> windowLeftBound;
+    private Measure<Double, Duration> windowLength;
+    private SlidingWindowAggregator aggregator;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        this.windowData = Collections.unmodifiableCollection(new LinkedList<>(Arrays.asList(
+                BenchmarkMeasurements.createStateMeasurements(this.windowSize, 1d, this.stateDistribution))));
+        this.windowLeftBound = Measure.valueOf(0d, SI.SECOND);
+        this.windowLength = Measure.valueOf((double) this.windowSize, SI.SECOND);
+        this.aggregator = createAggregator(new BlackholeRecorder(blackhole), this.windowLength);
+        for (int i = 1; i < this.numberOfRecorders; ++i) {
+            this.aggregator.addRecorder(new BlackholeRecorder(blackhole));
+        }
+    }
+
+    /**
+     * Creates the aggregator under test.
+     *
+     * @param recorder
+     *            The {@link IRecorder} the aggregator is to write into.
+     * @param windowLength
+     *            The length of the windows passed to the aggregator.
+     * @return The {@link SlidingWindowAggregator} under test.
+     */
+    protected abstract SlidingWindowAggregator createAggregator(IRecorder recorder,
+            Measure<Double, Duration> windowLength);
+
+    @Benchmark
+    public void onSlidingWindowFull() {
+        this.aggregator.onSlidingWindowFull(this.windowData, this.windowLeftBound, this.windowLength);
+    }
+}
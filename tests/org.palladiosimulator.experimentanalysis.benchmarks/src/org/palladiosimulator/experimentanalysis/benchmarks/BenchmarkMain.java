@@ -0,0 +1,35 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks. Accepts the usual JMH command line options, e.g., a regular
+ * expression selecting the benchmarks to run, and always attaches the {@link GCProfiler}, so that
+ * allocation rates are reported along with the timings.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+        // entry point only
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args
+     *            JMH command line options.
+     * @throws CommandLineOptionException
+     *             If the given options are invalid.
+     * @throws RunnerException
+     *             If running the benchmarks fails.
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+                .run();
+    }
+}
@@ -0,0 +1,80 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.Random;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.tests.utils.ArrivalProcess;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkloadGenerator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Creates the input measurements of the benchmarks. Inputs are created before the measurement
+ * starts and with a fixed seed, so that their creation is neither measured nor a source of
+ * variance between runs.
+ */
+final class BenchmarkMeasurements {
+
+    static final MetricSetDescription STATE_TUPLE_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final long SEED = 42L;
+
+    private BenchmarkMeasurements() {
+        // utility class
+    }
+
+    /**
+     * Creates {@code (point in time, state of active resource)} tuples that are equidistant in
+     * time, with randomly chosen states of {@code 0} (idle) or {@code 1} (busy).
+     *
+     * @param numberOfMeasurements
+     *            The number of measurements to create.
+     * @param eventDensity
+     *            The number of measurements per simulated second.
+     * @return The measurements, sorted by their point in time, which starts at {@code 0s}.
+     */
+    static MeasuringValue[] createStateMeasurements(final int numberOfMeasurements, final double eventDensity) {
+        return createStateMeasurements(numberOfMeasurements, eventDensity, StateDistribution.IDLE_BUSY);
+    }
+
+    /**
+     * Creates {@code (point in time, state of active resource)} tuples that are equidistant in
+     * time, with states drawn from the given distribution.
+     *
+     * @param numberOfMeasurements
+     *            The number of measurements to create.
+     * @param eventDensity
+     *            The number of measurements per simulated second.
+     * @param stateDistribution
+     *            The {@link StateDistribution} the states are drawn from.
+     * @return The measurements, sorted by their point in time, which starts at {@code 0s}.
+     */
+    static MeasuringValue[] createStateMeasurements(final int numberOfMeasurements, final double eventDensity,
+            final StateDistribution stateDistribution) {
+        final Random random = new Random(SEED);
+        final MeasuringValue[] result = new MeasuringValue[numberOfMeasurements];
+        for (int i = 0; i < numberOfMeasurements; ++i) {
+            result[i] = new TupleMeasurement(STATE_TUPLE_METRIC, Measure.valueOf(i / eventDensity, SI.SECOND),
+                    Measure.valueOf(stateDistribution.nextState(random), Unit.ONE));
+        }
+        return result;
+    }
+
+    /**
+     * Creates the state series of an {@code M/M/1} queue with one arrival per simulated second and
+     * a utilization of 50%.
+     *
+     * @param numberOfMeasurements
+     *            The number of measurements to create.
+     * @return The {@link SyntheticWorkload} of {@code state of active resource} measurements.
+     */
+    static SyntheticWorkload createStateWorkload(final int numberOfMeasurements) {
+        return new SyntheticWorkloadGenerator(SEED, ArrivalProcess.poisson(1d), 0.5, 1)
+                .generate(SyntheticWorkload.Series.STATE_OF_ACTIVE_RESOURCE, numberOfMeasurements);
+    }
+}
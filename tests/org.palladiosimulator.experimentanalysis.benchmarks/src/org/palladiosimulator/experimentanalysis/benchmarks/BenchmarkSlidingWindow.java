@@ -0,0 +1,42 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * {@link SlidingWindow} that is moved on by the measurements themselves, as the windows of the
+ * utilization filter are: once a measurement beyond the current upper bound is added, the window
+ * is full. Additionally, moving on can be triggered explicitly, so that its cost can be measured
+ * in isolation.
+ */
+final class BenchmarkSlidingWindow extends SlidingWindow {
+
+    BenchmarkSlidingWindow(final Measure<Double, Duration> windowLength, final Measure<Double, Duration> increment,
+            final MetricDescription acceptedMetric, final ISlidingWindowMoveOnStrategy moveOnStrategy) {
+        super(windowLength, increment, acceptedMetric, moveOnStrategy);
+    }
+
+    @Override
+    public void addMeasurement(final MeasuringValue newMeasurement) {
+        checkAddMeasurementPrerequisites(newMeasurement);
+        final Measure<Double, Duration> pointInTime = newMeasurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        while (isBeyondCurrentUpperBound(pointInTime)) {
+            onWindowFullEvent();
+        }
+        addMeasurementInternal(newMeasurement);
+    }
+
+    /**
+     * Notifies the listeners of this window and moves it on, regardless of its contents.
+     */
+    void moveOn() {
+        onWindowFullEvent();
+    }
+}
@@ -0,0 +1,44 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * {@link IRecorder} that passes each written measurement to a {@link Blackhole}, so that the
+ * results of the benchmarked code are not optimized away, yet no persistence cost is added.
+ */
+final class BlackholeRecorder implements IRecorder {
+
+    private final Blackhole blackhole;
+
+    BlackholeRecorder(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        // nothing to initialize
+    }
+
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        this.blackhole.consume(measurement);
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+        this.blackhole.consume(newMeasurement);
+    }
+
+    @Override
+    public void preUnregister() {
+        // nothing to release
+    }
+}
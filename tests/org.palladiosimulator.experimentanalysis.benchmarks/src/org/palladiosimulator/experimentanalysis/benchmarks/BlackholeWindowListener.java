@@ -0,0 +1,39 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * {@link ISlidingWindowListener} that iterates over the window data and passes each measurement to
+ * a {@link Blackhole}, so that notifying listeners is not optimized away, yet no aggregation cost
+ * is added.
+ */
+final class BlackholeWindowListener implements ISlidingWindowListener {
+
+    private final MetricDescription expectedMetric;
+    private final Blackhole blackhole;
+
+    BlackholeWindowListener(final MetricDescription expectedMetric, final Blackhole blackhole) {
+        this.expectedMetric = expectedMetric;
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void onSlidingWindowFull(final Iterable<MeasuringValue> windowData,
+            final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+        for (MeasuringValue measurement : windowData) {
+            this.blackhole.consume(measurement);
+        }
+        this.blackhole.consume(windowLeftBound);
+    }
+
+    @Override
+    public MetricDescription getExpectedWindowDataMetric() {
+        return this.expectedMetric;
+    }
+}
@@ -0,0 +1,48 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * {@link IRecorder} that merely counts the written measurements, for the runs outside of JMH,
+ * where no {@code Blackhole} is available. The count keeps the results from being optimized away.
+ */
+final class CountingRecorder implements IRecorder {
+
+    private long numberOfMeasurements = 0L;
+
+    /**
+     * Gets the number of measurements written so far.
+     *
+     * @return The number of measurements.
+     */
+    long getNumberOfMeasurements() {
+        return this.numberOfMeasurements;
+    }
+
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        // nothing to initialize
+    }
+
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        ++this.numberOfMeasurements;
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void newMeasurementAvailable(final MeasuringValue newMeasurement) {
+        ++this.numberOfMeasurements;
+    }
+
+    @Override
+    public void preUnregister() {
+        // nothing to release
+    }
+}
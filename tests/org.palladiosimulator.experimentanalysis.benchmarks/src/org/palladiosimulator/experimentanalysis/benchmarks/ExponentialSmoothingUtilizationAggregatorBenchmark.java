@@ -0,0 +1,34 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.Param;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowExponentialSmoothingUtilizationAggregator;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * Measures the cost of the {@link SlidingWindowExponentialSmoothingUtilizationAggregator} per
+ * window. Besides the window contents, the cost depends on the number of sampling points, i.e., on
+ * the ratio of the sampling rate to the spacing of the measurements.
+ */
+public class ExponentialSmoothingUtilizationAggregatorBenchmark extends AbstractUtilizationAggregatorBenchmark {
+
+    /**
+     * The sampling rate relative to the spacing of the measurements: below {@code 1}, there are
+     * several sampling points between subsequent measurements, above, several measurements per
+     * sampling point.
+     */
+    @Param({ "0.1", "1", "10" })
+    public double samplingRatio;
+
+    @Override
+    protected SlidingWindowAggregator createAggregator(final IRecorder recorder,
+            final Measure<Double, Duration> windowLength) {
+        // measurements are one second apart
+        return new SlidingWindowExponentialSmoothingUtilizationAggregator(BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                recorder, Measure.valueOf(this.samplingRatio, SI.SECOND), windowLength);
+    }
+}
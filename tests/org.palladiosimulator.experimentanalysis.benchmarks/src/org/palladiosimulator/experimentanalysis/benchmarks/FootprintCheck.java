@@ -0,0 +1,174 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.HeadlessUtilizationFilter;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationFilterConfiguration;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalSlidingWindowAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalTimeWeightedAverageAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowStatisticsAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Measures the retained size per element of the data structures that grow with the number of
+ * measurements, using the object graph introspection of JOL:
+ * <ul>
+ * <li>the contents of a {@link SlidingWindow}, i.e., its {@code LinkedList} of measurements,</li>
+ * <li>the state of the aggregators that follow the window contents,</li>
+ * <li>the {@code outputData} of the data streams created by the {@link HeadlessUtilizationFilter}.
+ * </li>
+ * </ul>
+ * Each structure is built with {@code n} and with {@code 2n} elements, and the difference of the
+ * retained sizes is divided by the difference of the number of elements. Thereby, the objects
+ * shared by all elements, e.g., the metric descriptions, are not attributed to the elements.<br>
+ * The check fails, i.e., exits with status {@code 1}, if any structure exceeds its budget of bytes
+ * per element, which can be configured via the system properties {@value #WINDOW_BUDGET_PROPERTY},
+ * {@value #AGGREGATOR_BUDGET_PROPERTY} and {@value #OUTPUT_BUDGET_PROPERTY}.<br>
+ * Usage: {@code FootprintCheck [n ...]}. JOL may require
+ * {@code -Djdk.attach.allowAttachSelf=true} to determine the object layout.
+ */
+public final class FootprintCheck {
+
+    static final String WINDOW_BUDGET_PROPERTY = "footprint.budget.window";
+    static final String AGGREGATOR_BUDGET_PROPERTY = "footprint.budget.aggregator";
+    static final String OUTPUT_BUDGET_PROPERTY = "footprint.budget.output";
+
+    // node, tuple, list of measures, and two measures, with compressed references
+    private static final long DEFAULT_WINDOW_BUDGET = 256L;
+    // the aggregators keep primitive columns
+    private static final long DEFAULT_AGGREGATOR_BUDGET = 32L;
+    private static final long DEFAULT_OUTPUT_BUDGET = 256L;
+    private static final int[] DEFAULT_SIZES = { 1000, 10000, 100000 };
+    private static final NumericalBaseMetricDescription STATE_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC;
+    private static final String OUTPUT_DATA_FIELD = "outputData";
+
+    private FootprintCheck() {
+        // entry point only
+    }
+
+    /**
+     * Runs the footprint check.
+     *
+     * @param args
+     *            The numbers of elements to check, optional.
+     * @throws ReflectiveOperationException
+     *             If the output data of the utilization filter cannot be accessed.
+     */
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        final List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            for (int size : DEFAULT_SIZES) {
+                sizes.add(size);
+            }
+        }
+        final long windowBudget = Long.getLong(WINDOW_BUDGET_PROPERTY, DEFAULT_WINDOW_BUDGET);
+        final long aggregatorBudget = Long.getLong(AGGREGATOR_BUDGET_PROPERTY, DEFAULT_AGGREGATOR_BUDGET);
+        final long outputBudget = Long.getLong(OUTPUT_BUDGET_PROPERTY, DEFAULT_OUTPUT_BUDGET);
+
+        final List<String> violations = new ArrayList<>();
+        System.out.printf("%-48s %10s %14s %8s%n", "structure", "elements", "bytes/element", "budget");
+        for (int size : sizes) {
+            check("SlidingWindow", size, bytesPerElement(FootprintCheck::createWindow, size), windowBudget,
+                    violations);
+            check("IncrementalTimeWeightedAverageAggregator", size,
+                    bytesPerElement(n -> createAggregatorState(n, new IncrementalTimeWeightedAverageAggregator(
+                            BenchmarkMeasurements.STATE_TUPLE_METRIC, STATE_METRIC, new CountingRecorder())), size),
+                    aggregatorBudget, violations);
+            check("SlidingWindowStatisticsAggregator", size,
+                    bytesPerElement(n -> createAggregatorState(n,
+                            new SlidingWindowStatisticsAggregator(BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                                    STATE_METRIC, SlidingWindowStatisticsAggregator.Statistic.MAXIMUM,
+                                    new CountingRecorder())),
+                            size),
+                    aggregatorBudget, violations);
+            check("UtilizationFilterOutputDataStream.outputData", size, bytesPerOutputElement(size), outputBudget,
+                    violations);
+        }
+        if (!violations.isEmpty()) {
+            violations.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    private static void check(final String structure, final int size, final double bytesPerElement,
+            final long budget, final List<String> violations) {
+        System.out.printf("%-48s %10d %14.1f %8d%n", structure, size, bytesPerElement, budget);
+        if (bytesPerElement > budget) {
+            violations.add(String.format("%s with %d elements exceeds its budget: %.1f > %d bytes per element.",
+                    structure, size, bytesPerElement, budget));
+        }
+    }
+
+    private static double bytesPerElement(final IntFunction<Object> factory, final int size) {
+        final long retainedSize = GraphLayout.parseInstance(factory.apply(size)).totalSize();
+        final long doubleRetainedSize = GraphLayout.parseInstance(factory.apply(2 * size)).totalSize();
+        return (double) (doubleRetainedSize - retainedSize) / size;
+    }
+
+    private static SlidingWindow createWindow(final int numberOfElements) {
+        final BenchmarkSlidingWindow result = createEnclosingWindow(numberOfElements);
+        fill(result, numberOfElements);
+        return result;
+    }
+
+    private static IncrementalSlidingWindowAggregator createAggregatorState(final int numberOfElements,
+            final IncrementalSlidingWindowAggregator aggregator) {
+        final BenchmarkSlidingWindow window = createEnclosingWindow(numberOfElements);
+        window.addObserver(aggregator);
+        fill(window, numberOfElements);
+        return aggregator;
+    }
+
+    // a window that holds the given number of measurements, one per second, without moving on
+    private static BenchmarkSlidingWindow createEnclosingWindow(final int numberOfElements) {
+        return new BenchmarkSlidingWindow(Measure.valueOf(numberOfElements + 1d, SI.SECOND),
+                Measure.valueOf(numberOfElements + 1d, SI.SECOND), BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                new KeepLastElementPriorToLowerBoundStrategy());
+    }
+
+    private static void fill(final SlidingWindow window, final int numberOfElements) {
+        for (MeasuringValue measurement : BenchmarkMeasurements.createStateMeasurements(numberOfElements, 1d)) {
+            window.addMeasurement(measurement);
+        }
+    }
+
+    private static double bytesPerOutputElement(final int size) throws ReflectiveOperationException {
+        final List<?> outputData = createOutputData(size);
+        final List<?> doubleOutputData = createOutputData(2 * size);
+        final long retainedSize = GraphLayout.parseInstance(outputData).totalSize();
+        final long doubleRetainedSize = GraphLayout.parseInstance(doubleOutputData).totalSize();
+        return (double) (doubleRetainedSize - retainedSize) / (doubleOutputData.size() - outputData.size());
+    }
+
+    // one result per input measurement, as the windows are as long as the distance of the inputs
+    private static List<?> createOutputData(final int numberOfInputs) throws ReflectiveOperationException {
+        final HeadlessUtilizationFilter filter = new HeadlessUtilizationFilter(
+                new SyntheticStateDataSource(numberOfInputs, 1d, 1d));
+        final Map<String, Object> configuration = new HashMap<>(filter.createProperties().getDefaultConfiguration());
+        configuration.put(UtilizationFilterConfiguration.WINDOW_LENGTH_KEY, Measure.valueOf(1d, SI.SECOND));
+        configuration.put(UtilizationFilterConfiguration.WINDOW_INCREMENT_KEY, Measure.valueOf(1d, SI.SECOND));
+        filter.setProperties(configuration);
+        final IDataStream<MeasuringValue> stream = filter.getDataStream();
+        // the output data is private to the filter, and no other references to it are retained
+        final Field outputDataField = stream.getClass().getDeclaredField(OUTPUT_DATA_FIELD);
+        outputDataField.setAccessible(true);
+        return (List<?>) outputDataField.get(stream);
+    }
+}
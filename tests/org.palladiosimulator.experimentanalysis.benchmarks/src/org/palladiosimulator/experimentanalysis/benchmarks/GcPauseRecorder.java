@@ -0,0 +1,82 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.palladiosimulator.experimentanalysis.management.LatencyHistogram;
+
+/**
+ * Records the duration of each garbage collection in a {@link LatencyHistogram}, using the
+ * notifications of the {@link GarbageCollectorMXBean}s. Only the standard management API is used,
+ * the notification contents are read as {@link CompositeData}.<br>
+ * Note that the reported duration is the one of the collection, which, for concurrent collectors,
+ * is longer than the pause of the application.
+ */
+final class GcPauseRecorder implements NotificationListener, AutoCloseable {
+
+    // see com.sun.management.GarbageCollectionNotificationInfo
+    private static final String GC_NOTIFICATION_TYPE = "com.sun.management.gc.notification";
+    private static final String GC_INFO_KEY = "gcInfo";
+    private static final String DURATION_KEY = "duration";
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final LatencyHistogram durationsInMillis = new LatencyHistogram();
+
+    /**
+     * Initializes a new instance of the {@link GcPauseRecorder} class, which immediately starts
+     * recording until it is closed.
+     */
+    GcPauseRecorder() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter) {
+                final NotificationEmitter emitter = (NotificationEmitter) collector;
+                emitter.addNotificationListener(this, null, null);
+                this.emitters.add(emitter);
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(final Notification notification, final Object handback) {
+        if (GC_NOTIFICATION_TYPE.equals(notification.getType())
+                && notification.getUserData() instanceof CompositeData) {
+            final CompositeData gcInfo = (CompositeData) ((CompositeData) notification.getUserData())
+                    .get(GC_INFO_KEY);
+            final long duration = (Long) gcInfo.get(DURATION_KEY);
+            synchronized (this.durationsInMillis) {
+                this.durationsInMillis.record(duration);
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the recorded durations.
+     *
+     * @return A new {@link LatencyHistogram} of the durations in milliseconds.
+     */
+    LatencyHistogram getDurationsInMillis() {
+        synchronized (this.durationsInMillis) {
+            return this.durationsInMillis.copy();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : this.emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // already removed
+            }
+        }
+        this.emitters.clear();
+    }
+}
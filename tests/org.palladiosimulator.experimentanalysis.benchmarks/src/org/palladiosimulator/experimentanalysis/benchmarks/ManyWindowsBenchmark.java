@@ -0,0 +1,77 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.experimentanalysis.SlidingWindowRecorder;
+
+/**
+ * Measures the throughput of a growing number of utilization windows in one JVM, each attached
+ * via its own {@link SlidingWindowRecorder}, see {@link WindowFleet}. One operation feeds one
+ * measurement into each window; the {@code measurements} counter reports the throughput per
+ * measurement, and the {@code gc.alloc.rate.norm} of the GC profiler the bytes allocated per
+ * round.<br>
+ * See {@link ManyWindowsSoak} for the memory footprint per window, the GC pauses and the emit
+ * latencies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class ManyWindowsBenchmark {
+
+    static final double WINDOW_LENGTH = 10d;
+    static final double WINDOW_INCREMENT = 10d;
+    static final int WORKLOAD_SIZE = 1 << 16;
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int numberOfWindows;
+
+    private WindowFleet fleet;
+
+    /**
+     * The number of measurements fed into and of results emitted by the windows.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long measurements;
+        public long results;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            this.measurements = 0L;
+            this.results = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        this.fleet = new WindowFleet(this.numberOfWindows, WINDOW_LENGTH, WINDOW_INCREMENT,
+                BenchmarkMeasurements.createStateWorkload(WORKLOAD_SIZE), () -> new BlackholeRecorder(blackhole));
+    }
+
+    @Benchmark
+    public void feedRound(final Counters counters) {
+        if (this.fleet.feedRound(null)) {
+            counters.results += this.numberOfWindows;
+        }
+        counters.measurements += this.numberOfWindows;
+    }
+}
@@ -0,0 +1,111 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.palladiosimulator.experimentanalysis.management.LatencyHistogram;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload;
+
+/**
+ * Soak test of a growing number of utilization windows in one JVM, see {@link WindowFleet}. For
+ * each number of windows, the windows are fed for a given wall-clock duration, and the following
+ * is reported:
+ * <ul>
+ * <li>the throughput, in measurements per second,</li>
+ * <li>the retained heap per window, once the windows are filled,</li>
+ * <li>the number of garbage collections and the distribution of their durations,</li>
+ * <li>the distribution of the emit latency, i.e., the duration of adding the measurement that has
+ * a window emit its result.</li>
+ * </ul>
+ * Usage: {@code ManyWindowsSoak [duration in seconds] [number of windows ...]}. The heap should be
+ * fixed, e.g., {@code -Xms4g -Xmx4g}, so that the GC figures of different runs are comparable.
+ */
+public final class ManyWindowsSoak {
+
+    private static final long DEFAULT_DURATION_SECONDS = 60L;
+    private static final int[] DEFAULT_NUMBERS_OF_WINDOWS = { 10, 100, 1000, 10000, 100000 };
+    // the rounds between two checks of the elapsed time
+    private static final int ROUNDS_PER_CHECK = 64;
+    private static final int NUMBER_OF_GCS = 3;
+
+    private ManyWindowsSoak() {
+        // entry point only
+    }
+
+    /**
+     * Runs the soak test.
+     *
+     * @param args
+     *            The duration per number of windows in seconds, followed by the numbers of
+     *            windows. Both are optional.
+     */
+    public static void main(final String[] args) {
+        final long durationSeconds = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_DURATION_SECONDS;
+        final List<Integer> numbersOfWindows = new ArrayList<>();
+        for (int i = 1; i < args.length; ++i) {
+            numbersOfWindows.add(Integer.parseInt(args[i]));
+        }
+        if (numbersOfWindows.isEmpty()) {
+            for (int numberOfWindows : DEFAULT_NUMBERS_OF_WINDOWS) {
+                numbersOfWindows.add(numberOfWindows);
+            }
+        }
+
+        final SyntheticWorkload workload = BenchmarkMeasurements
+                .createStateWorkload(ManyWindowsBenchmark.WORKLOAD_SIZE);
+        System.out.printf("%8s %14s %14s %8s %10s %10s %10s %12s %12s %12s%n", "windows", "measurements/s",
+                "bytes/window", "gcs", "gc p50 ms", "gc p99 ms", "gc max ms", "emit p50 us", "emit p99 us",
+                "emit max us");
+        for (int numberOfWindows : numbersOfWindows) {
+            run(numberOfWindows, TimeUnit.SECONDS.toNanos(durationSeconds), workload);
+        }
+    }
+
+    private static void run(final int numberOfWindows, final long durationNanos, final SyntheticWorkload workload) {
+        final long baseline = getUsedHeapAfterGc();
+        final CountingRecorder sink = new CountingRecorder();
+        final WindowFleet fleet = new WindowFleet(numberOfWindows, ManyWindowsBenchmark.WINDOW_LENGTH,
+                ManyWindowsBenchmark.WINDOW_INCREMENT, workload, () -> sink);
+        // fill the windows, so that their contents are representative
+        while (fleet.getNextPointInTime() < 2 * ManyWindowsBenchmark.WINDOW_LENGTH) {
+            fleet.feedRound(null);
+        }
+        final double bytesPerWindow = (double) (getUsedHeapAfterGc() - baseline) / numberOfWindows;
+
+        final LatencyHistogram emitLatencies = new LatencyHistogram();
+        final LatencyHistogram gcDurations;
+        long rounds = 0L;
+        final long start = System.nanoTime();
+        long elapsed;
+        try (GcPauseRecorder gcPauses = new GcPauseRecorder()) {
+            do {
+                for (int i = 0; i < ROUNDS_PER_CHECK; ++i) {
+                    fleet.feedRound(emitLatencies);
+                }
+                rounds += ROUNDS_PER_CHECK;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < durationNanos);
+            gcDurations = gcPauses.getDurationsInMillis();
+        }
+        Reference.reachabilityFence(fleet);
+
+        System.out.printf("%8d %14.0f %14.0f %8d %10d %10d %10d %12.1f %12.1f %12.1f%n", numberOfWindows,
+                rounds * numberOfWindows / (elapsed / 1e9), bytesPerWindow, gcDurations.getCount(),
+                gcDurations.getPercentile(50), gcDurations.getPercentile(99), gcDurations.getMax(),
+                emitLatencies.getPercentile(50) / 1e3, emitLatencies.getPercentile(99) / 1e3,
+                emitLatencies.getMax() / 1e3);
+        if (sink.getNumberOfMeasurements() == 0L) {
+            throw new IllegalStateException("No results emitted, the duration is too short.");
+        }
+    }
+
+    private static long getUsedHeapAfterGc() {
+        for (int i = 0; i < NUMBER_OF_GCS; ++i) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
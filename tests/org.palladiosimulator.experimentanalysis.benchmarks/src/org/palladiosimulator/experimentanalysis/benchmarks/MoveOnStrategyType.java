@@ -0,0 +1,39 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import org.palladiosimulator.experimentanalysis.DiscardAllElementsPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+
+/**
+ * Enumerates the {@link ISlidingWindowMoveOnStrategy} implementations the benchmarks are
+ * parameterized over.
+ */
+public enum MoveOnStrategyType {
+
+    FLUSH {
+        @Override
+        public ISlidingWindowMoveOnStrategy createStrategy() {
+            return new FlushWindowStrategy();
+        }
+    },
+    DISCARD_ALL_PRIOR_TO_LOWER_BOUND {
+        @Override
+        public ISlidingWindowMoveOnStrategy createStrategy() {
+            return new DiscardAllElementsPriorToLowerBoundStrategy();
+        }
+    },
+    KEEP_LAST_PRIOR_TO_LOWER_BOUND {
+        @Override
+        public ISlidingWindowMoveOnStrategy createStrategy() {
+            return new KeepLastElementPriorToLowerBoundStrategy();
+        }
+    };
+
+    /**
+     * Creates a new instance of the strategy denoted by this constant.
+     *
+     * @return An {@link ISlidingWindowMoveOnStrategy}.
+     */
+    public abstract ISlidingWindowMoveOnStrategy createStrategy();
+}
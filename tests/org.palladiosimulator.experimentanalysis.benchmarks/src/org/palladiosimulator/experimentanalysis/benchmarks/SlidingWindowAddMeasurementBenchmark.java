@@ -0,0 +1,83 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Measures the throughput of {@link SlidingWindow#addMeasurement(MeasuringValue)}, including the
+ * window moves triggered by the added measurements, i.e., the cost of notifying a listener and of
+ * applying the move-on strategy, amortized over the added measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SlidingWindowAddMeasurementBenchmark {
+
+    // the window is recreated once all prepared measurements have been added
+    private static final int NUMBER_OF_MEASUREMENTS = 1 << 16;
+
+    /** The window length, in seconds. */
+    @Param({ "10", "100" })
+    public double windowLength;
+
+    /** The window increment, relative to the window length. */
+    @Param({ "0.1", "1" })
+    public double incrementRatio;
+
+    /** The number of measurements per simulated second. */
+    @Param({ "1", "100" })
+    public double eventDensity;
+
+    @Param
+    public MoveOnStrategyType strategy;
+
+    private MeasuringValue[] measurements;
+    private Blackhole blackhole;
+    private BenchmarkSlidingWindow window;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        this.measurements = BenchmarkMeasurements.createStateMeasurements(NUMBER_OF_MEASUREMENTS, this.eventDensity);
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        this.window = new BenchmarkSlidingWindow(Measure.valueOf(this.windowLength, SI.SECOND),
+                Measure.valueOf(this.windowLength * this.incrementRatio, SI.SECOND),
+                BenchmarkMeasurements.STATE_TUPLE_METRIC, this.strategy.createStrategy());
+        this.window.addObserver(new BlackholeWindowListener(BenchmarkMeasurements.STATE_TUPLE_METRIC, this.blackhole));
+        this.nextIndex = 0;
+    }
+
+    @Benchmark
+    public void addMeasurement() {
+        if (this.nextIndex == this.measurements.length) {
+            // rare, so the cost is negligible compared to the added measurements
+            resetWindow();
+        }
+        this.window.addMeasurement(this.measurements[this.nextIndex++]);
+    }
+}
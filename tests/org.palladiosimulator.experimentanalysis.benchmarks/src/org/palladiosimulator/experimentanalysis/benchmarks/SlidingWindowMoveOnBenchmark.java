@@ -0,0 +1,97 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Measures the latency of a single window move, i.e., of notifying a listener about a full window
+ * and of adjusting the window data by the {@link ISlidingWindowMoveOnStrategy}.<br>
+ * Each invocation moves a batch of freshly filled windows, which requires a setup per invocation.
+ * The batch is large enough for the move of even the smallest windows to outweigh the timing
+ * overhead of that, the results are given per window.
+ *
+ * @see SlidingWindow
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SlidingWindowMoveOnBenchmark {
+
+    private static final int WINDOWS_PER_INVOCATION = 64;
+
+    /** The window length, in seconds. */
+    @Param({ "10", "100" })
+    public double windowLength;
+
+    /** The window increment, relative to the window length. */
+    @Param({ "0.1", "1" })
+    public double incrementRatio;
+
+    /** The number of measurements per simulated second. */
+    @Param({ "1", "100" })
+    public double eventDensity;
+
+    @Param
+    public MoveOnStrategyType strategy;
+
+    private MeasuringValue[] measurements;
+    private Blackhole blackhole;
+    private final BenchmarkSlidingWindow[] windows = new BenchmarkSlidingWindow[WINDOWS_PER_INVOCATION];
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        // all measurements within the bounds of the first window
+        this.measurements = BenchmarkMeasurements
+                .createStateMeasurements((int) (this.windowLength * this.eventDensity), this.eventDensity);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillWindows() {
+        for (int i = 0; i < WINDOWS_PER_INVOCATION; ++i) {
+            final BenchmarkSlidingWindow window = new BenchmarkSlidingWindow(
+                    Measure.valueOf(this.windowLength, SI.SECOND),
+                    Measure.valueOf(this.windowLength * this.incrementRatio, SI.SECOND),
+                    BenchmarkMeasurements.STATE_TUPLE_METRIC, this.strategy.createStrategy());
+            window.addObserver(new BlackholeWindowListener(BenchmarkMeasurements.STATE_TUPLE_METRIC, this.blackhole));
+            for (MeasuringValue measurement : this.measurements) {
+                window.addMeasurement(measurement);
+            }
+            this.windows[i] = window;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOWS_PER_INVOCATION)
+    public int onWindowFullEvent() {
+        int numberOfElements = 0;
+        for (BenchmarkSlidingWindow window : this.windows) {
+            window.moveOn();
+            numberOfElements += window.getNumberOfElements();
+        }
+        return numberOfElements;
+    }
+}
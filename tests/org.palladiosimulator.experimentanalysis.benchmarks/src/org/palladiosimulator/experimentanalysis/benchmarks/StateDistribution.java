@@ -0,0 +1,34 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Enumerates the distributions of the {@code state of active resource} values the benchmark inputs
+ * are drawn from.
+ */
+public enum StateDistribution {
+
+    /** The resource is either idle ({@code 0}) or busy ({@code 1}), with equal probability. */
+    IDLE_BUSY {
+        @Override
+        long nextState(final Random random) {
+            return random.nextBoolean() ? 1L : 0L;
+        }
+    },
+    /** The state is the number of jobs at the resource, uniformly drawn from {@code [0, 8]}. */
+    QUEUE_LENGTH {
+        @Override
+        long nextState(final Random random) {
+            return random.nextInt(9);
+        }
+    },
+    /** The resource is always busy. */
+    ALWAYS_BUSY {
+        @Override
+        long nextState(final Random random) {
+            return 1L;
+        }
+    };
+
+    abstract long nextState(Random random);
+}
@@ -0,0 +1,135 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.tests.utils.ListDataSource;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.ISeekableDataStream;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+
+/**
+ * In-memory {@link IDataSource} of {@code (point in time, state of active resource)} tuples that
+ * are equidistant in time, with pseudo-random states of {@code 0} (idle) or {@code 1} (busy).<br>
+ * The measurements are not stored but created upon access from their position, like a repository
+ * creates them upon reading. Hence, arbitrarily large inputs do not occupy the heap, and the
+ * creation cost resembles the one of reading a stored series. As the source has no measuring
+ * point, results are never cached.<br>
+ * Additionally, the point in time the first window is complete is recorded: it is the time at
+ * which a measurement beyond the upper bound of the first window is accessed for the first time.
+ */
+final class SyntheticStateDataSource extends ListDataSource {
+
+    private static final long SEED = 42L;
+
+    private final SyntheticStates states;
+
+    /**
+     * Initializes a new instance of the {@link SyntheticStateDataSource} class with the given
+     * parameters.
+     *
+     * @param numberOfMeasurements
+     *            The number of measurements of the source, at most {@link Integer#MAX_VALUE}.
+     * @param eventDensity
+     *            The number of measurements per simulated second.
+     * @param firstWindowUpperBound
+     *            The upper bound of the first window, in seconds.
+     */
+    SyntheticStateDataSource(final long numberOfMeasurements, final double eventDensity,
+            final double firstWindowUpperBound) {
+        this(new SyntheticStates(numberOfMeasurements, eventDensity, firstWindowUpperBound));
+    }
+
+    private SyntheticStateDataSource(final SyntheticStates states) {
+        super(BenchmarkMeasurements.STATE_TUPLE_METRIC, states);
+        this.states = states;
+    }
+
+    /**
+     * Gets the value of {@link System#nanoTime()} at which the first window was complete, or
+     * {@code 0} if no measurement beyond the first window has been accessed since the last
+     * {@link #reset()}.
+     */
+    long getFirstWindowCompleteNanos() {
+        return this.states.firstWindowCompleteNanos;
+    }
+
+    void reset() {
+        this.states.firstWindowCompleteNanos = 0L;
+    }
+
+    @Override
+    protected IDataStream<MeasuringValue> createDataStream() {
+        return new SyntheticStateDataStream();
+    }
+
+    /**
+     * Gets the pseudo-random state at the given position (SplitMix64 finalizer), so that the
+     * stream can be accessed at random.
+     */
+    private static long stateAt(final long index) {
+        long z = SEED + index * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) & 1L;
+    }
+
+    /**
+     * List view that creates the measurement at a position upon access.
+     */
+    private static final class SyntheticStates extends AbstractList<MeasuringValue> {
+
+        private final int numberOfMeasurements;
+        private final double eventDensity;
+        private final double firstWindowUpperBound;
+        private long firstWindowCompleteNanos = 0L;
+
+        private SyntheticStates(final long numberOfMeasurements, final double eventDensity,
+                final double firstWindowUpperBound) {
+            if (numberOfMeasurements > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Streams are limited to " + Integer.MAX_VALUE + " elements.");
+            }
+            this.numberOfMeasurements = (int) numberOfMeasurements;
+            this.eventDensity = eventDensity;
+            this.firstWindowUpperBound = firstWindowUpperBound;
+        }
+
+        @Override
+        public MeasuringValue get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Given index is out of range: " + index);
+            }
+            final double pointInTime = index / this.eventDensity;
+            if (this.firstWindowCompleteNanos == 0L && pointInTime > this.firstWindowUpperBound) {
+                this.firstWindowCompleteNanos = System.nanoTime();
+            }
+            return new TupleMeasurement(BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                    Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(stateAt(index), Unit.ONE));
+        }
+
+        @Override
+        public int size() {
+            return this.numberOfMeasurements;
+        }
+    }
+
+    private final class SyntheticStateDataStream extends ListDataStream
+            implements ISeekableDataStream<MeasuringValue> {
+
+        @Override
+        public MeasuringValue get(final int index) {
+            return getData().get(index);
+        }
+
+        @Override
+        public Iterator<MeasuringValue> iterator() {
+            return iterator(0);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * Measures the cost of the {@link SlidingWindowUtilizationAggregator} per window, which is
+ * dominated by the JScience {@code Amount} arithmetic of the busy time computation.
+ */
+public class UtilizationAggregatorBenchmark extends AbstractUtilizationAggregatorBenchmark {
+
+    @Override
+    protected SlidingWindowAggregator createAggregator(final IRecorder recorder,
+            final Measure<Double, Duration> windowLength) {
+        return new SlidingWindowUtilizationAggregator(BenchmarkMeasurements.STATE_TUPLE_METRIC, recorder);
+    }
+}
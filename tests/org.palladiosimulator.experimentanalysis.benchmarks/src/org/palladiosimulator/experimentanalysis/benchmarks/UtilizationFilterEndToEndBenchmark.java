@@ -0,0 +1,135 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.HeadlessUtilizationFilter;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationFilterConfiguration;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Measures {@link HeadlessUtilizationFilter#getDataStream()} end to end, i.e., reading the input
+ * from a data source, computing the windows and collecting the output, for inputs of up to
+ * {@code 1e8} measurements. The headless filter performs the same computation as the workbench
+ * filter, which extends it, but does not require a workbench.<br>
+ * Each iteration is a single invocation. Besides the total time, the following is reported per
+ * iteration:
+ * <ul>
+ * <li>{@code timeToFirstOutputMillis}: the time until the first window is complete,</li>
+ * <li>{@code peakHeapMegabytes}: the peak usage of the heap, including garbage that has not been
+ * collected yet,</li>
+ * <li>{@code outputSize}: the number of output measurements.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class UtilizationFilterEndToEndBenchmark {
+
+    private static final double EVENT_DENSITY = 100d; // measurements per simulated second
+    private static final double BYTES_PER_MEGABYTE = 1024d * 1024d;
+
+    @Param({ "100000", "1000000", "10000000", "100000000" })
+    public long numberOfMeasurements;
+
+    /** The window length and increment, in seconds, separated by a colon. */
+    @Param({ "10:10", "10:1", "100:10" })
+    public String window;
+
+    private SyntheticStateDataSource dataSource;
+    private HeadlessUtilizationFilter filter;
+
+    /**
+     * The additional results of an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Result {
+
+        public double timeToFirstOutputMillis;
+        public double peakHeapMegabytes;
+        public long outputSize;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            this.timeToFirstOutputMillis = 0d;
+            this.peakHeapMegabytes = 0d;
+            this.outputSize = 0L;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String[] windowParameters = this.window.split(":");
+        final double windowLength = Double.parseDouble(windowParameters[0]);
+        final double windowIncrement = Double.parseDouble(windowParameters[1]);
+
+        this.dataSource = new SyntheticStateDataSource(this.numberOfMeasurements, EVENT_DENSITY, windowLength);
+        this.filter = new HeadlessUtilizationFilter(this.dataSource);
+        final Map<String, Object> configuration = new HashMap<>(
+                this.filter.createProperties().getDefaultConfiguration());
+        configuration.put(UtilizationFilterConfiguration.WINDOW_LENGTH_KEY, Measure.valueOf(windowLength, SI.SECOND));
+        configuration.put(UtilizationFilterConfiguration.WINDOW_INCREMENT_KEY,
+                Measure.valueOf(windowIncrement, SI.SECOND));
+        this.filter.setProperties(configuration);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeapUsage() {
+        this.dataSource.reset();
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @Benchmark
+    public IDataStream<MeasuringValue> getDataStream(final Result result) {
+        final long start = System.nanoTime();
+        final IDataStream<MeasuringValue> output = this.filter.getDataStream();
+        final long end = System.nanoTime();
+
+        final long firstWindowComplete = this.dataSource.getFirstWindowCompleteNanos();
+        // if there is only a single window, it is complete once the input is exhausted
+        result.timeToFirstOutputMillis = ((firstWindowComplete == 0L ? end : firstWindowComplete) - start) / 1e6;
+        result.peakHeapMegabytes = getPeakHeapUsage() / BYTES_PER_MEGABYTE;
+        result.outputSize = output.size();
+        return output;
+    }
+
+    private static long getPeakHeapUsage() {
+        long result = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                result += pool.getPeakUsage().getUsed();
+            }
+        }
+        return result;
+    }
+}
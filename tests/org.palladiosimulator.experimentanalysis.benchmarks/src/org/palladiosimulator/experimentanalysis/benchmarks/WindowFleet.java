@@ -0,0 +1,127 @@
+package org.palladiosimulator.experimentanalysis.benchmarks;
+
+import java.util.function.Supplier;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindowRecorder;
+import org.palladiosimulator.experimentanalysis.management.LatencyHistogram;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+/**
+ * A number of utilization windows as a simulation attaches them to its monitored resources: each
+ * window has its own {@link SlidingWindowRecorder}, {@link SlidingWindowUtilizationAggregator}
+ * and result recorder.<br>
+ * The windows are fed in rounds, one measurement per window and round, all with the same point in
+ * time. Hence, the windows are aligned and all of them emit their results in the same round, just
+ * like the windows of a simulation which are all started at {@code 0s}. The points in time and the
+ * states are taken from a {@link SyntheticWorkload}, which is repeated as often as required.
+ */
+final class WindowFleet {
+
+    private final SlidingWindowRecorder[] windows;
+    private final double[] pointsInTime;
+    private final long[] states;
+    private final double period;
+    private final double increment;
+
+    // the windows are aligned, so they share the upper bound
+    private double currentUpperBound;
+    private double offset = 0d;
+    private int nextIndex = 0;
+
+    /**
+     * Initializes a new instance of the {@link WindowFleet} class with the given parameters.
+     *
+     * @param numberOfWindows
+     *            The number of windows.
+     * @param windowLength
+     *            The window length, in seconds.
+     * @param increment
+     *            The window increment, in seconds.
+     * @param workload
+     *            The {@link SyntheticWorkload} of state measurements to feed.
+     * @param recorderFactory
+     *            Creates the recorder the results of a window are written into.
+     */
+    WindowFleet(final int numberOfWindows, final double windowLength, final double increment,
+            final SyntheticWorkload workload, final Supplier<IRecorder> recorderFactory) {
+        this.windows = new SlidingWindowRecorder[numberOfWindows];
+        for (int i = 0; i < numberOfWindows; ++i) {
+            final BenchmarkSlidingWindow window = new BenchmarkSlidingWindow(Measure.valueOf(windowLength, SI.SECOND),
+                    Measure.valueOf(increment, SI.SECOND), BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                    new KeepLastElementPriorToLowerBoundStrategy());
+            this.windows[i] = new SlidingWindowRecorder(window, new SlidingWindowUtilizationAggregator(
+                    BenchmarkMeasurements.STATE_TUPLE_METRIC, recorderFactory.get()));
+        }
+        this.pointsInTime = workload.getPointsInTime();
+        final double[] values = workload.getValues();
+        this.states = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            this.states[i] = (long) values[i];
+        }
+        // the mean interarrival time separates the repetitions of the workload
+        final double lastPointInTime = this.pointsInTime[this.pointsInTime.length - 1];
+        this.period = lastPointInTime + lastPointInTime / this.pointsInTime.length;
+        this.increment = increment;
+        this.currentUpperBound = windowLength;
+    }
+
+    /**
+     * Gets the number of windows.
+     *
+     * @return The number of windows.
+     */
+    int size() {
+        return this.windows.length;
+    }
+
+    /**
+     * Gets the point in time of the next round.
+     *
+     * @return The point in time, in seconds.
+     */
+    double getNextPointInTime() {
+        return this.offset + this.pointsInTime[this.nextIndex];
+    }
+
+    /**
+     * Feeds one measurement into each window.
+     *
+     * @param emitLatencies
+     *            If not {@code null}, the duration of each call that has a window emit its result
+     *            is recorded in this histogram, in nanoseconds.
+     * @return Whether the windows have emitted their results in this round.
+     */
+    boolean feedRound(final LatencyHistogram emitLatencies) {
+        final double pointInTime = getNextPointInTime();
+        final long state = this.states[this.nextIndex];
+        if (++this.nextIndex == this.pointsInTime.length) {
+            this.nextIndex = 0;
+            this.offset += this.period;
+        }
+        final boolean emits = pointInTime > this.currentUpperBound;
+        while (pointInTime > this.currentUpperBound) {
+            this.currentUpperBound += this.increment;
+        }
+        for (SlidingWindowRecorder window : this.windows) {
+            // a simulation creates a measurement per resource as well
+            final TupleMeasurement measurement = new TupleMeasurement(BenchmarkMeasurements.STATE_TUPLE_METRIC,
+                    Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(state, Unit.ONE));
+            if (emits && emitLatencies != null) {
+                final long start = System.nanoTime();
+                window.writeData(measurement);
+                emitLatencies.record(System.nanoTime() - start);
+            } else {
+                window.writeData(measurement);
+            }
+        }
+        return emits;
+    }
+}
@@ -0,0 +1,206 @@
+package org.palladiosimulator.experimentanalysis.concurrent.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.concurrent.KeyedWindowRuntime;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+public class KeyedWindowRuntimeTest {
+
+    private static final int NUMBER_OF_KEYS = 200;
+    private static final int MEASUREMENTS_PER_KEY = 20;
+
+    private List<MeasuringValue> measurements;
+
+    @Before
+    public void setUp() throws Exception {
+        this.measurements = new ArrayList<>();
+        for (int i = 0; i < MEASUREMENTS_PER_KEY; ++i) {
+            this.measurements.add(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                    Measure.valueOf((double) i, SI.SECOND), Measure.valueOf(1d, SI.SECOND)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyedWindowRuntimeCtorInvalidConcurrency() {
+        new KeyedWindowRuntime<String>(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterKeyTwice() {
+        try (KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1)) {
+            runtime.register("key", new StoreAllMeasurementsRecorder());
+            runtime.register("key", new StoreAllMeasurementsRecorder());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubmitUnknownKey() throws InterruptedException {
+        try (KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1)) {
+            runtime.submit("key", this.measurements.get(0));
+        }
+    }
+
+    @Test
+    public void testMeasurementsAreWrittenInOrderPerKey() throws InterruptedException {
+        List<StoreAllMeasurementsRecorder> recorders = new ArrayList<>();
+        try (KeyedWindowRuntime<Integer> runtime = new KeyedWindowRuntime<>(4, 8)) {
+            for (int key = 0; key < NUMBER_OF_KEYS; ++key) {
+                StoreAllMeasurementsRecorder recorder = new StoreAllMeasurementsRecorder();
+                recorders.add(recorder);
+                runtime.register(key, recorder);
+            }
+            assertEquals(NUMBER_OF_KEYS, runtime.getNumberOfKeys());
+            for (MeasuringValue measurement : this.measurements) {
+                for (int key = 0; key < NUMBER_OF_KEYS; ++key) {
+                    runtime.submit(key, measurement);
+                }
+            }
+        }
+        for (StoreAllMeasurementsRecorder recorder : recorders) {
+            assertEquals(this.measurements, recorder.getMeasurements());
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (KeyedWindowRuntime<Integer> runtime = new KeyedWindowRuntime<>(2, 4)) {
+            for (int key = 0; key < 16; ++key) {
+                runtime.register(key, new StoreAllMeasurementsRecorder());
+            }
+            for (int i = 0; i < 4; ++i) {
+                for (int key = 0; key < 16; ++key) {
+                    runtime.execute(key, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(1);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    });
+                }
+            }
+        }
+        assertTrue(maxRunning.get() <= 2);
+        assertTrue(maxRunning.get() >= 1);
+    }
+
+    @Test
+    public void testBlockingRecorderReleasesPermit() throws InterruptedException {
+        CountDownLatch otherKeyProcessed = new CountDownLatch(1);
+        CountDownLatch blockingWriteDone = new CountDownLatch(1);
+        try (KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1)) {
+            IRecorder blockingRecorder = runtime.wrapBlockingRecorder(new StoreAllMeasurementsRecorder() {
+                @Override
+                public void writeData(MeasuringValue measurement) {
+                    // simulates blocking I/O that completes only once another key made progress
+                    try {
+                        if (otherKeyProcessed.await(5, TimeUnit.SECONDS)) {
+                            blockingWriteDone.countDown();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            runtime.register("blocking", blockingRecorder);
+            runtime.register("other", new StoreAllMeasurementsRecorder());
+
+            runtime.submit("blocking", this.measurements.get(0));
+            runtime.execute("other", otherKeyProcessed::countDown);
+            if (!blockingWriteDone.await(10, TimeUnit.SECONDS)) {
+                fail("The permit has not been released during blocking I/O.");
+            }
+        }
+    }
+
+    @Test
+    public void testNestedBlockingRecordersReleasePermitOnce() throws InterruptedException {
+        AtomicInteger permitsDuringWrite = new AtomicInteger(-1);
+        KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1);
+        try {
+            IRecorder blockingRecorder = runtime.wrapBlockingRecorder(
+                    runtime.wrapBlockingRecorder(new StoreAllMeasurementsRecorder() {
+                        @Override
+                        public void writeData(MeasuringValue measurement) {
+                            permitsDuringWrite.set(runtime.getAvailablePermits());
+                        }
+                    }));
+            runtime.register("blocking", blockingRecorder);
+            runtime.submit("blocking", this.measurements.get(0));
+        } finally {
+            runtime.close();
+        }
+        assertEquals(1, permitsDuringWrite.get());
+        assertEquals(1, runtime.getAvailablePermits());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailureIsReportedOnClose() throws InterruptedException {
+        try (KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1)) {
+            runtime.register("key", new StoreAllMeasurementsRecorder());
+            runtime.execute("key", () -> {
+                throw new IllegalArgumentException();
+            });
+        }
+    }
+
+    @Test
+    public void testErrorIsReportedOnClose() throws InterruptedException {
+        KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1);
+        runtime.register("key", new StoreAllMeasurementsRecorder());
+        runtime.execute("key", () -> {
+            throw new AssertionError();
+        });
+        assertCloseReports(runtime, AssertionError.class);
+    }
+
+    @Test
+    public void testSubmitAfterFailureFails() throws InterruptedException {
+        KeyedWindowRuntime<String> runtime = new KeyedWindowRuntime<>(1, 1);
+        runtime.register("key", new StoreAllMeasurementsRecorder());
+        runtime.execute("key", () -> {
+            throw new IllegalArgumentException();
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        try {
+            while (System.nanoTime() < deadline) {
+                runtime.submit("key", this.measurements.get(0));
+            }
+            fail("Submitting for a failed key did not fail.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertCloseReports(runtime, IllegalArgumentException.class);
+    }
+
+    private static void assertCloseReports(KeyedWindowRuntime<String> runtime, Class<?> failureType) {
+        try {
+            runtime.close();
+            fail("Closing did not report the failure.");
+        } catch (IllegalStateException e) {
+            assertEquals(1, e.getSuppressed().length);
+            assertTrue(failureType.isInstance(e.getSuppressed()[0]));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.palladiosimulator.experimentanalysis.flow.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.flow.MeasurementPublisher;
+import org.palladiosimulator.experimentanalysis.flow.MeasurementPublisher.OverflowPolicy;
+import org.palladiosimulator.experimentanalysis.flow.MeasurementSubscriber;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class MeasurementPublisherTest {
+
+    private List<MeasuringValue> measurements;
+
+    @Before
+    public void setUp() throws Exception {
+        this.measurements = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            this.measurements.add(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                    Measure.valueOf((double) i, SI.SECOND), Measure.valueOf(1d, SI.SECOND)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMeasurementPublisherCtorInvalidCapacity() {
+        new MeasurementPublisher(0, OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWriteDataAfterClose() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(1, OverflowPolicy.DROP_OLDEST);
+        publisherUnderTest.close();
+        publisherUnderTest.writeData(this.measurements.get(0));
+    }
+
+    @Test
+    public void testDemandIsHonored() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(10, OverflowPolicy.DROP_OLDEST);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        this.measurements.forEach(publisherUnderTest::writeData);
+        assertEquals(this.measurements.subList(0, 2), subscriber.received);
+
+        subscriber.subscription.request(10);
+        assertEquals(this.measurements, subscriber.received);
+        assertEquals(0, publisherUnderTest.getNumberOfDroppedMeasurements());
+    }
+
+    @Test
+    public void testDropOldest() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(2, OverflowPolicy.DROP_OLDEST);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+
+        this.measurements.forEach(publisherUnderTest::writeData);
+        subscriber.subscription.request(10);
+
+        assertEquals(this.measurements.subList(3, 5), subscriber.received);
+        assertEquals(3, publisherUnderTest.getNumberOfDroppedMeasurements());
+    }
+
+    @Test
+    public void testCoalesce() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(2, OverflowPolicy.COALESCE);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+
+        this.measurements.forEach(publisherUnderTest::writeData);
+        subscriber.subscription.request(10);
+
+        assertEquals(2, subscriber.received.size());
+        assertSame(this.measurements.get(0), subscriber.received.get(0));
+        assertSame(this.measurements.get(4), subscriber.received.get(1));
+        assertEquals(3, publisherUnderTest.getNumberOfDroppedMeasurements());
+    }
+
+    @Test
+    public void testBlock() throws InterruptedException {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(1, OverflowPolicy.BLOCK);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+
+        Thread producer = new Thread(() -> this.measurements.forEach(publisherUnderTest::writeData));
+        producer.start();
+        producer.join(200);
+        // second measurement does not fit into the buffer
+        assertTrue(producer.isAlive());
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertEquals(this.measurements, subscriber.received);
+        assertEquals(0, publisherUnderTest.getNumberOfDroppedMeasurements());
+    }
+
+    @Test
+    public void testCloseCompletesAfterBufferIsDrained() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(10, OverflowPolicy.DROP_OLDEST);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+
+        this.measurements.forEach(publisherUnderTest::writeData);
+        publisherUnderTest.close();
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertTrue(subscriber.completed);
+        assertEquals(this.measurements, subscriber.received);
+        assertEquals(0, publisherUnderTest.getNumberOfSubscribers());
+    }
+
+    @Test
+    public void testNonPositiveRequestSignalsError() {
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(10, OverflowPolicy.DROP_OLDEST);
+        ManualSubscriber subscriber = new ManualSubscriber();
+        publisherUnderTest.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testSubscriberFeedsRecorder() throws Exception {
+        StoreAllMeasurementsRecorder recorder = new StoreAllMeasurementsRecorder();
+        MeasurementSubscriber subscriber = new MeasurementSubscriber(recorder, 2);
+        try (SubmissionPublisher<MeasuringValue> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(subscriber);
+            this.measurements.forEach(publisher::submit);
+        }
+        subscriber.getCompletion().get(5, TimeUnit.SECONDS);
+        assertEquals(this.measurements, recorder.getMeasurements());
+    }
+
+    @Test
+    public void testPublisherFeedsSubscriber() throws Exception {
+        StoreAllMeasurementsRecorder recorder = new StoreAllMeasurementsRecorder();
+        MeasurementSubscriber subscriber = new MeasurementSubscriber(recorder, 2);
+        MeasurementPublisher publisherUnderTest = new MeasurementPublisher(1, OverflowPolicy.DROP_OLDEST);
+        publisherUnderTest.subscribe(subscriber);
+
+        this.measurements.forEach(publisherUnderTest::writeData);
+        publisherUnderTest.close();
+
+        assertTrue(subscriber.getCompletion().isDone());
+        assertEquals(this.measurements, recorder.getMeasurements());
+    }
+
+    private static final class ManualSubscriber implements Flow.Subscriber<MeasuringValue> {
+
+        private final List<MeasuringValue> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed = false;
+        private Throwable error = null;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(MeasuringValue item) {
+            this.received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
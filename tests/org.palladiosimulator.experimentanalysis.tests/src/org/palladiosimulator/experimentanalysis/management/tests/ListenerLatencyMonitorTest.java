@@ -0,0 +1,153 @@
+package org.palladiosimulator.experimentanalysis.management.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.management.LatencyHistogram;
+import org.palladiosimulator.experimentanalysis.management.ListenerLatencyMonitor;
+import org.palladiosimulator.experimentanalysis.management.ListenerLatencySummary;
+import org.palladiosimulator.experimentanalysis.tests.utils.ControllableSlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class ListenerLatencyMonitorTest {
+
+    private static final MetricSetDescription METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final int NUMBER_OF_WINDOWS = 3;
+    private static final long SLOW_LISTENER_MILLIS = 20;
+
+    private ControllableSlidingWindow window;
+    private SleepingListener fastListener;
+    private SleepingListener slowListener;
+    private List<ISlidingWindowListener> flaggedListeners;
+
+    @Before
+    public void setUp() {
+        this.window = createWindow();
+        this.fastListener = new SleepingListener(0);
+        this.slowListener = new SleepingListener(SLOW_LISTENER_MILLIS);
+        this.window.addObserver(this.fastListener);
+        this.window.addObserver(this.slowListener);
+        this.flaggedListeners = new ArrayList<>();
+    }
+
+    @Test
+    public void testSlowListenerIsFlagged() {
+        ListenerLatencyMonitor monitor = new ListenerLatencyMonitor(SLOW_LISTENER_MILLIS / 2, TimeUnit.MILLISECONDS,
+                (flaggedWindow, listener, durationNanos) -> {
+                    assertSame(this.window, flaggedWindow);
+                    assertTrue(durationNanos >= TimeUnit.MILLISECONDS.toNanos(SLOW_LISTENER_MILLIS));
+                    this.flaggedListeners.add(listener);
+                });
+        this.window.setListenerLatencyMonitor(monitor);
+        fillWindows();
+
+        assertEquals(NUMBER_OF_WINDOWS, this.flaggedListeners.size());
+        for (ISlidingWindowListener listener : this.flaggedListeners) {
+            assertSame(this.slowListener, listener);
+        }
+        List<ListenerLatencySummary> summaries = monitor.getSummaries();
+        assertEquals(2, summaries.size());
+        // the slow listener comes first
+        assertSame(this.slowListener, summaries.get(0).getListener());
+        assertEquals(NUMBER_OF_WINDOWS, summaries.get(0).getCount());
+        assertEquals(NUMBER_OF_WINDOWS, summaries.get(0).getSlowCount());
+        assertTrue(summaries.get(0).getMedian() >= TimeUnit.MILLISECONDS.toNanos(SLOW_LISTENER_MILLIS));
+        assertSame(this.fastListener, summaries.get(1).getListener());
+        assertEquals(0, summaries.get(1).getSlowCount());
+    }
+
+    @Test
+    public void testDetachedMonitorIsNotUpdated() {
+        ListenerLatencyMonitor monitor = new ListenerLatencyMonitor();
+        this.window.setListenerLatencyMonitor(monitor);
+        fillWindows();
+        this.window.setListenerLatencyMonitor(null);
+        fillWindows();
+
+        LatencyHistogram histogram = monitor.getHistogram(this.fastListener).get();
+        assertEquals(NUMBER_OF_WINDOWS, histogram.getCount());
+        // the default monitor does not flag any listener
+        assertEquals(0, monitor.getSummaries().get(0).getSlowCount());
+
+        monitor.reset();
+        assertFalse(monitor.getHistogram(this.fastListener).isPresent());
+        assertTrue(monitor.getSummaries().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testListenerLatencyMonitorCtorNegativeThreshold() {
+        new ListenerLatencyMonitor(-1, TimeUnit.MILLISECONDS, (window, listener, durationNanos) -> {
+        });
+    }
+
+    @Test
+    public void testLatencyHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; ++value) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        // buckets are at most 6.25% wide
+        assertTrue(histogram.getPercentile(50) >= 500 && histogram.getPercentile(50) <= 500 * 1.0625);
+        assertTrue(histogram.getPercentile(99) >= 990 && histogram.getPercentile(99) <= 1000);
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    private void fillWindows() {
+        for (int i = 0; i < NUMBER_OF_WINDOWS; ++i) {
+            this.window.addMeasurement(new TupleMeasurement(METRIC, Measure.valueOf((double) i, SI.SECOND),
+                    Measure.valueOf(1L, Unit.ONE)));
+            this.window.windowFull();
+        }
+    }
+
+    private static ControllableSlidingWindow createWindow() {
+        return new ControllableSlidingWindow(Measure.valueOf(10d, SI.SECOND), METRIC, new FlushWindowStrategy());
+    }
+
+    private static final class SleepingListener implements ISlidingWindowListener {
+
+        private final long millis;
+
+        private SleepingListener(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public void onSlidingWindowFull(Iterable<MeasuringValue> windowData, Measure<Double, Duration> windowLeftBound,
+                Measure<Double, Duration> windowLength) {
+            if (this.millis > 0) {
+                try {
+                    Thread.sleep(this.millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public MetricDescription getExpectedWindowDataMetric() {
+            return METRIC;
+        }
+    }
+}
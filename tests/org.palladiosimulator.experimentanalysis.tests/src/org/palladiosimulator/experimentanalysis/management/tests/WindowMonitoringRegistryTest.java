@@ -0,0 +1,168 @@
+package org.palladiosimulator.experimentanalysis.management.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.management.WindowMonitoringRegistry;
+import org.palladiosimulator.experimentanalysis.tests.utils.ControllableSlidingWindow;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreLastMeasurementRecorder;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class WindowMonitoringRegistryTest {
+
+    private static final MetricSetDescription METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final int NUMBER_OF_MEASUREMENTS = 5;
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private MBeanServer server;
+    private WindowMonitoringRegistry registryUnderTest;
+    private ControllableSlidingWindow window;
+
+    @Before
+    public void setUp() {
+        this.server = MBeanServerFactory.newMBeanServer();
+        this.registryUnderTest = new WindowMonitoringRegistry(this.server);
+        this.window = createWindow();
+        this.window.addObserver(new SlidingWindowUtilizationAggregator(METRIC, new StoreLastMeasurementRecorder()));
+    }
+
+    @After
+    public void tearDown() {
+        this.registryUnderTest.close();
+    }
+
+    @Test
+    public void testRegisteredWindowIsExposed() throws Exception {
+        ObjectName windowName = this.registryUnderTest.register(this.window, "cpu");
+        assertEquals(new ObjectName(WindowMonitoringRegistry.DOMAIN + ":type=SlidingWindow,name=\"cpu\""), windowName);
+        addMeasurements();
+
+        assertEquals(NUMBER_OF_MEASUREMENTS, this.server.getAttribute(windowName, "NumberOfElements"));
+        assertEquals((long) NUMBER_OF_MEASUREMENTS, this.server.getAttribute(windowName, "NumberOfMeasurements"));
+        assertEquals((long) NUMBER_OF_MEASUREMENTS,
+                this.server.getAttribute(windowName, "HighWaterMarkNumberOfElements"));
+        assertEquals(0d, (Double) this.server.getAttribute(windowName, "CurrentLowerBound"), DELTA);
+        assertEquals(10d, (Double) this.server.getAttribute(windowName, "CurrentUpperBound"), DELTA);
+        assertEquals(1, this.server.getAttribute(windowName, "NumberOfListeners"));
+
+        this.window.windowFull();
+        assertEquals(0, this.server.getAttribute(windowName, "NumberOfElements"));
+        assertEquals(1L, this.server.getAttribute(windowName, "NumberOfWindowFullEvents"));
+        assertEquals(10d, (Double) this.server.getAttribute(windowName, "CurrentLowerBound"), DELTA);
+        // the high-water mark survives the move on
+        assertEquals((long) NUMBER_OF_MEASUREMENTS,
+                this.server.getAttribute(windowName, "HighWaterMarkNumberOfElements"));
+
+        this.server.invoke(windowName, "resetStatistics", null, null);
+        assertEquals(0L, this.server.getAttribute(windowName, "HighWaterMarkNumberOfElements"));
+        assertEquals(0L, this.server.getAttribute(windowName, "NumberOfMeasurements"));
+    }
+
+    @Test
+    public void testAttachedAggregatorIsExposed() throws Exception {
+        this.registryUnderTest.register(this.window, "cpu");
+        ObjectName aggregatorName = new ObjectName(WindowMonitoringRegistry.DOMAIN
+                + ":type=WindowAggregator,window=\"cpu\",name=\"0:SlidingWindowUtilizationAggregator\"");
+        assertTrue(this.server.isRegistered(aggregatorName));
+        assertNull(this.server.getAttribute(aggregatorName, "LastResult"));
+
+        addMeasurements();
+        this.window.windowFull();
+        assertEquals(1L, this.server.getAttribute(aggregatorName, "NumberOfAggregations"));
+        assertEquals(1L, this.server.getAttribute(aggregatorName, "NumberOfResults"));
+        assertNotNull(this.server.getAttribute(aggregatorName, "LastResult"));
+    }
+
+    @Test
+    public void testRegistryTotals() throws Exception {
+        ControllableSlidingWindow otherWindow = createWindow();
+        this.registryUnderTest.register(this.window, "cpu");
+        this.registryUnderTest.register(otherWindow, "hdd");
+        addMeasurements();
+        otherWindow.addMeasurement(createMeasurement(0));
+
+        ObjectName registryName = new ObjectName(WindowMonitoringRegistry.DOMAIN + ":type=WindowMonitoringRegistry");
+        assertEquals(2, this.server.getAttribute(registryName, "NumberOfWindows"));
+        assertEquals((long) NUMBER_OF_MEASUREMENTS + 1,
+                this.server.getAttribute(registryName, "TotalNumberOfElements"));
+        assertEquals((long) NUMBER_OF_MEASUREMENTS + 1,
+                this.server.getAttribute(registryName, "TotalNumberOfMeasurements"));
+
+        assertTrue(this.registryUnderTest.unregister(otherWindow));
+        assertEquals(1, this.server.getAttribute(registryName, "NumberOfWindows"));
+        assertEquals(2, this.server.getAttribute(registryName, "HighWaterMarkNumberOfWindows"));
+    }
+
+    @Test
+    public void testUnregisterDetachesStatistics() throws Exception {
+        ObjectName windowName = this.registryUnderTest.register(this.window, "cpu");
+        assertTrue(this.registryUnderTest.unregister(this.window));
+        assertFalse(this.server.isRegistered(windowName));
+        assertFalse(this.registryUnderTest.unregister(this.window));
+
+        // registering again starts from scratch
+        addMeasurements();
+        windowName = this.registryUnderTest.register(this.window, "cpu");
+        assertEquals(0L, this.server.getAttribute(windowName, "NumberOfMeasurements"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegisterWindowTwice() {
+        this.registryUnderTest.register(this.window, "cpu");
+        this.registryUnderTest.register(this.window, "hdd");
+    }
+
+    @Test
+    public void testRegisterNameInUse() {
+        this.registryUnderTest.register(this.window, "cpu");
+        ControllableSlidingWindow otherWindow = createWindow();
+        try {
+            this.registryUnderTest.register(otherWindow, "cpu");
+            fail("Registering a second window by the same name must fail.");
+        } catch (IllegalArgumentException e) {
+            // the failed registration is rolled back
+            assertEquals(1, this.registryUnderTest.getNumberOfWindows());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRegisterAfterClose() {
+        this.registryUnderTest.close();
+        this.registryUnderTest.register(this.window, "cpu");
+    }
+
+    private void addMeasurements() {
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.window.addMeasurement(createMeasurement(i));
+        }
+    }
+
+    private static TupleMeasurement createMeasurement(int pointInTime) {
+        return new TupleMeasurement(METRIC, Measure.valueOf((double) pointInTime, SI.SECOND),
+                Measure.valueOf(1L, Unit.ONE));
+    }
+
+    private static ControllableSlidingWindow createWindow() {
+        return new ControllableSlidingWindow(Measure.valueOf(10d, SI.SECOND), METRIC, new FlushWindowStrategy());
+    }
+}
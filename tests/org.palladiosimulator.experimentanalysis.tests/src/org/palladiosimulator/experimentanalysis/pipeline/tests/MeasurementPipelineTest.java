@@ -0,0 +1,224 @@
+package org.palladiosimulator.experimentanalysis.pipeline.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.pipeline.MeasurementPipeline;
+import org.palladiosimulator.experimentanalysis.pipeline.PipelineBuilder;
+import org.palladiosimulator.experimentanalysis.pipeline.WindowFunctions;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+public class MeasurementPipelineTest {
+
+    private static final double DELTA = Math.pow(10, -12);
+    private static final Measure<Double, Duration> TEN_SECONDS = Measure.valueOf(10d, SI.SECOND);
+    private static final Measure<Double, Duration> TWENTY_SECONDS = Measure.valueOf(20d, SI.SECOND);
+
+    private StoreAllMeasurementsRecorder recorder;
+    private PipelineBuilder stateBuilder;
+    private PipelineBuilder responseTimeBuilder;
+
+    @Before
+    public void setUp() throws Exception {
+        this.recorder = new StoreAllMeasurementsRecorder();
+        this.stateBuilder = PipelineBuilder.from(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC);
+        this.responseTimeBuilder = PipelineBuilder.from(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+    }
+
+    private static void addStateMeasurement(MeasurementPipeline pipeline, double pointInTime, long state) {
+        pipeline.writeData(new TupleMeasurement(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(state, Unit.ONE)));
+    }
+
+    private static void addResponseTime(MeasurementPipeline pipeline, double pointInTime, double responseTime) {
+        pipeline.writeData(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(responseTime, SI.SECOND)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFromNullMetric() {
+        PipelineBuilder.from(null,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromValueMetricNotSubsumed() {
+        PipelineBuilder.from(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindowNegativeLength() {
+        this.responseTimeBuilder.window(Measure.valueOf(-1d, SI.SECOND), TEN_SECONDS, WindowFunctions.mean());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSmoothInvalidSmoothingFactor() {
+        this.stateBuilder.smooth(1.5d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testToNoRecorders() {
+        this.responseTimeBuilder.to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Collections.<IRecorder> emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteDataIncompatibleMeasurement() {
+        MeasurementPipeline pipeline = this.stateBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.utilization())
+                .to(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE, this.recorder);
+        addResponseTime(pipeline, 1d, 2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteDataOutOfOrder() {
+        MeasurementPipeline pipeline = this.responseTimeBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.mean())
+                .to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder);
+        addResponseTime(pipeline, 2d, 2d);
+        addResponseTime(pipeline, 1d, 2d);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWriteDataAfterNoMoreDataAvailable() {
+        MeasurementPipeline pipeline = this.responseTimeBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.mean())
+                .to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder);
+        addResponseTime(pipeline, 1d, 2d);
+        pipeline.noMoreDataAvailable();
+        addResponseTime(pipeline, 2d, 2d);
+    }
+
+    @Test
+    public void testSmoothedUtilization() {
+        MeasurementPipeline pipeline = this.stateBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.utilization())
+                .smooth(0.5d, 0d).to(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE, this.recorder);
+
+        // [0-3], [6-10.5]: activity, [3-6], [10.5-...]: idleness
+        addStateMeasurement(pipeline, 0d, 42L);
+        addStateMeasurement(pipeline, 3d, 0L);
+        addStateMeasurement(pipeline, 6d, 42L);
+        addStateMeasurement(pipeline, 10.5d, 0L);
+        // utilization of [0-10]: 0.7
+        assertUtilizations(this.recorder.getMeasurements(), 0.35d);
+
+        pipeline.noMoreDataAvailable();
+        // utilization of [10-20]: 0.05
+        assertUtilizations(this.recorder.getMeasurements(), 0.35d, 0.2d);
+        assertPointInTime(10d, this.recorder.getMeasurements().get(0));
+        assertPointInTime(20d, this.recorder.getMeasurements().get(1));
+    }
+
+    @Test
+    public void testWindowOverWindowResults() {
+        MeasurementPipeline pipeline = this.responseTimeBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.mean())
+                .window(TWENTY_SECONDS, TWENTY_SECONDS, WindowFunctions.maximum()).map(x -> 2d * x)
+                .to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder);
+
+        addResponseTime(pipeline, 1d, 2d);
+        addResponseTime(pipeline, 4d, 4d);
+        addResponseTime(pipeline, 12d, 10d);
+        addResponseTime(pipeline, 25d, 1d);
+        // means: 3 at 10s, 10 at 20s; the first window over them is [0-20]
+        assertResponseTimes(this.recorder.getMeasurements(), 6d);
+        assertPointInTime(20d, this.recorder.getMeasurements().get(0));
+
+        pipeline.noMoreDataAvailable();
+        // mean 1 at 30s completes the window [20-40]
+        assertResponseTimes(this.recorder.getMeasurements(), 6d, 20d);
+        assertPointInTime(40d, this.recorder.getMeasurements().get(1));
+    }
+
+    @Test
+    public void testHoppingWindowSkipsEmptyWindows() {
+        MeasurementPipeline pipeline = this.responseTimeBuilder.window(TEN_SECONDS, Measure.valueOf(5d, SI.SECOND),
+                WindowFunctions.count()).map(x -> x > 0d ? x : Double.NaN)
+                .to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder);
+
+        addResponseTime(pipeline, 1d, 1d);
+        addResponseTime(pipeline, 6d, 1d);
+        addResponseTime(pipeline, 31d, 1d);
+        pipeline.noMoreDataAvailable();
+
+        // windows: [0-10]: 2, [5-15]: 1, [10-20], [15-25], [20-30]: empty, [25-35], [30-40]: 1
+        assertResponseTimes(this.recorder.getMeasurements(), 2d, 1d, 1d, 1d);
+        assertPointInTime(35d, this.recorder.getMeasurements().get(2));
+        assertPointInTime(40d, this.recorder.getMeasurements().get(3));
+    }
+
+    @Test
+    public void testNoMoreDataAvailableProcessesOverlappingWindows() {
+        MeasurementPipeline pipeline = this.responseTimeBuilder.window(TEN_SECONDS, Measure.valueOf(2.5d, SI.SECOND),
+                WindowFunctions.sum()).to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder);
+
+        addResponseTime(pipeline, 1d, 1d);
+        addResponseTime(pipeline, 9d, 2d);
+        // no window is full yet
+        assertEquals(0, this.recorder.getMeasurements().size());
+
+        pipeline.noMoreDataAvailable();
+        // windows: [0-10]: 3, [2.5-12.5], [5-15], [7.5-17.5]: 2
+        assertResponseTimes(this.recorder.getMeasurements(), 3d, 2d, 2d, 2d);
+        assertPointInTime(17.5d, this.recorder.getMeasurements().get(3));
+    }
+
+    @Test
+    public void testBuilderCreatesIndependentPipelines() {
+        this.responseTimeBuilder.window(TEN_SECONDS, TEN_SECONDS, WindowFunctions.sum());
+        MeasurementPipeline first = this.responseTimeBuilder.to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                this.recorder);
+        StoreAllMeasurementsRecorder otherRecorder = new StoreAllMeasurementsRecorder();
+        MeasurementPipeline second = this.responseTimeBuilder
+                .to(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, otherRecorder);
+
+        addResponseTime(first, 1d, 2d);
+        addResponseTime(second, 2d, 3d);
+        first.noMoreDataAvailable();
+        second.noMoreDataAvailable();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 2d);
+        assertResponseTimes(otherRecorder.getMeasurements(), 3d);
+    }
+
+    private static void assertUtilizations(List<MeasuringValue> actual, double... expectedUtilizations) {
+        assertEquals(expectedUtilizations.length, actual.size());
+        for (int i = 0; i < expectedUtilizations.length; ++i) {
+            Measure<Double, Dimensionless> utilization = actual.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+            assertTrue(
+                    actual.get(i).isCompatibleWith(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE));
+            assertEquals(expectedUtilizations[i], utilization.doubleValue(Unit.ONE), DELTA);
+        }
+    }
+
+    private static void assertResponseTimes(List<MeasuringValue> actual, double... expectedResponseTimes) {
+        assertEquals(expectedResponseTimes.length, actual.size());
+        for (int i = 0; i < expectedResponseTimes.length; ++i) {
+            Measure<Double, Duration> responseTime = actual.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+            assertEquals(expectedResponseTimes[i], responseTime.doubleValue(SI.SECOND), DELTA);
+        }
+    }
+
+    private static void assertPointInTime(double expected, MeasuringValue actual) {
+        Measure<Double, Duration> pointInTime = actual
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        assertEquals(expected, pointInTime.doubleValue(SI.SECOND), DELTA);
+    }
+}
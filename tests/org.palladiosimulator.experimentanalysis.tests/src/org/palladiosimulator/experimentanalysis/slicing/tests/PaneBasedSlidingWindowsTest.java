@@ -0,0 +1,275 @@
+package org.palladiosimulator.experimentanalysis.slicing.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.slicing.BusyTimePaneAggregation;
+import org.palladiosimulator.experimentanalysis.slicing.BusyTimePaneAggregation.BusyTimePane;
+import org.palladiosimulator.experimentanalysis.slicing.ExtremumPaneAggregation;
+import org.palladiosimulator.experimentanalysis.slicing.ExtremumPaneAggregation.Extremum;
+import org.palladiosimulator.experimentanalysis.slicing.PaneBasedSlidingWindows;
+import org.palladiosimulator.experimentanalysis.slicing.QuantileSketchPaneAggregation;
+import org.palladiosimulator.experimentanalysis.slicing.ScalarPane;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.experimentanalysis.windowaggregators.QuantileSketch;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class PaneBasedSlidingWindowsTest {
+
+    private static final double DELTA = Math.pow(10, -12);
+
+    private PaneBasedSlidingWindows<BusyTimePane> windowsUnderTest;
+    private StoreAllMeasurementsRecorder tumblingWindowRecorder;
+    private StoreAllMeasurementsRecorder hoppingWindowRecorder;
+    private Measure<Long, Dimensionless> idleStateMeasure;
+    private Measure<Long, Dimensionless> busyStateMeasure;
+
+    @Before
+    public void setUp() throws Exception {
+        this.windowsUnderTest = new PaneBasedSlidingWindows<>(
+                new BusyTimePaneAggregation(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE));
+        this.tumblingWindowRecorder = new StoreAllMeasurementsRecorder();
+        this.hoppingWindowRecorder = new StoreAllMeasurementsRecorder();
+        this.idleStateMeasure = Measure.valueOf(0L, Unit.ONE);
+        this.busyStateMeasure = Measure.valueOf(42L, Unit.ONE);
+    }
+
+    private void addWindows() {
+        this.windowsUnderTest.addWindow(Measure.valueOf(10d, SI.SECOND), Measure.valueOf(10d, SI.SECOND),
+                this.tumblingWindowRecorder);
+        this.windowsUnderTest.addWindow(Measure.valueOf(10d, SI.SECOND), Measure.valueOf(5d, SI.SECOND),
+                this.hoppingWindowRecorder);
+    }
+
+    private void addStateMeasurement(double pointInTime, Measure<Long, Dimensionless> state) {
+        this.windowsUnderTest
+                .addMeasurement(new TupleMeasurement(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                        Measure.valueOf(pointInTime, SI.SECOND), state));
+    }
+
+    private void addStateMeasurements() {
+        // [0-3], [6-10.5]: activity, [3-6], [10.5-...]: idleness
+        addStateMeasurement(0d, this.busyStateMeasure);
+        addStateMeasurement(3d, this.idleStateMeasure);
+        addStateMeasurement(6d, this.busyStateMeasure);
+        addStateMeasurement(10.5d, this.idleStateMeasure);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPaneBasedSlidingWindowsCtorNullAggregation() {
+        new PaneBasedSlidingWindows<BusyTimePane>(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddWindowNegativeLength() {
+        this.windowsUnderTest.addWindow(Measure.valueOf(-1d, SI.SECOND), Measure.valueOf(1d, SI.SECOND),
+                this.tumblingWindowRecorder);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddWindowAfterFirstMeasurement() {
+        addWindows();
+        addStateMeasurement(0d, this.busyStateMeasure);
+        addWindows();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddMeasurementWithoutWindow() {
+        addStateMeasurement(0d, this.busyStateMeasure);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddMeasurementOutOfOrder() {
+        addWindows();
+        addStateMeasurement(2d, this.busyStateMeasure);
+        addStateMeasurement(1d, this.idleStateMeasure);
+    }
+
+    @Test
+    public void testPaneLength() {
+        addWindows();
+        assertNull(this.windowsUnderTest.getPaneLength());
+        addStateMeasurement(0d, this.busyStateMeasure);
+        assertEquals(5d, this.windowsUnderTest.getPaneLength().doubleValue(SI.SECOND), DELTA);
+        assertEquals(2, this.windowsUnderTest.getNumberOfWindows());
+    }
+
+    @Test
+    public void testIncommensurableWindowsSharePanes() {
+        this.windowsUnderTest.addWindow(Measure.valueOf(0.3d, SI.SECOND), Measure.valueOf(0.1d, SI.SECOND),
+                this.tumblingWindowRecorder);
+        this.windowsUnderTest.addWindow(Measure.valueOf(0.25d, SI.SECOND), Measure.valueOf(0.25d, SI.SECOND),
+                this.hoppingWindowRecorder);
+        addStateMeasurement(0d, this.busyStateMeasure);
+        assertEquals(0.05d, this.windowsUnderTest.getPaneLength().doubleValue(SI.SECOND), DELTA);
+    }
+
+    @Test
+    public void testUtilization() {
+        addWindows();
+        addStateMeasurements();
+
+        // at 10.5s, the windows [0-10] are full
+        assertUtilizations(this.tumblingWindowRecorder.getMeasurements(), 0.7d);
+        assertUtilizations(this.hoppingWindowRecorder.getMeasurements(), 0.7d);
+
+        this.windowsUnderTest.noMoreDataAvailable();
+        // [10-20]: 0.5s activity, [5-15]: 4.5s activity
+        assertUtilizations(this.tumblingWindowRecorder.getMeasurements(), 0.7d, 0.05d);
+        assertUtilizations(this.hoppingWindowRecorder.getMeasurements(), 0.7d, 0.45d);
+        assertPointInTime(20d, this.tumblingWindowRecorder.getMeasurements().get(1));
+        assertPointInTime(15d, this.hoppingWindowRecorder.getMeasurements().get(1));
+    }
+
+    @Test
+    public void testAdvanceToWithoutFurtherMeasurements() {
+        addWindows();
+        addStateMeasurement(0d, this.busyStateMeasure);
+
+        this.windowsUnderTest.advanceTo(Measure.valueOf(20d, SI.SECOND));
+        assertUtilizations(this.tumblingWindowRecorder.getMeasurements(), 1d, 1d);
+        assertUtilizations(this.hoppingWindowRecorder.getMeasurements(), 1d, 1d, 1d);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddMeasurementAfterNoMoreDataAvailable() {
+        addWindows();
+        addStateMeasurements();
+        this.windowsUnderTest.noMoreDataAvailable();
+        addStateMeasurement(20d, this.busyStateMeasure);
+    }
+
+    @Test
+    public void testMaximumResponseTime() {
+        PaneBasedSlidingWindows<ScalarPane> windows = new PaneBasedSlidingWindows<>(new ExtremumPaneAggregation(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, Extremum.MAXIMUM));
+        windows.addWindow(Measure.valueOf(4d, SI.SECOND), Measure.valueOf(2d, SI.SECOND),
+                this.hoppingWindowRecorder);
+
+        double[][] responseTimes = { { 0.5d, 3d }, { 1d, 1d }, { 2.5d, 2d }, { 4.5d, 1.5d }, { 6.5d, 0.5d } };
+        for (double[] responseTime : responseTimes) {
+            windows.addMeasurement(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                    Measure.valueOf(responseTime[0], SI.SECOND), Measure.valueOf(responseTime[1], SI.SECOND)));
+        }
+        windows.noMoreDataAvailable();
+
+        // windows: [0-4], [2-6], [4-8]
+        List<MeasuringValue> results = this.hoppingWindowRecorder.getMeasurements();
+        assertEquals(3, results.size());
+        double[] expectedMaxima = { 3d, 2d, 1.5d };
+        for (int i = 0; i < expectedMaxima.length; ++i) {
+            Measure<Double, Duration> maximum = results.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+            assertEquals(expectedMaxima[i], maximum.doubleValue(SI.SECOND), DELTA);
+        }
+    }
+
+    @Test
+    public void testMaximumResponseTimeAtFinalBoundary() {
+        PaneBasedSlidingWindows<ScalarPane> windows = new PaneBasedSlidingWindows<>(new ExtremumPaneAggregation(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC, Extremum.MAXIMUM));
+        windows.addWindow(Measure.valueOf(4d, SI.SECOND), Measure.valueOf(2d, SI.SECOND),
+                this.hoppingWindowRecorder);
+
+        // the last measurement lies exactly on the upper bound of the window [2-6]
+        double[][] responseTimes = { { 0.5d, 3d }, { 2.5d, 2d }, { 6d, 4d } };
+        for (double[] responseTime : responseTimes) {
+            windows.addMeasurement(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                    Measure.valueOf(responseTime[0], SI.SECOND), Measure.valueOf(responseTime[1], SI.SECOND)));
+        }
+        windows.noMoreDataAvailable();
+
+        // windows: [0-4], [2-6], [4-8], as panes are left-closed
+        List<MeasuringValue> results = this.hoppingWindowRecorder.getMeasurements();
+        assertEquals(3, results.size());
+        double[] expectedMaxima = { 3d, 2d, 4d };
+        for (int i = 0; i < expectedMaxima.length; ++i) {
+            Measure<Double, Duration> maximum = results.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+            assertEquals(expectedMaxima[i], maximum.doubleValue(SI.SECOND), DELTA);
+        }
+        assertPointInTime(8d, results.get(2));
+    }
+
+    @Test
+    public void testPercentileResponseTime() {
+        QuantileSketchPaneAggregation aggregation = new QuantileSketchPaneAggregation(100d, 0.01d);
+        PaneBasedSlidingWindows<QuantileSketch> windows = new PaneBasedSlidingWindows<>(aggregation);
+        windows.addWindow(Measure.valueOf(4d, SI.SECOND), Measure.valueOf(2d, SI.SECOND),
+                this.hoppingWindowRecorder);
+
+        double[][] responseTimes = { { 0.5d, 3d }, { 1d, 1d }, { 2.5d, 2d }, { 4.5d, 1.5d }, { 6.5d, 0.5d } };
+        for (double[] responseTime : responseTimes) {
+            windows.addMeasurement(new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                    Measure.valueOf(responseTime[0], SI.SECOND), Measure.valueOf(responseTime[1], SI.SECOND)));
+        }
+        windows.noMoreDataAvailable();
+
+        // windows: [0-4], [2-6], [4-8], the oldest panes are removed from the window sketch
+        List<MeasuringValue> results = this.hoppingWindowRecorder.getMeasurements();
+        assertEquals(3, results.size());
+        double[] expectedMaxima = { 3d, 2d, 1.5d };
+        for (int i = 0; i < expectedMaxima.length; ++i) {
+            Measure<Double, Duration> maximum = results.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.RESPONSE_TIME_METRIC);
+            assertEquals(expectedMaxima[i], maximum.doubleValue(SI.SECOND), expectedMaxima[i] * 0.01d);
+        }
+        assertTrue(aggregation.identity().isEmpty());
+    }
+
+    @Test
+    public void testQuantileSketchCombineIntoUpdatesAccumulator() {
+        QuantileSketchPaneAggregation aggregation = new QuantileSketchPaneAggregation(50d, 0.01d);
+        QuantileSketch older = aggregation.openPane(null, 0d);
+        older.add(1d);
+        QuantileSketch newer = aggregation.openPane(older, 1d);
+        newer.add(2d);
+
+        QuantileSketch accumulator = aggregation.combine(aggregation.identity(), older);
+        assertNotSame(aggregation.identity(), accumulator);
+        assertSame(accumulator, aggregation.combineInto(accumulator, newer));
+        assertEquals(2L, accumulator.getCount());
+        assertSame(accumulator, aggregation.inverseCombineInto(accumulator, older));
+        assertEquals(1L, accumulator.getCount());
+
+        // the partial aggregates of the panes are left untouched
+        assertEquals(1L, older.getCount());
+        assertEquals(1L, newer.getCount());
+        assertTrue(aggregation.identity().isEmpty());
+    }
+
+    private static void assertUtilizations(List<MeasuringValue> actual, double... expectedUtilizations) {
+        assertEquals(expectedUtilizations.length, actual.size());
+        for (int i = 0; i < expectedUtilizations.length; ++i) {
+            Measure<Double, Dimensionless> utilization = actual.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+            assertTrue(
+                    actual.get(i).isCompatibleWith(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE));
+            assertEquals(expectedUtilizations[i], utilization.doubleValue(Unit.ONE), DELTA);
+        }
+    }
+
+    private static void assertPointInTime(double expected, MeasuringValue actual) {
+        Measure<Double, Duration> pointInTime = actual
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        assertEquals(expected, pointInTime.doubleValue(SI.SECOND), DELTA);
+    }
+}
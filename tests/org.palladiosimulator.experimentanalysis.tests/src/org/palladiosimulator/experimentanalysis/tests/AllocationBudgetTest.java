@@ -0,0 +1,91 @@
+package org.palladiosimulator.experimentanalysis.tests;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.experimentanalysis.tests.utils.AllocationMeter;
+import org.palladiosimulator.experimentanalysis.tests.utils.ControllableSlidingWindow;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreLastMeasurementRecorder;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Checks the allocations of the hot paths against budgets, so that boxing or {@code Amount} churn
+ * that creeps back in fails the build. The budgets leave headroom for the allocations that are
+ * inherent, e.g., the list node per collected measurement or the result tuple per window.
+ */
+public class AllocationBudgetTest {
+
+    // budget of SlidingWindow.addMeasurement in steady state, including the amortized move on
+    private static final double ADD_MEASUREMENT_BUDGET_BYTES = 128;
+    // budget of SlidingWindowUtilizationAggregator per window, regardless of the window size
+    private static final double UTILIZATION_AGGREGATION_BUDGET_BYTES = 1024;
+
+    private static final MetricSetDescription METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final int NUMBER_OF_MEASUREMENTS = 100000;
+    private static final int MEASUREMENTS_PER_WINDOW = 1000;
+    private static final int NUMBER_OF_WINDOWS = 1000;
+    private static final double INTERARRIVAL_TIME = 0.01;
+    private static final Measure<Double, Duration> WINDOW_LENGTH = Measure
+            .valueOf(MEASUREMENTS_PER_WINDOW * INTERARRIVAL_TIME, SI.SECOND);
+
+    private List<MeasuringValue> measurements;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(AllocationMeter.isSupported());
+        this.measurements = new ArrayList<>(NUMBER_OF_MEASUREMENTS);
+        // busy and idle in turns
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.measurements.add(new TupleMeasurement(METRIC, Measure.valueOf(i * INTERARRIVAL_TIME, SI.SECOND),
+                    Measure.valueOf((long) (i % 2), Unit.ONE)));
+        }
+    }
+
+    @Test
+    public void testAddMeasurementWithinBudget() {
+        double bytesPerMeasurement = AllocationMeter.measureBytesPerOperation(NUMBER_OF_MEASUREMENTS, () -> {
+            SlidingWindow window = new ControllableSlidingWindow(WINDOW_LENGTH, METRIC,
+                    new KeepLastElementPriorToLowerBoundStrategy(), true);
+            window.addObserver(new SlidingWindowUtilizationAggregator(METRIC, new StoreLastMeasurementRecorder()));
+            this.measurements.forEach(window::addMeasurement);
+        });
+        assertWithinBudget("SlidingWindow.addMeasurement", bytesPerMeasurement, ADD_MEASUREMENT_BUDGET_BYTES);
+    }
+
+    @Test
+    public void testUtilizationAggregationWithinBudget() {
+        List<MeasuringValue> windowData = this.measurements.subList(0, MEASUREMENTS_PER_WINDOW);
+        Measure<Double, Duration> windowLeftBound = Measure.valueOf(0d, SI.SECOND);
+        SlidingWindowUtilizationAggregator aggregator = new SlidingWindowUtilizationAggregator(METRIC,
+                new StoreLastMeasurementRecorder());
+
+        double bytesPerWindow = AllocationMeter.measureBytesPerOperation(NUMBER_OF_WINDOWS, () -> {
+            for (int i = 0; i < NUMBER_OF_WINDOWS; ++i) {
+                aggregator.onSlidingWindowFull(windowData, windowLeftBound, WINDOW_LENGTH);
+            }
+        });
+        assertWithinBudget("SlidingWindowUtilizationAggregator", bytesPerWindow,
+                UTILIZATION_AGGREGATION_BUDGET_BYTES);
+    }
+
+    private static void assertWithinBudget(String operation, double actualBytes, double budgetBytes) {
+        assertTrue(operation + " allocates " + actualBytes + " bytes per operation, the budget is " + budgetBytes
+                + " bytes.", actualBytes <= budgetBytes);
+    }
+}
@@ -0,0 +1,108 @@
+package org.palladiosimulator.experimentanalysis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.BatchingRecorder;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllGroupsRecorder;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+
+public class BatchingRecorderTest {
+
+    private StoreAllGroupsRecorder groupRecorder;
+    private StoreAllMeasurementsRecorder plainRecorder;
+
+    @Before
+    public void setUp() throws Exception {
+        this.groupRecorder = new StoreAllGroupsRecorder();
+        this.plainRecorder = new StoreAllMeasurementsRecorder();
+    }
+
+    private static MeasuringValue createResponseTime(double pointInTime) {
+        return new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(1d, SI.SECOND));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testBatchingRecorderCtorNullRecorder() {
+        new BatchingRecorder((IRecorder) null, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchingRecorderCtorNoRecorders() {
+        new BatchingRecorder(Collections.<IRecorder> emptyList(), 10, Measure.valueOf(1d, SI.SECOND));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchingRecorderCtorInvalidGroupSize() {
+        new BatchingRecorder(this.groupRecorder, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchingRecorderCtorInvalidTimeSpan() {
+        new BatchingRecorder(this.groupRecorder, 10, Measure.valueOf(0d, SI.SECOND));
+    }
+
+    @Test
+    public void testGroupsWrittenOnSize() {
+        BatchingRecorder recorderUnderTest = new BatchingRecorder(
+                Arrays.<IRecorder> asList(this.groupRecorder, this.plainRecorder), 3, Measure.valueOf(100d, SI.SECOND));
+        for (int i = 0; i < 7; ++i) {
+            recorderUnderTest.writeData(createResponseTime(i));
+        }
+
+        assertEquals(Arrays.asList(3, 3), this.groupRecorder.getGroupSizes());
+        assertEquals(6, this.plainRecorder.getMeasurements().size());
+        assertEquals(1, recorderUnderTest.getNumberOfBufferedMeasurements());
+        assertEquals(2, recorderUnderTest.getNumberOfWrittenGroups());
+    }
+
+    @Test
+    public void testGroupsWrittenOnTimeSpan() {
+        BatchingRecorder recorderUnderTest = new BatchingRecorder(this.groupRecorder, 100,
+                Measure.valueOf(10d, SI.SECOND));
+        recorderUnderTest.writeData(createResponseTime(0d));
+        recorderUnderTest.writeData(createResponseTime(5d));
+        assertTrue(this.groupRecorder.getGroupSizes().isEmpty());
+
+        recorderUnderTest.writeData(createResponseTime(10d));
+        recorderUnderTest.writeData(createResponseTime(12d));
+        recorderUnderTest.writeData(createResponseTime(30d));
+
+        // [0, 5, 10] spans 10s, [12, 30] spans 18s
+        assertEquals(Arrays.asList(3, 2), this.groupRecorder.getGroupSizes());
+        assertEquals(0, recorderUnderTest.getNumberOfBufferedMeasurements());
+    }
+
+    @Test
+    public void testFlush() {
+        BatchingRecorder recorderUnderTest = new BatchingRecorder(this.groupRecorder, 10);
+        MeasuringValue first = createResponseTime(1d);
+        recorderUnderTest.writeData(first);
+        recorderUnderTest.writeData(createResponseTime(2d));
+        assertTrue(this.groupRecorder.getMeasurements().isEmpty());
+
+        recorderUnderTest.flush();
+        assertEquals(Collections.singletonList(2), this.groupRecorder.getGroupSizes());
+        assertSame(first, this.groupRecorder.getMeasurements().get(0));
+        assertEquals(1, this.groupRecorder.getNumberOfFlushes());
+
+        // empty groups are not written
+        recorderUnderTest.flush();
+        assertEquals(1, this.groupRecorder.getGroupSizes().size());
+        assertEquals(2, this.groupRecorder.getNumberOfFlushes());
+    }
+}
@@ -0,0 +1,161 @@
+package org.palladiosimulator.experimentanalysis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowScheduler;
+import org.palladiosimulator.experimentanalysis.ScheduledSlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+public class ScheduledSlidingWindowTest extends SlidingWindowTest {
+
+    private ManualScheduler scheduler;
+    private RecordingSlidingWindowListener recordingListener;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        this.scheduler = new ManualScheduler();
+        this.recordingListener = new RecordingSlidingWindowListener();
+        this.slidingWindowUnderTest = new ScheduledSlidingWindow(this.windowLength, this.increment,
+                windowMetricDescription, this.dummyStrategy, this.scheduler);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScheduledSlidingWindowCtorNullScheduler() {
+        new ScheduledSlidingWindow(this.windowLength, windowMetricDescription, this.dummyStrategy, null);
+    }
+
+    @Test
+    public void testClosingScheduledAtUpperBound() {
+        assertEquals(1, this.scheduler.getNumberOfPendingActions());
+        assertEquals(this.windowLength.doubleValue(SI.SECOND), this.scheduler.getNextPointInTime(), 0d);
+    }
+
+    @Test
+    public void testScheduledClosingWithoutFurtherMeasurements() {
+        this.slidingWindowUnderTest.addObserver(this.recordingListener);
+        this.slidingWindowUnderTest.addMeasurement(this.measurement);
+
+        // resource goes quiet: window must be closed nevertheless
+        this.scheduler.advanceTo(this.windowLength.doubleValue(SI.SECOND));
+
+        assertEquals(1, this.recordingListener.windowLeftBounds.size());
+        assertEquals(0d, this.recordingListener.windowLeftBounds.get(0), 0d);
+        assertEquals(1, (int) this.recordingListener.windowSizes.get(0));
+        // window moved on and registered for its next closing
+        assertEquals(this.increment.doubleValue(SI.SECOND),
+                this.slidingWindowUnderTest.getCurrentLowerBound().doubleValue(SI.SECOND), 0d);
+        assertEquals(this.increment.doubleValue(SI.SECOND) + this.windowLength.doubleValue(SI.SECOND),
+                this.scheduler.getNextPointInTime(), 0d);
+    }
+
+    @Test
+    public void testOutdatedClosingIgnored() {
+        this.slidingWindowUnderTest.addObserver(this.recordingListener);
+        // measurement out of bounds arrives before scheduled closing is executed
+        this.slidingWindowUnderTest.addMeasurement(new TupleMeasurement(measurementsMetricDescription,
+                Measure.valueOf(12d, SI.SECOND), this.stateMeasure));
+        assertEquals(1, this.recordingListener.windowLeftBounds.size());
+
+        this.scheduler.advanceTo(this.windowLength.doubleValue(SI.SECOND));
+        // outdated closing at 10s must not move the window again
+        assertEquals(1, this.recordingListener.windowLeftBounds.size());
+
+        this.scheduler.advanceTo(15d);
+        assertEquals(2, this.recordingListener.windowLeftBounds.size());
+        assertEquals(5d, this.recordingListener.windowLeftBounds.get(1), 0d);
+    }
+
+    @Test
+    public void testStopScheduling() {
+        this.slidingWindowUnderTest.addObserver(this.recordingListener);
+        ((ScheduledSlidingWindow) this.slidingWindowUnderTest).stopScheduling();
+        assertTrue(((ScheduledSlidingWindow) this.slidingWindowUnderTest).isSchedulingStopped());
+
+        this.scheduler.advanceTo(100d);
+        assertTrue(this.recordingListener.windowLeftBounds.isEmpty());
+    }
+
+    private static final class ManualScheduler implements ISlidingWindowScheduler {
+
+        private final PriorityQueue<ScheduledAction> pendingActions = new PriorityQueue<>();
+        private long sequenceNumber = 0;
+
+        @Override
+        public void scheduleAt(Measure<Double, Duration> pointInTime, Runnable action) {
+            this.pendingActions
+                    .add(new ScheduledAction(pointInTime.doubleValue(SI.SECOND), this.sequenceNumber++, action));
+        }
+
+        private void advanceTo(double pointInTime) {
+            while (!this.pendingActions.isEmpty() && this.pendingActions.peek().pointInTime <= pointInTime) {
+                this.pendingActions.poll().action.run();
+            }
+        }
+
+        private int getNumberOfPendingActions() {
+            return this.pendingActions.size();
+        }
+
+        private double getNextPointInTime() {
+            return this.pendingActions.peek().pointInTime;
+        }
+    }
+
+    private static final class ScheduledAction implements Comparable<ScheduledAction> {
+
+        private final double pointInTime;
+        private final long sequenceNumber;
+        private final Runnable action;
+
+        private ScheduledAction(double pointInTime, long sequenceNumber, Runnable action) {
+            this.pointInTime = pointInTime;
+            this.sequenceNumber = sequenceNumber;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(ScheduledAction other) {
+            int result = Double.compare(this.pointInTime, other.pointInTime);
+            return result != 0 ? result : Long.compare(this.sequenceNumber, other.sequenceNumber);
+        }
+    }
+
+    private static final class RecordingSlidingWindowListener implements ISlidingWindowListener {
+
+        private final List<Double> windowLeftBounds = new ArrayList<>();
+        private final List<Integer> windowSizes = new ArrayList<>();
+
+        @Override
+        public void onSlidingWindowFull(Iterable<MeasuringValue> windowData, Measure<Double, Duration> windowLeftBound,
+                Measure<Double, Duration> windowLength) {
+            this.windowLeftBounds.add(windowLeftBound.doubleValue(SI.SECOND));
+            int size = 0;
+            for (@SuppressWarnings("unused")
+            MeasuringValue measurement : windowData) {
+                ++size;
+            }
+            this.windowSizes.add(size);
+        }
+
+        @Override
+        public MetricDescription getExpectedWindowDataMetric() {
+            return windowMetricDescription;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.palladiosimulator.experimentanalysis.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowFullEvent;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowListenerEvent;
+import org.palladiosimulator.experimentanalysis.jfr.SlidingWindowMoveOnEvent;
+import org.palladiosimulator.experimentanalysis.jfr.WindowAggregationEvent;
+import org.palladiosimulator.experimentanalysis.tests.utils.ControllableSlidingWindow;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreLastMeasurementRecorder;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowUtilizationAggregator;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class SlidingWindowFlightRecorderTest {
+
+    private static final MetricSetDescription METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    private static final int NUMBER_OF_MEASUREMENTS = 3;
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private ControllableSlidingWindow windowUnderTest;
+    private StoreLastMeasurementRecorder recorder;
+
+    @Before
+    public void setUp() {
+        this.windowUnderTest = createWindow();
+        this.recorder = new StoreLastMeasurementRecorder();
+        this.windowUnderTest.addObserver(new SlidingWindowUtilizationAggregator(METRIC, this.recorder));
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.windowUnderTest.addMeasurement(new TupleMeasurement(METRIC, Measure.valueOf((double) i, SI.SECOND),
+                    Measure.valueOf(1L, Unit.ONE)));
+        }
+    }
+
+    @Test
+    public void testEventsEmittedIfEnabled() throws Exception {
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile(null, ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(SlidingWindowMoveOnEvent.class);
+                recording.enable(SlidingWindowFullEvent.class);
+                recording.enable(SlidingWindowListenerEvent.class);
+                recording.enable(WindowAggregationEvent.class);
+                recording.start();
+                this.windowUnderTest.windowFull();
+                recording.stop();
+                recording.dump(file);
+            }
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+        // the listener has been notified, although one by one
+        assertNotNull(this.recorder.getLastMeasurement());
+
+        RecordedEvent moveOn = getSingleEvent(events, SlidingWindowMoveOnEvent.class);
+        assertEquals(METRIC.getName(), moveOn.getString("metric"));
+        assertEquals(0d, moveOn.getDouble("lowerBound"), DELTA);
+        assertEquals(10d, moveOn.getDouble("upperBound"), DELTA);
+        assertEquals(NUMBER_OF_MEASUREMENTS, moveOn.getInt("evictedElements"));
+        assertEquals(0, moveOn.getInt("retainedElements"));
+
+        RecordedEvent full = getSingleEvent(events, SlidingWindowFullEvent.class);
+        assertEquals(NUMBER_OF_MEASUREMENTS, full.getInt("numberOfElements"));
+        assertEquals(1, full.getInt("numberOfListeners"));
+
+        RecordedEvent listener = getSingleEvent(events, SlidingWindowListenerEvent.class);
+        assertEquals(SlidingWindowUtilizationAggregator.class.getName(), listener.getClass("listener").getName());
+
+        RecordedEvent aggregation = getSingleEvent(events, WindowAggregationEvent.class);
+        assertEquals(SlidingWindowUtilizationAggregator.class.getName(),
+                aggregation.getClass("aggregator").getName());
+        assertEquals(NUMBER_OF_MEASUREMENTS, aggregation.getInt("numberOfElements"));
+        assertTrue(aggregation.getBoolean("resultAvailable"));
+    }
+
+    @Test
+    public void testListenersNotifiedIfDisabled() {
+        this.windowUnderTest.windowFull();
+        assertNotNull(this.recorder.getLastMeasurement());
+        assertTrue(this.windowUnderTest.isEmpty());
+        assertFalse(new SlidingWindowListenerEvent().isEnabled());
+    }
+
+    private static RecordedEvent getSingleEvent(List<RecordedEvent> events, Class<?> eventClass) {
+        String eventName = eventClass.getAnnotation(jdk.jfr.Name.class).value();
+        List<RecordedEvent> result = events.stream().filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        assertEquals(1, result.size());
+        return result.get(0);
+    }
+
+    private static ControllableSlidingWindow createWindow() {
+        return new ControllableSlidingWindow(Measure.valueOf(10d, SI.SECOND), METRIC, new FlushWindowStrategy());
+    }
+}
@@ -0,0 +1,123 @@
+package org.palladiosimulator.experimentanalysis.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.tests.utils.ArrivalProcess;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload.Series;
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkloadGenerator;
+
+public class SyntheticWorkloadGeneratorTest {
+
+    private static final long SEED = 42L;
+    // arrival rate 5/s and mean service time 0.1s, i.e., a utilization of 50%
+    private static final SyntheticWorkloadGenerator MM1_GENERATOR = new SyntheticWorkloadGenerator(SEED,
+            ArrivalProcess.poisson(5d), 0.1, 1);
+
+    @Test
+    public void testGenerateReproducible() {
+        SyntheticWorkload first = MM1_GENERATOR.generate(Series.STATE_OF_ACTIVE_RESOURCE, 1000d);
+        SyntheticWorkload second = new SyntheticWorkloadGenerator(SEED, ArrivalProcess.poisson(5d), 0.1, 1)
+                .generate(Series.STATE_OF_ACTIVE_RESOURCE, 1000d);
+        assertArrayEquals(first.getPointsInTime(), second.getPointsInTime(), 0d);
+        assertArrayEquals(first.getValues(), second.getValues(), 0d);
+
+        SyntheticWorkload otherSeed = new SyntheticWorkloadGenerator(SEED + 1, ArrivalProcess.poisson(5d), 0.1, 1)
+                .generate(Series.STATE_OF_ACTIVE_RESOURCE, 1000d);
+        assertFalse(Arrays.equals(first.getPointsInTime(), otherSeed.getPointsInTime()));
+    }
+
+    @Test
+    public void testGenerateNumberOfMeasurementsIsPrefix() {
+        SyntheticWorkload full = MM1_GENERATOR.generate(Series.RESPONSE_TIME, 1000d);
+        SyntheticWorkload prefix = MM1_GENERATOR.generate(Series.RESPONSE_TIME, 100);
+        assertEquals(100, prefix.size());
+        assertArrayEquals(Arrays.copyOf(full.getPointsInTime(), 100), prefix.getPointsInTime(), 0d);
+        assertArrayEquals(Arrays.copyOf(full.getValues(), 100), prefix.getValues(), 0d);
+    }
+
+    @Test
+    public void testGenerateStates() {
+        SyntheticWorkload states = MM1_GENERATOR.generate(Series.STATE_OF_ACTIVE_RESOURCE, 10000d);
+        assertEquals(0d, states.getPointInTime(0), 0d);
+        assertEquals(0d, states.getValue(0), 0d);
+
+        double busyTime = 0d;
+        for (int i = 1; i < states.size(); ++i) {
+            assertTrue(states.getPointInTime(i) >= states.getPointInTime(i - 1));
+            assertTrue(states.getPointInTime(i) <= 10000d);
+            // each arrival or departure changes the number of jobs by one
+            assertEquals(1d, Math.abs(states.getValue(i) - states.getValue(i - 1)), 0d);
+            if (states.getValue(i - 1) > 0d) {
+                busyTime += states.getPointInTime(i) - states.getPointInTime(i - 1);
+            }
+        }
+        assertEquals(0.5, busyTime / states.getPointInTime(states.size() - 1), 0.02);
+    }
+
+    @Test
+    public void testGenerateResponseTimes() {
+        SyntheticWorkload responseTimes = MM1_GENERATOR.generate(Series.RESPONSE_TIME, 10000d);
+        double sum = 0d;
+        for (int i = 0; i < responseTimes.size(); ++i) {
+            assertTrue(responseTimes.getValue(i) > 0d);
+            sum += responseTimes.getValue(i);
+        }
+        // mean response time of an M/M/1 queue: serviceTime / (1 - utilization)
+        assertEquals(0.2, sum / responseTimes.size(), 0.02);
+    }
+
+    @Test
+    public void testOnOffWithIdleGaps() {
+        SyntheticWorkload states = new SyntheticWorkloadGenerator(SEED,
+                ArrivalProcess.onOff(10d, 1d, 5d).withIdleGaps(0.01, 100d), 0.01, 4)
+                        .generate(Series.STATE_OF_ACTIVE_RESOURCE, 10000d);
+        double longestGap = 0d;
+        for (int i = 1; i < states.size(); ++i) {
+            longestGap = Math.max(longestGap, states.getPointInTime(i) - states.getPointInTime(i - 1));
+            assertTrue(states.getValue(i) >= 0d);
+        }
+        assertTrue(longestGap > 100d);
+        // about 10 arrivals per on-phase, i.e., per 6s, plus the gaps
+        assertTrue(states.size() < 2 * 10000d / 6 * 10);
+    }
+
+    @Test
+    public void testWriteToReadFrom() throws Exception {
+        SyntheticWorkload workload = MM1_GENERATOR.generate(Series.RESPONSE_TIME, 1000);
+        Path file = Files.createTempFile(null, ".workload");
+        try {
+            workload.writeTo(file);
+            assertEquals(4 + 4 + 2 + Series.RESPONSE_TIME.name().length() + 4 + 1000 * 16, Files.size(file));
+            SyntheticWorkload result = SyntheticWorkload.readFrom(file);
+            assertEquals(Series.RESPONSE_TIME, result.getSeries());
+            assertArrayEquals(workload.getPointsInTime(), result.getPointsInTime(), 0d);
+            assertArrayEquals(workload.getValues(), result.getValues(), 0d);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGeneratorInvalidNumberOfServers() {
+        new SyntheticWorkloadGenerator(SEED, ArrivalProcess.poisson(5d), 0.1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPoissonInvalidRate() {
+        ArrivalProcess.poisson(0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithIdleGapsInvalidProbability() {
+        ArrivalProcess.poisson(5d).withIdleGaps(1.5, 10d);
+    }
+}
@@ -0,0 +1,73 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the bytes the current thread allocates while running an operation, by means of
+ * {@link ThreadMXBean#getThreadAllocatedBytes(long)}. Allocation budget tests use it to detect
+ * boxing or {@code Amount}/{@code Measure} churn that creeps back into hot paths.<br>
+ * Each batch is run several times beforehand, so that the JIT compiler had the chance to eliminate
+ * allocations by escape analysis, as it would in steady state. Of the measured runs, the one that
+ * allocated the least counts, which rules out one-time effects such as class loading.
+ */
+public final class AllocationMeter {
+
+    private static final int WARM_UP_RUNS = 10;
+    private static final int MEASURED_RUNS = 3;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Indicates whether the JVM supports measuring the allocations of a thread.
+     *
+     * @return {@code true} if allocations can be measured, otherwise {@code false}.
+     */
+    public static boolean isSupported() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof ThreadMXBean)
+                || !((ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        ((ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    /**
+     * Measures the bytes allocated per operation by the given batch.
+     *
+     * @param numberOfOperations
+     *            The number of operations the batch performs, must be positive. The larger it is,
+     *            the less any setup the batch does affects the result.
+     * @param batch
+     *            A {@link Runnable} that performs the operations.
+     * @return The allocated bytes per operation.
+     * @throws IllegalStateException
+     *             If measuring allocations is not supported, see {@link #isSupported()}.
+     * @throws IllegalArgumentException
+     *             If the given number of operations is not positive.
+     */
+    public static double measureBytesPerOperation(final int numberOfOperations, final Runnable batch) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Measuring the allocations of a thread is not supported.");
+        }
+        if (numberOfOperations <= 0) {
+            throw new IllegalArgumentException("Given number of operations must be positive.");
+        }
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_RUNS; ++i) {
+            batch.run();
+        }
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; ++i) {
+            final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            batch.run();
+            final long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            minAllocatedBytes = Math.min(minAllocatedBytes, after - before);
+        }
+        return (double) minAllocatedBytes / numberOfOperations;
+    }
+}
@@ -0,0 +1,143 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Describes the arrival process of a {@link SyntheticWorkloadGenerator}, i.e., the points in time
+ * jobs arrive at the simulated resource.<br>
+ * Implementations are immutable descriptions; the state of a single generation run is kept in the
+ * {@link Sampler} created by {@link #createSampler(Random)}, so that a process can be reused for
+ * any number of runs.
+ */
+@FunctionalInterface
+public interface ArrivalProcess {
+
+    /**
+     * Samples successive arrivals of an {@link ArrivalProcess}.
+     */
+    @FunctionalInterface
+    interface Sampler {
+
+        /**
+         * Gets the next arrival after the given one.
+         *
+         * @param now
+         *            The point in time (in seconds) of the previous arrival, or {@code 0} for the
+         *            first one.
+         * @return The point in time (in seconds) of the next arrival, which is not before
+         *         {@code now}.
+         */
+        double nextArrival(double now);
+    }
+
+    /**
+     * Creates a new sampler of this process.
+     *
+     * @param random
+     *            The {@link Random} all random numbers of the sampler are drawn from.
+     * @return A new {@link Sampler}.
+     */
+    Sampler createSampler(Random random);
+
+    /**
+     * Creates a Poisson process, i.e., with exponentially distributed interarrival times.
+     *
+     * @param arrivalRate
+     *            The mean number of arrivals per second, must be positive.
+     * @return The {@link ArrivalProcess}.
+     * @throws IllegalArgumentException
+     *             If the given rate is not positive.
+     */
+    static ArrivalProcess poisson(final double arrivalRate) {
+        checkPositive(arrivalRate, "arrival rate");
+        return random -> now -> now + exponential(random, arrivalRate);
+    }
+
+    /**
+     * Creates a bursty on/off process, that is, a Poisson process which is only active during the
+     * on-phases. The lengths of the on- and off-phases are exponentially distributed, and the
+     * process starts with an on-phase.
+     *
+     * @param arrivalRateWhileOn
+     *            The mean number of arrivals per second during an on-phase, must be positive.
+     * @param meanOnDuration
+     *            The mean length of an on-phase in seconds, must be positive.
+     * @param meanOffDuration
+     *            The mean length of an off-phase in seconds, must be positive.
+     * @return The {@link ArrivalProcess}.
+     * @throws IllegalArgumentException
+     *             If any of the arguments is not positive.
+     */
+    static ArrivalProcess onOff(final double arrivalRateWhileOn, final double meanOnDuration,
+            final double meanOffDuration) {
+        checkPositive(arrivalRateWhileOn, "arrival rate");
+        checkPositive(meanOnDuration, "mean on duration");
+        checkPositive(meanOffDuration, "mean off duration");
+        return random -> new Sampler() {
+
+            private double endOfOnPhase = exponential(random, 1d / meanOnDuration);
+
+            @Override
+            public double nextArrival(final double now) {
+                double result = now + exponential(random, arrivalRateWhileOn);
+                // due to memorylessness, the remaining interarrival time is simply moved past each
+                // off-phase it falls into
+                while (result > this.endOfOnPhase) {
+                    final double endOfOffPhase = this.endOfOnPhase + exponential(random, 1d / meanOffDuration);
+                    result += endOfOffPhase - this.endOfOnPhase;
+                    this.endOfOnPhase = endOfOffPhase + exponential(random, 1d / meanOnDuration);
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Adds long idle gaps to this process: after each arrival, the process pauses for a gap of
+     * exponentially distributed length with the given probability.
+     *
+     * @param gapProbability
+     *            The probability of a gap after an arrival, must be within {@code [0, 1]}.
+     * @param meanGapDuration
+     *            The mean length of a gap in seconds, must be positive.
+     * @return The {@link ArrivalProcess} with gaps.
+     * @throws IllegalArgumentException
+     *             If any of the arguments is invalid.
+     */
+    default ArrivalProcess withIdleGaps(final double gapProbability, final double meanGapDuration) {
+        if (!(gapProbability >= 0d && gapProbability <= 1d)) {
+            throw new IllegalArgumentException("Given gap probability must be within [0, 1].");
+        }
+        checkPositive(meanGapDuration, "mean gap duration");
+        return random -> {
+            final Sampler sampler = createSampler(random);
+            return now -> {
+                final double gap = random.nextDouble() < gapProbability ? exponential(random, 1d / meanGapDuration)
+                        : 0d;
+                return sampler.nextArrival(now + gap);
+            };
+        };
+    }
+
+    /**
+     * Draws an exponentially distributed number.
+     *
+     * @param random
+     *            The {@link Random} to draw from.
+     * @param rate
+     *            The rate, i.e., the reciprocal of the mean.
+     * @return The drawn number.
+     */
+    static double exponential(final Random random, final double rate) {
+        // 1 - nextDouble() is within (0, 1], so that the logarithm is finite; StrictMath yields the
+        // same results on every platform, so that workloads are reproducible across machines
+        return -StrictMath.log(1d - random.nextDouble()) / rate;
+    }
+
+    private static void checkPositive(final double value, final String name) {
+        if (!(value > 0d) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Given " + name + " must be positive.");
+        }
+    }
+}
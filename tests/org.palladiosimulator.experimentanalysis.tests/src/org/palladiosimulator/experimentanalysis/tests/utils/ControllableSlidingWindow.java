@@ -0,0 +1,78 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.SlidingWindow;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * {@link SlidingWindow} for tests which moves on whenever {@link #windowFull()} is called.<br>
+ * Optionally, it also moves on as soon as a measurement beyond its upper bound arrives, like the
+ * window of the utilization filter does.
+ */
+public class ControllableSlidingWindow extends SlidingWindow {
+
+    private final boolean moveOnBeyondUpperBound;
+
+    /**
+     * Initializes a new instance of the {@link ControllableSlidingWindow} class with the given
+     * parameters. The window only moves on upon {@link #windowFull()}.
+     *
+     * @param windowLength
+     *            The length of the window.
+     * @param acceptedMetrics
+     *            The {@link MetricDescription} of the measurements the window accepts.
+     * @param moveOnStrategy
+     *            The {@link ISlidingWindowMoveOnStrategy} applied when the window moves on.
+     */
+    public ControllableSlidingWindow(Measure<Double, Duration> windowLength, MetricDescription acceptedMetrics,
+            ISlidingWindowMoveOnStrategy moveOnStrategy) {
+        this(windowLength, acceptedMetrics, moveOnStrategy, false);
+    }
+
+    /**
+     * Initializes a new instance of the {@link ControllableSlidingWindow} class with the given
+     * parameters.
+     *
+     * @param windowLength
+     *            The length of the window.
+     * @param acceptedMetrics
+     *            The {@link MetricDescription} of the measurements the window accepts.
+     * @param moveOnStrategy
+     *            The {@link ISlidingWindowMoveOnStrategy} applied when the window moves on.
+     * @param moveOnBeyondUpperBound
+     *            Whether a measurement beyond the upper bound shall make the window move on until
+     *            the measurement is within its bounds.
+     */
+    public ControllableSlidingWindow(Measure<Double, Duration> windowLength, MetricDescription acceptedMetrics,
+            ISlidingWindowMoveOnStrategy moveOnStrategy, boolean moveOnBeyondUpperBound) {
+        super(windowLength, acceptedMetrics, moveOnStrategy);
+        this.moveOnBeyondUpperBound = moveOnBeyondUpperBound;
+    }
+
+    /**
+     * Notifies the attached {@link ISlidingWindowListener}s that the window is full, and moves
+     * the window on afterwards.
+     */
+    public void windowFull() {
+        onWindowFullEvent();
+    }
+
+    @Override
+    public void addMeasurement(MeasuringValue newMeasurement) {
+        checkAddMeasurementPrerequisites(newMeasurement);
+        if (this.moveOnBeyondUpperBound) {
+            Measure<Double, Duration> pointInTime = newMeasurement
+                    .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+            while (isBeyondCurrentUpperBound(pointInTime)) {
+                onWindowFullEvent();
+            }
+        }
+        addMeasurementInternal(newMeasurement);
+    }
+}
@@ -0,0 +1,137 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.palladiosimulator.edp2.datastream.AbstractDataSource;
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.edp2.datastream.configurable.PropertyConfigurable;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * Dummy implementation of an {@link IDataSource} whose streams iterate over a given list of
+ * measurements. The source has neither properties nor a measuring point.<br>
+ * Subclasses may override {@link #createDataStream()}, e.g., to provide seekable streams or to
+ * track the streams that are open.
+ */
+public class ListDataSource extends AbstractDataSource {
+
+    private final MetricDescription metric;
+    private final List<MeasuringValue> data;
+    private final AtomicInteger numberOfPasses = new AtomicInteger();
+
+    /**
+     * Initializes a new instance of the {@link ListDataSource} class with the given parameters.
+     *
+     * @param metric
+     *            The {@link MetricDescription} of the measurements of the source.
+     * @param data
+     *            The measurements of the source, which are not copied.
+     */
+    public ListDataSource(MetricDescription metric, List<MeasuringValue> data) {
+        super(metric);
+        this.metric = Objects.requireNonNull(metric);
+        this.data = Objects.requireNonNull(data);
+    }
+
+    /**
+     * Gets the measurements of the source.
+     *
+     * @return The list of {@link MeasuringValue}s passed upon construction.
+     */
+    public List<MeasuringValue> getData() {
+        return this.data;
+    }
+
+    /**
+     * Gets the number of passes over the measurements so far, i.e., the number of iterators
+     * obtained from the streams of this source.
+     *
+     * @return The number of passes.
+     */
+    public int getNumberOfPasses() {
+        return this.numberOfPasses.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    // the cast is type safe as MeasuringValue implements the IMeasureProvider interface
+    @Override
+    public <M extends IMeasureProvider> IDataStream<M> getDataStream() {
+        return (IDataStream<M>) createDataStream();
+    }
+
+    /**
+     * Creates the stream that is returned by {@link #getDataStream()}.
+     *
+     * @return A new {@link ListDataStream} by default.
+     */
+    protected IDataStream<MeasuringValue> createDataStream() {
+        return new ListDataStream();
+    }
+
+    @Override
+    protected PropertyConfigurable createProperties() {
+        return new PropertyConfigurable() {
+
+            @Override
+            public Class<?> getPropertyType(String key) {
+                return null;
+            }
+
+            @Override
+            public Set<String> getKeys() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public Map<String, Object> getDefaultConfiguration() {
+                return Collections.emptyMap();
+            }
+        };
+    }
+
+    @Override
+    public MeasuringPoint getMeasuringPoint() {
+        return null;
+    }
+
+    /**
+     * Stream over the measurements of the enclosing source. Closing it does nothing.
+     */
+    protected class ListDataStream implements IDataStream<MeasuringValue> {
+
+        @Override
+        public Iterator<MeasuringValue> iterator() {
+            ListDataSource.this.numberOfPasses.incrementAndGet();
+            return ListDataSource.this.data.iterator();
+        }
+
+        @Override
+        public MetricDescription getMetricDesciption() {
+            return ListDataSource.this.metric;
+        }
+
+        @Override
+        public boolean isCompatibleWith(MetricDescription other) {
+            return getMetricDesciption().equals(other);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int size() {
+            return ListDataSource.this.data.size();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.palladiosimulator.experimentanalysis.IGroupWriteRecorder;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Dummy implementation of an {@link IGroupWriteRecorder} which stores all measurements received
+ * (via {@link #writeData(MeasuringValue)} or {@link #writeGroup(List)}) in the order of their
+ * arrival, and additionally keeps track of the size of each group and the number of flushes.
+ */
+public class StoreAllGroupsRecorder extends StoreAllMeasurementsRecorder implements IGroupWriteRecorder {
+
+    private final List<Integer> groupSizes = new ArrayList<>();
+    private int numberOfFlushes = 0;
+
+    /**
+     * {@inheritDoc} This implementation appends the measurements to the list of received ones.
+     */
+    @Override
+    public void writeGroup(List<MeasuringValue> measurements) {
+        this.groupSizes.add(measurements.size());
+        measurements.forEach(this::writeData);
+    }
+
+    /**
+     * {@inheritDoc} This implementation counts the flushes.
+     */
+    @Override
+    public void flush() {
+        ++this.numberOfFlushes;
+    }
+
+    /**
+     * Gets the sizes of all groups that have been received so far.
+     *
+     * @return An <b>unmodifiable</b> list of the group sizes.
+     */
+    public List<Integer> getGroupSizes() {
+        return Collections.unmodifiableList(this.groupSizes);
+    }
+
+    /**
+     * Gets the number of times {@link #flush()} has been called.
+     *
+     * @return The number of flushes.
+     */
+    public int getNumberOfFlushes() {
+        return this.numberOfFlushes;
+    }
+}
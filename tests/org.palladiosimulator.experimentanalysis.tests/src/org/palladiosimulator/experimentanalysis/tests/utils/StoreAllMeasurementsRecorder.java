@@ -0,0 +1,63 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+/**
+ * Dummy implementation of an {@link IRecorder} which stores all measurements received (via
+ * {@link #writeData(MeasuringValue)}) in the order of their arrival.
+ */
+public class StoreAllMeasurementsRecorder implements IRecorder {
+
+    private final List<MeasuringValue> measurements = new ArrayList<>();
+
+    /**
+     * Gets all measurements that have been received so far.
+     * 
+     * @return An <b>unmodifiable</b> list of the received {@link MeasuringValue}s.
+     */
+    public List<MeasuringValue> getMeasurements() {
+        return Collections.unmodifiableList(this.measurements);
+    }
+
+    /**
+     * {@inheritDoc} This implementation appends the measurement to the list of received ones.
+     */
+    @Override
+    public void writeData(MeasuringValue measurement) {
+        this.measurements.add(measurement);
+    }
+
+    /**
+     * {@inheritDoc} This implementation does nothing.
+     */
+    @Override
+    public void initialize(IRecorderConfiguration recorderConfiguration) {
+    }
+
+    /**
+     * {@inheritDoc} This implementation does nothing.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * {@inheritDoc} This implementation does nothing.
+     */
+    @Override
+    public void newMeasurementAvailable(MeasuringValue arg0) {
+    }
+
+    /**
+     * {@inheritDoc} This implementation does nothing.
+     */
+    @Override
+    public void preUnregister() {
+    }
+}
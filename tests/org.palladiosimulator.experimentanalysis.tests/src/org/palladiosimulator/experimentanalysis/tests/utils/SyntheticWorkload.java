@@ -0,0 +1,237 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * An immutable series of synthetic measurements as created by a
+ * {@link SyntheticWorkloadGenerator}, sorted by their point in time.<br>
+ * The series is kept as two primitive columns, i.e., the points in time and the values, so that
+ * even large series have a small footprint. {@link MeasuringValue}s are only created on demand,
+ * and series can be stored in a compact binary file to share them between test and benchmark runs.
+ */
+public final class SyntheticWorkload {
+
+    private static final int MAGIC = 0x53574C44; // "SWLD"
+    private static final int VERSION = 1;
+
+    /**
+     * Enumerates the kinds of series a {@link SyntheticWorkloadGenerator} can create.
+     */
+    public enum Series {
+        /**
+         * {@code (point in time, state of active resource)} tuples, where the state is the number
+         * of jobs at the resource. There is one tuple at {@code 0s} and one per arrival and
+         * departure.
+         */
+        STATE_OF_ACTIVE_RESOURCE(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE),
+        /**
+         * {@code (point in time, response time)} tuples, where the point in time is the departure
+         * of the job. There is one tuple per departure.
+         */
+        RESPONSE_TIME(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE);
+
+        private final MetricSetDescription metricDescription;
+
+        Series(final MetricSetDescription metricDescription) {
+            this.metricDescription = metricDescription;
+        }
+
+        /**
+         * Gets the metric of the measurements of this kind of series.
+         *
+         * @return The {@link MetricSetDescription} of the measurements.
+         */
+        public MetricSetDescription getMetricDescription() {
+            return this.metricDescription;
+        }
+    }
+
+    private final Series series;
+    private final double[] pointsInTime;
+    private final double[] values;
+
+    SyntheticWorkload(final Series series, final double[] pointsInTime, final double[] values) {
+        assert pointsInTime.length == values.length;
+        this.series = series;
+        this.pointsInTime = pointsInTime;
+        this.values = values;
+    }
+
+    /**
+     * Gets the kind of this series.
+     *
+     * @return The {@link Series} of this workload.
+     */
+    public Series getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Gets the number of measurements of this series.
+     *
+     * @return The number of measurements.
+     */
+    public int size() {
+        return this.pointsInTime.length;
+    }
+
+    /**
+     * Gets the point in time of the measurement at the given index.
+     *
+     * @param index
+     *            The index of the measurement.
+     * @return The point in time in seconds.
+     */
+    public double getPointInTime(final int index) {
+        return this.pointsInTime[index];
+    }
+
+    /**
+     * Gets the value of the measurement at the given index, i.e., either the number of jobs or the
+     * response time in seconds.
+     *
+     * @param index
+     *            The index of the measurement.
+     * @return The value of the measurement.
+     */
+    public double getValue(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Gets a copy of the points in time of all measurements.
+     *
+     * @return A new array holding the points in time in seconds, in ascending order.
+     */
+    public double[] getPointsInTime() {
+        return this.pointsInTime.clone();
+    }
+
+    /**
+     * Gets a copy of the values of all measurements.
+     *
+     * @return A new array holding the values, in the order of the points in time.
+     * @see #getValue(int)
+     */
+    public double[] getValues() {
+        return this.values.clone();
+    }
+
+    /**
+     * Creates the measurement at the given index.
+     *
+     * @param index
+     *            The index of the measurement.
+     * @return A new {@link MeasuringValue} of the metric of this series.
+     */
+    public MeasuringValue getMeasurement(final int index) {
+        if (this.series == Series.STATE_OF_ACTIVE_RESOURCE) {
+            return new TupleMeasurement(this.series.getMetricDescription(),
+                    Measure.valueOf(this.pointsInTime[index], SI.SECOND),
+                    Measure.valueOf((long) this.values[index], Unit.ONE));
+        }
+        return new TupleMeasurement(this.series.getMetricDescription(),
+                Measure.valueOf(this.pointsInTime[index], SI.SECOND), Measure.valueOf(this.values[index], SI.SECOND));
+    }
+
+    /**
+     * Lazily creates the measurements of this series.
+     *
+     * @return A sequential {@link Stream} of the measurements, in the order of their points in
+     *         time.
+     */
+    public Stream<MeasuringValue> stream() {
+        return IntStream.range(0, size()).mapToObj(this::getMeasurement);
+    }
+
+    /**
+     * Creates all measurements of this series at once.
+     *
+     * @return A new list of the measurements, in the order of their points in time.
+     */
+    public List<MeasuringValue> toMeasurements() {
+        return stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Writes this series to the given file, which is replaced if it exists.
+     *
+     * @param file
+     *            The {@link Path} of the file to write.
+     * @throws IOException
+     *             If the file cannot be written.
+     * @see #readFrom(Path)
+     */
+    public void writeTo(final Path file) throws IOException {
+        Objects.requireNonNull(file, "Given file must not be null.");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeUTF(this.series.name());
+            output.writeInt(size());
+            for (double pointInTime : this.pointsInTime) {
+                output.writeDouble(pointInTime);
+            }
+            for (double value : this.values) {
+                output.writeDouble(value);
+            }
+        }
+    }
+
+    /**
+     * Reads a series from the given file.
+     *
+     * @param file
+     *            The {@link Path} of a file written by {@link #writeTo(Path)}.
+     * @return The {@link SyntheticWorkload} read.
+     * @throws IOException
+     *             If the file cannot be read or is not a workload file.
+     */
+    public static SyntheticWorkload readFrom(final Path file) throws IOException {
+        Objects.requireNonNull(file, "Given file must not be null.");
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("Given file is not a workload file of version " + VERSION + ": " + file);
+            }
+            final Series series;
+            try {
+                series = Series.valueOf(input.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown series in workload file: " + file, e);
+            }
+            final int size = input.readInt();
+            if (size < 0) {
+                throw new IOException("Corrupt workload file: " + file);
+            }
+            final double[] pointsInTime = new double[size];
+            for (int i = 0; i < size; ++i) {
+                pointsInTime[i] = input.readDouble();
+            }
+            final double[] values = new double[size];
+            for (int i = 0; i < size; ++i) {
+                values[i] = input.readDouble();
+            }
+            return new SyntheticWorkload(series, pointsInTime, values);
+        }
+    }
+}
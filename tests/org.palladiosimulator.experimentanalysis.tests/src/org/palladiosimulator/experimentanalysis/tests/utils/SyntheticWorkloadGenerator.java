@@ -0,0 +1,189 @@
+package org.palladiosimulator.experimentanalysis.tests.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+
+import org.palladiosimulator.experimentanalysis.tests.utils.SyntheticWorkload.Series;
+
+/**
+ * Generates reproducible {@link SyntheticWorkload}s by simulating a resource with a given number
+ * of servers, exponentially distributed service times and a first-come-first-served queue, i.e.,
+ * an {@code M/M/c} queue if the {@link ArrivalProcess} is a Poisson process.<br>
+ * Generators with the same parameters create the very same series, regardless of the machine. The
+ * arrivals and the service times are drawn from separate random number generators, so that, e.g.,
+ * changing the number of servers does not change the arrivals. Moreover, the state series and the
+ * response time series of a generator describe the same simulated jobs.
+ *
+ * <pre>
+ * SyntheticWorkload states = new SyntheticWorkloadGenerator(42L,
+ *         ArrivalProcess.onOff(50d, 10d, 30d).withIdleGaps(0.001, 600d), 0.05, 2)
+ *                 .generate(Series.STATE_OF_ACTIVE_RESOURCE, 3600d);
+ * </pre>
+ */
+public final class SyntheticWorkloadGenerator {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long seed;
+    private final ArrivalProcess arrivalProcess;
+    private final double meanServiceTime;
+    private final int numberOfServers;
+
+    /**
+     * Initializes a new instance of the {@link SyntheticWorkloadGenerator} class with the given
+     * parameters.
+     *
+     * @param seed
+     *            The seed of the random number generators.
+     * @param arrivalProcess
+     *            The {@link ArrivalProcess} of the jobs.
+     * @param meanServiceTime
+     *            The mean service time of a job in seconds, must be positive.
+     * @param numberOfServers
+     *            The number of jobs that are served simultaneously, must be positive.
+     * @throws NullPointerException
+     *             If the given arrival process is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the mean service time or the number of servers is not positive.
+     */
+    public SyntheticWorkloadGenerator(final long seed, final ArrivalProcess arrivalProcess,
+            final double meanServiceTime, final int numberOfServers) {
+        if (!(meanServiceTime > 0d) || Double.isInfinite(meanServiceTime)) {
+            throw new IllegalArgumentException("Given mean service time must be positive.");
+        }
+        if (numberOfServers <= 0) {
+            throw new IllegalArgumentException("Given number of servers must be positive.");
+        }
+        this.seed = seed;
+        this.arrivalProcess = Objects.requireNonNull(arrivalProcess, "Given arrival process must not be null.");
+        this.meanServiceTime = meanServiceTime;
+        this.numberOfServers = numberOfServers;
+    }
+
+    /**
+     * Generates the given series for the given simulated duration.
+     *
+     * @param series
+     *            The kind of {@link Series} to generate.
+     * @param duration
+     *            The simulated duration in seconds, must be positive.
+     * @return The {@link SyntheticWorkload} with all measurements up to the given duration.
+     * @throws NullPointerException
+     *             If the given series is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given duration is not positive.
+     * @throws OutOfMemoryError
+     *             If the series has more than {@link Integer#MAX_VALUE} measurements.
+     */
+    public SyntheticWorkload generate(final Series series, final double duration) {
+        if (!(duration > 0d)) {
+            throw new IllegalArgumentException("Given duration must be positive.");
+        }
+        return simulate(Objects.requireNonNull(series), duration, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Generates the given number of measurements of the given series.
+     *
+     * @param series
+     *            The kind of {@link Series} to generate.
+     * @param numberOfMeasurements
+     *            The number of measurements to generate, must be positive.
+     * @return The {@link SyntheticWorkload}, which is a prefix of any longer series generated with
+     *         the same parameters.
+     * @throws NullPointerException
+     *             If the given series is {@code null}.
+     * @throws IllegalArgumentException
+     *             If the given number is not positive.
+     */
+    public SyntheticWorkload generate(final Series series, final int numberOfMeasurements) {
+        if (numberOfMeasurements <= 0) {
+            throw new IllegalArgumentException("Given number of measurements must be positive.");
+        }
+        return simulate(Objects.requireNonNull(series), Double.POSITIVE_INFINITY, numberOfMeasurements);
+    }
+
+    private SyntheticWorkload simulate(final Series series, final double duration, final int numberOfMeasurements) {
+        final ArrivalProcess.Sampler arrivals = this.arrivalProcess.createSampler(new Random(this.seed));
+        final Random serviceRandom = new Random(~this.seed);
+        // (departure, arrival) of the jobs in service, ordered by their departure
+        final Queue<double[]> jobsInService = new PriorityQueue<>(this.numberOfServers,
+                Comparator.comparingDouble(job -> job[0]));
+        final Queue<Double> waitingJobs = new ArrayDeque<>();
+        final Columns result = new Columns(Math.min(numberOfMeasurements, INITIAL_CAPACITY));
+
+        if (series == Series.STATE_OF_ACTIVE_RESOURCE) {
+            result.add(0d, 0d);
+        }
+        double nextArrival = arrivals.nextArrival(0d);
+        int numberOfJobs = 0;
+        while (result.size < numberOfMeasurements) {
+            final double nextDeparture = jobsInService.isEmpty() ? Double.POSITIVE_INFINITY
+                    : jobsInService.peek()[0];
+            final double now = Math.min(nextArrival, nextDeparture);
+            if (now > duration) {
+                break;
+            }
+            if (nextArrival <= nextDeparture) {
+                ++numberOfJobs;
+                if (jobsInService.size() < this.numberOfServers) {
+                    jobsInService.add(new double[] { now + nextServiceTime(serviceRandom), now });
+                } else {
+                    waitingJobs.add(now);
+                }
+                if (series == Series.STATE_OF_ACTIVE_RESOURCE) {
+                    result.add(now, numberOfJobs);
+                }
+                nextArrival = arrivals.nextArrival(now);
+            } else {
+                final double arrival = jobsInService.poll()[1];
+                --numberOfJobs;
+                if (!waitingJobs.isEmpty()) {
+                    jobsInService.add(new double[] { now + nextServiceTime(serviceRandom), waitingJobs.poll() });
+                }
+                result.add(now, series == Series.STATE_OF_ACTIVE_RESOURCE ? numberOfJobs : now - arrival);
+            }
+        }
+        return result.toWorkload(series);
+    }
+
+    private double nextServiceTime(final Random random) {
+        return ArrivalProcess.exponential(random, 1d / this.meanServiceTime);
+    }
+
+    private static final class Columns {
+
+        private double[] pointsInTime;
+        private double[] values;
+        private int size = 0;
+
+        private Columns(final int initialCapacity) {
+            this.pointsInTime = new double[initialCapacity];
+            this.values = new double[initialCapacity];
+        }
+
+        private void add(final double pointInTime, final double value) {
+            if (this.size == this.pointsInTime.length) {
+                if (this.size == Integer.MAX_VALUE - 8) {
+                    throw new OutOfMemoryError("Workload exceeds the maximum number of measurements.");
+                }
+                final int newCapacity = (int) Math.min(this.size * 2L, Integer.MAX_VALUE - 8);
+                this.pointsInTime = Arrays.copyOf(this.pointsInTime, newCapacity);
+                this.values = Arrays.copyOf(this.values, newCapacity);
+            }
+            this.pointsInTime[this.size] = pointInTime;
+            this.values[this.size] = value;
+            ++this.size;
+        }
+
+        private SyntheticWorkload toWorkload(final Series series) {
+            return new SyntheticWorkload(series, Arrays.copyOf(this.pointsInTime, this.size),
+                    Arrays.copyOf(this.values, this.size));
+        }
+    }
+}
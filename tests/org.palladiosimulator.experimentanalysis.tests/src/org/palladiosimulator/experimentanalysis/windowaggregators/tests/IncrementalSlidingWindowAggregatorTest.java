@@ -0,0 +1,343 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.quantity.Quantity;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.DiscardAllElementsPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.FlushWindowStrategy;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowScheduler;
+import org.palladiosimulator.experimentanalysis.KeepLastElementPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.ScheduledSlidingWindow;
+import org.palladiosimulator.experimentanalysis.tests.utils.StoreAllMeasurementsRecorder;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalCountAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalMeanAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalSlidingWindowAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalSumAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalTimeWeightedAverageAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.IncrementalVarianceAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowPercentileAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowStatisticsAggregator;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowStatisticsAggregator.Statistic;
+import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowThroughputAggregator;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class IncrementalSlidingWindowAggregatorTest {
+
+    private static final double DELTA = Math.pow(10, -12);
+    private static final NumericalBaseMetricDescription RESPONSE_TIME_METRIC = (NumericalBaseMetricDescription) MetricDescriptionConstants.RESPONSE_TIME_METRIC;
+
+    private StoreAllMeasurementsRecorder recorder;
+    private ScheduledSlidingWindow window;
+    private Runnable pendingClosing;
+
+    @Before
+    public void setUp() throws Exception {
+        this.recorder = new StoreAllMeasurementsRecorder();
+    }
+
+    private void createWindow(ISlidingWindowMoveOnStrategy moveOnStrategy) {
+        ISlidingWindowScheduler scheduler = (pointInTime, action) -> this.pendingClosing = action;
+        this.window = new ScheduledSlidingWindow(Measure.valueOf(10d, SI.SECOND), Measure.valueOf(5d, SI.SECOND),
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, moveOnStrategy, scheduler);
+    }
+
+    private void addResponseTime(double pointInTime, double responseTime) {
+        this.window.addMeasurement(createResponseTime(pointInTime, responseTime));
+    }
+
+    private static MeasuringValue createResponseTime(double pointInTime, double responseTime) {
+        return new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(responseTime, SI.SECOND));
+    }
+
+    private void addResponseTimesAndCloseWindows(IncrementalSlidingWindowAggregator aggregator) {
+        this.window.addObserver(aggregator);
+        addResponseTime(1d, 2d);
+        addResponseTime(4d, 4d);
+        addResponseTime(8d, 6d);
+        // window [0-10] is full
+        addResponseTime(12d, 8d);
+        // window [5-15] is closed by the scheduler
+        this.pendingClosing.run();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncrementalSumAggregatorCtorWrongValueMetric() {
+        new IncrementalSumAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                (NumericalBaseMetricDescription) MetricDescriptionConstants.WAITING_TIME_METRIC, this.recorder);
+    }
+
+    @Test
+    public void testCount() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(new IncrementalCountAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS_OVER_TIME, this.recorder));
+
+        List<MeasuringValue> results = this.recorder.getMeasurements();
+        assertEquals(2, results.size());
+        Measure<Double, Dimensionless> count = results.get(0)
+                .getMeasureForMetric(MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS);
+        assertEquals(3d, count.doubleValue(Unit.ONE), DELTA);
+        count = results.get(1).getMeasureForMetric(MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS);
+        assertEquals(2d, count.doubleValue(Unit.ONE), DELTA);
+    }
+
+    @Test
+    public void testSum() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(new IncrementalSumAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, this.recorder));
+        assertResponseTimes(this.recorder.getMeasurements(), 12d, 14d);
+    }
+
+    @Test
+    public void testMean() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(new IncrementalMeanAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, this.recorder));
+        assertResponseTimes(this.recorder.getMeasurements(), 4d, 7d);
+        assertPointInTime(10d, this.recorder.getMeasurements().get(0));
+        assertPointInTime(15d, this.recorder.getMeasurements().get(1));
+    }
+
+    @Test
+    public void testMeanEmptyWindow() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        this.window.addObserver(new IncrementalMeanAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                RESPONSE_TIME_METRIC, this.recorder));
+        this.pendingClosing.run();
+        assertEquals(0, this.recorder.getMeasurements().size());
+    }
+
+    @Test
+    public void testVariance() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(
+                new IncrementalVarianceAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                        RESPONSE_TIME_METRIC, MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, this.recorder));
+
+        List<MeasuringValue> results = this.recorder.getMeasurements();
+        assertEquals(2, results.size());
+        // variance is given in s^2
+        Measure<Double, Quantity> variance = results.get(0).getMeasureForMetric(RESPONSE_TIME_METRIC);
+        assertEquals(4d, variance.getValue(), DELTA);
+        variance = results.get(1).getMeasureForMetric(RESPONSE_TIME_METRIC);
+        assertEquals(2d, variance.getValue(), DELTA);
+    }
+
+    @Test
+    public void testThroughput() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(new SlidingWindowThroughputAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS_OVER_TIME, this.recorder));
+        assertThroughputs(this.recorder.getMeasurements(), 0.3d, 0.2d);
+    }
+
+    @Test
+    public void testApproximateThroughput() {
+        createWindow(new FlushWindowStrategy());
+        SlidingWindowThroughputAggregator aggregator = new SlidingWindowThroughputAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS_OVER_TIME, 0.1d, this.recorder);
+        assertTrue(aggregator.isApproximate());
+        addResponseTimesAndCloseWindows(aggregator);
+        // counts of the exponential histogram are exact for few measurements
+        assertThroughputs(this.recorder.getMeasurements(), 0.3d, 0.2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApproximateThroughputInvalidRelativeError() {
+        new SlidingWindowThroughputAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS_OVER_TIME, 0d, this.recorder);
+    }
+
+    @Test
+    public void testPercentile() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTimesAndCloseWindows(new SlidingWindowPercentileAggregator(50d, 0.01d, this.recorder));
+
+        List<MeasuringValue> results = this.recorder.getMeasurements();
+        assertEquals(2, results.size());
+        Measure<Double, Duration> median = results.get(0).getMeasureForMetric(RESPONSE_TIME_METRIC);
+        assertEquals(4d, median.doubleValue(SI.SECOND), 4d * 0.01d);
+        median = results.get(1).getMeasureForMetric(RESPONSE_TIME_METRIC);
+        assertEquals(6d, median.doubleValue(SI.SECOND), 6d * 0.01d);
+    }
+
+    @Test
+    public void testStatistics() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        StoreAllMeasurementsRecorder minimumRecorder = new StoreAllMeasurementsRecorder();
+        StoreAllMeasurementsRecorder standardDeviationRecorder = new StoreAllMeasurementsRecorder();
+        this.window.addObserver(new SlidingWindowStatisticsAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, Statistic.MINIMUM,
+                minimumRecorder));
+        this.window.addObserver(new SlidingWindowStatisticsAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC,
+                Statistic.STANDARD_DEVIATION, standardDeviationRecorder));
+        SlidingWindowStatisticsAggregator maximumAggregator = new SlidingWindowStatisticsAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, Statistic.MAXIMUM,
+                this.recorder);
+        addResponseTimesAndCloseWindows(maximumAggregator);
+
+        // windows: [0-10] with 2s, 4s, 6s and [5-15] with 6s, 8s
+        assertResponseTimes(minimumRecorder.getMeasurements(), 2d, 6d);
+        assertResponseTimes(this.recorder.getMeasurements(), 6d, 8d);
+        assertResponseTimes(standardDeviationRecorder.getMeasurements(), 2d, Math.sqrt(2d));
+        assertEquals(2, maximumAggregator.getCount());
+        assertEquals(7d, maximumAggregator.getStatistic(Statistic.MEAN), DELTA);
+        assertEquals(2d, maximumAggregator.getStatistic(Statistic.VARIANCE), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStatisticsVarianceWithoutResultMetric() {
+        new SlidingWindowStatisticsAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                RESPONSE_TIME_METRIC, Statistic.VARIANCE, this.recorder);
+    }
+
+    @Test
+    public void testTimeWeightedAverage() {
+        createWindow(new KeepLastElementPriorToLowerBoundStrategy());
+        this.window.addObserver(new IncrementalTimeWeightedAverageAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, this.recorder));
+        addResponseTime(0d, 2d);
+        addResponseTime(4d, 4d);
+        addResponseTime(8d, 0d);
+        // window [0-10] is full: (4s * 2 + 4s * 4 + 2s * 0) / 10s
+        addResponseTime(12d, 1d);
+        // window [5-15]: (3s * 4 + 4s * 0 + 3s * 1) / 10s
+        this.pendingClosing.run();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 2.4d, 1.5d);
+    }
+
+    @Test
+    public void testMeasurementsCollectedBeforeAttaching() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        addResponseTime(1d, 2d);
+        addResponseTime(4d, 4d);
+        this.window.addObserver(new IncrementalSumAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                RESPONSE_TIME_METRIC, this.recorder));
+        this.pendingClosing.run();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 6d);
+    }
+
+    @Test
+    public void testFlushEvictsAllMeasurements() {
+        createWindow(new DiscardAllElementsPriorToLowerBoundStrategy());
+        this.window.addObserver(new IncrementalSumAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                RESPONSE_TIME_METRIC, this.recorder));
+        addResponseTime(1d, 2d);
+        this.window.flush();
+        addResponseTime(4d, 4d);
+        this.pendingClosing.run();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 4d);
+    }
+
+    @Test
+    public void testRepeatedMeasurementEvictedFromPrefix() {
+        createWindow(new KeepLastElementPriorToLowerBoundStrategy());
+        this.window.addObserver(new IncrementalCountAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS_OVER_TIME, this.recorder));
+        MeasuringValue measurement = createResponseTime(1d, 2d);
+        this.window.addMeasurement(measurement);
+        this.window.addMeasurement(measurement);
+        this.window.addMeasurement(measurement);
+        // window [0-10] is closed, only the last of the three occurrences is kept
+        this.pendingClosing.run();
+        // window [5-15] is closed
+        this.pendingClosing.run();
+
+        assertCounts(this.recorder.getMeasurements(), 3d, 1d);
+    }
+
+    @Test
+    public void testRepeatedMeasurementEvictedFromSuffix() {
+        // removes the last measurement, so that the retained data is no suffix of the previous one
+        createWindow((currentData, newLowerBound, increment) -> currentData.pollLast());
+        this.window.addObserver(new IncrementalSumAggregator(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                RESPONSE_TIME_METRIC, this.recorder));
+        MeasuringValue measurement = createResponseTime(4d, 4d);
+        addResponseTime(1d, 2d);
+        this.window.addMeasurement(measurement);
+        this.window.addMeasurement(measurement);
+        this.pendingClosing.run();
+        this.pendingClosing.run();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 10d, 6d);
+    }
+
+    @Test
+    public void testOutOfOrderEviction() {
+        // removes the newest measurement, so that the oldest ones are retained
+        createWindow((currentData, newLowerBound, increment) -> currentData.pollLast());
+        StoreAllMeasurementsRecorder averageRecorder = new StoreAllMeasurementsRecorder();
+        this.window.addObserver(new SlidingWindowStatisticsAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, Statistic.MAXIMUM,
+                this.recorder));
+        this.window.addObserver(new IncrementalTimeWeightedAverageAggregator(
+                MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE, RESPONSE_TIME_METRIC, averageRecorder));
+        addResponseTime(0d, 2d);
+        addResponseTime(4d, 0d);
+        addResponseTime(8d, 4d);
+        // window [0-10]: (4s * 2 + 4s * 0 + 2s * 4) / 10s
+        this.pendingClosing.run();
+        // window [5-15] retains the measurements at 0s and 4s: 10s * 0 / 10s
+        this.pendingClosing.run();
+
+        assertResponseTimes(this.recorder.getMeasurements(), 4d, 2d);
+        assertResponseTimes(averageRecorder.getMeasurements(), 1.6d, 0d);
+    }
+
+    private static void assertResponseTimes(List<MeasuringValue> actual, double... expectedResponseTimes) {
+        assertEquals(expectedResponseTimes.length, actual.size());
+        for (int i = 0; i < expectedResponseTimes.length; ++i) {
+            Measure<Double, Duration> responseTime = actual.get(i).getMeasureForMetric(RESPONSE_TIME_METRIC);
+            assertEquals(expectedResponseTimes[i], responseTime.doubleValue(SI.SECOND), DELTA);
+        }
+    }
+
+    private static void assertCounts(List<MeasuringValue> actual, double... expectedCounts) {
+        assertEquals(expectedCounts.length, actual.size());
+        for (int i = 0; i < expectedCounts.length; ++i) {
+            Measure<Double, Dimensionless> count = actual.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS);
+            assertEquals(expectedCounts[i], count.doubleValue(Unit.ONE), DELTA);
+        }
+    }
+
+    private static void assertThroughputs(List<MeasuringValue> actual, double... expectedThroughputs) {
+        assertEquals(expectedThroughputs.length, actual.size());
+        for (int i = 0; i < expectedThroughputs.length; ++i) {
+            // throughput is given in 1/s
+            Measure<Double, Quantity> throughput = actual.get(i)
+                    .getMeasureForMetric(MetricDescriptionConstants.NUMBER_OF_RESOURCE_CONTAINERS);
+            assertEquals(expectedThroughputs[i], throughput.getValue(), DELTA);
+        }
+    }
+
+    private static void assertPointInTime(double expected, MeasuringValue actual) {
+        Measure<Double, Duration> pointInTime = actual
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        assertEquals(expected, pointInTime.doubleValue(SI.SECOND), DELTA);
+    }
+}
@@ -0,0 +1,92 @@
+package org.palladiosimulator.experimentanalysis.windowaggregators.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.windowaggregators.QuantileSketch;
+
+public class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final int NUMBER_OF_VALUES = 1000;
+
+    private QuantileSketch sketchUnderTest;
+
+    @Before
+    public void setUp() throws Exception {
+        this.sketchUnderTest = new QuantileSketch(RELATIVE_ACCURACY);
+        // values 0.01, 0.02, ..., 10
+        for (int i = 1; i <= NUMBER_OF_VALUES; ++i) {
+            this.sketchUnderTest.add(i / 100d);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileSketchCtorInvalidAccuracy() {
+        new QuantileSketch(1d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileSketchCtorInvalidRange() {
+        new QuantileSketch(RELATIVE_ACCURACY, 1d, 0.5d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNegativeValue() {
+        this.sketchUnderTest.add(-1d);
+    }
+
+    @Test
+    public void testGetQuantileEmptySketch() {
+        assertTrue(Double.isNaN(this.sketchUnderTest.emptyCopy().getQuantile(0.5d)));
+    }
+
+    @Test
+    public void testGetQuantileWithinRelativeAccuracy() {
+        assertEquals(NUMBER_OF_VALUES, this.sketchUnderTest.getCount());
+        for (double quantile : new double[] { 0d, 0.5d, 0.95d, 0.99d, 1d }) {
+            double exact = (Math.floor(quantile * (NUMBER_OF_VALUES - 1)) + 1) / 100d;
+            assertEquals(exact, this.sketchUnderTest.getQuantile(quantile), exact * RELATIVE_ACCURACY);
+        }
+    }
+
+    @Test
+    public void testValuesOutOfTrackableRange() {
+        QuantileSketch sketch = new QuantileSketch(RELATIVE_ACCURACY, 1d, 100d);
+        sketch.add(0.5d);
+        sketch.add(1000d);
+        assertEquals(0d, sketch.getQuantile(0d), 0d);
+        assertEquals(100d, sketch.getQuantile(1d), 100d * RELATIVE_ACCURACY);
+    }
+
+    @Test
+    public void testMergeAndSubtract() {
+        QuantileSketch other = this.sketchUnderTest.emptyCopy();
+        for (int i = 0; i < NUMBER_OF_VALUES; ++i) {
+            other.add(20d);
+        }
+        QuantileSketch merged = this.sketchUnderTest.copy();
+        merged.merge(other);
+        assertEquals(2 * NUMBER_OF_VALUES, merged.getCount());
+        assertEquals(20d, merged.getQuantile(0.75d), 20d * RELATIVE_ACCURACY);
+
+        merged.subtract(other);
+        assertEquals(this.sketchUnderTest.getQuantile(0.75d), merged.getQuantile(0.75d), 0d);
+    }
+
+    @Test
+    public void testRemove() {
+        for (int i = 501; i <= NUMBER_OF_VALUES; ++i) {
+            this.sketchUnderTest.remove(i / 100d);
+        }
+        assertEquals(500, this.sketchUnderTest.getCount());
+        assertEquals(5d, this.sketchUnderTest.getQuantile(1d), 5d * RELATIVE_ACCURACY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeDifferentParameters() {
+        this.sketchUnderTest.merge(new QuantileSketch(RELATIVE_ACCURACY / 2));
+    }
+}
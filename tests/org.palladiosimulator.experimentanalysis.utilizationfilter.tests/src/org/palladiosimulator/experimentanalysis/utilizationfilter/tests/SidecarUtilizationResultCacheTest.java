@@ -0,0 +1,195 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.SidecarUtilizationResultCache;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationResultKey;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class SidecarUtilizationResultCacheTest {
+
+    private static final Measure<Double, Duration> WINDOW_LENGTH = Measure.valueOf(10d, SI.SECOND);
+    private static final Measure<Double, Duration> WINDOW_INCREMENT = Measure.valueOf(5d, SI.SECOND);
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private Path directory;
+    private SidecarUtilizationResultCache cacheUnderTest;
+    private List<MeasuringValue> result;
+    private UtilizationResultKey key;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = Files.createTempDirectory("utilizationResults");
+        this.cacheUnderTest = new SidecarUtilizationResultCache(this.directory);
+        this.key = new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 42L);
+        this.result = new ArrayList<>();
+        for (int i = 1; i <= 3; ++i) {
+            this.result.add(new TupleMeasurement(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE,
+                    Measure.valueOf(i * 5d, SI.SECOND), Measure.valueOf(i / 4d, Unit.ONE)));
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testLookupNothingStored() {
+        assertFalse(this.cacheUnderTest.lookup(this.key).isPresent());
+    }
+
+    @Test
+    public void testStoreAndLookup() {
+        this.cacheUnderTest.store(this.key, this.result);
+
+        // a new instance, as if the chart was reopened
+        Optional<List<MeasuringValue>> cachedResult = new SidecarUtilizationResultCache(this.directory)
+                .lookup(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 42L));
+        assertTrue(cachedResult.isPresent());
+        assertEquals(this.result.size(), cachedResult.get().size());
+        for (int i = 0; i < this.result.size(); ++i) {
+            MeasuringValue expected = this.result.get(i);
+            MeasuringValue actual = cachedResult.get().get(i);
+            Measure<Double, Duration> expectedPointInTime = expected
+                    .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+            Measure<Double, Duration> actualPointInTime = actual
+                    .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+            Measure<Double, Dimensionless> expectedUtilization = expected
+                    .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+            Measure<Double, Dimensionless> actualUtilization = actual
+                    .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+            assertEquals(expectedPointInTime.doubleValue(SI.SECOND), actualPointInTime.doubleValue(SI.SECOND),
+                    DELTA);
+            assertEquals(expectedUtilization.getValue(), actualUtilization.getValue(), DELTA);
+        }
+    }
+
+    @Test
+    public void testConfigurationChangeInvalidates() {
+        this.cacheUnderTest.store(this.key, this.result);
+
+        assertFalse(this.cacheUnderTest
+                .lookup(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_LENGTH, 42L)).isPresent());
+        assertFalse(this.cacheUnderTest
+                .lookup(new UtilizationResultKey("series", WINDOW_INCREMENT, WINDOW_INCREMENT, 42L)).isPresent());
+
+        // the results of both configurations are kept side by side
+        UtilizationResultKey newKey = new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_LENGTH, 42L);
+        this.cacheUnderTest.store(newKey, this.result.subList(0, 1));
+        assertEquals(1, this.cacheUnderTest.lookup(newKey).get().size());
+        assertEquals(this.result.size(), this.cacheUnderTest.lookup(this.key).get().size());
+    }
+
+    @Test
+    public void testInputChangeInvalidates() {
+        this.cacheUnderTest.store(this.key, this.result);
+
+        assertFalse(this.cacheUnderTest
+                .lookup(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 43L)).isPresent());
+        assertFalse(this.cacheUnderTest
+                .lookup(new UtilizationResultKey("other series", WINDOW_LENGTH, WINDOW_INCREMENT, 42L))
+                .isPresent());
+    }
+
+    @Test
+    public void testOneFilePerSeries() throws IOException {
+        this.cacheUnderTest.store(this.key, this.result);
+        this.cacheUnderTest.store(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 43L),
+                this.result);
+
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void testResultsOfSeveralInputsAreKept() {
+        // e.g., two runs at the same measuring point, looked up in turns
+        UtilizationResultKey otherKey = new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 43L);
+        this.cacheUnderTest.store(this.key, this.result);
+        this.cacheUnderTest.store(otherKey, this.result.subList(0, 1));
+
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(this.result.size(), this.cacheUnderTest.lookup(this.key).get().size());
+            assertEquals(1, this.cacheUnderTest.lookup(otherKey).get().size());
+        }
+    }
+
+    @Test
+    public void testStoreSameKeyReplacesResult() {
+        this.cacheUnderTest.store(this.key, this.result);
+        this.cacheUnderTest.store(this.key, this.result.subList(0, 1));
+
+        assertEquals(1, this.cacheUnderTest.lookup(this.key).get().size());
+    }
+
+    @Test
+    public void testLeastRecentlyStoredResultIsDropped() {
+        for (int i = 0; i <= SidecarUtilizationResultCache.MAX_ENTRIES_PER_FILE; ++i) {
+            this.cacheUnderTest.store(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, i),
+                    this.result);
+        }
+
+        assertFalse(this.cacheUnderTest
+                .lookup(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, 0L)).isPresent());
+        for (int i = 1; i <= SidecarUtilizationResultCache.MAX_ENTRIES_PER_FILE; ++i) {
+            assertTrue(this.cacheUnderTest
+                    .lookup(new UtilizationResultKey("series", WINDOW_LENGTH, WINDOW_INCREMENT, i)).isPresent());
+        }
+    }
+
+    @Test
+    public void testPointInTimeUnitIsRetained() {
+        List<MeasuringValue> resultInMilliseconds = new ArrayList<>();
+        resultInMilliseconds.add(new TupleMeasurement(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE_TUPLE,
+                Measure.valueOf(5000d, SI.MILLI(SI.SECOND)), Measure.valueOf(0.5d, Unit.ONE)));
+        this.cacheUnderTest.store(this.key, resultInMilliseconds);
+
+        Measure<Double, Duration> pointInTime = this.cacheUnderTest.lookup(this.key).get().get(0)
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        assertEquals(SI.MILLI(SI.SECOND), pointInTime.getUnit());
+        assertEquals(5000d, pointInTime.getValue(), DELTA);
+    }
+
+    @Test
+    public void testCorruptFileIsIgnored() throws IOException {
+        this.cacheUnderTest.store(this.key, this.result);
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, new byte[] { 1, 2, 3 });
+            }
+        }
+        assertFalse(this.cacheUnderTest.lookup(this.key).isPresent());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.edp2.datastream.IDataSource;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.tests.utils.ListDataSource;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.IUtilizationSeries;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationBatchReport;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationBatchRunner;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+public class UtilizationBatchRunnerTest {
+
+    private static final int NUMBER_OF_SERIES = 50;
+    private static final Measure<Double, Duration> WINDOW_LENGTH = Measure.valueOf(10d, SI.SECOND);
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private List<MeasuringValue> inputData;
+
+    @Before
+    public void setUp() throws Exception {
+        Measure<Long, Dimensionless> idleStateMeasure = Measure.valueOf(0L, Unit.ONE);
+        Measure<Long, Dimensionless> busyStateMeasure = Measure.valueOf(1L, Unit.ONE);
+        this.inputData = new ArrayList<>();
+        // busy during [0,3) and [6,10) of each window, i.e., a utilization of 70%
+        for (int window = 0; window < 3; ++window) {
+            double offset = window * WINDOW_LENGTH.getValue();
+            this.inputData.add(createInputMeasurement(offset, busyStateMeasure));
+            this.inputData.add(createInputMeasurement(offset + 3, idleStateMeasure));
+            this.inputData.add(createInputMeasurement(offset + 6, busyStateMeasure));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUtilizationBatchRunnerCtorInvalidParallelism() {
+        new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 0, 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUtilizationBatchRunnerCtorInvalidWindowLength() {
+        new UtilizationBatchRunner(Measure.valueOf(0d, SI.SECOND), WINDOW_LENGTH, 1, 1024);
+    }
+
+    @Test
+    public void testRun() {
+        List<MockSeries> series = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SERIES; ++i) {
+            series.add(new MockSeries("series " + i, this.inputData));
+        }
+        UtilizationBatchReport report = new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 4, 1 << 20)
+                .run(series);
+
+        assertEquals(NUMBER_OF_SERIES, report.getNumberOfSeries());
+        assertEquals(NUMBER_OF_SERIES, report.getNumberOfProcessedSeries());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(NUMBER_OF_SERIES * this.inputData.size(), report.getNumberOfInputMeasurements());
+        assertEquals(NUMBER_OF_SERIES * 3, report.getNumberOfResultMeasurements());
+        assertTrue(report.getThroughput() >= 0);
+        for (MockSeries currentSeries : series) {
+            assertEquals(3, currentSeries.results.size());
+            assertEquals(1, currentSeries.numberOfFlushes);
+            for (MeasuringValue result : currentSeries.results) {
+                Measure<Double, Dimensionless> utilization = result
+                        .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+                assertEquals(0.7, utilization.getValue(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void testRunBudgetSmallerThanSeries() {
+        List<MockSeries> series = Arrays.asList(new MockSeries("first", this.inputData),
+                new MockSeries("second", this.inputData));
+        // a single byte does not even cover one measurement, so the series are processed one by one
+        UtilizationBatchReport report = new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 2, 1).run(series);
+
+        assertEquals(2, report.getNumberOfProcessedSeries());
+        assertEquals(2 * 3, report.getNumberOfResultMeasurements());
+    }
+
+    @Test
+    public void testRunBudgetBoundsOpenSeries() {
+        AtomicInteger openStreams = new AtomicInteger();
+        AtomicInteger maxOpenStreams = new AtomicInteger();
+        List<MockSeries> series = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_SERIES; ++i) {
+            series.add(new MockSeries("series " + i, this.inputData, openStreams, maxOpenStreams));
+        }
+        // the budget only covers a single series, so besides the processed one, only the series
+        // waiting for its share may be open
+        UtilizationBatchReport report = new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 4,
+                this.inputData.size() * 256).run(series);
+
+        assertEquals(NUMBER_OF_SERIES, report.getNumberOfProcessedSeries());
+        assertTrue(maxOpenStreams.get() <= 2);
+        assertEquals(0, openStreams.get());
+    }
+
+    @Test
+    public void testRunSeriesWithinBudgetOverlap() {
+        // each series waits for the other one while it is being processed, which fails unless both
+        // are processed at the same time
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<MockSeries> series = Arrays.asList(new OverlappingSeries("first", this.inputData, barrier),
+                new OverlappingSeries("second", this.inputData, barrier));
+        UtilizationBatchReport report = new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 2, 1 << 20)
+                .run(series);
+
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(2, report.getNumberOfProcessedSeries());
+        assertEquals(2 * 3, report.getNumberOfResultMeasurements());
+    }
+
+    @Test
+    public void testRunFailureIsReported() {
+        MockSeries validSeries = new MockSeries("valid", this.inputData);
+        MockSeries invalidSeries = new MockSeries("invalid", this.inputData) {
+            @Override
+            public IRecorder createResultRecorder() {
+                throw new IllegalStateException();
+            }
+        };
+        UtilizationBatchReport report = new UtilizationBatchRunner(WINDOW_LENGTH, WINDOW_LENGTH, 2, 1 << 20)
+                .run(Arrays.asList(validSeries, invalidSeries));
+
+        assertEquals(1, report.getNumberOfProcessedSeries());
+        assertEquals(1, report.getFailures().size());
+        assertTrue(report.getFailures().get(invalidSeries) instanceof IllegalStateException);
+        assertEquals(this.inputData.size(), report.getNumberOfInputMeasurements());
+        assertEquals(3, validSeries.results.size());
+    }
+
+    private static MeasuringValue createInputMeasurement(double pointInTime, Measure<Long, Dimensionless> state) {
+        return new TupleMeasurement(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), state);
+    }
+
+    private static class MockSeries implements IUtilizationSeries {
+
+        private final String name;
+        private final List<MeasuringValue> data;
+        private final List<MeasuringValue> results = new ArrayList<>();
+        private int numberOfFlushes = 0;
+        private final AtomicInteger openStreams;
+        private final AtomicInteger maxOpenStreams;
+
+        private MockSeries(String name, List<MeasuringValue> data) {
+            this(name, data, new AtomicInteger(), new AtomicInteger());
+        }
+
+        private MockSeries(String name, List<MeasuringValue> data, AtomicInteger openStreams,
+                AtomicInteger maxOpenStreams) {
+            this.name = name;
+            this.data = data;
+            this.openStreams = openStreams;
+            this.maxOpenStreams = maxOpenStreams;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public IDataSource getDataSource() {
+            return new ListDataSource(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE, this.data) {
+
+                @Override
+                protected IDataStream<MeasuringValue> createDataStream() {
+                    MockSeries.this.maxOpenStreams.accumulateAndGet(MockSeries.this.openStreams.incrementAndGet(),
+                            Math::max);
+                    return new ListDataStream() {
+
+                        @Override
+                        public void close() {
+                            MockSeries.this.openStreams.decrementAndGet();
+                        }
+                    };
+                }
+            };
+        }
+
+        @Override
+        public IRecorder createResultRecorder() {
+            return new IRecorder() {
+
+                @Override
+                public void initialize(IRecorderConfiguration recorderConfiguration) {
+                }
+
+                @Override
+                public void writeData(MeasuringValue measurement) {
+                    MockSeries.this.results.add(measurement);
+                }
+
+                @Override
+                public void flush() {
+                    ++MockSeries.this.numberOfFlushes;
+                }
+
+                @Override
+                public void newMeasurementAvailable(MeasuringValue newMeasurement) {
+                }
+
+                @Override
+                public void preUnregister() {
+                }
+            };
+        }
+    }
+
+    private static class OverlappingSeries extends MockSeries {
+
+        private final CyclicBarrier barrier;
+
+        private OverlappingSeries(String name, List<MeasuringValue> data, CyclicBarrier barrier) {
+            super(name, data);
+            this.barrier = barrier;
+        }
+
+        @Override
+        public IDataSource getDataSource() {
+            return new ListDataSource(MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE, super.data) {
+
+                @Override
+                protected IDataStream<MeasuringValue> createDataStream() {
+                    return new ListDataStream() {
+
+                        @Override
+                        public Iterator<MeasuringValue> iterator() {
+                            try {
+                                OverlappingSeries.this.barrier.await(10, TimeUnit.SECONDS);
+                            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                                throw new IllegalStateException("Series were not processed at the same time.", e);
+                            }
+                            return super.iterator();
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
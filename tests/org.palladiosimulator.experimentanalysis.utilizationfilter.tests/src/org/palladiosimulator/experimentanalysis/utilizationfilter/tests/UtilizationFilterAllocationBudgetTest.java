@@ -0,0 +1,70 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.tests.utils.AllocationMeter;
+import org.palladiosimulator.experimentanalysis.tests.utils.ListDataSource;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.HeadlessUtilizationFilter;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationFilterConfiguration;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * Checks the allocations of the utilization filter per output point against a budget, so that
+ * boxing or {@code Amount} churn that creeps back into its hot path fails the build.
+ */
+public class UtilizationFilterAllocationBudgetTest {
+
+    // budget per output point, including the input measurements of its window
+    private static final double OUTPUT_POINT_BUDGET_BYTES = 2048;
+
+    private static final int NUMBER_OF_MEASUREMENTS = 100000;
+    private static final double WINDOW_LENGTH = 10;
+    private static final MetricSetDescription INPUT_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+
+    private HeadlessUtilizationFilter filterUnderTest;
+    private List<MeasuringValue> inputData;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(AllocationMeter.isSupported());
+        this.inputData = new ArrayList<>(NUMBER_OF_MEASUREMENTS);
+        // busy at even, idle at odd seconds
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.inputData.add(new TupleMeasurement(INPUT_METRIC, Measure.valueOf((double) i, SI.SECOND),
+                    Measure.valueOf(i % 2 == 0 ? 1L : 0L, Unit.ONE)));
+        }
+        this.filterUnderTest = new HeadlessUtilizationFilter(new ListDataSource(INPUT_METRIC, this.inputData));
+        Map<String, Object> newConfig = new HashMap<String, Object>(
+                this.filterUnderTest.createProperties().getDefaultConfiguration());
+        newConfig.put(UtilizationFilterConfiguration.WINDOW_LENGTH_KEY, Measure.valueOf(WINDOW_LENGTH, SI.SECOND));
+        newConfig.put(UtilizationFilterConfiguration.WINDOW_INCREMENT_KEY, Measure.valueOf(WINDOW_LENGTH, SI.SECOND));
+        this.filterUnderTest.setProperties(newConfig);
+    }
+
+    @Test
+    public void testOutputPointWithinBudget() {
+        int numberOfOutputPoints = this.filterUnderTest.getDataStream().size();
+        assertEquals(NUMBER_OF_MEASUREMENTS / (int) WINDOW_LENGTH, numberOfOutputPoints);
+
+        double bytesPerOutputPoint = AllocationMeter.measureBytesPerOperation(numberOfOutputPoints,
+                () -> this.filterUnderTest.getDataStream());
+        assertTrue("The utilization filter allocates " + bytesPerOutputPoint + " bytes per output point, the budget is "
+                + OUTPUT_POINT_BUDGET_BYTES + " bytes.", bytesPerOutputPoint <= OUTPUT_POINT_BUDGET_BYTES);
+    }
+}
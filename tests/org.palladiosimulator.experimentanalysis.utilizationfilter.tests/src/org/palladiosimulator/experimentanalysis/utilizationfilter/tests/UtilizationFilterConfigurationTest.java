@@ -12,8 +12,11 @@ import javax.measure.unit.SI;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.UtilizationFilter;
 import org.palladiosimulator.experimentanalysis.utilizationfilter.UtilizationFilterConfiguration;
 
+// tests the deprecated configuration, which is still used by persisted filters
+@SuppressWarnings("deprecation")
 public class UtilizationFilterConfigurationTest {
 
     private UtilizationFilterConfiguration configurationUnderTest;
@@ -55,4 +58,38 @@ public class UtilizationFilterConfigurationTest {
         assertEquals(expected, this.configurationUnderTest.getWindowLength());
     }
 
+    @Test
+    public void testGetRangeNotSet() {
+        assertFalse(this.configurationUnderTest.getRangeFrom().isPresent());
+        assertFalse(this.configurationUnderTest.getRangeTo().isPresent());
+    }
+
+    @Test
+    public void testGetRange() {
+        Map<String, Object> newConfig = new HashMap<String, Object>(this.configurationUnderTest.getDefaultConfiguration());
+
+        Measure<Double, Duration> expectedFrom = Measure.valueOf(0d, SI.SECOND);
+        Measure<Double, Duration> expectedTo = Measure.valueOf(2500d, SI.MILLI(SI.SECOND)); //2.5s
+        newConfig.put(UtilizationFilterConfiguration.RANGE_FROM_KEY, expectedFrom);
+        newConfig.put(UtilizationFilterConfiguration.RANGE_TO_KEY, expectedTo);
+        this.configurationUnderTest.setProperties(newConfig);
+        assertEquals(expectedFrom, this.configurationUnderTest.getRangeFrom().get());
+        assertEquals(expectedTo, this.configurationUnderTest.getRangeTo().get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetNegativeRange() {
+        Map<String, Object> newConfig = new HashMap<String, Object>(this.configurationUnderTest.getDefaultConfiguration());
+        newConfig.put(UtilizationFilterConfiguration.RANGE_FROM_KEY, Measure.valueOf(-1d, SI.SECOND));
+        this.configurationUnderTest.setProperties(newConfig);
+    }
+
+    @Test
+    public void testUtilizationFilterConfigurationType() {
+        UtilizationFilter filter = new UtilizationFilter();
+        // clients cast the configuration of the filter to this type
+        UtilizationFilterConfiguration configuration = filter.<UtilizationFilterConfiguration> getConfiguration();
+        assertNotNull(configuration.getWindowLength());
+    }
+
 }
@@ -0,0 +1,143 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.tests.utils.ListDataSource;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.HeadlessUtilizationFilter;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.ISeekableDataStream;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationFilterConfiguration;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+public class UtilizationFilterRangeTest {
+
+    private static final int NUMBER_OF_MEASUREMENTS = 1000;
+    private static final MetricSetDescription INPUT_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private HeadlessUtilizationFilter filterUnderTest;
+    private List<MeasuringValue> inputData;
+
+    @Before
+    public void setUp() throws Exception {
+        this.filterUnderTest = new HeadlessUtilizationFilter();
+        this.inputData = new ArrayList<>();
+        // busy at even, idle at odd seconds, i.e., a utilization of 50%
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.inputData.add(new TupleMeasurement(INPUT_METRIC, Measure.valueOf((double) i, SI.SECOND),
+                    Measure.valueOf(i % 2 == 0 ? 1L : 0L, Unit.ONE)));
+        }
+    }
+
+    @Test
+    public void testGetDataStreamRangeSeekable() {
+        SeekableListDataSource dataSource = new SeekableListDataSource();
+        setRange(500.5, 520);
+        this.filterUnderTest.setDataSource(dataSource);
+
+        assertRangeResult(this.filterUnderTest.getDataStream());
+        // binary search plus the range itself, rather than the whole input
+        assertTrue(dataSource.numberOfAccesses < 100);
+    }
+
+    @Test
+    public void testGetDataStreamRangeNotSeekable() {
+        setRange(500.5, 520);
+        this.filterUnderTest.setDataSource(new ListDataSource(INPUT_METRIC, this.inputData));
+
+        assertRangeResult(this.filterUnderTest.getDataStream());
+    }
+
+    @Test
+    public void testGetDataStreamRangeBeforeFirstMeasurement() {
+        SeekableListDataSource dataSource = new SeekableListDataSource();
+        setRange(0, 10);
+        this.filterUnderTest.setDataSource(dataSource);
+
+        IDataStream<MeasuringValue> result = this.filterUnderTest.getDataStream();
+        assertEquals(1, result.size());
+        assertEquals(0.5, getUtilization(result.iterator().next()), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetDataStreamInvalidRange() {
+        setRange(20, 10);
+        this.filterUnderTest.setDataSource(new SeekableListDataSource());
+        this.filterUnderTest.getDataStream();
+    }
+
+    private void assertRangeResult(IDataStream<MeasuringValue> result) {
+        // windows [500.5, 510.5] and [510.5, 520.5]
+        assertEquals(2, result.size());
+        double expectedPointInTime = 510.5;
+        for (MeasuringValue measurement : result) {
+            Measure<Double, Duration> pointInTime = measurement
+                    .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+            assertEquals(expectedPointInTime, pointInTime.doubleValue(SI.SECOND), DELTA);
+            assertEquals(0.5, getUtilization(measurement), DELTA);
+            expectedPointInTime += 10;
+        }
+    }
+
+    private static double getUtilization(MeasuringValue measurement) {
+        Measure<Double, Dimensionless> utilization = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+        return utilization.getValue();
+    }
+
+    private void setRange(double from, double to) {
+        Map<String, Object> newConfig = new HashMap<String, Object>(
+                this.filterUnderTest.createProperties().getDefaultConfiguration());
+        newConfig.put(UtilizationFilterConfiguration.RANGE_FROM_KEY, Measure.valueOf(from, SI.SECOND));
+        newConfig.put(UtilizationFilterConfiguration.RANGE_TO_KEY, Measure.valueOf(to, SI.SECOND));
+        this.filterUnderTest.setProperties(newConfig);
+    }
+
+    private class SeekableListDataSource extends ListDataSource {
+
+        private int numberOfAccesses = 0;
+
+        private SeekableListDataSource() {
+            super(INPUT_METRIC, UtilizationFilterRangeTest.this.inputData);
+        }
+
+        @Override
+        protected IDataStream<MeasuringValue> createDataStream() {
+            return new SeekableStream();
+        }
+
+        private class SeekableStream extends ListDataStream implements ISeekableDataStream<MeasuringValue> {
+
+            @Override
+            public MeasuringValue get(int index) {
+                ++SeekableListDataSource.this.numberOfAccesses;
+                return getData().get(index);
+            }
+
+            @Override
+            public Iterator<MeasuringValue> iterator() {
+                return iterator(0);
+            }
+        }
+    }
+}
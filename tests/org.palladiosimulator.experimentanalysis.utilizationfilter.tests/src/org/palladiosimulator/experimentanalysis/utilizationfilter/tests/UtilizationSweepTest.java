@@ -0,0 +1,217 @@
+package org.palladiosimulator.experimentanalysis.utilizationfilter.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Dimensionless;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+import javax.measure.unit.Unit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.experimentanalysis.tests.utils.ListDataSource;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.HeadlessUtilizationFilter;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationFilterConfiguration;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationSweep;
+import org.palladiosimulator.experimentanalysis.utilizationfilter.core.UtilizationSweepConfiguration;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.recorderframework.core.IRecorder;
+import org.palladiosimulator.recorderframework.core.config.IRecorderConfiguration;
+
+public class UtilizationSweepTest {
+
+    private static final int NUMBER_OF_MEASUREMENTS = 100;
+    private static final MetricSetDescription INPUT_METRIC = MetricDescriptionConstants.STATE_OF_ACTIVE_RESOURCE_METRIC_TUPLE;
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -12);
+
+    private HeadlessUtilizationFilter filterUnderTest;
+    private List<MeasuringValue> inputData;
+    private List<UtilizationSweepConfiguration> configurations;
+
+    @Before
+    public void setUp() throws Exception {
+        this.filterUnderTest = new HeadlessUtilizationFilter();
+        this.inputData = new ArrayList<>();
+        // busy at even, idle at odd seconds, i.e., a utilization of 50%
+        for (int i = 0; i < NUMBER_OF_MEASUREMENTS; ++i) {
+            this.inputData.add(new TupleMeasurement(INPUT_METRIC, Measure.valueOf((double) i, SI.SECOND),
+                    Measure.valueOf(i % 2 == 0 ? 1L : 0L, Unit.ONE)));
+        }
+        this.configurations = Arrays.asList(createConfiguration(10, 10), createConfiguration(10, 5),
+                createConfiguration(20, 10), createConfiguration(7, 7));
+    }
+
+    @Test
+    public void testGetDataStreams() {
+        ListDataSource dataSource = new ListDataSource(INPUT_METRIC, this.inputData);
+        this.filterUnderTest.setDataSource(dataSource);
+
+        List<IDataStream<MeasuringValue>> result = this.filterUnderTest.getDataStreams(this.configurations);
+        // a single pass over the input
+        assertEquals(1, dataSource.getNumberOfPasses());
+        assertEquals(this.configurations.size(), result.size());
+        assertEquals(10, result.get(0).size());
+        assertEquals(19, result.get(1).size());
+        assertEquals(9, result.get(2).size());
+        for (int i = 0; i < 3; ++i) {
+            for (MeasuringValue measurement : result.get(i)) {
+                assertEquals(0.5, getUtilization(measurement), DELTA);
+            }
+        }
+        Iterator<MeasuringValue> iterator = result.get(3).iterator();
+        assertEquals(4d / 7, getUtilization(iterator.next()), DELTA);
+        assertEquals(3d / 7, getUtilization(iterator.next()), DELTA);
+    }
+
+    @Test
+    public void testGetDataStreamsEqualsGetDataStream() {
+        this.filterUnderTest.setDataSource(new ListDataSource(INPUT_METRIC, this.inputData));
+        List<IDataStream<MeasuringValue>> result = this.filterUnderTest.getDataStreams(this.configurations);
+
+        for (int i = 0; i < this.configurations.size(); ++i) {
+            HeadlessUtilizationFilter filter = new HeadlessUtilizationFilter(
+                    new ListDataSource(INPUT_METRIC, this.inputData));
+            Map<String, Object> newConfig = new HashMap<String, Object>(
+                    filter.createProperties().getDefaultConfiguration());
+            newConfig.put(UtilizationFilterConfiguration.WINDOW_LENGTH_KEY,
+                    this.configurations.get(i).getWindowLength());
+            newConfig.put(UtilizationFilterConfiguration.WINDOW_INCREMENT_KEY,
+                    this.configurations.get(i).getWindowIncrement());
+            filter.setProperties(newConfig);
+            assertSameSeries(filter.getDataStream(), result.get(i));
+        }
+    }
+
+    @Test
+    public void testRunRange() {
+        List<List<MeasuringValue>> result = new ArrayList<>();
+        List<IRecorder> recorders = new ArrayList<>();
+        for (int i = 0; i < this.configurations.size(); ++i) {
+            List<MeasuringValue> series = new ArrayList<>();
+            result.add(series);
+            recorders.add(new ListRecorder(series));
+        }
+        UtilizationSweep sweep = new UtilizationSweep(this.configurations,
+                Optional.of(Measure.valueOf(50.5, SI.SECOND)), Optional.of(Measure.valueOf(70d, SI.SECOND)));
+        sweep.run(new ListDataSource(INPUT_METRIC, this.inputData).getDataStream(), recorders);
+
+        // windows [50.5, 60.5] and [60.5, 70.5]
+        assertEquals(2, result.get(0).size());
+        assertEquals(70.5, getPointInTime(result.get(0).get(1)), DELTA);
+        // windows ending at 60.5, 65.5, and 70.5
+        assertEquals(3, result.get(1).size());
+        // window [50.5, 70.5]
+        assertEquals(1, result.get(2).size());
+        for (int i = 0; i < 3; ++i) {
+            for (MeasuringValue measurement : result.get(i)) {
+                assertEquals(0.5, getUtilization(measurement), DELTA);
+            }
+        }
+        // windows up to [64.5, 71.5]
+        assertEquals(3, result.get(3).size());
+    }
+
+    @Test
+    public void testNumberOfWindowGroups() {
+        assertEquals(1, new UtilizationSweep(this.configurations).getNumberOfWindowGroups());
+        // panes of 0.5s are too small to be shared with the windows of 1000s
+        assertEquals(2, new UtilizationSweep(Arrays.asList(createConfiguration(1000, 1000),
+                createConfiguration(10, 0.5))).getNumberOfWindowGroups());
+        assertEquals(1, new UtilizationSweep(Arrays.asList(createConfiguration(1000, 1000),
+                createConfiguration(10, 10))).getNumberOfWindowGroups());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUtilizationSweepNoConfiguration() {
+        new UtilizationSweep(Collections.<UtilizationSweepConfiguration> emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUtilizationSweepIncommensurable() {
+        new UtilizationSweep(Collections.singletonList(createConfiguration(10, Math.PI)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRunWrongNumberOfRecorders() {
+        new UtilizationSweep(this.configurations).run(new ListDataSource(INPUT_METRIC, this.inputData).getDataStream(),
+                Collections.<IRecorder> emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUtilizationSweepConfigurationInvalidLength() {
+        createConfiguration(0, 10);
+    }
+
+    private static UtilizationSweepConfiguration createConfiguration(double windowLength, double windowIncrement) {
+        return new UtilizationSweepConfiguration(Measure.valueOf(windowLength, SI.SECOND),
+                Measure.valueOf(windowIncrement, SI.SECOND));
+    }
+
+    private static void assertSameSeries(IDataStream<MeasuringValue> expected, IDataStream<MeasuringValue> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<MeasuringValue> actualIterator = actual.iterator();
+        for (MeasuringValue expectedMeasurement : expected) {
+            MeasuringValue actualMeasurement = actualIterator.next();
+            assertEquals(getPointInTime(expectedMeasurement), getPointInTime(actualMeasurement), DELTA);
+            assertEquals(getUtilization(expectedMeasurement), getUtilization(actualMeasurement), DELTA);
+        }
+    }
+
+    private static double getPointInTime(MeasuringValue measurement) {
+        Measure<Double, Duration> pointInTime = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.doubleValue(SI.SECOND);
+    }
+
+    private static double getUtilization(MeasuringValue measurement) {
+        Measure<Double, Dimensionless> utilization = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.UTILIZATION_OF_ACTIVE_RESOURCE);
+        return utilization.getValue();
+    }
+
+    private static class ListRecorder implements IRecorder {
+
+        private final List<MeasuringValue> measurements;
+
+        private ListRecorder(List<MeasuringValue> measurements) {
+            this.measurements = measurements;
+        }
+
+        @Override
+        public void initialize(IRecorderConfiguration recorderConfiguration) {
+        }
+
+        @Override
+        public void writeData(MeasuringValue measurement) {
+            this.measurements.add(measurement);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void newMeasurementAvailable(MeasuringValue newMeasurement) {
+        }
+
+        @Override
+        public void preUnregister() {
+        }
+    }
+}